@@ -0,0 +1,36 @@
+package seedu.noknock.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.util.SyntheticDataGenerator;
+
+/**
+ * Builds datasets of any size for benchmarks.
+ * The datasets are generated with a fixed seed, so results are comparable between runs.
+ */
+public class BenchmarkData {
+    public static final long SEED = 2103;
+
+    private static final SyntheticDataGenerator GENERATOR = new SyntheticDataGenerator(SEED);
+
+    public static LocalDate getFirstSessionDate() {
+        return GENERATOR.getFirstSessionDate();
+    }
+
+    /**
+     * Returns {@code count} generated patients. The first patients are the same regardless of {@code count}.
+     */
+    public static List<Patient> getPatients(int count) {
+        return GENERATOR.generatePatients(count);
+    }
+
+    /**
+     * Returns an address book containing {@code count} generated patients.
+     */
+    public static AddressBook getAddressBook(int count) {
+        return GENERATOR.generateAddressBook(count);
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.noknock.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.logic.commands.AddCaringSessionCommand;
+import seedu.noknock.logic.commands.AddNextOfKinCommand;
+import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.commands.Command;
+import seedu.noknock.logic.commands.DeleteCaringSessionCommand;
+import seedu.noknock.logic.commands.DeleteNextOfKinCommand;
+import seedu.noknock.logic.commands.DeletePatientCommand;
+import seedu.noknock.logic.commands.EditCaringSessionCommand;
+import seedu.noknock.logic.commands.EditNextOfKinCommand;
+import seedu.noknock.logic.commands.EditPatientCommand;
+import seedu.noknock.logic.commands.FindPatientByNextOfKinCommand;
+import seedu.noknock.logic.commands.FindPatientCommand;
+import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.logic.commands.SessionsTodayCommand;
+import seedu.noknock.logic.commands.ViewPatientCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long {@link AddressBookParser#parseCommand(String)} takes for a typical input of each command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> SAMPLE_INPUTS = Map.ofEntries(
+            Map.entry(AddPatientCommand.COMMAND_WORD, " n/Dylan Tan ic/S1234567A w/2A t/diabetes t/VIP"),
+            Map.entry(EditPatientCommand.COMMAND_WORD, " 1 n/Yue Yang w/3B"),
+            Map.entry(DeletePatientCommand.COMMAND_WORD, " 2"),
+            Map.entry(ViewPatientCommand.COMMAND_WORD, " 1"),
+            Map.entry(FindPatientCommand.COMMAND_WORD, " alex david charlotte"),
+            Map.entry(FindPatientByNextOfKinCommand.COMMAND_WORD, " oad tan"),
+            Map.entry(AddNextOfKinCommand.COMMAND_WORD, " 1 n/Oad p/6598765432 r/son"),
+            Map.entry(EditNextOfKinCommand.COMMAND_WORD, " 1 1 p/6588888888"),
+            Map.entry(DeleteNextOfKinCommand.COMMAND_WORD, " 1 1"),
+            Map.entry(AddCaringSessionCommand.COMMAND_WORD,
+                    " 1 d/2026-10-31 time/14:30 type/medication notes/Give insulin shot"),
+            Map.entry(EditCaringSessionCommand.COMMAND_WORD,
+                    " 1 1 d/2026-12-25 time/14:30 type/medication notes/Adjust dose status/completed"),
+            Map.entry(DeleteCaringSessionCommand.COMMAND_WORD, " 1 2"),
+            Map.entry(SessionsTodayCommand.COMMAND_WORD, ""),
+            Map.entry(ListPatientsCommand.COMMAND_WORD, ""));
+
+    @Param({"add-patient", "edit-patient", "delete-patient", "view-patient", "find-patient", "find-by-nok",
+        "add-nok", "edit-nok", "delete-nok", "add-session", "edit-session", "delete-session", "sessions-today",
+        "list-patients"})
+    private String commandWord;
+
+    private AddressBookParser parser;
+    private String input;
+
+    /**
+     * Looks up the sample input of {@code commandWord}.
+     */
+    @Setup
+    public void setUp() {
+        if (!SAMPLE_INPUTS.containsKey(commandWord)) {
+            throw new IllegalStateException("No sample input for command word: " + commandWord);
+        }
+        parser = new AddressBookParser();
+        input = commandWord + SAMPLE_INPUTS.get(commandWord);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+}
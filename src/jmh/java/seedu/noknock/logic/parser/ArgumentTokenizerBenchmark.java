@@ -0,0 +1,101 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_IC;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_WARD;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.logic.commands.AddCaringSessionCommand;
+import seedu.noknock.logic.commands.EditPatientCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures the throughput of tokenizing and parsing long {@code add-session} and {@code edit-patient} inputs,
+ * whose notes and tags make the arguments string grow with {@code wordCount}.
+ * Notes longer than a valid note are only tokenized, so the parsed {@code add-session} input stops growing once its
+ * notes reach the maximum length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final PrefixAutomaton ADD_SESSION_PREFIXES =
+            new PrefixAutomaton(PREFIX_DATE, PREFIX_TIME, PREFIX_CARE_TYPE, PREFIX_NOTES);
+    private static final PrefixAutomaton EDIT_PATIENT_PREFIXES =
+            new PrefixAutomaton(PREFIX_NAME, PREFIX_IC, PREFIX_WARD, PREFIX_TAG);
+
+    private static final int MAX_NOTE_LENGTH = 200;
+
+    @Param({"10", "100", "1000"})
+    private int wordCount;
+
+    private AddressBookParser parser;
+    private String addSessionArgs;
+    private String editPatientArgs;
+    private String addSessionInput;
+    private String editPatientInput;
+
+    /**
+     * Builds an {@code add-session} input with {@code wordCount} words of notes and an {@code edit-patient} input
+     * with {@code wordCount} tags.
+     */
+    @Setup
+    public void setUp() {
+        parser = new AddressBookParser();
+
+        StringBuilder notes = new StringBuilder();
+        StringBuilder tags = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            notes.append(" check vitals/").append(i);
+            tags.append(" t/tag").append(i);
+        }
+        addSessionArgs = " 1 d/2026-10-31 time/14:30 type/medication notes/" + notes;
+        editPatientArgs = " 1 n/Yue Yang w/3B" + tags;
+        String validNotes = notes.substring(0, Math.min(notes.length(), MAX_NOTE_LENGTH)).trim();
+        addSessionInput = AddCaringSessionCommand.COMMAND_WORD + " 1 d/2026-10-31 time/14:30 type/medication notes/"
+                + validNotes;
+        editPatientInput = EditPatientCommand.COMMAND_WORD + editPatientArgs;
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddSession() {
+        return ArgumentTokenizer.tokenize(addSessionArgs, ADD_SESSION_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeEditPatient() {
+        return ArgumentTokenizer.tokenize(editPatientArgs, EDIT_PATIENT_PREFIXES);
+    }
+
+    @Benchmark
+    public Object parseAddSession() throws ParseException {
+        return parser.parseCommand(addSessionInput);
+    }
+
+    @Benchmark
+    public Object parseEditPatient() throws ParseException {
+        return parser.parseCommand(editPatientInput);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.noknock.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.noknock.benchmark.BenchmarkData;
+import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * Measures a fuzzy search of patient names with a {@link FuzzyNameIndex}, against computing the edit distance to
+ * every word of every name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FuzzyNameIndexBenchmark {
+
+    private static final String CONSONANTS = "bcdfghjklmnprstvwyz";
+    private static final String VOWELS = "aeiou";
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private ObservableList<Patient> patients;
+    private FuzzyNameIndex index;
+    private List<String> keywords;
+
+    /**
+     * Generates {@code patientCount} patients, renamed with random surnames so that most names have a word of their
+     * own, and indexes their names.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkData.SEED);
+        patients = FXCollections.observableArrayList(BenchmarkData.getPatients(patientCount).stream()
+                .map(patient -> patient.withDetails(
+                        new Name(patient.getName().fullName + " " + generateSurname(random)),
+                        patient.getWard(), patient.getIC(), patient.getTags()))
+                .toList());
+        index = FuzzyNameIndex.ofPatientNames(patients);
+
+        // search for a patient by a surname with a letter missing and another by a surname with a letter changed
+        String surname = getSurname(patients.get(patientCount / 3));
+        String otherSurname = getSurname(patients.get(patientCount / 2));
+        keywords = List.of(surname.substring(0, 2) + surname.substring(3), otherSurname.substring(1) + "x");
+    }
+
+    private static String getSurname(Patient patient) {
+        String name = patient.getName().fullName;
+        return name.substring(name.lastIndexOf(' ') + 1);
+    }
+
+    /**
+     * Returns a surname of two to four random syllables.
+     */
+    private static String generateSurname(Random random) {
+        StringBuilder surname = new StringBuilder();
+        int syllableCount = 2 + random.nextInt(3);
+        for (int i = 0; i < syllableCount; i++) {
+            surname.append(CONSONANTS.charAt(random.nextInt(CONSONANTS.length())))
+                    .append(VOWELS.charAt(random.nextInt(VOWELS.length())));
+        }
+        return surname.toString();
+    }
+
+    @Benchmark
+    public Map<Patient, Integer> findWithIndex() {
+        return index.find(keywords);
+    }
+
+    /**
+     * Finds the same patients as {@link #findWithIndex()} by computing the edit distance from each keyword to every
+     * word of every name, without the score of keywords that do not match.
+     */
+    @Benchmark
+    public Map<Patient, Integer> findWithScan() {
+        Map<Patient, Integer> scores = new HashMap<>();
+        for (Patient patient : patients) {
+            for (String keyword : keywords) {
+                int maxDistance = FuzzyNameIndex.getMaxDistance(keyword);
+                for (String word : patient.getName().fullName.toLowerCase().split("\\s+")) {
+                    int distance = StringUtil.getEditDistance(keyword, word, maxDistance);
+                    if (distance <= maxDistance) {
+                        scores.merge(patient, distance, Integer::sum);
+                    }
+                }
+            }
+        }
+        return scores;
+    }
+}
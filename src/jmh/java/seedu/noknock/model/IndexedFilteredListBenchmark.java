@@ -0,0 +1,72 @@
+package seedu.noknock.model;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.noknock.benchmark.BenchmarkData;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+
+/**
+ * Measures listing the patients of a ward found in the ward index, by filtering a {@code FilteredList} with
+ * membership of the matches and by setting the matches of an {@link IndexedFilteredList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedFilteredListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private PatientBitmap matches;
+    private FilteredList<Patient> filteredList;
+    private IndexedFilteredList<Patient> indexedFilteredList;
+
+    /**
+     * Fills an address book with {@code patientCount} patients and looks up the patients of the ward of the first.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = BenchmarkData.getAddressBook(patientCount);
+        matches = addressBook.getPatientsInWard(addressBook.getPatientList().get(0).getWard());
+        filteredList = new FilteredList<>(addressBook.getPatientList());
+        indexedFilteredList = new IndexedFilteredList<>(addressBook.getPatientList(), addressBook::indexOfPatient);
+    }
+
+    /**
+     * Filters by membership of a copy of the matches, as commands did before, which tests every patient.
+     */
+    @Benchmark
+    public int filterByPredicate() {
+        Set<Patient> matchSet = new HashSet<>(matches);
+        filteredList.setPredicate(matchSet::contains);
+        return filteredList.size();
+    }
+
+    /**
+     * Sets the matches, which only locates the matching patients.
+     */
+    @Benchmark
+    public int filterByMatches() {
+        indexedFilteredList.setMatches(matches);
+        return indexedFilteredList.size();
+    }
+}
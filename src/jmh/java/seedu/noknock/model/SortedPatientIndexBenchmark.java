@@ -0,0 +1,108 @@
+package seedu.noknock.model;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import seedu.noknock.benchmark.BenchmarkData;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * Compares listing a page of patients sorted by name, and adding and removing a patient while they are listed, with
+ * a {@code SortedList} over a {@code FilteredList} and with a page of a {@link SortedPatientIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedPatientIndexBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final Comparator<Patient> BY_NAME = PatientOrder.NAME.getComparator(LocalDate.now());
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private Patient absentPatient;
+    private AddressBook sortedListBook;
+    private SortedList<Patient> sortedList;
+    private AddressBook indexBook;
+    private SortedPatientIndex index;
+    private PagedList<Patient> page;
+
+    /**
+     * Fills two address books with {@code patientCount} patients, one listed by a {@code SortedList} and the other by
+     * a page of an index.
+     */
+    @Setup
+    public void setUp() {
+        List<Patient> generated = BenchmarkData.getPatients(patientCount + 1);
+        absentPatient = generated.remove(patientCount);
+
+        sortedListBook = new AddressBook();
+        sortedListBook.setPatients(generated);
+        sortedList = new SortedList<>(new FilteredList<>(sortedListBook.getPatientList()), BY_NAME);
+
+        indexBook = new AddressBook();
+        indexBook.setPatients(generated);
+        index = new SortedPatientIndex(indexBook.getPatientList(), BY_NAME);
+        page = new PagedList<>(index);
+        page.show(index, 0, PAGE_SIZE);
+    }
+
+    /**
+     * Sorts all patients by name and takes the first page, as sorting a {@code SortedList} does on every command.
+     */
+    @Benchmark
+    public List<Patient> firstPageWithSortedList() {
+        sortedList.setComparator(null);
+        sortedList.setComparator(BY_NAME);
+        return List.copyOf(sortedList.subList(0, PAGE_SIZE));
+    }
+
+    /**
+     * Shows the first page of the index, which is already sorted.
+     */
+    @Benchmark
+    public List<Patient> firstPageWithIndex() {
+        page.show(index, 0, PAGE_SIZE);
+        return List.copyOf(page);
+    }
+
+    /**
+     * Adds a patient to and removes it from the address book while the patients are listed by the {@code SortedList}.
+     */
+    @Benchmark
+    public int addThenRemoveWithSortedList() {
+        sortedListBook.addPatient(absentPatient);
+        sortedListBook.removePatient(absentPatient);
+        return sortedList.size();
+    }
+
+    /**
+     * Adds a patient to and removes it from the address book while a page of the index is listed.
+     */
+    @Benchmark
+    public int addThenRemoveWithIndex() {
+        indexBook.addPatient(absentPatient);
+        indexBook.removePatient(absentPatient);
+        return page.size();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.noknock.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.benchmark.BenchmarkData;
+
+/**
+ * Compares finding the next incomplete caring sessions by scanning the sessions of every patient with reading them
+ * from {@link UpcomingSessions}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpcomingSessionsBenchmark {
+
+    private static final int COUNT = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private AddressBook addressBook;
+    private UpcomingSessions upcomingSessions;
+    private LocalDateTime from;
+
+    /**
+     * Fills an address book with {@code patientCount} patients and looks for sessions from midday of the first day
+     * with sessions.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.getAddressBook(patientCount);
+        upcomingSessions = new UpcomingSessions(addressBook.getPatientList());
+        from = BenchmarkData.getFirstSessionDate().atTime(12, 0);
+    }
+
+    /**
+     * Finds the next sessions by looking at every session of every patient.
+     */
+    @Benchmark
+    public List<ScheduledSession> nextSessionsWithScan() {
+        return addressBook.getPatientList().stream()
+                .flatMap(patient -> patient.getCaringSessionList().stream()
+                        .filter(session -> !session.isComplete() && !session.getStart().isBefore(from))
+                        .map(session -> new ScheduledSession(patient, session)))
+                .sorted(Comparator.comparing(ScheduledSession::getStart))
+                .limit(COUNT)
+                .toList();
+    }
+
+    /**
+     * Reads the next sessions from the index.
+     */
+    @Benchmark
+    public List<ScheduledSession> nextSessionsWithIndex() {
+        return upcomingSessions.getNext(from, COUNT);
+    }
+}
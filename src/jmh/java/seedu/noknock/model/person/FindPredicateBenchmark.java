@@ -0,0 +1,79 @@
+package seedu.noknock.model.person;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.benchmark.BenchmarkData;
+import seedu.noknock.model.date.Date;
+
+/**
+ * Measures filtering every patient with the predicates used by the find and session commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private List<Patient> patients;
+    private Predicate<Patient> nameContainsKeywords;
+    private Predicate<Patient> nokContainsKeywords;
+    private Predicate<Patient> hasSessionsInWeek;
+
+    /**
+     * Creates the patients and predicates.
+     */
+    @Setup
+    public void setUp() {
+        patients = BenchmarkData.getPatients(patientCount);
+        nameContainsKeywords = new PatientNameContainsKeywordsPredicate(List.of("alex", "tan"));
+        nokContainsKeywords = new PatientNokContainsKeywordsPredicate(List.of("priya", "wong"));
+        LocalDate weekStart = BenchmarkData.getFirstSessionDate().plusDays(70);
+        hasSessionsInWeek = new PatientHasSessionsInDateRangePredicate(new Date(weekStart.toString()),
+                new Date(weekStart.plusDays(6).toString()));
+    }
+
+    private long countMatches(Predicate<Patient> predicate) {
+        long count = 0;
+        for (Patient patient : patients) {
+            if (predicate.test(patient)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long findByName() {
+        return countMatches(nameContainsKeywords);
+    }
+
+    @Benchmark
+    public long findByNextOfKin() {
+        return countMatches(nokContainsKeywords);
+    }
+
+    @Benchmark
+    public long sessionsInDateRange() {
+        return countMatches(hasSessionsInWeek);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.noknock.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.noknock.benchmark.BenchmarkData;
+
+/**
+ * Measures {@link Patient#getCaringSessionList()} across every patient, as done when listing all sessions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatientBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private List<Patient> patients;
+
+    @Setup
+    public void setUp() {
+        patients = BenchmarkData.getPatients(patientCount);
+    }
+
+    @Benchmark
+    public void getCaringSessionList(Blackhole blackhole) {
+        for (Patient patient : patients) {
+            blackhole.consume(patient.getCaringSessionList());
+        }
+    }
+}
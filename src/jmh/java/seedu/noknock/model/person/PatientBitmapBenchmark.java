@@ -0,0 +1,108 @@
+package seedu.noknock.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.benchmark.BenchmarkData;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
+import seedu.noknock.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures combining the ward, tag, care type and session status indices of a {@link UniquePatientList} as bitmaps,
+ * against intersecting and uniting the same indices as hash sets of patients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatientBitmapBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private PatientBitmap ward;
+    private PatientBitmap otherWard;
+    private PatientBitmap tag;
+    private PatientBitmap careType;
+    private PatientBitmap status;
+    private Set<Patient> wardSet;
+    private Set<Patient> otherWardSet;
+    private Set<Patient> tagSet;
+    private Set<Patient> careTypeSet;
+    private Set<Patient> statusSet;
+
+    /**
+     * Fills the list with {@code patientCount} patients and looks up the indices to combine.
+     */
+    @Setup
+    public void setUp() {
+        UniquePatientList patients = new UniquePatientList();
+        patients.setPatients(BenchmarkData.getPatients(patientCount));
+        ward = patients.getPatientsInWard(new Ward("1A"));
+        otherWard = patients.getPatientsInWard(new Ward("1B"));
+        tag = patients.getPatientsWithTag(new Tag(SyntheticDataGenerator.TAG_NAMES.get(0)));
+        careType = patients.getPatientsWithCareType(new CareType(SyntheticDataGenerator.CARE_TYPES.get(0)));
+        status = patients.getPatientsWithSessionStatus(SessionStatus.INCOMPLETE);
+        wardSet = new HashSet<>(ward);
+        otherWardSet = new HashSet<>(otherWard);
+        tagSet = new HashSet<>(tag);
+        careTypeSet = new HashSet<>(careType);
+        statusSet = new HashSet<>(status);
+    }
+
+    @Benchmark
+    public int intersectBitmaps() {
+        return ward.and(tag).and(careType).and(status).size();
+    }
+
+    /**
+     * Intersects the sets the way the filters did before the indices were bitmaps: by copying the smallest set and
+     * retaining the patients in each other set.
+     */
+    @Benchmark
+    public int intersectHashSets() {
+        List<Set<Patient>> sets = List.of(wardSet, tagSet, careTypeSet, statusSet);
+        Set<Patient> smallest = sets.stream().min((first, second) -> first.size() - second.size()).orElseThrow();
+        Set<Patient> intersection = new HashSet<>(smallest);
+        for (Set<Patient> set : sets) {
+            if (set != smallest) {
+                intersection.retainAll(set);
+            }
+        }
+        return intersection.size();
+    }
+
+    @Benchmark
+    public int uniteBitmaps() {
+        return ward.or(otherWard).and(tag).size();
+    }
+
+    /**
+     * Unites and intersects the sets as hash sets, for comparison with {@link #uniteBitmaps()}.
+     */
+    @Benchmark
+    public int uniteHashSets() {
+        Set<Patient> union = new HashSet<>(wardSet);
+        union.addAll(otherWardSet);
+        union.retainAll(tagSet);
+        return union.size();
+    }
+}
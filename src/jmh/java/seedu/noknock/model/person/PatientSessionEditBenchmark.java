@@ -0,0 +1,68 @@
+package seedu.noknock.model.person;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.benchmark.BenchmarkData;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.SessionStatus;
+
+/**
+ * Measures editing one caring session of a patient with many sessions, as done by {@code edit-session}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatientSessionEditBenchmark {
+
+    @Param({"50", "5000"})
+    private int sessionCount;
+
+    private Patient patient;
+    private CaringSession editedSession;
+
+    @Setup
+    public void setUp() {
+        LocalDate firstDate = BenchmarkData.getFirstSessionDate();
+        List<CaringSession> sessions = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(createSession(firstDate.plusDays(i), SessionStatus.INCOMPLETE));
+        }
+        patient = new Patient(new Name("Benchmark Patient"), new Ward("1A"), new IC("S1234567A"), Set.of())
+                .withCaringSessionList(sessions);
+        editedSession = createSession(firstDate.plusDays(sessionCount / 2), SessionStatus.COMPLETED);
+    }
+
+    @Benchmark
+    public Patient editMiddleSession() {
+        return patient.withCaringSession(sessionCount / 2, editedSession);
+    }
+
+    private static CaringSession createSession(LocalDate date, SessionStatus status) {
+        return new CaringSession(new CareType("Physiotherapy"), new Note(""), new Date(date.toString()),
+                new Time(LocalTime.of(9, 0).toString()), status);
+    }
+}
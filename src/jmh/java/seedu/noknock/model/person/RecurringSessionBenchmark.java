@@ -0,0 +1,107 @@
+package seedu.noknock.model.person;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+
+/**
+ * Compares a daily medication round kept as one caring session per day with the same round kept as a single
+ * recurring session, both to create and to read the sessions of one week.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurringSessionBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2030, 1, 1);
+    private static final CareType CARE_TYPE = new CareType("medication");
+    private static final Note NOTE = new Note("Morning round");
+    private static final Time TIME = new Time("08:00");
+
+    @Param({"30", "365", "3650"})
+    private int days;
+
+    private Patient patient;
+    private Patient patientWithSessions;
+    private Patient patientWithRecurringSession;
+    private Date weekStart;
+    private Date weekEnd;
+
+    /**
+     * Creates the two patients and looks at the week in the middle of the round.
+     */
+    @Setup
+    public void setUp() {
+        patient = new Patient(new Name("Alice Pauline"), new Ward("2A"), new IC("S1234567A"), Set.of());
+        patientWithSessions = withSessions();
+        patientWithRecurringSession = withRecurringSession();
+        LocalDate middle = START.plusDays(days / 2);
+        weekStart = Date.of(middle);
+        weekEnd = Date.of(middle.plusDays(6));
+    }
+
+    /**
+     * Adds one caring session for each day of the round.
+     */
+    @Benchmark
+    public Patient withSessions() {
+        List<CaringSession> sessions = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            sessions.add(new CaringSession(CARE_TYPE, NOTE, Date.of(START.plusDays(day)), TIME,
+                    Duration.DEFAULT, SessionStatus.INCOMPLETE));
+        }
+        return patient.withCaringSessionList(sessions);
+    }
+
+    /**
+     * Adds a single recurring session for the round.
+     */
+    @Benchmark
+    public Patient withRecurringSession() {
+        return patient.withRecurringSession(new RecurringSession(CARE_TYPE, NOTE, TIME, Duration.DEFAULT,
+                Recurrence.DAILY, Date.of(START), Date.of(START.plusDays(days - 1))));
+    }
+
+    /**
+     * Reads a week of the sessions added one per day.
+     */
+    @Benchmark
+    public List<CaringSession> weekOfSessions() {
+        return patientWithSessions.getCaringSessionsBetween(weekStart, weekEnd);
+    }
+
+    /**
+     * Reads a week of the occurrences of the recurring session.
+     */
+    @Benchmark
+    public List<CaringSession> weekOfRecurringSession() {
+        return patientWithRecurringSession.getCaringSessionsBetween(weekStart, weekEnd);
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.noknock.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.benchmark.BenchmarkData;
+
+/**
+ * Measures adding to, editing and looking up patients in a {@link UniquePatientList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePatientListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private UniquePatientList patients;
+    private Patient lastPatient;
+    private Patient absentPatient;
+    private Patient editedLastPatient;
+
+    /**
+     * Fills the list with {@code patientCount} patients.
+     */
+    @Setup
+    public void setUp() {
+        List<Patient> generated = BenchmarkData.getPatients(patientCount + 1);
+        absentPatient = generated.remove(patientCount);
+        lastPatient = generated.get(patientCount - 1);
+        editedLastPatient = lastPatient.withDetails(lastPatient.getName(), new Ward("9Z"), lastPatient.getIC(),
+                lastPatient.getTags());
+        patients = new UniquePatientList();
+        patients.setPatients(generated);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return patients.contains(lastPatient);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return patients.contains(absentPatient);
+    }
+
+    /**
+     * Adds a new patient, then removes it again so that the list keeps its size between invocations.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        patients.add(absentPatient);
+        patients.remove(absentPatient);
+    }
+
+    /**
+     * Replaces the last patient with an edited copy, then restores it, as an edit command and its undo do.
+     */
+    @Benchmark
+    public void editThenRestore() {
+        patients.setPatient(lastPatient, editedLastPatient);
+        patients.setPatient(editedLastPatient, lastPatient);
+    }
+}
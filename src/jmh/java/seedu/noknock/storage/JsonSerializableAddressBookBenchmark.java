@@ -0,0 +1,63 @@
+package seedu.noknock.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.benchmark.BenchmarkData;
+import seedu.noknock.commons.exceptions.IllegalValueException;
+import seedu.noknock.commons.util.JsonUtil;
+import seedu.noknock.model.AddressBook;
+
+/**
+ * Measures converting an address book to JSON and back, as done when saving and loading the data file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private AddressBook addressBook;
+    private String json;
+
+    /**
+     * Creates the address book and its JSON form.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = BenchmarkData.getAddressBook(patientCount);
+        json = serialize();
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+
+    @Benchmark
+    public AddressBook deserialize() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    @Benchmark
+    public AddressBook roundTrip() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(serialize(), JsonSerializableAddressBook.class).toModelType();
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.noknock.ui;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.noknock.benchmark.BenchmarkData;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSessionDateInRangePredicate;
+
+/**
+ * Measures flattening the sessions of every patient into the grouped list shown by {@link CaringSessionPanel}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CaringSessionPanelBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int patientCount;
+
+    private List<Patient> patients;
+    private CaringSessionDateInRangePredicate singleDay;
+
+    /**
+     * Creates the patients and session filter.
+     */
+    @Setup
+    public void setUp() {
+        patients = BenchmarkData.getPatients(patientCount);
+        singleDay = CaringSessionDateInRangePredicate.onDate(
+                new Date(BenchmarkData.getFirstSessionDate().plusDays(70).toString()));
+    }
+
+    @Benchmark
+    public List<Object> flattenAllSessions() {
+        return CaringSessionPanel.flattenSessions(patients, Model.PREDICATE_SHOW_ALL_SESSIONS);
+    }
+
+    @Benchmark
+    public List<Object> flattenSessionsOnDate() {
+        return CaringSessionPanel.flattenSessions(patients, singleDay);
+    }
+}
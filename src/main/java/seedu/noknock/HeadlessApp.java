@@ -0,0 +1,74 @@
+package seedu.noknock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.logic.commands.CommandResult;
+import seedu.noknock.logic.commands.RunScriptCommand;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands against the data file without starting the UI, e.g.
+ * {@code java -jar noknock.jar --script=admissions.txt}. The script is run like the {@code run-script} command,
+ * so either all of its commands take effect or none do.
+ */
+public class HeadlessApp {
+    public static final String SCRIPT_PARAMETER = "script";
+    public static final String USAGE = "Usage: java -jar noknock.jar --" + SCRIPT_PARAMETER + "=FILE [--config=FILE]";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+    private static final String NAMED_PARAMETER_START = "--";
+
+    /**
+     * Returns true if {@code args} ask for a script to be run without the UI.
+     */
+    public static boolean isHeadless(String[] args) {
+        return parseNamedParameters(args).containsKey(SCRIPT_PARAMETER);
+    }
+
+    /**
+     * Runs the script named in {@code args}, prints the outcome and returns the exit status of the application:
+     * 0 if every command of the script succeeded and 1 otherwise.
+     */
+    public static int run(String[] args) {
+        Map<String, String> namedParameters = parseNamedParameters(args);
+        String script = namedParameters.get(SCRIPT_PARAMETER);
+        if (script == null || script.isBlank() || !FileUtil.isValidPath(script)) {
+            System.err.println(USAGE);
+            return 1;
+        }
+
+        logger.info("=============================[ Running script " + script + " ]=============================");
+        MainApp app = new MainApp();
+        app.initComponents(AppParameters.parse(namedParameters).getConfigPath());
+        try {
+            CommandResult result = app.logic.execute(RunScriptCommand.COMMAND_WORD + " " + script);
+            System.out.println(result.getFeedbackToUser());
+            return 0;
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        } finally {
+            app.stop();
+        }
+    }
+
+    /**
+     * Returns the parameters of the form {@code --name=value} in {@code args}, ignoring any other arguments.
+     */
+    private static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_START) && separator > NAMED_PARAMETER_START.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_START.length(), separator),
+                        arg.substring(separator + 1));
+            }
+        }
+        return namedParameters;
+    }
+}
@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.noknock.commons.core.Config;
 import seedu.noknock.commons.core.LogsCenter;
 import seedu.noknock.commons.core.Version;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
 import seedu.noknock.commons.exceptions.DataLoadingException;
 import seedu.noknock.commons.util.ConfigUtil;
 import seedu.noknock.commons.util.StringUtil;
@@ -52,7 +53,17 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        initComponents(appParameters.getConfigPath());
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component except the UI, using the config file at {@code configFilePath}, or the default
+     * config file if {@code configFilePath} is null.
+     */
+    protected void initComponents(Path configFilePath) {
+        config = initConfig(configFilePath);
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
@@ -63,8 +74,6 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic);
     }
 
     /**
@@ -95,6 +104,9 @@ public class MainApp extends Application {
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
+        if (config.getMetricsLogIntervalSeconds() > 0) {
+            MetricsCenter.startPeriodicLogging(config.getMetricsLogIntervalSeconds());
+        }
     }
 
     /**
@@ -177,6 +189,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        MetricsCenter.stopPeriodicLogging();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,72 @@
+package seedu.noknock.commons.core.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics recorded for all executions of a single command word.
+ */
+public class CommandMetrics {
+
+    /**
+     * The timed phases of executing a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, PERSIST, TOTAL;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+    private final AtomicLong patientsScanned = new AtomicLong();
+    private final AtomicLong sessionsTouched = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * Creates a {@code CommandMetrics} with an empty histogram for every phase.
+     */
+    public CommandMetrics() {
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms.get(phase);
+    }
+
+    /**
+     * Returns the number of times the command was executed, including failed executions.
+     */
+    public long getExecutionCount() {
+        return histograms.get(Phase.TOTAL).getCount();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    public long getPatientsScanned() {
+        return patientsScanned.get();
+    }
+
+    public long getSessionsTouched() {
+        return sessionsTouched.get();
+    }
+
+    void addPatientsScanned(long count) {
+        patientsScanned.addAndGet(count);
+    }
+
+    void addSessionsTouched(long count) {
+        sessionsTouched.addAndGet(count);
+    }
+
+    void addFailure() {
+        failures.incrementAndGet();
+    }
+}
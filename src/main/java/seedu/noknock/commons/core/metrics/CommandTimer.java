@@ -0,0 +1,82 @@
+package seedu.noknock.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import seedu.noknock.commons.core.metrics.CommandMetrics.Phase;
+
+/**
+ * Times the phases of a single command execution. Obtained from {@link MetricsCenter#startCommand(String)}.
+ * The timings and counters are only added to the {@link MetricsCenter} when the timer is closed.
+ */
+public class CommandTimer implements AutoCloseable {
+    /** Key under which commands that could not be parsed are recorded. */
+    public static final String UNPARSED_COMMAND_KEY = "(unparsed)";
+
+    private final String commandWord;
+    private final long startNanos;
+    private final Map<Phase, Long> phaseNanos = new EnumMap<>(Phase.class);
+    private long phaseStartNanos;
+    private long patientsScanned = 0;
+    private long sessionsTouched = 0;
+    private boolean isSuccessful = false;
+
+    CommandTimer(String commandWord) {
+        requireNonNull(commandWord);
+        this.commandWord = commandWord;
+        this.startNanos = System.nanoTime();
+        this.phaseStartNanos = startNanos;
+    }
+
+    /**
+     * Marks the end of {@code phase}, which is taken to have started when the previous phase ended.
+     */
+    public void endPhase(Phase phase) {
+        requireNonNull(phase);
+        long now = System.nanoTime();
+        phaseNanos.put(phase, now - phaseStartNanos);
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Marks the command as having completed successfully.
+     */
+    public void succeed() {
+        isSuccessful = true;
+    }
+
+    void addPatientsScanned(long count) {
+        patientsScanned += count;
+    }
+
+    void addSessionsTouched(long count) {
+        sessionsTouched += count;
+    }
+
+    /**
+     * Returns the key the command is recorded under, which is its command word if it could be parsed.
+     */
+    String getKey() {
+        return phaseNanos.containsKey(Phase.PARSE) ? commandWord : UNPARSED_COMMAND_KEY;
+    }
+
+    /**
+     * Adds the recorded timings and counters to {@code metrics}.
+     */
+    void recordTo(CommandMetrics metrics) {
+        phaseNanos.forEach((phase, nanos) -> metrics.getHistogram(phase).record(nanos));
+        metrics.getHistogram(Phase.TOTAL).record(System.nanoTime() - startNanos);
+        metrics.addPatientsScanned(patientsScanned);
+        metrics.addSessionsTouched(sessionsTouched);
+        if (!isSuccessful) {
+            metrics.addFailure();
+        }
+    }
+
+    @Override
+    public void close() {
+        MetricsCenter.finishCommand(this);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.noknock.commons.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records durations into buckets whose widths grow in powers of two.
+ * Recording is constant time and memory use is fixed, so a histogram can be kept for every command word for the
+ * whole lifetime of the app. Percentiles are estimated from the buckets and are accurate to within a factor of two.
+ */
+public class LatencyHistogram {
+    /** Bucket {@code i} holds durations in [2^i, 2^(i+1)) microseconds, bucket 0 also holds durations below 1us. */
+    private static final int BUCKET_COUNT = 40;
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are treated as zero.
+     */
+    public synchronized void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        buckets[bucketOf(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        int bucket = micros == 0 ? 0 : 63 - Long.numberOfLeadingZeros(micros);
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded durations in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public synchronized long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    /**
+     * Returns an estimate of the {@code percentile}-th percentile of the recorded durations in nanoseconds,
+     * or 0 if nothing has been recorded. The estimate is the upper bound of the bucket the percentile falls in,
+     * capped at the largest recorded duration.
+     *
+     * @param percentile a value between 0 and 100 inclusive.
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                long upperBoundNanos = TimeUnit.MICROSECONDS.toNanos(1L << (i + 1));
+                return Math.min(upperBoundNanos, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
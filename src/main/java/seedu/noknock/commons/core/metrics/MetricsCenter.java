@@ -0,0 +1,147 @@
+package seedu.noknock.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.core.metrics.CommandMetrics.Phase;
+
+/**
+ * Records how long each command takes and how much data it works on, grouped by command word.
+ * Timings are collected with a {@link CommandTimer}. Code that runs while a command is being timed on the same
+ * thread can add to the command's counters with {@link #recordPatientsScanned(long)} and
+ * {@link #recordSessionsTouched(long)}; outside of a command, these calls have no effect.
+ */
+public class MetricsCenter {
+    public static final String MESSAGE_NO_METRICS = "No commands have been recorded yet.";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final String LOG_THREAD_NAME = "metrics-logger";
+    private static final Phase[] REPORTED_PHASES = {Phase.TOTAL, Phase.PARSE, Phase.EXECUTE, Phase.PERSIST};
+
+    private static final Map<String, CommandMetrics> metricsByCommandWord = new ConcurrentSkipListMap<>();
+    private static final ThreadLocal<CommandTimer> currentTimer = new ThreadLocal<>();
+    private static ScheduledExecutorService logScheduler;
+
+    /**
+     * Starts timing the execution of {@code commandText} on the current thread.
+     * The returned timer must be closed when the command completes, whether it succeeds or not.
+     */
+    public static CommandTimer startCommand(String commandText) {
+        requireNonNull(commandText);
+        String[] words = commandText.trim().split("\\s+", 2);
+        CommandTimer timer = new CommandTimer(words[0]);
+        currentTimer.set(timer);
+        return timer;
+    }
+
+    static void finishCommand(CommandTimer timer) {
+        if (currentTimer.get() == timer) {
+            currentTimer.remove();
+        }
+        timer.recordTo(metricsByCommandWord.computeIfAbsent(timer.getKey(), unused -> new CommandMetrics()));
+    }
+
+    /**
+     * Adds {@code count} to the number of patients scanned by the command being timed on the current thread.
+     */
+    public static void recordPatientsScanned(long count) {
+        CommandTimer timer = currentTimer.get();
+        if (timer != null) {
+            timer.addPatientsScanned(count);
+        }
+    }
+
+    /**
+     * Adds {@code count} to the number of caring sessions touched by the command being timed on the current
+     * thread.
+     */
+    public static void recordSessionsTouched(long count) {
+        CommandTimer timer = currentTimer.get();
+        if (timer != null) {
+            timer.addSessionsTouched(count);
+        }
+    }
+
+    /**
+     * Returns the metrics recorded for {@code commandWord}, or null if it has not been executed.
+     */
+    public static CommandMetrics getMetrics(String commandWord) {
+        return metricsByCommandWord.get(commandWord);
+    }
+
+    /**
+     * Discards all recorded metrics.
+     */
+    public static void reset() {
+        metricsByCommandWord.clear();
+    }
+
+    /**
+     * Returns a human-readable summary of the metrics of every command word, one line per command word.
+     */
+    public static String getSummary() {
+        if (metricsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_METRICS;
+        }
+
+        StringBuilder summary = new StringBuilder();
+        metricsByCommandWord.forEach((commandWord, metrics) -> {
+            summary.append(commandWord)
+                    .append(": ").append(metrics.getExecutionCount()).append(" run(s), ")
+                    .append(metrics.getFailureCount()).append(" failed");
+            for (Phase phase : REPORTED_PHASES) {
+                LatencyHistogram histogram = metrics.getHistogram(phase);
+                if (histogram.getCount() > 0) {
+                    summary.append(" | ").append(phase)
+                            .append(" p50 ").append(formatNanos(histogram.getPercentileNanos(50)))
+                            .append(" p95 ").append(formatNanos(histogram.getPercentileNanos(95)))
+                            .append(" max ").append(formatNanos(histogram.getMaxNanos()));
+                }
+            }
+            summary.append(" | patients scanned ").append(metrics.getPatientsScanned())
+                    .append(", sessions touched ").append(metrics.getSessionsTouched())
+                    .append("\n");
+        });
+        return summary.toString().trim();
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Logs the summary every {@code intervalSeconds} seconds until {@link #stopPeriodicLogging()} is called.
+     * Replaces any periodic logging that was started before.
+     */
+    public static synchronized void startPeriodicLogging(long intervalSeconds) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: " + intervalSeconds);
+        }
+        stopPeriodicLogging();
+        logScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, LOG_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        logScheduler.scheduleAtFixedRate(() -> logger.info("Command metrics:\n" + getSummary()),
+                intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info("Command metrics will be logged every " + intervalSeconds + " seconds");
+    }
+
+    /**
+     * Stops the periodic logging started by {@link #startPeriodicLogging(long)}, if any.
+     */
+    public static synchronized void stopPeriodicLogging() {
+        if (logScheduler != null) {
+            logScheduler.shutdownNow();
+            logScheduler = null;
+        }
+    }
+}
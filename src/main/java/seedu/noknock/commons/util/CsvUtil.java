@@ -0,0 +1,72 @@
+package seedu.noknock.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.noknock.commons.exceptions.IllegalValueException;
+
+/**
+ * Splits lines of comma-separated values into their fields, and quotes fields for writing such lines.
+ * A field may be enclosed in double quotes to contain commas, and a double quote inside a quoted field is written
+ * as two double quotes. Quoted fields cannot span several lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed by a double quote";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the fields of {@code line}, without their enclosing quotes. A line always has at least one field.
+     *
+     * @throws IllegalValueException if a quoted field is not closed.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isInQuotes) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isInQuotes = false;
+                }
+            } else if (c == QUOTE) {
+                isInQuotes = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (isInQuotes) {
+            throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns {@code field} enclosed in double quotes if it contains a comma or a double quote, and unchanged
+     * otherwise, so that {@link #parseLine(String)} reads it back as it was.
+     */
+    public static String quoteIfNeeded(String field) {
+        requireNonNull(field);
+        if (field.indexOf(SEPARATOR) < 0 && field.indexOf(QUOTE) < 0) {
+            return field;
+        }
+        return QUOTE + field.replace("\"", "\"\"") + QUOTE;
+    }
+}
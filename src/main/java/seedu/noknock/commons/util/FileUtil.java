@@ -5,6 +5,10 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Writes and reads files
@@ -65,6 +69,25 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Deletes {@code directory} and everything in it. Does nothing if it does not exist.
+     * @throws IOException if anything in the directory cannot be deleted.
+     */
+    public static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            // Children come after their parents in a walk, so deleting in reverse empties each directory first
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -40,6 +40,57 @@ public class StringUtil {
                 wordInSentence.toLowerCase().contains(preppedWord.toLowerCase()));
     }
 
+    /**
+     * Returns the number of single-character insertions, deletions and replacements needed to change {@code first}
+     * into {@code second}, or {@code maxDistance + 1} if more than {@code maxDistance} edits are needed.
+     * Only the cells of the edit distance table within {@code maxDistance} of its diagonal are computed, so the
+     * distance takes time proportional to the length of the strings times {@code maxDistance}.
+     * <br>examples:<pre>
+     *     getEditDistance("tan", "tan", 2) == 0
+     *     getEditDistance("mohamad", "muhammad", 2) == 2
+     *     getEditDistance("lim", "lee", 1) == 2
+     * </pre>
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance must not be negative");
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int tooFar = maxDistance + 1;
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j < previousRow.length; j++) {
+            previousRow[j] = Math.min(j, tooFar);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(second.length(), i + maxDistance);
+            row[0] = Math.min(i, tooFar);
+            if (from > 1) {
+                row[from - 1] = tooFar;
+            }
+            int rowMinimum = row[0];
+            for (int j = from; j <= to; j++) {
+                int replaceCost = previousRow[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(tooFar, Math.min(replaceCost, Math.min(row[j - 1], previousRow[j]) + 1));
+                rowMinimum = Math.min(rowMinimum, row[j]);
+            }
+            if (to < second.length()) {
+                row[to + 1] = tooFar;
+            }
+            if (rowMinimum >= tooFar) {
+                return tooFar;
+            }
+            int[] swap = previousRow;
+            previousRow = row;
+            row = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,88 @@
+package seedu.noknock.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.logic.commands.CommandResult;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands through {@link Logic} on a single background thread so that parsing, execution and saving
+ * do not block the UI.
+ * Commands are executed one at a time in the order they are submitted, so a command always sees the
+ * results of every command submitted before it.
+ */
+public class CommandPipeline {
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+    private static final String WORKER_THREAD_NAME = "command-worker";
+
+    private final Logic logic;
+    private final ExecutorService worker;
+
+    /**
+     * Creates a {@code CommandPipeline} that executes commands with {@code logic} on its own worker thread.
+     */
+    public CommandPipeline(Logic logic) {
+        this(logic, Executors.newSingleThreadExecutor(CommandPipeline::createWorkerThread));
+    }
+
+    /**
+     * Creates a {@code CommandPipeline} that executes commands with {@code logic} on {@code worker}.
+     * {@code worker} must run tasks one at a time in submission order.
+     */
+    CommandPipeline(Logic logic, ExecutorService worker) {
+        requireNonNull(logic);
+        requireNonNull(worker);
+        this.logic = logic;
+        this.worker = worker;
+    }
+
+    private static Thread createWorkerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, WORKER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Queues {@code commandText} for execution and returns a future of its result.
+     * The future completes on the worker thread. If the command fails, the future completes exceptionally
+     * with the {@code CommandException} or {@code ParseException} thrown by {@link Logic#execute(String)}.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        try {
+            worker.execute(() -> run(commandText, future));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void run(String commandText, CompletableFuture<CommandResult> future) {
+        try {
+            future.complete(logic.execute(commandText));
+        } catch (CommandException | ParseException e) {
+            future.completeExceptionally(e);
+        } catch (Throwable e) {
+            // Anything else, even an Error, must still complete the future or the command box stays locked.
+            logger.severe("Unexpected error while executing command: " + StringUtil.getDetails(e));
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Stops accepting new commands. Commands that are already queued are still executed.
+     */
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.noknock.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -10,6 +11,8 @@ import seedu.noknock.logic.commands.CommandResult;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.UpcomingSessions;
+import seedu.noknock.model.WardSummary;
 import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.session.CaringSession;
 
@@ -26,6 +29,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the command words that start with {@code prefix}, in alphabetical order.
+     */
+    List<String> getCommandWordCompletions(String prefix);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,7 +41,10 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of persons.
+     * Changes made by a command are published as a single change once the command has been executed.
+     */
     ObservableList<Patient> getFilteredPersonList();
 
     /**
@@ -57,4 +68,17 @@ public interface Logic {
      * reactively rebuild when the filter changes.
      */
     ReadOnlyObjectProperty<Predicate<CaringSession>> sessionDisplayFilterProperty();
+
+    /**
+     * Returns a read-only JavaFX property holding the summaries of every ward for today.
+     * Like {@link #getFilteredPersonList()}, it changes once a command has been executed.
+     */
+    ReadOnlyObjectProperty<List<WardSummary>> wardSummariesProperty();
+
+    /**
+     * Returns the incomplete caring sessions ordered by start time.
+     *
+     * @see seedu.noknock.model.Model#getUpcomingSessions()
+     */
+    UpcomingSessions getUpcomingSessions();
 }
@@ -3,6 +3,7 @@ package seedu.noknock.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -10,6 +11,9 @@ import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.noknock.commons.core.GuiSettings;
 import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.core.metrics.CommandMetrics.Phase;
+import seedu.noknock.commons.core.metrics.CommandTimer;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
 import seedu.noknock.logic.commands.Command;
 import seedu.noknock.logic.commands.CommandResult;
 import seedu.noknock.logic.commands.exceptions.CommandException;
@@ -17,6 +21,8 @@ import seedu.noknock.logic.parser.AddressBookParser;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.Model;
 import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.UpcomingSessions;
+import seedu.noknock.model.WardSummary;
 import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.session.CaringSession;
 import seedu.noknock.storage.Storage;
@@ -49,19 +55,36 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        try (CommandTimer timer = MetricsCenter.startCommand(commandText)) {
+            Command command = addressBookParser.parseCommand(commandText);
+            timer.endPhase(Phase.PARSE);
+
+            CommandResult commandResult;
+            model.beginBatch();
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                model.endBatch();
+            }
+            timer.endPhase(Phase.EXECUTE);
+
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
+            timer.endPhase(Phase.PERSIST);
+
+            timer.succeed();
+            return commandResult;
         }
+    }
 
-        return commandResult;
+    @Override
+    public List<String> getCommandWordCompletions(String prefix) {
+        return addressBookParser.getCommandWordCompletions(prefix);
     }
 
     @Override
@@ -71,7 +94,7 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Patient> getFilteredPersonList() {
-        return model.getFilteredPatientList();
+        return model.getDisplayedPatientList();
     }
 
     @Override
@@ -93,4 +116,14 @@ public class LogicManager implements Logic {
     public ReadOnlyObjectProperty<Predicate<CaringSession>> sessionDisplayFilterProperty() {
         return model.sessionDisplayFilterProperty();
     }
+
+    @Override
+    public ReadOnlyObjectProperty<List<WardSummary>> wardSummariesProperty() {
+        return model.wardSummariesProperty();
+    }
+
+    @Override
+    public UpcomingSessions getUpcomingSessions() {
+        return model.getUpcomingSessions();
+    }
 }
@@ -1,13 +1,17 @@
 package seedu.noknock.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.noknock.logic.parser.Prefix;
+import seedu.noknock.model.ScheduledSession;
+import seedu.noknock.model.WardSummary;
 import seedu.noknock.model.person.NextOfKin;
 import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.RecurringSession;
 
 /**
  * Container for user visible messages.
@@ -15,12 +19,17 @@ import seedu.noknock.model.session.CaringSession;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_UNKNOWN_COMMAND_SUGGESTION = "Unknown command. Did you mean: %1$s?";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX = "The patient index provided is invalid";
+    public static final String MESSAGE_PATIENT_IC_NOT_FOUND = "No patient has the IC %1$s";
     public static final String MESSAGE_INVALID_NOK_DISPLAYED_INDEX = "The Next-of-Kin index provided is invalid";
     public static final String MESSAGE_VIEW_PATIENT_SUCCESS = "Viewing Patient: %1$s";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d person(s) listed!";
     public static final String MESSAGE_INVALID_SESSION_INDEX = "The caring session index provided is invalid";
+    public static final String MESSAGE_INVALID_RECURRING_SESSION_INDEX =
+        "The recurring session index provided is invalid";
+    public static final String MESSAGE_REMINDER = "Reminder: %1$d caring session(s) due now:\n%2$s";
     public static final String MESSAGE_DUPLICATE_FIELDS =
         "Multiple values specified for the following single-valued field(s): ";
 
@@ -59,7 +68,50 @@ public class Messages {
      */
     public static String formatSession(CaringSession session) {
         final StringBuilder builder = new StringBuilder();
-        builder.append(session.getCareType() + " on " + session.getDate() + " at " + session.getTime());
+        builder.append(session.getCareType() + " on " + session.getDate() + " at " + session.getTime()
+            + " for " + session.getDuration().printPretty());
+        return builder.toString();
+    }
+
+    /**
+     * Formats the {@code recurringSession} for display to the user.
+     */
+    public static String formatRecurringSession(RecurringSession recurringSession) {
+        return recurringSession.getCareType() + " " + recurringSession.getRecurrence().toString().toLowerCase()
+            + " at " + recurringSession.getTime() + " for " + recurringSession.getDuration().printPretty()
+            + " from " + recurringSession.getStartDate() + " to " + recurringSession.getEndDate();
+    }
+
+    /**
+     * Formats the {@code scheduledSession} and the patient it is for for display to the user.
+     */
+    public static String formatScheduledSession(ScheduledSession scheduledSession) {
+        return formatPatient(scheduledSession.getPatient()) + ": " + formatSession(scheduledSession.getSession());
+    }
+
+    /**
+     * Formats a reminder that the {@code dueSessions} are due for display to the user.
+     */
+    public static String formatReminder(List<ScheduledSession> dueSessions) {
+        return String.format(MESSAGE_REMINDER, dueSessions.size(), dueSessions.stream()
+            .map(Messages::formatScheduledSession)
+            .collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * Formats the {@code summary} of a ward for display to the user.
+     */
+    public static String formatWardSummary(WardSummary summary) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(summary.getWard())
+            .append(": ").append(summary.getPatientCount()).append(" patient(s), ")
+            .append(summary.getSessionCount()).append(" session(s) today, ")
+            .append(summary.getIncompleteSessionCount()).append(" incomplete");
+        if (!summary.getIncompleteSessionCounts().isEmpty()) {
+            builder.append(summary.getIncompleteSessionCounts().entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .collect(Collectors.joining(", ", " (", ")")));
+        }
         return builder.toString();
     }
 }
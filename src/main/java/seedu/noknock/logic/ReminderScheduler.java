@@ -0,0 +1,148 @@
+package seedu.noknock.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.model.ScheduledSession;
+import seedu.noknock.model.UpcomingSessions;
+
+/**
+ * Raises a reminder whenever incomplete caring sessions come due.
+ * Only one task is ever scheduled, for the start of the earliest session that has not been reminded of yet. It is
+ * looked up in {@link UpcomingSessions} and scheduled again whenever the sessions change, so the patients are never
+ * polled. The times reminded of are passed on to {@link UpcomingSessions#advanceTo(LocalDateTime)}, so that it only
+ * keeps the next occurrences of recurring sessions after them.
+ * All of the state of the scheduler is kept on its own thread, on which the reminders are also raised.
+ */
+public class ReminderScheduler {
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+    private static final String SCHEDULER_THREAD_NAME = "reminder-scheduler";
+
+    private final UpcomingSessions upcomingSessions;
+    private final Consumer<List<ScheduledSession>> onDue;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private final Runnable changeListener = this::submitReschedule;
+
+    /** The time up to which the sessions have been reminded of. */
+    private LocalDateTime remindedUntil;
+    private ScheduledFuture<?> pendingReminder;
+    private LocalDateTime pendingReminderTime;
+
+    /**
+     * Creates a {@code ReminderScheduler} that passes the sessions of {@code upcomingSessions} to {@code onDue} as
+     * they come due, on its own thread.
+     */
+    public ReminderScheduler(UpcomingSessions upcomingSessions, Consumer<List<ScheduledSession>> onDue) {
+        this(upcomingSessions, onDue, Clock.systemDefaultZone(),
+                Executors.newSingleThreadScheduledExecutor(ReminderScheduler::createSchedulerThread));
+    }
+
+    /**
+     * Creates a {@code ReminderScheduler} that tells the time with {@code clock} and runs on {@code scheduler},
+     * which must run tasks one at a time.
+     */
+    ReminderScheduler(UpcomingSessions upcomingSessions, Consumer<List<ScheduledSession>> onDue, Clock clock,
+                      ScheduledExecutorService scheduler) {
+        requireNonNull(upcomingSessions);
+        requireNonNull(onDue);
+        requireNonNull(clock);
+        requireNonNull(scheduler);
+        this.upcomingSessions = upcomingSessions;
+        this.onDue = onDue;
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    private static Thread createSchedulerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, SCHEDULER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Starts reminding of the sessions that start from now on.
+     */
+    public void start() {
+        scheduler.execute(() -> {
+            remindedUntil = LocalDateTime.now(clock);
+            upcomingSessions.advanceTo(remindedUntil);
+            reschedule();
+        });
+        upcomingSessions.addListener(changeListener);
+    }
+
+    /**
+     * Stops raising reminders.
+     */
+    public void shutdown() {
+        upcomingSessions.removeListener(changeListener);
+        scheduler.shutdownNow();
+    }
+
+    private void submitReschedule() {
+        try {
+            scheduler.execute(this::reschedule);
+        } catch (RejectedExecutionException e) {
+            // the scheduler has been shut down, so there is nothing left to remind of
+        }
+    }
+
+    /**
+     * Schedules a reminder for the earliest session starting after the sessions already reminded of, replacing the
+     * reminder scheduled before unless it is for the same time.
+     */
+    private void reschedule() {
+        Optional<LocalDateTime> next = upcomingSessions.getNextStartAfter(remindedUntil);
+        if (pendingReminder != null) {
+            if (next.isPresent() && next.get().equals(pendingReminderTime)) {
+                return;
+            }
+            pendingReminder.cancel(false);
+            pendingReminder = null;
+        }
+        if (next.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime dueTime = next.get();
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(clock), dueTime).toMillis());
+        pendingReminder = scheduler.schedule(() -> remind(dueTime), delayMillis, TimeUnit.MILLISECONDS);
+        pendingReminderTime = dueTime;
+    }
+
+    /**
+     * Reminds of every session that has come due since the last reminder, and schedules the next reminder.
+     * The reminder is for {@code dueTime} even if it runs slightly early by the clock.
+     */
+    private void remind(LocalDateTime dueTime) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime until = now.isAfter(dueTime) ? now : dueTime;
+        List<ScheduledSession> dueSessions = upcomingSessions.getStartingBetween(remindedUntil, until);
+        remindedUntil = until;
+        upcomingSessions.advanceTo(until);
+        pendingReminder = null;
+        if (!dueSessions.isEmpty()) {
+            try {
+                onDue.accept(dueSessions);
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while raising a reminder: " + StringUtil.getDetails(e));
+            }
+        }
+        reschedule();
+    }
+}
@@ -3,15 +3,14 @@ package seedu.noknock.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
 import seedu.noknock.commons.util.ToStringBuilder;
 import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.exceptions.CommandException;
@@ -27,14 +26,16 @@ public class AddCaringSessionCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
         + ": Adds a care task for a patient .\n"
-        + "Parameters: PATIENT_INDEX (must be a positive integer) "
+        + "Parameters: PATIENT_INDEX (must be a positive integer) or IC "
         + PREFIX_DATE + "DATE "
         + PREFIX_TIME + "TIME "
+        + "[" + PREFIX_DURATION + "DURATION] "
         + PREFIX_CARE_TYPE + "CARE_TYPE ["
         + PREFIX_NOTES + "NOTES]\n"
         + "Example: " + COMMAND_WORD + " 1 "
         + PREFIX_DATE + "2024-12-25 "
         + PREFIX_TIME + "14:30 "
+        + PREFIX_DURATION + "45 "
         + PREFIX_CARE_TYPE + "medication "
         + PREFIX_NOTES + "Give insulin shot ";
 
@@ -42,7 +43,7 @@ public class AddCaringSessionCommand extends Command {
     public static final String MESSAGE_HAS_OVERLAPPING_SESSION =
         "This session (%1$s) overlaps with an existing session";
 
-    private final Index patientIndex;
+    private final PatientReference patientReference;
     private final CaringSession sessionToAdd;
 
     /**
@@ -52,33 +53,33 @@ public class AddCaringSessionCommand extends Command {
      * @param sessionToAdd specifies the caring session to be added.
      */
     public AddCaringSessionCommand(Index patientIndex, CaringSession sessionToAdd) {
-        requireNonNull(patientIndex);
+        this(PatientReference.of(patientIndex), sessionToAdd);
+    }
+
+    /**
+     * Creates a command which adds a {@Link CaringSession} to an existing patient
+     *
+     * @param patientReference Index in the filtered patient list or IC of the patient.
+     * @param sessionToAdd specifies the caring session to be added.
+     */
+    public AddCaringSessionCommand(PatientReference patientReference, CaringSession sessionToAdd) {
+        requireNonNull(patientReference);
         requireNonNull(sessionToAdd);
-        this.patientIndex = patientIndex;
+        this.patientReference = patientReference;
         this.sessionToAdd = sessionToAdd;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> patientList = model.getFilteredPatientList();
-
-        if (patientIndex.getZeroBased() >= patientList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
-        }
-
-        Patient patient = patientList.get(patientIndex.getZeroBased());
-        List<CaringSession> caringSessionList = patient.getCaringSessionList();
+        Patient patient = patientReference.resolve(model);
 
         if (patient.hasOverlappingSession(sessionToAdd)) {
             throw new CommandException(String.format(MESSAGE_HAS_OVERLAPPING_SESSION, sessionToAdd.getCareType()));
         }
 
-        List<CaringSession> updatedCaringSessionList = new ArrayList<>(caringSessionList);
-        updatedCaringSessionList.add(sessionToAdd);
-
-        Patient editedPatient = patient.withCaringSessionList(updatedCaringSessionList);
-        model.setPatient(patient, editedPatient);
+        Patient editedPatient = model.addSession(patient, sessionToAdd);
+        MetricsCenter.recordSessionsTouched(1);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
 
         model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
@@ -96,14 +97,14 @@ public class AddCaringSessionCommand extends Command {
         if (!(other instanceof AddCaringSessionCommand otherAddCommand)) {
             return false;
         }
-        return patientIndex.equals(otherAddCommand.patientIndex)
+        return patientReference.equals(otherAddCommand.patientReference)
             && sessionToAdd.equals(otherAddCommand.sessionToAdd);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-            .add("patientIndex", patientIndex)
+            .add("patientIndex", patientReference)
             .add("sessionToAdd", sessionToAdd)
             .toString();
     }
@@ -7,7 +7,6 @@ import static seedu.noknock.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.noknock.commons.core.index.Index;
@@ -71,10 +70,7 @@ public class AddNextOfKinCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_NOK);
         }
 
-        List<NextOfKin> updatedNokList = new ArrayList<>(nokList);
-        updatedNokList.add(nokToAdd);
-
-        Patient editedPatient = patient.withNextOfKinList(updatedNokList);
+        Patient editedPatient = patient.withNextOfKin(nokToAdd);
         model.setPatient(patient, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
 
@@ -0,0 +1,108 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
+
+import seedu.noknock.commons.core.metrics.MetricsCenter;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.RecurringSession;
+
+/**
+ * Adds a recurring caring session to an existing patient.
+ * Only the rule is stored; its occurrences are created when the sessions of a date range are shown.
+ */
+public class AddRecurringSessionCommand extends Command {
+    public static final String COMMAND_WORD = "add-recurring";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Adds a care task that repeats daily or weekly for a patient.\n"
+        + "Parameters: PATIENT_INDEX (must be a positive integer) or IC "
+        + PREFIX_TIME + "TIME "
+        + "[" + PREFIX_DURATION + "DURATION] "
+        + PREFIX_CARE_TYPE + "CARE_TYPE "
+        + PREFIX_RECURRENCE + "daily/weekly "
+        + PREFIX_FROM + "START_DATE "
+        + PREFIX_TO + "END_DATE "
+        + "[" + PREFIX_NOTES + "NOTES]\n"
+        + "Example: " + COMMAND_WORD + " 1 "
+        + PREFIX_TIME + "08:00 "
+        + PREFIX_DURATION + "15 "
+        + PREFIX_CARE_TYPE + "medication "
+        + PREFIX_RECURRENCE + "daily "
+        + PREFIX_FROM + "2025-11-01 "
+        + PREFIX_TO + "2025-11-30 "
+        + PREFIX_NOTES + "Morning round";
+
+    public static final String MESSAGE_ADD_RECURRING_SESSION_SUCCESS =
+        "Added Recurring Session: %1$s to Patient: %2$s";
+    public static final String MESSAGE_DUPLICATE_RECURRING_SESSION =
+        "This recurring session already exists for the patient";
+
+    private final PatientReference patientReference;
+    private final RecurringSession sessionToAdd;
+
+    /**
+     * Creates a command which adds a {@link RecurringSession} to an existing patient
+     *
+     * @param patientReference Index in the filtered patient list or IC of the patient.
+     * @param sessionToAdd specifies the recurring session to be added.
+     */
+    public AddRecurringSessionCommand(PatientReference patientReference, RecurringSession sessionToAdd) {
+        requireNonNull(patientReference);
+        requireNonNull(sessionToAdd);
+        this.patientReference = patientReference;
+        this.sessionToAdd = sessionToAdd;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Patient patient = patientReference.resolve(model);
+
+        if (patient.getRecurringSessionList().contains(sessionToAdd)) {
+            throw new CommandException(MESSAGE_DUPLICATE_RECURRING_SESSION);
+        }
+
+        Patient editedPatient = patient.withRecurringSession(sessionToAdd);
+        model.setPatient(patient, editedPatient);
+        MetricsCenter.recordSessionsTouched(1);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
+
+        return new CommandResult(String.format(MESSAGE_ADD_RECURRING_SESSION_SUCCESS,
+            Messages.formatRecurringSession(sessionToAdd),
+            Messages.formatPatient(editedPatient)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AddRecurringSessionCommand otherAddCommand)) {
+            return false;
+        }
+        return patientReference.equals(otherAddCommand.patientReference)
+            && sessionToAdd.equals(otherAddCommand.sessionToAdd);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("patientReference", patientReference)
+            .add("sessionToAdd", sessionToAdd)
+            .toString();
+    }
+}
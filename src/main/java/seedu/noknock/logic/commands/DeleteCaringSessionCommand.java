@@ -4,10 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
 import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.model.Model;
@@ -55,11 +55,8 @@ public class DeleteCaringSessionCommand extends Command {
         }
 
         CaringSession sessionToDelete = sessions.get(sessionIndex.getZeroBased());
-        List<CaringSession> updatedSessions = new ArrayList<>(sessions);
-        updatedSessions.remove(sessionToDelete);
-
-        Patient updatedPatient = patient.withCaringSessionList(updatedSessions);
-        model.setPatient(patient, updatedPatient);
+        model.removeSession(patient, sessionIndex.getZeroBased());
+        MetricsCenter.recordSessionsTouched(1);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
         model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
 
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.noknock.commons.core.index.Index;
@@ -60,10 +59,7 @@ public class DeleteNextOfKinCommand extends Command {
         }
 
         NextOfKin nokToDelete = nokList.get(nokIndex.getZeroBased());
-        List<NextOfKin> updatedNokList = new ArrayList<>(nokList);
-        updatedNokList.remove(nokToDelete);
-
-        Patient editedPatient = patient.withNextOfKinList(updatedNokList);
+        Patient editedPatient = patient.withoutNextOfKin(nokIndex.getZeroBased());
         model.setPatient(patient, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
         model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
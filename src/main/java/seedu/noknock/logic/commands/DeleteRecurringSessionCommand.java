@@ -0,0 +1,111 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
+
+import java.util.List;
+import java.util.Optional;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.RecurringSession;
+
+/**
+ * Deletes a recurring caring session from a patient, or skips only its occurrence on one date.
+ */
+public class DeleteRecurringSessionCommand extends Command {
+
+    public static final String COMMAND_WORD = "delete-recurring";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Deletes a recurring session of a patient, or only "
+        + "its occurrence on the given date.\n"
+        + "Parameters: PATIENT_INDEX RECURRING_SESSION_INDEX [" + PREFIX_DATE + "DATE]\n"
+        + "Example: " + COMMAND_WORD + " 1 1 " + PREFIX_DATE + "2025-11-03";
+
+    public static final String MESSAGE_DELETE_SUCCESS = "Deleted recurring session for %1$s: %2$s";
+    public static final String MESSAGE_SKIP_SUCCESS = "Skipped the %1$s occurrence on %2$s for %3$s";
+
+    private final Index patientIndex;
+    private final Index recurringSessionIndex;
+    private final Optional<Date> date;
+
+    /**
+     * Creates a DeleteRecurringSessionCommand to delete the specified {@code RecurringSession}, or only its
+     * occurrence on {@code date} if one is given.
+     */
+    public DeleteRecurringSessionCommand(Index patientIndex, Index recurringSessionIndex, Optional<Date> date) {
+        requireAllNonNull(patientIndex, recurringSessionIndex, date);
+        this.patientIndex = patientIndex;
+        this.recurringSessionIndex = recurringSessionIndex;
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Patient> patientList = model.getFilteredPatientList();
+
+        if (patientIndex.getZeroBased() >= patientList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        }
+
+        Patient patient = patientList.get(patientIndex.getZeroBased());
+        List<RecurringSession> recurringSessions = patient.getRecurringSessionList();
+
+        if (recurringSessionIndex.getZeroBased() >= recurringSessions.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_RECURRING_SESSION_INDEX);
+        }
+
+        RecurringSession recurringSession = recurringSessions.get(recurringSessionIndex.getZeroBased());
+        String message;
+        if (date.isPresent()) {
+            if (!recurringSession.occursOn(date.get())) {
+                throw new CommandException(String.format(RecurringSession.MESSAGE_NOT_SCHEDULED, date.get()));
+            }
+            model.setPatient(patient, patient.withRecurringSession(recurringSessionIndex.getZeroBased(),
+                recurringSession.withoutOccurrence(date.get())));
+            message = String.format(MESSAGE_SKIP_SUCCESS, recurringSession.getCareType(), date.get(),
+                Messages.formatPatient(patient));
+        } else {
+            model.setPatient(patient, patient.withoutRecurringSession(recurringSessionIndex.getZeroBased()));
+            message = String.format(MESSAGE_DELETE_SUCCESS, Messages.formatPatient(patient),
+                Messages.formatRecurringSession(recurringSession));
+        }
+        MetricsCenter.recordSessionsTouched(1);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
+
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DeleteRecurringSessionCommand otherDeleteCommand)) {
+            return false;
+        }
+        return patientIndex.equals(otherDeleteCommand.patientIndex)
+            && recurringSessionIndex.equals(otherDeleteCommand.recurringSessionIndex)
+            && date.equals(otherDeleteCommand.date);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("patientIndex", patientIndex)
+            .add("recurringSessionIndex", recurringSessionIndex)
+            .add("date", date)
+            .toString();
+    }
+}
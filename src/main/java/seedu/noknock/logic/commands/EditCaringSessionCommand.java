@@ -4,24 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.noknock.logic.commands.AddCaringSessionCommand.MESSAGE_HAS_OVERLAPPING_SESSION;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
 import seedu.noknock.commons.util.CollectionUtil;
 import seedu.noknock.commons.util.ToStringBuilder;
 import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.model.Model;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.session.CareType;
@@ -45,6 +47,7 @@ public class EditCaringSessionCommand extends Command {
         + "[" + PREFIX_NOTES + "NOTES] "
         + "[" + PREFIX_DATE + "DATE] "
         + "[" + PREFIX_TIME + "TIME] "
+        + "[" + PREFIX_DURATION + "DURATION] "
         + "[" + PREFIX_STATUS + "STATUS (must be completed/incomplete (case-insensitive))]\n"
         + "Example: " + COMMAND_WORD + " 1 2 "
         + PREFIX_CARE_TYPE + "Physio "
@@ -84,10 +87,12 @@ public class EditCaringSessionCommand extends Command {
         Note updatedNote = descriptor.getNote().orElse(sessionToEdit.getNote());
         Date updatedDate = descriptor.getDate().orElse(sessionToEdit.getDate());
         Time updatedTime = descriptor.getTime().orElse(sessionToEdit.getTime());
+        Duration updatedDuration = descriptor.getDuration().orElse(sessionToEdit.getDuration());
         SessionStatus updatedStatus = descriptor.getStatus().orElse(sessionToEdit.getStatus());
 
         // Add a constructor to CaringSession that accepts all fields if not present
-        return new CaringSession(updatedCareType, updatedNote, updatedDate, updatedTime, updatedStatus);
+        return new CaringSession(updatedCareType, updatedNote, updatedDate, updatedTime, updatedDuration,
+            updatedStatus);
     }
 
     @Override
@@ -113,11 +118,8 @@ public class EditCaringSessionCommand extends Command {
             throw new CommandException(String.format(MESSAGE_HAS_OVERLAPPING_SESSION, editedSession.getCareType()));
         }
 
-        List<CaringSession> updatedSessionList = new ArrayList<>(sessionList);
-        updatedSessionList.set(sessionIndex.getZeroBased(), editedSession);
-
-        Patient editedPatient = patient.withCaringSessionList(updatedSessionList);
-        model.setPatient(patient, editedPatient);
+        model.replaceSession(patient, sessionIndex.getZeroBased(), editedSession);
+        MetricsCenter.recordSessionsTouched(1);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
         model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
 
@@ -156,6 +158,7 @@ public class EditCaringSessionCommand extends Command {
         private Note note;
         private Date date;
         private Time time;
+        private Duration duration;
         private SessionStatus status;
 
         public EditSessionDescriptor() {
@@ -169,11 +172,12 @@ public class EditCaringSessionCommand extends Command {
             setNote(toCopy.note);
             setDate(toCopy.date);
             setTime(toCopy.time);
+            setDuration(toCopy.duration);
             setStatus(toCopy.status);
         }
 
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(careType, note, date, time, status);
+            return CollectionUtil.isAnyNonNull(careType, note, date, time, duration, status);
         }
 
         public Optional<CareType> getCareType() {
@@ -208,6 +212,14 @@ public class EditCaringSessionCommand extends Command {
             this.time = time;
         }
 
+        public Optional<Duration> getDuration() {
+            return Optional.ofNullable(duration);
+        }
+
+        public void setDuration(Duration duration) {
+            this.duration = duration;
+        }
+
         public Optional<SessionStatus> getStatus() {
             return Optional.ofNullable(status);
         }
@@ -228,6 +240,7 @@ public class EditCaringSessionCommand extends Command {
                 && Objects.equals(note, otherDescriptor.note)
                 && Objects.equals(date, otherDescriptor.date)
                 && Objects.equals(time, otherDescriptor.time)
+                && Objects.equals(duration, otherDescriptor.duration)
                 && Objects.equals(status, otherDescriptor.status);
         }
 
@@ -238,6 +251,7 @@ public class EditCaringSessionCommand extends Command {
                 .add("note", note)
                 .add("date", date)
                 .add("time", time)
+                .add("duration", duration)
                 .add("status", status)
                 .toString();
         }
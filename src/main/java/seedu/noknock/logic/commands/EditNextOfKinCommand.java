@@ -8,7 +8,6 @@ import static seedu.noknock.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -102,10 +101,7 @@ public class EditNextOfKinCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_NOK);
         }
 
-        List<NextOfKin> updatedNokList = new ArrayList<>(nokList);
-        updatedNokList.set(nokIndex.getZeroBased(), editedNok);
-
-        Patient editedPatient = patient.withNextOfKinList(updatedNokList);
+        Patient editedPatient = patient.withNextOfKin(nokIndex.getZeroBased(), editedNok);
         model.setPatient(patient, editedPatient);
         model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
         model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
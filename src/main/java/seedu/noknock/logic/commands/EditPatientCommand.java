@@ -10,7 +10,6 @@ import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -34,9 +33,9 @@ public class EditPatientCommand extends Command {
     public static final String COMMAND_WORD = "edit-patient";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the patient identified "
-        + "by the index number used in the displayed patient list. "
+        + "by the index number used in the displayed patient list or by IC. "
         + "Existing values will be overwritten by the input values.\n"
-        + "Parameters: PATIENT INDEX (must be a positive integer) "
+        + "Parameters: PATIENT_INDEX (must be a positive integer) or IC "
         + "[" + PREFIX_NAME + "NAME] "
         + "[" + PREFIX_IC + "IC] "
         + "[" + PREFIX_WARD + "WARD] "
@@ -48,7 +47,7 @@ public class EditPatientCommand extends Command {
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided";
     public static final String MESSAGE_DUPLICATE_PATIENT = "A patient with this IC already exists in the database";
 
-    private final Index index;
+    private final PatientReference patient;
     private final EditPatientDescriptor editPatientDescriptor;
 
     /**
@@ -56,10 +55,18 @@ public class EditPatientCommand extends Command {
      * @param editPatientDescriptor details to edit the patient with
      */
     public EditPatientCommand(Index index, EditPatientDescriptor editPatientDescriptor) {
-        requireNonNull(index);
+        this(PatientReference.of(index), editPatientDescriptor);
+    }
+
+    /**
+     * @param patient               index or IC of the patient to edit
+     * @param editPatientDescriptor details to edit the patient with
+     */
+    public EditPatientCommand(PatientReference patient, EditPatientDescriptor editPatientDescriptor) {
+        requireNonNull(patient);
         requireNonNull(editPatientDescriptor);
 
-        this.index = index;
+        this.patient = patient;
         this.editPatientDescriptor = new EditPatientDescriptor(editPatientDescriptor);
     }
 
@@ -75,20 +82,13 @@ public class EditPatientCommand extends Command {
         IC updatedIc = editPatientDescriptor.getIC().orElse(patientToEdit.getIC());
         Set<Tag> updatedTags = editPatientDescriptor.getTags().orElse(patientToEdit.getTags());
 
-        return new Patient(updatedName, updatedWard, updatedIc, updatedTags).withNextOfKinList(
-            patientToEdit.getNextOfKinList()).withCaringSessionList(patientToEdit.getCaringSessionList());
+        return patientToEdit.withDetails(updatedName, updatedWard, updatedIc, updatedTags);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
-        }
-
-        Patient patientToEdit = lastShownList.get(index.getZeroBased());
+        Patient patientToEdit = patient.resolve(model);
         Patient editedPatient = createEditedPatient(patientToEdit, editPatientDescriptor);
 
         if (!patientToEdit.isSamePerson(editedPatient) && model.hasPatient(editedPatient)) {
@@ -112,14 +112,14 @@ public class EditPatientCommand extends Command {
             return false;
         }
 
-        return index.equals(otherEditPatientCommand.index)
+        return patient.equals(otherEditPatientCommand.patient)
             && editPatientDescriptor.equals(otherEditPatientCommand.editPatientDescriptor);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-            .add("index", index)
+            .add("index", patient)
             .add("editPatientDescriptor", editPatientDescriptor)
             .toString();
     }
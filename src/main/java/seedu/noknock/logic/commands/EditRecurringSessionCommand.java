@@ -0,0 +1,118 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
+
+import java.util.List;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+
+/**
+ * Sets the status of one occurrence of a recurring caring session of a patient.
+ * Only the date of the occurrence is stored, as an exception to the recurring session.
+ */
+public class EditRecurringSessionCommand extends Command {
+
+    public static final String COMMAND_WORD = "edit-recurring";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets the status of the occurrence on a date of a "
+        + "recurring session of the patient identified by the index number used in the displayed patient list.\n"
+        + "Parameters: PATIENT_INDEX (must be a positive integer) "
+        + "RECURRING_SESSION_INDEX (must be a positive integer) "
+        + PREFIX_DATE + "DATE "
+        + PREFIX_STATUS + "STATUS (must be completed/incomplete (case-insensitive))\n"
+        + "Example: " + COMMAND_WORD + " 1 1 "
+        + PREFIX_DATE + "2025-11-03 "
+        + PREFIX_STATUS + "Completed";
+
+    public static final String MESSAGE_EDIT_RECURRING_SESSION_SUCCESS =
+        "Marked the %1$s occurrence on %2$s %3$s for Patient: %4$s";
+
+    private final Index patientIndex;
+    private final Index recurringSessionIndex;
+    private final Date date;
+    private final SessionStatus status;
+
+    /**
+     * @param patientIndex          of the patient in the filtered patient list
+     * @param recurringSessionIndex of the recurring session in the patient's recurring session list
+     * @param date                  of the occurrence to edit
+     * @param status                to give the occurrence
+     */
+    public EditRecurringSessionCommand(Index patientIndex, Index recurringSessionIndex, Date date,
+                                       SessionStatus status) {
+        requireAllNonNull(patientIndex, recurringSessionIndex, date, status);
+        this.patientIndex = patientIndex;
+        this.recurringSessionIndex = recurringSessionIndex;
+        this.date = date;
+        this.status = status;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Patient> patientList = model.getFilteredPatientList();
+
+        if (patientIndex.getZeroBased() >= patientList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        }
+
+        Patient patient = patientList.get(patientIndex.getZeroBased());
+        List<RecurringSession> recurringSessions = patient.getRecurringSessionList();
+
+        if (recurringSessionIndex.getZeroBased() >= recurringSessions.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_RECURRING_SESSION_INDEX);
+        }
+
+        RecurringSession recurringSession = recurringSessions.get(recurringSessionIndex.getZeroBased());
+        if (!recurringSession.occursOn(date)) {
+            throw new CommandException(String.format(RecurringSession.MESSAGE_NOT_SCHEDULED, date));
+        }
+
+        model.setPatient(patient, patient.withRecurringSession(recurringSessionIndex.getZeroBased(),
+            recurringSession.withOccurrenceStatus(date, status)));
+        MetricsCenter.recordSessionsTouched(1);
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
+
+        return new CommandResult(String.format(MESSAGE_EDIT_RECURRING_SESSION_SUCCESS,
+            recurringSession.getCareType(), date, status.toString().toLowerCase(), Messages.formatPatient(patient)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof EditRecurringSessionCommand otherEditCommand)) {
+            return false;
+        }
+        return patientIndex.equals(otherEditCommand.patientIndex)
+            && recurringSessionIndex.equals(otherEditCommand.recurringSessionIndex)
+            && date.equals(otherEditCommand.date)
+            && status == otherEditCommand.status;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("patientIndex", patientIndex)
+            .add("recurringSessionIndex", recurringSessionIndex)
+            .add("date", date)
+            .add("status", status)
+            .toString();
+    }
+}
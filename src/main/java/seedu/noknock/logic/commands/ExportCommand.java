@@ -0,0 +1,136 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.CaringSessionDateInRangePredicate;
+import seedu.noknock.storage.ExportFormat;
+import seedu.noknock.storage.RecordWriter;
+
+/**
+ * Exports the displayed patients, or the caring sessions of all patients within a date range, to a file.
+ * The sessions within a date range include the occurrences of recurring sessions, and are found by binary search.
+ * Records are written one at a time through a buffered writer, so exporting does not copy the data first.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the displayed patients, or the caring "
+            + "sessions of all patients between two dates (inclusive), to a CSV or NDJSON file. "
+            + "The format is chosen by the file extension: .csv, .ndjson or .jsonl.\n"
+            + "Parameters: FILE [" + PREFIX_FROM + "START_DATE " + PREFIX_TO + "END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " roster.csv " + PREFIX_FROM + "2025-10-20 " + PREFIX_TO + "2025-10-26";
+
+    public static final String MESSAGE_PATIENTS_SUCCESS = "Exported %1$d patient(s) to %2$s";
+    public static final String MESSAGE_SESSIONS_SUCCESS = "Exported %1$d caring session(s) from %2$s to %3$s to %4$s";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Could not write export file %1$s: %2$s";
+
+    private final Path file;
+    private final ExportFormat format;
+    private final Date startDate;
+    private final Date endDate;
+
+    /**
+     * Creates an ExportCommand to export the displayed patients to {@code file} in {@code format}.
+     */
+    public ExportCommand(Path file, ExportFormat format) {
+        requireNonNull(file);
+        requireNonNull(format);
+        this.file = file;
+        this.format = format;
+        this.startDate = null;
+        this.endDate = null;
+    }
+
+    /**
+     * Creates an ExportCommand to export the caring sessions from {@code startDate} to {@code endDate} of all
+     * patients to {@code file} in {@code format}.
+     */
+    public ExportCommand(Path file, ExportFormat format, Date startDate, Date endDate) {
+        requireNonNull(file);
+        requireNonNull(format);
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        this.file = file;
+        this.format = format;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        int count = 0;
+        try {
+            FileUtil.createParentDirsOfFile(file);
+            try (RecordWriter writer = format.createWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+                if (startDate == null) {
+                    for (Patient patient : model.getFilteredPatientList()) {
+                        writer.writePatient(patient);
+                        count++;
+                    }
+                } else {
+                    CaringSessionDateInRangePredicate isInRange =
+                            new CaringSessionDateInRangePredicate(startDate, endDate);
+                    for (Patient patient : model.getAddressBook().getPatientList()) {
+                        for (CaringSession session : patient.getCaringSessionsBetween(isInRange.getStartDate(),
+                                isInRange.getEndDate())) {
+                            writer.writeSession(patient, session);
+                            count++;
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, file, e.getMessage()), e);
+        }
+
+        if (startDate == null) {
+            return new CommandResult(String.format(MESSAGE_PATIENTS_SUCCESS, count, file));
+        }
+        return new CommandResult(String.format(MESSAGE_SESSIONS_SUCCESS, count, startDate, endDate, file));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return file.equals(otherExportCommand.file)
+                && format == otherExportCommand.format
+                && Objects.equals(startDate, otherExportCommand.startDate)
+                && Objects.equals(endDate, otherExportCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("format", format)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+
+/**
+ * Narrows the listed patients down to those found in the model's patient indices.
+ * The patients found are intersected with the listed patients, so a filter refines the result of a previous
+ * search or filter rather than replacing it. A filter after listing one page of all patients looks at all of them.
+ */
+public abstract class FilterPatientsCommand extends Command {
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        PatientBitmap matches = findMatches(model);
+        model.updateFilteredPatientList(intersectWithListed(model, matches));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    /**
+     * Returns the patients of the address book that this filter matches, looked up in the model's indices.
+     */
+    protected abstract PatientBitmap findMatches(Model model);
+
+    /**
+     * Returns the patients of {@code matches} that are currently listed on any page, without a scan of the listed
+     * patients when every patient is listed.
+     */
+    private static Collection<Patient> intersectWithListed(Model model, PatientBitmap matches) {
+        List<Patient> listed = model.getFilteredPatientListOnAllPages();
+        if (listed.size() == model.getAddressBook().getPatientList().size()) {
+            return matches;
+        }
+        List<Patient> listedMatches = new ArrayList<>();
+        for (Patient patient : listed) {
+            if (matches.contains(patient)) {
+                listedMatches.add(patient);
+            }
+        }
+        return listedMatches;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.util.Set;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.PatientBitmap;
+import seedu.noknock.model.tag.Tag;
+
+/**
+ * Narrows the listed patients down to those with all of the given tags.
+ */
+public class FilterTagCommand extends FilterPatientsCommand {
+
+    public static final String COMMAND_WORD = "filter-tag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Narrows the listed patients down to those with all "
+            + "of the specified tags and displays them as a list with index numbers.\n"
+            + "Parameters: TAG [MORE_TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " diabetic fallRisk";
+
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a FilterTagCommand to list the patients with all of {@code tags}.
+     */
+    public FilterTagCommand(Set<Tag> tags) {
+        requireNonNull(tags);
+        checkArgument(!tags.isEmpty(), "At least one tag must be given");
+        this.tags = Set.copyOf(tags);
+    }
+
+    @Override
+    protected PatientBitmap findMatches(Model model) {
+        return tags.stream().map(model::getPatientsWithTag).reduce(PatientBitmap::and).orElseThrow();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterTagCommand otherFilterTagCommand)) {
+            return false;
+        }
+
+        return tags.equals(otherFilterTagCommand.tags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .toString();
+    }
+}
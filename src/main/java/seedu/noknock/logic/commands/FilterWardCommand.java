@@ -0,0 +1,61 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.PatientBitmap;
+import seedu.noknock.model.person.Ward;
+
+/**
+ * Narrows the listed patients down to those in any of the given wards.
+ */
+public class FilterWardCommand extends FilterPatientsCommand {
+
+    public static final String COMMAND_WORD = "filter-ward";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Narrows the listed patients down to those in any "
+            + "of the specified wards and displays them as a list with index numbers.\n"
+            + "Parameters: WARD [MORE_WARDS]...\n"
+            + "Example: " + COMMAND_WORD + " 2A 3B";
+
+    private final List<Ward> wards;
+
+    /**
+     * Creates a FilterWardCommand to list the patients in any of {@code wards}.
+     */
+    public FilterWardCommand(List<Ward> wards) {
+        requireNonNull(wards);
+        checkArgument(!wards.isEmpty(), "At least one ward must be given");
+        this.wards = List.copyOf(wards);
+    }
+
+    @Override
+    protected PatientBitmap findMatches(Model model) {
+        return wards.stream().map(model::getPatientsInWard).reduce(PatientBitmap::or).orElseThrow();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterWardCommand otherFilterWardCommand)) {
+            return false;
+        }
+
+        return wards.equals(otherFilterWardCommand.wards);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("wards", wards)
+                .toString();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * Finds and lists the patients with any of the given ICs.
+ * Each IC is looked up in the IC index of the model rather than compared with every patient.
+ */
+public class FindPatientByIcCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-ic";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the patients with any of the specified ICs "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: IC [MORE_ICS]...\n"
+            + "Example: " + COMMAND_WORD + " S1234567A T7654321B";
+
+    private final List<IC> ics;
+
+    /**
+     * Creates a FindPatientByIcCommand to list the patients with any of {@code ics}.
+     */
+    public FindPatientByIcCommand(List<IC> ics) {
+        requireNonNull(ics);
+        checkArgument(!ics.isEmpty(), "At least one IC must be given");
+        this.ics = List.copyOf(ics);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Patient> matches = ics.stream()
+                .map(model::getPatient)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+        model.updateFilteredPatientList(matches);
+        model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindPatientByIcCommand otherFindPatientByIcCommand)) {
+            return false;
+        }
+
+        return ics.equals(otherFindPatientByIcCommand.ics);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("ics", ics)
+                .toString();
+    }
+}
@@ -18,7 +18,9 @@ public class FindPatientCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "With " + FuzzyFindCommand.FUZZY_FLAG + ", instead finds names with a word spelt within a few letters of "
+            + "a keyword, closest first. Parts of words are then not matched.\n"
+            + "Parameters: [" + FuzzyFindCommand.FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
     private final PatientNameContainsKeywordsPredicate predicate;
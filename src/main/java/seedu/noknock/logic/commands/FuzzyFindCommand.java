@@ -0,0 +1,70 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.FuzzyNameIndex;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * Lists the patients with a name spelt similarly to any of the keywords, closest matches first.
+ * The names are looked up in a fuzzy name index of the model rather than compared with every patient.
+ */
+public abstract class FuzzyFindCommand extends Command {
+
+    public static final String FUZZY_FLAG = "--fuzzy";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a FuzzyFindCommand to list the patients with a name similar to any of {@code keywords}.
+     */
+    protected FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<Patient, Integer> scores = getIndex(model).find(keywords);
+        model.updateFilteredPatientList(scores.keySet(), Comparator.comparing(scores::get));
+        model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    /**
+     * Returns the index of the names that this command searches.
+     */
+    protected abstract FuzzyNameIndex getIndex(Model model);
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // patient and next-of-kin searches with the same keywords are different commands
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return keywords.equals(otherFuzzyFindCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
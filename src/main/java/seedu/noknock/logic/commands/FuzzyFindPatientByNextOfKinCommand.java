@@ -0,0 +1,25 @@
+package seedu.noknock.logic.commands;
+
+import java.util.List;
+
+import seedu.noknock.model.FuzzyNameIndex;
+import seedu.noknock.model.Model;
+
+/**
+ * Lists the patients with a next-of-kin whose name is spelt similarly to any of the keywords, closest matches first.
+ */
+public class FuzzyFindPatientByNextOfKinCommand extends FuzzyFindCommand {
+
+    /**
+     * Creates a FuzzyFindPatientByNextOfKinCommand to list the patients with a next-of-kin whose name is similar to
+     * any of {@code keywords}.
+     */
+    public FuzzyFindPatientByNextOfKinCommand(List<String> keywords) {
+        super(keywords);
+    }
+
+    @Override
+    protected FuzzyNameIndex getIndex(Model model) {
+        return model.getNextOfKinNameIndex();
+    }
+}
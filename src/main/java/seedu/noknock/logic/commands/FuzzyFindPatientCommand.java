@@ -0,0 +1,24 @@
+package seedu.noknock.logic.commands;
+
+import java.util.List;
+
+import seedu.noknock.model.FuzzyNameIndex;
+import seedu.noknock.model.Model;
+
+/**
+ * Lists the patients whose names are spelt similarly to any of the keywords, closest matches first.
+ */
+public class FuzzyFindPatientCommand extends FuzzyFindCommand {
+
+    /**
+     * Creates a FuzzyFindPatientCommand to list the patients with a name similar to any of {@code keywords}.
+     */
+    public FuzzyFindPatientCommand(List<String> keywords) {
+        super(keywords);
+    }
+
+    @Override
+    protected FuzzyNameIndex getIndex(Model model) {
+        return model.getPatientNameIndex();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.logic.parser.CsvImportParser;
+import seedu.noknock.logic.parser.CsvImportParser.RowError;
+import seedu.noknock.model.Model;
+
+/**
+ * Imports patients, their next-of-kin and their caring sessions from a CSV file.
+ * The whole file is validated before anything is added, and the patients are then added in a single update, so
+ * either every row is imported or none is.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports patients, next-of-kin and caring sessions "
+            + "from a CSV file with one record per row:\n"
+            + CsvImportParser.TYPE_PATIENT + ",IC,NAME,WARD[,TAGS separated by ;]\n"
+            + CsvImportParser.TYPE_NEXT_OF_KIN + ",PATIENT_IC,NAME,PHONE,RELATIONSHIP\n"
+            + CsvImportParser.TYPE_SESSION + ",PATIENT_IC,DATE,TIME,CARE_TYPE[,NOTES[,STATUS[,DURATION]]]\n"
+            + "If any row is invalid, nothing is imported.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " admissions.csv";
+
+    public static final String MESSAGE_SUCCESS =
+            "Imported %1$d patient(s), %2$d next-of-kin and %3$d caring session(s) from %4$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "CSV file not found: %1$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read CSV file %1$s: %2$s";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import CSV file %1$s: %2$s";
+    public static final String MESSAGE_INVALID_ROWS = "%1$d row(s) of %2$s are invalid, so nothing was imported:\n%3$s";
+    public static final String MESSAGE_MORE_ERRORS = "...and %1$d more";
+
+    /** The number of row errors listed in the result; the remaining ones are only counted. */
+    public static final int MAX_REPORTED_ERRORS = 10;
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to import the rows of the CSV {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!FileUtil.isFileExists(file)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file));
+        }
+
+        CsvImportParser.Result result;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            result = new CsvImportParser().parse(reader, model.getAddressBook());
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, file, e.getMessage()), e);
+        } catch (RuntimeException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, file, e.getMessage()), e);
+        }
+
+        if (result.hasErrors()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_ROWS,
+                    result.getErrors().size(), file, describe(result.getErrors())));
+        }
+
+        model.addPatients(result.getPatients());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, result.getPatients().size(),
+                result.getNextOfKinCount(), result.getSessionCount(), file));
+    }
+
+    /**
+     * Returns the first {@code MAX_REPORTED_ERRORS} of {@code errors}, one per line.
+     */
+    private static String describe(List<RowError> errors) {
+        String description = errors.stream()
+                .limit(MAX_REPORTED_ERRORS)
+                .map(RowError::toString)
+                .collect(Collectors.joining("\n"));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            description += "\n" + String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS);
+        }
+        return description;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return file.equals(otherImportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
@@ -1,26 +1,111 @@
 package seedu.noknock.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_SORT;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
+import java.util.Objects;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.model.Model;
+import seedu.noknock.model.PatientOrder;
 import seedu.noknock.model.person.IsPatientPredicate;
 
 /**
- * Lists all patients in the address book to the user.
+ * Lists all patients in the address book to the user, in the order they were added or sorted by a field, either all
+ * at once or one page at a time.
  */
 public class ListPatientsCommand extends Command {
 
     public static final String COMMAND_WORD = "list-patients";
 
+    public static final int PAGE_SIZE = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all patients, optionally sorted by a field "
+            + "and " + PAGE_SIZE + " patients at a time.\n"
+            + "Parameters: [" + PREFIX_SORT + "name|ward|next-session] [" + PREFIX_PAGE + "PAGE]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SORT + "ward " + PREFIX_PAGE + "2";
+
     public static final String MESSAGE_SUCCESS = "Listed all patients";
+    public static final String MESSAGE_SUCCESS_SORTED = "Listed all patients by %1$s";
+    public static final String MESSAGE_SUCCESS_PAGE = "Listed page %1$d of %2$d of patients by %3$s";
+    public static final String MESSAGE_INVALID_PAGE = "There are only %1$d page(s) of patients";
 
+    private final PatientOrder order;
+    private final Index page; // null to list all patients
+
+    /**
+     * Creates a ListPatientsCommand to list all patients in the order they were added.
+     */
+    public ListPatientsCommand() {
+        this(PatientOrder.ADDED);
+    }
+
+    /**
+     * Creates a ListPatientsCommand to list all patients in {@code order}.
+     */
+    public ListPatientsCommand(PatientOrder order) {
+        requireNonNull(order);
+        this.order = order;
+        this.page = null;
+    }
+
+    /**
+     * Creates a ListPatientsCommand to list the patients on {@code page} of all patients in {@code order}.
+     */
+    public ListPatientsCommand(PatientOrder order, Index page) {
+        requireNonNull(order);
+        requireNonNull(page);
+        this.order = order;
+        this.page = page;
+    }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (page == null) {
+            model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
+            if (order == PatientOrder.ADDED) {
+                model.updateFilteredPatientList(new IsPatientPredicate());
+                return new CommandResult(MESSAGE_SUCCESS);
+            }
+            model.listPatients(order, 0, Integer.MAX_VALUE);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_SORTED, order));
+        }
+
+        int patientCount = model.getAddressBook().getPatientList().size();
+        int pageCount = Math.max(1, (patientCount + PAGE_SIZE - 1) / PAGE_SIZE);
+        if (page.getOneBased() > pageCount) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, pageCount));
+        }
         model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
-        model.updateFilteredPatientList(new IsPatientPredicate());
-        return new CommandResult(MESSAGE_SUCCESS);
+        model.listPatients(order, page.getZeroBased() * PAGE_SIZE, PAGE_SIZE);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_PAGE, page.getOneBased(), pageCount, order));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListPatientsCommand otherListPatientsCommand)) {
+            return false;
+        }
+
+        return order == otherListPatientsCommand.order
+                && Objects.equals(page, otherListPatientsCommand.page);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("order", order)
+                .add("page", page)
+                .toString();
     }
 }
@@ -0,0 +1,103 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.noknock.commons.core.metrics.MetricsCenter;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ScheduledSession;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * Lists the incomplete caring sessions that start next, across all patients, earliest first.
+ * The sessions are read from the upcoming sessions of the model rather than found by a scan of every patient.
+ */
+public class NextSessionsCommand extends Command {
+
+    public static final String COMMAND_WORD = "next-sessions";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the incomplete caring sessions that start "
+            + "next across all patients, earliest first.\n"
+            + "Parameters: [COUNT] (must be a positive integer, " + DEFAULT_COUNT + " if omitted)\n"
+            + "Example: " + COMMAND_WORD + " 10";
+
+    public static final String MESSAGE_NEXT_SESSIONS =
+            "Next %1$d caring session(s):\n%2$s\nType 'list-patients' to undo";
+
+    public static final String MESSAGE_NO_NEXT_SESSIONS = "There are no upcoming caring sessions.";
+
+    private final int count;
+
+    /**
+     * Creates a NextSessionsCommand to list the next {@link #DEFAULT_COUNT} sessions.
+     */
+    public NextSessionsCommand() {
+        this(DEFAULT_COUNT);
+    }
+
+    /**
+     * Creates a NextSessionsCommand to list the next {@code count} sessions.
+     */
+    public NextSessionsCommand(int count) {
+        checkArgument(count > 0, "At least one session must be listed");
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScheduledSession> nextSessions = model.getUpcomingSessions().getNext(LocalDateTime.now(), count);
+        MetricsCenter.recordSessionsTouched(nextSessions.size());
+
+        // Patients are listed in the order of their first session, and only the listed sessions are shown
+        Map<Patient, Integer> ranks = new LinkedHashMap<>();
+        Set<CaringSession> sessions = new HashSet<>();
+        for (ScheduledSession nextSession : nextSessions) {
+            ranks.putIfAbsent(nextSession.getPatient(), ranks.size());
+            sessions.add(nextSession.getSession());
+        }
+        model.setSessionDisplayFilter(sessions::contains);
+        model.updateFilteredPatientList(ranks.keySet(), Comparator.comparing(ranks::get));
+
+        if (nextSessions.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_NEXT_SESSIONS);
+        }
+        return new CommandResult(String.format(MESSAGE_NEXT_SESSIONS, nextSessions.size(), nextSessions.stream()
+                .map(Messages::formatScheduledSession)
+                .collect(Collectors.joining("\n"))));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NextSessionsCommand otherNextSessionsCommand)) {
+            return false;
+        }
+
+        return count == otherNextSessionsCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .toString();
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * Refers to a patient either by its index in the displayed patient list or by its IC.
+ * A patient referred to by IC is looked up in the IC index of the model, so it need not be listed first.
+ */
+public final class PatientReference {
+
+    private final Index index;
+    private final IC ic;
+
+    private PatientReference(Index index, IC ic) {
+        this.index = index;
+        this.ic = ic;
+    }
+
+    /**
+     * Returns a reference to the patient at {@code index} of the displayed patient list.
+     */
+    public static PatientReference of(Index index) {
+        requireNonNull(index);
+        return new PatientReference(index, null);
+    }
+
+    /**
+     * Returns a reference to the patient with {@code ic}.
+     */
+    public static PatientReference of(IC ic) {
+        requireNonNull(ic);
+        return new PatientReference(null, ic);
+    }
+
+    /**
+     * Returns the patient in {@code model} that this refers to.
+     *
+     * @throws CommandException if the index is outside the displayed patient list or no patient has the IC.
+     */
+    public Patient resolve(Model model) throws CommandException {
+        requireNonNull(model);
+        if (ic != null) {
+            return model.getPatient(ic)
+                    .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_PATIENT_IC_NOT_FOUND, ic)));
+        }
+
+        List<Patient> lastShownList = model.getFilteredPatientList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PatientReference otherReference)) {
+            return false;
+        }
+
+        return Objects.equals(index, otherReference.index) && Objects.equals(ic, otherReference.ic);
+    }
+
+    @Override
+    public int hashCode() {
+        // Index does not override hashCode, so its value is hashed instead
+        return Objects.hash(index == null ? null : index.getZeroBased(), ic);
+    }
+
+    @Override
+    public String toString() {
+        return ic != null ? ic.toString() : index.toString();
+    }
+}
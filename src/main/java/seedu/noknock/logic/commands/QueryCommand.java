@@ -0,0 +1,70 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.query.PatientQuery;
+import seedu.noknock.model.query.QueryPlan;
+
+/**
+ * Lists the patients that match a query expression, with their sessions filtered to those the query asks about.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all patients that match the specified query "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: TERM [[AND|OR] [NOT] TERM]...\n"
+            + "A TERM is FIELD:VALUE or a query in parentheses. The fields are ward, tag, ic, name, nok, "
+            + "session (DATE, DATE..DATE, today or week), status and type.\n"
+            + "Example: " + COMMAND_WORD + " ward:3A AND tag:diabetic AND session:2026-10-17..2026-10-23 "
+            + "AND status:incomplete";
+
+    private final PatientQuery query;
+
+    /**
+     * Creates a QueryCommand to list the patients that match {@code query}.
+     */
+    public QueryCommand(PatientQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = query.plan(model);
+        if (plan.isScan()) {
+            model.updateFilteredPatientList(plan.getResidual());
+        } else {
+            model.updateFilteredPatientList(plan.getMatches());
+        }
+        model.setSessionDisplayFilter(query.getSessionFilter());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPatientList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand otherQueryCommand)) {
+            return false;
+        }
+
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
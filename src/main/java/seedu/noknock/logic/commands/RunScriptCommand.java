@@ -0,0 +1,156 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+
+/**
+ * Runs the commands of a script file as a single command.
+ * The commands are all parsed before any of them is executed, and if any of them fails, the changes made by the
+ * commands before it are undone. As the script is a single command, the data is saved and the UI is updated once.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run-script";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one command "
+            + "per line. Blank lines and lines starting with # are skipped. "
+            + "If any command fails, none of the commands take effect.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " admissions.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_SCRIPT_NOT_FOUND = "Script file not found: %1$s";
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read script file %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d (%2$s) is invalid: %3$s\nNo commands were run.";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d (%2$s) failed: %3$s\nNo changes were made.";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script.";
+    public static final String MESSAGE_UNDO_IN_SCRIPT = "A script cannot undo or redo commands.";
+
+    private final Path scriptFile;
+    private final List<ScriptLine> lines;
+
+    /**
+     * Creates a RunScriptCommand to run the already parsed {@code lines} of {@code scriptFile}.
+     */
+    public RunScriptCommand(Path scriptFile, List<ScriptLine> lines) {
+        requireNonNull(scriptFile);
+        requireNonNull(lines);
+        this.scriptFile = scriptFile;
+        this.lines = List.copyOf(lines);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // The script runs in its own batch, so that a failure reverts only the changes made by the script
+        model.beginBatch();
+        try {
+            for (ScriptLine line : lines) {
+                try {
+                    line.getCommand().execute(model);
+                } catch (CommandException e) {
+                    model.rollbackBatch();
+                    throw new CommandException(String.format(MESSAGE_FAILED_LINE,
+                            line.getLineNumber(), line.getText(), e.getMessage()), e);
+                }
+            }
+        } finally {
+            model.endBatch();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines.size(), scriptFile));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunScriptCommand)) {
+            return false;
+        }
+
+        RunScriptCommand otherRunScriptCommand = (RunScriptCommand) other;
+        return scriptFile.equals(otherRunScriptCommand.scriptFile)
+                && lines.equals(otherRunScriptCommand.lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", scriptFile)
+                .add("lines", lines)
+                .toString();
+    }
+
+    /**
+     * A parsed line of a script.
+     */
+    public static class ScriptLine {
+        private final int lineNumber;
+        private final String text;
+        private final Command command;
+
+        /**
+         * Creates a ScriptLine for {@code command}, parsed from {@code text} on line {@code lineNumber}.
+         */
+        public ScriptLine(int lineNumber, String text, Command command) {
+            requireNonNull(text);
+            requireNonNull(command);
+            this.lineNumber = lineNumber;
+            this.text = text;
+            this.command = command;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Command getCommand() {
+            return command;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScriptLine)) {
+                return false;
+            }
+
+            ScriptLine otherScriptLine = (ScriptLine) other;
+            return lineNumber == otherScriptLine.lineNumber
+                    && text.equals(otherScriptLine.text)
+                    && command.equals(otherScriptLine.command);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, text, command);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("text", text)
+                    .toString();
+        }
+    }
+}
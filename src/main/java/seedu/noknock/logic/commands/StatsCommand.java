@@ -0,0 +1,37 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.noknock.commons.core.metrics.MetricsCenter;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.Model;
+
+/**
+ * Shows how long the commands executed so far took, grouped by command word.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows timing statistics of the commands executed "
+            + "since the app was started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Command statistics:\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, MetricsCenter.getSummary()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof StatsCommand;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
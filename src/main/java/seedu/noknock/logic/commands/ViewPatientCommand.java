@@ -4,10 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.noknock.logic.Messages.MESSAGE_VIEW_PATIENT_SUCCESS;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 
-import java.util.List;
-
 import seedu.noknock.commons.core.index.Index;
-import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.model.Model;
 import seedu.noknock.model.person.Patient;
@@ -15,19 +12,19 @@ import seedu.noknock.model.person.PatientEqualsPredicate;
 
 /**
  * Finds and displays the patient who is equal to the patient at the given index
- * in the current filtered patient list.
+ * in the current filtered patient list, or to the patient with the given IC.
  */
 public class ViewPatientCommand extends Command {
 
     public static final String COMMAND_WORD = "view-patient";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-        + ": Shows the patient at the specified index in the current patient list.\n"
-        + "Parameters: INDEX (must be a positive integer)\n"
-        + "Example: " + COMMAND_WORD + " 1";
+        + ": Shows the patient at the specified index in the current patient list, or with the specified IC.\n"
+        + "Parameters: INDEX (must be a positive integer) or IC\n"
+        + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " S1234567A";
 
 
-    private final Index index;
+    private final PatientReference patient;
 
     /**
      * Creates a ViewPatientCommand to view the patient at the specified index.
@@ -35,20 +32,23 @@ public class ViewPatientCommand extends Command {
      * @param index The index of the patient to view.
      */
     public ViewPatientCommand(Index index) {
-        requireNonNull(index);
-        this.index = index;
+        this(PatientReference.of(index));
+    }
+
+    /**
+     * Creates a ViewPatientCommand to view the specified patient.
+     *
+     * @param patient The index or IC of the patient to view.
+     */
+    public ViewPatientCommand(PatientReference patient) {
+        requireNonNull(patient);
+        this.patient = patient;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
-        }
-
-        Patient target = lastShownList.get(index.getZeroBased());
+        Patient target = patient.resolve(model);
         PatientEqualsPredicate predicate = new PatientEqualsPredicate(target);
         model.updateFilteredPatientList(predicate);
         model.setSessionDisplayFilter(PREDICATE_SHOW_ALL_SESSIONS);
@@ -63,11 +63,11 @@ public class ViewPatientCommand extends Command {
         if (!(other instanceof ViewPatientCommand otherCommand)) {
             return false;
         }
-        return index.equals(otherCommand.index);
+        return patient.equals(otherCommand.patient);
     }
 
     @Override
     public String toString() {
-        return "ViewPatientCommand(index=" + index + ")";
+        return "ViewPatientCommand(index=" + patient + ")";
     }
 }
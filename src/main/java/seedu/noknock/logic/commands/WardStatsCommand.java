@@ -0,0 +1,50 @@
+package seedu.noknock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.WardSummary;
+import seedu.noknock.model.date.Date;
+
+/**
+ * Shows the number of patients, today's sessions and incomplete sessions by care type of each ward.
+ */
+public class WardStatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "ward-stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of patients, the sessions "
+            + "scheduled today and the incomplete sessions by care type of each ward.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Ward statistics for %1$s:\n%2$s";
+    public static final String MESSAGE_NO_WARDS = "There are no patients in any ward.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Date today = new Date(LocalDate.now().toString());
+        List<WardSummary> summaries = model.getWardStatistics().summarize(today);
+        if (summaries.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_WARDS);
+        }
+        String wardLines = summaries.stream().map(Messages::formatWardSummary).collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, today, wardLines));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof WardStatsCommand;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
@@ -3,26 +3,32 @@ package seedu.noknock.logic.parser;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
 
 import java.util.Optional;
 import java.util.stream.Stream;
 
-import seedu.noknock.commons.core.index.Index;
 import seedu.noknock.logic.commands.AddCaringSessionCommand;
+import seedu.noknock.logic.commands.PatientReference;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
 import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.SessionStatus;
 
 /**
  * Parses input arguments and creates a new AddCaringSessionCommand object.
  */
 public class AddCaringSessionCommandParser implements Parser<AddCaringSessionCommand> {
 
+    private static final PrefixAutomaton PREFIXES =
+            new PrefixAutomaton(PREFIX_DATE, PREFIX_TIME, PREFIX_DURATION, PREFIX_CARE_TYPE, PREFIX_NOTES);
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -39,13 +45,12 @@ public class AddCaringSessionCommandParser implements Parser<AddCaringSessionCom
      */
     @Override
     public AddCaringSessionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIME, PREFIX_CARE_TYPE, PREFIX_NOTES);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
-        Index patientIndex;
+        PatientReference patient;
 
         try {
-            patientIndex = ParserUtil.parseIndex(argMultimap.getPreamble());
+            patient = ParserUtil.parsePatientReference(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 AddCaringSessionCommand.MESSAGE_USAGE), pe);
@@ -56,10 +61,15 @@ public class AddCaringSessionCommandParser implements Parser<AddCaringSessionCom
                 AddCaringSessionCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_TIME, PREFIX_CARE_TYPE, PREFIX_NOTES);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_TIME, PREFIX_DURATION, PREFIX_CARE_TYPE,
+            PREFIX_NOTES);
 
         Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
         Time time = ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME).get());
+        Optional<String> durationValue = argMultimap.getValue(PREFIX_DURATION);
+        Duration duration = durationValue.isPresent()
+            ? ParserUtil.parseDuration(durationValue.get())
+            : Duration.DEFAULT;
         CareType type = ParserUtil.parseCareType(argMultimap.getValue(PREFIX_CARE_TYPE).get());
         Optional<String> noteValue = argMultimap.getValue(PREFIX_NOTES);
         Note note;
@@ -68,8 +78,8 @@ public class AddCaringSessionCommandParser implements Parser<AddCaringSessionCom
         } else {
             note = new Note(""); // or Optional<Note>
         }
-        CaringSession session = new CaringSession(type, note, date, time);
+        CaringSession session = new CaringSession(type, note, date, time, duration, SessionStatus.INCOMPLETE);
 
-        return new AddCaringSessionCommand(patientIndex, session);
+        return new AddCaringSessionCommand(patient, session);
     }
 }
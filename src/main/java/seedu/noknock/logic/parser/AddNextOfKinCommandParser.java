@@ -20,6 +20,8 @@ import seedu.noknock.model.person.Relationship;
  */
 public class AddNextOfKinCommandParser implements Parser<AddNextOfKinCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_NAME, PREFIX_PHONE, PREFIX_RELATIONSHIP);
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -35,8 +37,7 @@ public class AddNextOfKinCommandParser implements Parser<AddNextOfKinCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddNextOfKinCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_RELATIONSHIP);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index index;
 
@@ -22,14 +22,16 @@ import seedu.noknock.model.tag.Tag;
  */
 public class AddPatientCommandParser implements Parser<AddPatientCommand> {
 
+    private static final PrefixAutomaton PREFIXES =
+            new PrefixAutomaton(PREFIX_NAME, PREFIX_WARD, PREFIX_IC, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddPatientCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddPatientCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_WARD, PREFIX_IC, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_WARD, PREFIX_IC)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -0,0 +1,88 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.noknock.logic.commands.AddRecurringSessionCommand;
+import seedu.noknock.logic.commands.PatientReference;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+
+/**
+ * Parses input arguments and creates a new AddRecurringSessionCommand object.
+ */
+public class AddRecurringSessionCommandParser implements Parser<AddRecurringSessionCommand> {
+
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_TIME, PREFIX_DURATION,
+            PREFIX_CARE_TYPE, PREFIX_RECURRENCE, PREFIX_FROM, PREFIX_TO, PREFIX_NOTES);
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddRecurringSessionCommand
+     * and returns an AddRecurringSessionCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public AddRecurringSessionCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
+
+        PatientReference patient;
+
+        try {
+            patient = ParserUtil.parsePatientReference(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AddRecurringSessionCommand.MESSAGE_USAGE), pe);
+        }
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_TIME, PREFIX_CARE_TYPE, PREFIX_RECURRENCE, PREFIX_FROM,
+                PREFIX_TO)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AddRecurringSessionCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TIME, PREFIX_DURATION, PREFIX_CARE_TYPE, PREFIX_RECURRENCE,
+            PREFIX_FROM, PREFIX_TO, PREFIX_NOTES);
+
+        Time time = ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME).get());
+        Optional<String> durationValue = argMultimap.getValue(PREFIX_DURATION);
+        Duration duration = durationValue.isPresent()
+            ? ParserUtil.parseDuration(durationValue.get())
+            : Duration.DEFAULT;
+        CareType type = ParserUtil.parseCareType(argMultimap.getValue(PREFIX_CARE_TYPE).get());
+        Recurrence recurrence = ParserUtil.parseRecurrence(argMultimap.getValue(PREFIX_RECURRENCE).get());
+        Date startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        Date endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (!RecurringSession.isValidDateRange(startDate, endDate)) {
+            throw new ParseException(RecurringSession.MESSAGE_CONSTRAINTS);
+        }
+        Optional<String> noteValue = argMultimap.getValue(PREFIX_NOTES);
+        Note note = noteValue.isPresent() ? ParserUtil.parseNote(noteValue.get()) : new Note("");
+
+        return new AddRecurringSessionCommand(patient,
+            new RecurringSession(type, note, time, duration, recurrence, startDate, endDate));
+    }
+}
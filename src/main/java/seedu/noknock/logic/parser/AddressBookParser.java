@@ -2,43 +2,97 @@ package seedu.noknock.logic.parser;
 
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
 
+import java.util.List;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.noknock.commons.core.LogsCenter;
 import seedu.noknock.logic.commands.AddCaringSessionCommand;
 import seedu.noknock.logic.commands.AddNextOfKinCommand;
 import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.commands.AddRecurringSessionCommand;
 import seedu.noknock.logic.commands.ClearCommand;
 import seedu.noknock.logic.commands.Command;
 import seedu.noknock.logic.commands.DeleteCaringSessionCommand;
 import seedu.noknock.logic.commands.DeleteNextOfKinCommand;
 import seedu.noknock.logic.commands.DeletePatientCommand;
+import seedu.noknock.logic.commands.DeleteRecurringSessionCommand;
 import seedu.noknock.logic.commands.EditCaringSessionCommand;
 import seedu.noknock.logic.commands.EditNextOfKinCommand;
 import seedu.noknock.logic.commands.EditPatientCommand;
+import seedu.noknock.logic.commands.EditRecurringSessionCommand;
 import seedu.noknock.logic.commands.ExitCommand;
+import seedu.noknock.logic.commands.ExportCommand;
+import seedu.noknock.logic.commands.FilterTagCommand;
+import seedu.noknock.logic.commands.FilterWardCommand;
+import seedu.noknock.logic.commands.FindPatientByIcCommand;
 import seedu.noknock.logic.commands.FindPatientByNextOfKinCommand;
 import seedu.noknock.logic.commands.FindPatientCommand;
 import seedu.noknock.logic.commands.HelpCommand;
+import seedu.noknock.logic.commands.ImportCommand;
 import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.logic.commands.NextSessionsCommand;
+import seedu.noknock.logic.commands.QueryCommand;
+import seedu.noknock.logic.commands.RedoCommand;
+import seedu.noknock.logic.commands.RunScriptCommand;
 import seedu.noknock.logic.commands.SessionsTodayCommand;
 import seedu.noknock.logic.commands.SessionsWeekCommand;
+import seedu.noknock.logic.commands.StatsCommand;
+import seedu.noknock.logic.commands.UndoCommand;
 import seedu.noknock.logic.commands.ViewPatientCommand;
+import seedu.noknock.logic.commands.WardStatsCommand;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * Every command word is mapped to a single parser that is shared by all calls, so parsers must not keep any state
+ * between calls.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    /** Misspelt command words are only corrected to command words at most this many edits away. */
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandTrie<Parser<? extends Command>> PARSERS = createParsers();
+
+    private static CommandTrie<Parser<? extends Command>> createParsers() {
+        CommandTrie<Parser<? extends Command>> parsers = new CommandTrie<>();
+        parsers.put(AddCaringSessionCommand.COMMAND_WORD, new AddCaringSessionCommandParser());
+        parsers.put(AddPatientCommand.COMMAND_WORD, new AddPatientCommandParser());
+        parsers.put(AddNextOfKinCommand.COMMAND_WORD, new AddNextOfKinCommandParser());
+        parsers.put(EditCaringSessionCommand.COMMAND_WORD, new EditCaringSessionCommandParser());
+        parsers.put(EditPatientCommand.COMMAND_WORD, new EditPatientCommandParser());
+        parsers.put(EditNextOfKinCommand.COMMAND_WORD, new EditNextOfKinCommandParser());
+        parsers.put(DeleteCaringSessionCommand.COMMAND_WORD, new DeleteCaringSessionCommandParser());
+        parsers.put(AddRecurringSessionCommand.COMMAND_WORD, new AddRecurringSessionCommandParser());
+        parsers.put(EditRecurringSessionCommand.COMMAND_WORD, new EditRecurringSessionCommandParser());
+        parsers.put(DeleteRecurringSessionCommand.COMMAND_WORD, new DeleteRecurringSessionCommandParser());
+        parsers.put(SessionsTodayCommand.COMMAND_WORD, arguments -> new SessionsTodayCommand());
+        parsers.put(SessionsWeekCommand.COMMAND_WORD, arguments -> new SessionsWeekCommand());
+        parsers.put(NextSessionsCommand.COMMAND_WORD, new NextSessionsCommandParser());
+        parsers.put(DeletePatientCommand.COMMAND_WORD, new DeletePatientCommandParser());
+        parsers.put(DeleteNextOfKinCommand.COMMAND_WORD, new DeleteNextOfKinCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindPatientByNextOfKinCommand.COMMAND_WORD, new FindPatientByNextOfKinCommandParser());
+        parsers.put(FindPatientCommand.COMMAND_WORD, new FindPatientCommandParser());
+        parsers.put(FindPatientByIcCommand.COMMAND_WORD, new FindPatientByIcCommandParser());
+        parsers.put(FilterWardCommand.COMMAND_WORD, new FilterWardCommandParser());
+        parsers.put(FilterTagCommand.COMMAND_WORD, new FilterTagCommandParser());
+        parsers.put(QueryCommand.COMMAND_WORD, new QueryCommandParser());
+        parsers.put(ListPatientsCommand.COMMAND_WORD, new ListPatientsCommandParser());
+        parsers.put(ViewPatientCommand.COMMAND_WORD, new ViewPatientCommandParser());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand());
+        parsers.put(WardStatsCommand.COMMAND_WORD, arguments -> new WardStatsCommand());
+        parsers.put(RunScriptCommand.COMMAND_WORD, new RunScriptCommandParser());
+        parsers.put(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        parsers.put(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        parsers.put(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        parsers.put(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        return parsers;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -48,78 +102,53 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = getCommandWord(trimmedInput);
+        final String arguments = trimmedInput.substring(commandWord.length());
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-        case AddCaringSessionCommand.COMMAND_WORD:
-            return new AddCaringSessionCommandParser().parse(arguments);
-
-        case AddPatientCommand.COMMAND_WORD:
-            return new AddPatientCommandParser().parse(arguments);
-
-        case AddNextOfKinCommand.COMMAND_WORD:
-            return new AddNextOfKinCommandParser().parse(arguments);
-
-        case EditCaringSessionCommand.COMMAND_WORD:
-            return new EditCaringSessionCommandParser().parse(arguments);
-
-        case EditPatientCommand.COMMAND_WORD:
-            return new EditPatientCommandParser().parse(arguments);
-
-        case EditNextOfKinCommand.COMMAND_WORD:
-            return new EditNextOfKinCommandParser().parse(arguments);
-
-        case DeleteCaringSessionCommand.COMMAND_WORD:
-            return new DeleteCaringSessionCommandParser().parse(arguments);
-
-        case SessionsTodayCommand.COMMAND_WORD:
-            return new SessionsTodayCommand();
-
-        case SessionsWeekCommand.COMMAND_WORD:
-            return new SessionsWeekCommand();
-
-        case DeletePatientCommand.COMMAND_WORD:
-            return new DeletePatientCommandParser().parse(arguments);
-
-        case DeleteNextOfKinCommand.COMMAND_WORD:
-            return new DeleteNextOfKinCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindPatientByNextOfKinCommand.COMMAND_WORD:
-            return new FindPatientByNextOfKinCommandParser().parse(arguments);
-
-        case FindPatientCommand.COMMAND_WORD:
-            return new FindPatientCommandParser().parse(arguments);
-
-        case ListPatientsCommand.COMMAND_WORD:
-            return new ListPatientsCommand();
-
-        case ViewPatientCommand.COMMAND_WORD:
-            return new ViewPatientCommandParser().parse(arguments);
+        Parser<? extends Command> parser = PARSERS.get(commandWord);
+        if (parser == null) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw new ParseException(getUnknownCommandMessage(commandWord));
+        }
+        return parser.parse(arguments);
+    }
 
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+    /**
+     * Returns the command word of {@code userInput}, i.e. its first word, without parsing the rest of it.
+     */
+    public static String getCommandWord(String userInput) {
+        final String trimmedInput = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        return trimmedInput.substring(0, commandWordEnd);
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Returns the command words that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getCommandWordCompletions(String prefix) {
+        return PARSERS.getWordsStartingWith(prefix);
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    private static String getUnknownCommandMessage(String commandWord) {
+        List<String> suggestions = PARSERS.getClosestWords(commandWord, MAX_SUGGESTION_DISTANCE);
+        if (suggestions.isEmpty()) {
+            return MESSAGE_UNKNOWN_COMMAND;
         }
+        return String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, String.join(", ", suggestions));
     }
 
 }
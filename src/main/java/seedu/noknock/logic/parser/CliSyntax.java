@@ -14,7 +14,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_RELATIONSHIP = new Prefix("r/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_TIME = new Prefix("time/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
     public static final Prefix PREFIX_CARE_TYPE = new Prefix("type/");
     public static final Prefix PREFIX_NOTES = new Prefix("notes/");
     public static final Prefix PREFIX_STATUS = new Prefix("status/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_SORT = new Prefix("sort/");
+    public static final Prefix PREFIX_PAGE = new Prefix("page/");
+    public static final Prefix PREFIX_RECURRENCE = new Prefix("every/");
 }
@@ -0,0 +1,160 @@
+package seedu.noknock.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps command words to values, and finds the command words that start with a prefix or are spelt similarly to a
+ * misspelt word. Looking up a word takes time proportional to its length, regardless of how many words are stored.
+ *
+ * @param <T> the type of the values stored.
+ */
+public class CommandTrie<T> {
+    private final Node<T> root = new Node<>();
+    private int size = 0;
+
+    /**
+     * Associates {@code value} with {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is empty, contains whitespace or is already stored.
+     */
+    public void put(String commandWord, T value) {
+        requireNonNull(commandWord);
+        requireNonNull(value);
+        checkArgument(!commandWord.isEmpty() && commandWord.chars().noneMatch(Character::isWhitespace),
+                "Command words must be non-empty and must not contain whitespace: " + commandWord);
+
+        Node<T> node = root;
+        for (int i = 0; i < commandWord.length(); i++) {
+            node = node.children.computeIfAbsent(commandWord.charAt(i), unused -> new Node<>());
+        }
+        checkArgument(node.value == null, "Command word is already stored: " + commandWord);
+        node.value = value;
+        size++;
+    }
+
+    /**
+     * Returns the value associated with {@code commandWord}, or null if there is none.
+     */
+    public T get(String commandWord) {
+        requireNonNull(commandWord);
+        Node<T> node = findNode(commandWord);
+        return node == null ? null : node.value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the stored command words that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getWordsStartingWith(String prefix) {
+        requireNonNull(prefix);
+        List<String> words = new ArrayList<>();
+        Node<T> node = findNode(prefix);
+        if (node != null) {
+            collectWords(node, new StringBuilder(prefix), words);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the stored command words with the smallest edit distance from {@code word}, in alphabetical order,
+     * or an empty list if every stored word is more than {@code maxDistance} edits away.
+     * An edit inserts, deletes or replaces a single character.
+     */
+    public List<String> getClosestWords(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Maximum distance must not be negative");
+
+        // Each node extends the edit distance table of its parent by one row, so shared prefixes are only
+        // compared once, and branches that are already too far from the word are skipped.
+        int[] firstRow = new int[word.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        ClosestWords closestWords = new ClosestWords(maxDistance);
+        for (Map.Entry<Character, Node<T>> child : root.children.entrySet()) {
+            searchClosestWords(child.getValue(), child.getKey(), word, firstRow,
+                    new StringBuilder().append(child.getKey()), closestWords);
+        }
+        return closestWords.words;
+    }
+
+    private void searchClosestWords(Node<T> node, char letter, String word, int[] previousRow,
+            StringBuilder path, ClosestWords closestWords) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMinimum = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int replaceCost = previousRow[i - 1] + (word.charAt(i - 1) == letter ? 0 : 1);
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), replaceCost);
+            rowMinimum = Math.min(rowMinimum, row[i]);
+        }
+
+        if (node.value != null) {
+            closestWords.offer(path.toString(), row[row.length - 1]);
+        }
+        if (rowMinimum > closestWords.maxDistance) {
+            return;
+        }
+        for (Map.Entry<Character, Node<T>> child : node.children.entrySet()) {
+            path.append(child.getKey());
+            searchClosestWords(child.getValue(), child.getKey(), word, row, path, closestWords);
+            path.setLength(path.length() - 1);
+        }
+    }
+
+    private Node<T> findNode(String prefix) {
+        Node<T> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static <T> void collectWords(Node<T> node, StringBuilder path, List<String> words) {
+        if (node.value != null) {
+            words.add(path.toString());
+        }
+        for (Map.Entry<Character, Node<T>> child : node.children.entrySet()) {
+            path.append(child.getKey());
+            collectWords(child.getValue(), path, words);
+            path.setLength(path.length() - 1);
+        }
+    }
+
+    private static class Node<T> {
+        private final Map<Character, Node<T>> children = new TreeMap<>();
+        private T value;
+    }
+
+    /**
+     * The words closest to the searched word found so far.
+     */
+    private static class ClosestWords {
+        private final List<String> words = new ArrayList<>();
+        private int maxDistance;
+
+        ClosestWords(int maxDistance) {
+            this.maxDistance = maxDistance;
+        }
+
+        void offer(String word, int distance) {
+            if (distance > maxDistance) {
+                return;
+            }
+            if (distance < maxDistance || words.isEmpty()) {
+                words.clear();
+                maxDistance = distance;
+            }
+            words.add(word);
+        }
+    }
+}
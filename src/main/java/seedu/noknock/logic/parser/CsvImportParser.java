@@ -0,0 +1,425 @@
+package seedu.noknock.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.noknock.commons.exceptions.IllegalValueException;
+import seedu.noknock.commons.util.CsvUtil;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.logic.commands.AddCaringSessionCommand;
+import seedu.noknock.logic.commands.AddNextOfKinCommand;
+import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.SessionStatus;
+
+/**
+ * Reads patients, their next-of-kin and their caring sessions from CSV, one record per row:
+ * <pre>
+ * patient,IC,NAME,WARD[,TAGS]
+ * nok,PATIENT_IC,NAME,PHONE,RELATIONSHIP
+ * session,PATIENT_IC,DATE,TIME,CARE_TYPE[,NOTES[,STATUS[,DURATION]]]
+ * </pre>
+ * TAGS are separated by {@code ;}. The next-of-kin and sessions of a patient must come after the patient's row.
+ * Blank lines and lines starting with {@code #} are skipped.
+ * <p>
+ * Lines are read in chunks, and each chunk is validated with the {@code ParserUtil} rules on {@code executor} while
+ * the next chunk is read. The validated rows are then assembled into patients in file order, so that every error is
+ * reported against the line it was found on.
+ */
+public class CsvImportParser {
+
+    public static final String TYPE_PATIENT = "patient";
+    public static final String TYPE_NEXT_OF_KIN = "nok";
+    public static final String TYPE_SESSION = "session";
+
+    public static final int DEFAULT_CHUNK_SIZE = 2048;
+
+    public static final String MESSAGE_UNKNOWN_TYPE =
+            "Unknown record type \"%1$s\", expected one of: " + TYPE_PATIENT + ", " + TYPE_NEXT_OF_KIN + ", "
+            + TYPE_SESSION;
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "A %1$s row has %2$s fields, but this row has %3$d";
+    public static final String MESSAGE_DUPLICATE_PATIENT_IN_FILE = "A patient with this IC is already on line %1$d";
+    public static final String MESSAGE_UNKNOWN_PATIENT = "No patient with IC %1$s is on an earlier line";
+
+    private static final String COMMENT_MARKER = "#";
+    private static final String TAG_SEPARATOR = ";";
+
+    private final int chunkSize;
+    private final Executor executor;
+
+    /**
+     * Creates a CsvImportParser that validates chunks of {@code DEFAULT_CHUNK_SIZE} lines on the common pool.
+     */
+    public CsvImportParser() {
+        this(DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a CsvImportParser that validates chunks of {@code chunkSize} lines on {@code executor}.
+     */
+    public CsvImportParser(int chunkSize, Executor executor) {
+        checkArgument(chunkSize > 0, "Chunk size must be positive");
+        requireNonNull(executor);
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Reads every row from {@code reader} and returns the patients they describe, or the errors in them.
+     * A patient whose IC is already in {@code existingData} is an error.
+     *
+     * @throws IOException if {@code reader} cannot be read.
+     * @throws RuntimeException if validating a chunk failed unexpectedly. It is the exception thrown by the
+     *     chunk itself, not a {@code CompletionException} wrapping it.
+     */
+    public Result parse(BufferedReader reader, ReadOnlyAddressBook existingData) throws IOException {
+        requireNonNull(reader);
+        requireNonNull(existingData);
+
+        List<CompletableFuture<List<ParsedRow>>> parsedChunks = new ArrayList<>();
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        int lineNumber = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank() || text.strip().startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            chunk.add(new Line(lineNumber, text));
+            if (chunk.size() == chunkSize) {
+                parsedChunks.add(parseChunkAsync(chunk));
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            parsedChunks.add(parseChunkAsync(chunk));
+        }
+
+        return assemble(parsedChunks, existingData);
+    }
+
+    private CompletableFuture<List<ParsedRow>> parseChunkAsync(List<Line> chunk) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<ParsedRow> rows = new ArrayList<>(chunk.size());
+            for (Line line : chunk) {
+                rows.add(parseRow(line));
+            }
+            return rows;
+        }, executor);
+    }
+
+    /**
+     * Joins the parsed chunks in file order and attaches each next-of-kin and session to its patient.
+     */
+    private static Result assemble(List<CompletableFuture<List<ParsedRow>>> parsedChunks,
+            ReadOnlyAddressBook existingData) {
+        Set<IC> existingIcs = new HashSet<>();
+        for (Patient patient : existingData.getPatientList()) {
+            existingIcs.add(patient.getIC());
+        }
+
+        Map<IC, PatientRecords> records = new LinkedHashMap<>();
+        List<RowError> errors = new ArrayList<>();
+        int nextOfKinCount = 0;
+        int sessionCount = 0;
+        for (CompletableFuture<List<ParsedRow>> parsedChunk : parsedChunks) {
+            for (ParsedRow row : join(parsedChunk)) {
+                if (row.error != null) {
+                    errors.add(new RowError(row.lineNumber, row.error));
+                    continue;
+                }
+
+                String error = null;
+                PatientRecords patientRecords = records.get(row.ic);
+                if (row.patient != null) {
+                    if (existingIcs.contains(row.ic)) {
+                        error = AddPatientCommand.MESSAGE_DUPLICATE_PATIENT;
+                    } else if (patientRecords != null) {
+                        error = String.format(MESSAGE_DUPLICATE_PATIENT_IN_FILE, patientRecords.lineNumber);
+                    } else {
+                        records.put(row.ic, new PatientRecords(row.lineNumber, row.patient));
+                    }
+                } else if (patientRecords == null) {
+                    error = String.format(MESSAGE_UNKNOWN_PATIENT, row.ic);
+                } else if (row.nextOfKin != null) {
+                    if (patientRecords.nextOfKinList.contains(row.nextOfKin)) {
+                        error = AddNextOfKinCommand.MESSAGE_DUPLICATE_NOK;
+                    } else {
+                        patientRecords.nextOfKinList.add(row.nextOfKin);
+                        nextOfKinCount++;
+                    }
+                } else if (patientRecords.patient.hasOverlappingSession(row.session)) {
+                    error = String.format(AddCaringSessionCommand.MESSAGE_HAS_OVERLAPPING_SESSION,
+                            row.session.getCareType());
+                } else {
+                    patientRecords.patient = patientRecords.patient.withCaringSession(row.session);
+                    sessionCount++;
+                }
+
+                if (error != null) {
+                    errors.add(new RowError(row.lineNumber, error));
+                }
+            }
+        }
+
+        List<Patient> patients = new ArrayList<>(records.size());
+        for (PatientRecords patientRecords : records.values()) {
+            patients.add(patientRecords.toPatient());
+        }
+        return new Result(patients, nextOfKinCount, sessionCount, errors);
+    }
+
+    /**
+     * Returns the result of {@code future}, rethrowing the exception it failed with as it was thrown rather than
+     * wrapped in a {@code CompletionException}.
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Validates a single row. Errors are returned rather than thrown, so that a chunk reports all of its errors.
+     */
+    private static ParsedRow parseRow(Line line) {
+        try {
+            List<String> fields = CsvUtil.parseLine(line.text);
+            String type = fields.get(0).trim().toLowerCase(Locale.ROOT);
+            switch (type) {
+            case TYPE_PATIENT:
+                requireFieldCount(fields, type, 4, 5);
+                IC ic = ParserUtil.parseIC(fields.get(1));
+                Patient patient = new Patient(ParserUtil.parseName(fields.get(2)),
+                        ParserUtil.parseWard(fields.get(3)), ic, ParserUtil.parseTags(getTags(fields)));
+                return new ParsedRow(line.lineNumber, ic, patient, null, null, null);
+            case TYPE_NEXT_OF_KIN:
+                requireFieldCount(fields, type, 5, 5);
+                NextOfKin nextOfKin = new NextOfKin(ParserUtil.parseName(fields.get(2)),
+                        ParserUtil.parsePhone(fields.get(3)), ParserUtil.parseRelationship(fields.get(4)));
+                return new ParsedRow(line.lineNumber, ParserUtil.parseIC(fields.get(1)), null, nextOfKin, null, null);
+            case TYPE_SESSION:
+                requireFieldCount(fields, type, 5, 8);
+                Note note = fields.size() > 5 ? ParserUtil.parseNote(fields.get(5)) : new Note("");
+                SessionStatus status = fields.size() > 6 && !fields.get(6).isBlank()
+                        ? ParserUtil.parseSessionStatus(fields.get(6))
+                        : SessionStatus.INCOMPLETE;
+                Duration duration = fields.size() > 7 && !fields.get(7).isBlank()
+                        ? ParserUtil.parseDuration(fields.get(7))
+                        : Duration.DEFAULT;
+                CaringSession session = new CaringSession(ParserUtil.parseCareType(fields.get(4)), note,
+                        ParserUtil.parseDate(fields.get(2)), ParserUtil.parseTime(fields.get(3)), duration, status);
+                return new ParsedRow(line.lineNumber, ParserUtil.parseIC(fields.get(1)), null, null, session, null);
+            default:
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+            }
+        } catch (IllegalValueException e) {
+            return new ParsedRow(line.lineNumber, null, null, null, null, e.getMessage());
+        }
+    }
+
+    private static void requireFieldCount(List<String> fields, String type, int min, int max) throws ParseException {
+        if (fields.size() < min || fields.size() > max) {
+            String expected = min == max ? String.valueOf(min) : min + " to " + max;
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, type, expected, fields.size()));
+        }
+    }
+
+    private static List<String> getTags(List<String> patientFields) {
+        if (patientFields.size() < 5 || patientFields.get(4).isBlank()) {
+            return List.of();
+        }
+        return Arrays.asList(patientFields.get(4).split(TAG_SEPARATOR));
+    }
+
+    /**
+     * A non-blank line of the file.
+     */
+    private static class Line {
+        private final int lineNumber;
+        private final String text;
+
+        Line(int lineNumber, String text) {
+            this.lineNumber = lineNumber;
+            this.text = text;
+        }
+    }
+
+    /**
+     * A validated row: a patient, a next-of-kin or a session of the patient with {@code ic}, or an error.
+     */
+    private static class ParsedRow {
+        private final int lineNumber;
+        private final IC ic;
+        private final Patient patient;
+        private final NextOfKin nextOfKin;
+        private final CaringSession session;
+        private final String error;
+
+        ParsedRow(int lineNumber, IC ic, Patient patient, NextOfKin nextOfKin, CaringSession session,
+                String error) {
+            this.lineNumber = lineNumber;
+            this.ic = ic;
+            this.patient = patient;
+            this.nextOfKin = nextOfKin;
+            this.session = session;
+            this.error = error;
+        }
+    }
+
+    /**
+     * A patient read from the file, with the sessions read for it so far, and the next-of-kin read for it so far.
+     */
+    private static class PatientRecords {
+        private final int lineNumber;
+        private final List<NextOfKin> nextOfKinList = new ArrayList<>();
+        private Patient patient;
+
+        PatientRecords(int lineNumber, Patient patient) {
+            this.lineNumber = lineNumber;
+            this.patient = patient;
+        }
+
+        Patient toPatient() {
+            return patient.withNextOfKinList(nextOfKinList);
+        }
+    }
+
+    /**
+     * The outcome of reading a CSV file.
+     */
+    public static class Result {
+        private final List<Patient> patients;
+        private final int nextOfKinCount;
+        private final int sessionCount;
+        private final List<RowError> errors;
+
+        /**
+         * Creates a Result with the {@code patients} read, and the {@code errors} in the rows that could not be.
+         */
+        public Result(List<Patient> patients, int nextOfKinCount, int sessionCount, List<RowError> errors) {
+            requireNonNull(patients);
+            requireNonNull(errors);
+            this.patients = List.copyOf(patients);
+            this.nextOfKinCount = nextOfKinCount;
+            this.sessionCount = sessionCount;
+            this.errors = List.copyOf(errors);
+        }
+
+        public List<Patient> getPatients() {
+            return patients;
+        }
+
+        public int getNextOfKinCount() {
+            return nextOfKinCount;
+        }
+
+        public int getSessionCount() {
+            return sessionCount;
+        }
+
+        /**
+         * Returns the errors found, in the order of the lines they were found on.
+         */
+        public List<RowError> getErrors() {
+            return errors;
+        }
+
+        public boolean hasErrors() {
+            return !errors.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("patients", patients.size())
+                    .add("nextOfKinCount", nextOfKinCount)
+                    .add("sessionCount", sessionCount)
+                    .add("errors", errors)
+                    .toString();
+        }
+    }
+
+    /**
+     * An error found on a line of a CSV file.
+     */
+    public static class RowError {
+        private final int lineNumber;
+        private final String message;
+
+        /**
+         * Creates a RowError for the error described by {@code message} on line {@code lineNumber}.
+         */
+        public RowError(int lineNumber, String message) {
+            requireNonNull(message);
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof RowError)) {
+                return false;
+            }
+
+            RowError otherRowError = (RowError) other;
+            return lineNumber == otherRowError.lineNumber
+                    && message.equals(otherRowError.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, message);
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message;
+        }
+    }
+}
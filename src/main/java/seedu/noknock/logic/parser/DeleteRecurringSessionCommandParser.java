@@ -0,0 +1,56 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.commands.DeleteRecurringSessionCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.date.Date;
+
+/**
+ * Parses input arguments and creates a new DeleteRecurringSessionCommand object.
+ */
+public class DeleteRecurringSessionCommandParser implements Parser<DeleteRecurringSessionCommand> {
+
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_DATE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteRecurringSessionCommand
+     * and returns a DeleteRecurringSessionCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    @Override
+    public DeleteRecurringSessionCommand parse(String args) throws ParseException {
+        Objects.requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
+
+        Index patientIndex;
+        Index recurringSessionIndex;
+
+        try {
+            String[] indices = argMultimap.getPreamble().trim().split("\\s+");
+            if (indices.length != 2) {
+                throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteRecurringSessionCommand.MESSAGE_USAGE));
+            }
+            patientIndex = ParserUtil.parseIndex(indices[0]);
+            recurringSessionIndex = ParserUtil.parseIndex(indices[1]);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteRecurringSessionCommand.MESSAGE_USAGE), pe);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE);
+
+        Optional<String> dateValue = argMultimap.getValue(PREFIX_DATE);
+        Optional<Date> date = dateValue.isPresent()
+            ? Optional.of(ParserUtil.parseDate(dateValue.get()))
+            : Optional.empty();
+        return new DeleteRecurringSessionCommand(patientIndex, recurringSessionIndex, date);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.noknock.logic.parser;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
@@ -17,11 +18,14 @@ import seedu.noknock.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new EditCaringSessionCommand object
  */
 public class EditCaringSessionCommandParser implements Parser<EditCaringSessionCommand> {
+
+    private static final PrefixAutomaton PREFIXES =
+            new PrefixAutomaton(PREFIX_CARE_TYPE, PREFIX_NOTES, PREFIX_DATE, PREFIX_TIME, PREFIX_DURATION,
+                    PREFIX_STATUS);
     @Override
     public EditCaringSessionCommand parse(String args) throws ParseException {
         Objects.requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
-            args, PREFIX_CARE_TYPE, PREFIX_NOTES, PREFIX_DATE, PREFIX_TIME, PREFIX_STATUS);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index patientIndex;
         Index sessionIndex;
@@ -41,7 +45,7 @@ public class EditCaringSessionCommandParser implements Parser<EditCaringSessionC
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(
-            PREFIX_CARE_TYPE, PREFIX_NOTES, PREFIX_DATE, PREFIX_TIME, PREFIX_STATUS);
+            PREFIX_CARE_TYPE, PREFIX_NOTES, PREFIX_DATE, PREFIX_TIME, PREFIX_DURATION, PREFIX_STATUS);
 
         EditCaringSessionCommand.EditSessionDescriptor descriptor =
             new EditCaringSessionCommand.EditSessionDescriptor();
@@ -58,6 +62,9 @@ public class EditCaringSessionCommandParser implements Parser<EditCaringSessionC
         if (argMultimap.getValue(PREFIX_TIME).isPresent()) {
             descriptor.setTime(ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME).get()));
         }
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            descriptor.setDuration(ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get()));
+        }
         if (argMultimap.getValue(PREFIX_STATUS).isPresent()) {
             descriptor.setStatus(ParserUtil.parseSessionStatus(argMultimap.getValue(PREFIX_STATUS).get()));
         }
@@ -15,6 +15,8 @@ import seedu.noknock.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new EditPatientCommand object
  */
 public class EditNextOfKinCommandParser implements Parser<EditNextOfKinCommand> {
+
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_NAME, PREFIX_PHONE, PREFIX_RELATIONSHIP);
     /**
      * Parses the given {@code String} of arguments in the context of the EditPatientCommand
      * and returns an EditPatientCommand object for execution.
@@ -24,8 +26,7 @@ public class EditNextOfKinCommandParser implements Parser<EditNextOfKinCommand>
     @Override
     public EditNextOfKinCommand parse(String args) throws ParseException {
         Objects.requireNonNull(args);
-        ArgumentMultimap argMultimap =
-            ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_RELATIONSHIP);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index patientIndex;
         Index nokIndex;
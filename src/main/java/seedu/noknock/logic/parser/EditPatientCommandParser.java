@@ -12,8 +12,8 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.noknock.commons.core.index.Index;
 import seedu.noknock.logic.commands.EditPatientCommand;
+import seedu.noknock.logic.commands.PatientReference;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.tag.Tag;
 
@@ -21,6 +21,9 @@ import seedu.noknock.model.tag.Tag;
  * Parses input arguments and creates a new EditPatientCommand object
  */
 public class EditPatientCommandParser implements Parser<EditPatientCommand> {
+
+    private static final PrefixAutomaton PREFIXES =
+            new PrefixAutomaton(PREFIX_NAME, PREFIX_IC, PREFIX_WARD, PREFIX_TAG);
     /**
      * Parses the given {@code String} of arguments in the context of the EditPatientCommand
      * and returns an EditPatientCommand object for execution.
@@ -28,13 +31,12 @@ public class EditPatientCommandParser implements Parser<EditPatientCommand> {
      */
     public EditPatientCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_IC, PREFIX_WARD, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
-        Index index;
+        PatientReference patient;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            patient = ParserUtil.parsePatientReference(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditPatientCommand.MESSAGE_USAGE), pe);
@@ -59,7 +61,7 @@ public class EditPatientCommandParser implements Parser<EditPatientCommand> {
             throw new ParseException(EditPatientCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditPatientCommand(index, editPatientDescriptor);
+        return new EditPatientCommand(patient, editPatientDescriptor);
     }
 
     /**
@@ -0,0 +1,60 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.Objects;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.commands.EditRecurringSessionCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.session.SessionStatus;
+
+/**
+ * Parses input arguments and creates a new EditRecurringSessionCommand object
+ */
+public class EditRecurringSessionCommandParser implements Parser<EditRecurringSessionCommand> {
+
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_DATE, PREFIX_STATUS);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EditRecurringSessionCommand
+     * and returns an EditRecurringSessionCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    @Override
+    public EditRecurringSessionCommand parse(String args) throws ParseException {
+        Objects.requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
+
+        Index patientIndex;
+        Index recurringSessionIndex;
+
+        try {
+            String[] indices = argMultimap.getPreamble().trim().split("\\s+");
+            if (indices.length != 2) {
+                throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditRecurringSessionCommand.MESSAGE_USAGE));
+            }
+            patientIndex = ParserUtil.parseIndex(indices[0]);
+            recurringSessionIndex = ParserUtil.parseIndex(indices[1]);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditRecurringSessionCommand.MESSAGE_USAGE), pe);
+        }
+
+        if (argMultimap.getValue(PREFIX_DATE).isEmpty() || argMultimap.getValue(PREFIX_STATUS).isEmpty()) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditRecurringSessionCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_STATUS);
+
+        Date date = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        SessionStatus status = ParserUtil.parseSessionStatus(argMultimap.getValue(PREFIX_STATUS).get());
+        return new EditRecurringSessionCommand(patientIndex, recurringSessionIndex, date, status);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.logic.commands.ExportCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.storage.ExportFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT =
+            "The export file must end in .csv for CSV, or .ndjson or .jsonl for newline-delimited JSON";
+
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_FROM, PREFIX_TO);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
+
+        String fileName = argMultimap.getPreamble();
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> to = argMultimap.getValue(PREFIX_TO);
+        if (fileName.isEmpty() || !FileUtil.isValidPath(fileName) || from.isPresent() != to.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        Path file = Paths.get(fileName);
+        ExportFormat format = ExportFormat.fromFile(file)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNSUPPORTED_FORMAT));
+        if (from.isEmpty()) {
+            return new ExportCommand(file, format);
+        }
+
+        Date startDate = ParserUtil.parseDate(from.get());
+        Date endDate = ParserUtil.parseDate(to.get());
+        return new ExportCommand(file, format, startDate, endDate);
+    }
+}
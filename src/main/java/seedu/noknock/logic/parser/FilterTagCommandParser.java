@@ -0,0 +1,29 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.noknock.logic.commands.FilterTagCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FilterTagCommand object
+ */
+public class FilterTagCommandParser implements Parser<FilterTagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterTagCommand
+     * and returns a FilterTagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterTagCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTagCommand.MESSAGE_USAGE));
+        }
+
+        return new FilterTagCommand(ParserUtil.parseTags(Arrays.asList(trimmedArgs.split("\\s+"))));
+    }
+}
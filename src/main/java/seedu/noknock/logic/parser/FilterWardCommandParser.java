@@ -0,0 +1,35 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.noknock.logic.commands.FilterWardCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.person.Ward;
+
+/**
+ * Parses input arguments and creates a new FilterWardCommand object
+ */
+public class FilterWardCommandParser implements Parser<FilterWardCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterWardCommand
+     * and returns a FilterWardCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterWardCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterWardCommand.MESSAGE_USAGE));
+        }
+
+        List<Ward> wards = new ArrayList<>();
+        for (String ward : trimmedArgs.split("\\s+")) {
+            wards.add(ParserUtil.parseWard(ward));
+        }
+        return new FilterWardCommand(wards);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.noknock.logic.commands.FindPatientByIcCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.person.IC;
+
+/**
+ * Parses input arguments and creates a new FindPatientByIcCommand object
+ */
+public class FindPatientByIcCommandParser implements Parser<FindPatientByIcCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindPatientByIcCommand
+     * and returns a FindPatientByIcCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindPatientByIcCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatientByIcCommand.MESSAGE_USAGE));
+        }
+
+        List<IC> ics = new ArrayList<>();
+        for (String ic : trimmedArgs.split("\\s+")) {
+            ics.add(ParserUtil.parseIc(ic));
+        }
+        return new FindPatientByIcCommand(ics);
+    }
+}
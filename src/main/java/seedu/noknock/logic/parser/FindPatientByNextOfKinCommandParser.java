@@ -3,31 +3,47 @@ package seedu.noknock.logic.parser;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.noknock.logic.commands.Command;
 import seedu.noknock.logic.commands.FindPatientByNextOfKinCommand;
+import seedu.noknock.logic.commands.FuzzyFindCommand;
+import seedu.noknock.logic.commands.FuzzyFindPatientByNextOfKinCommand;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.person.PatientNokContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindPatientByNextOfKinCommand object
  */
-public class FindPatientByNextOfKinCommandParser implements Parser<FindPatientByNextOfKinCommand> {
+public class FindPatientByNextOfKinCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindPatientByNextOfKinCommand
-     * and returns a FindPatientByNextOfKinCommand object for execution.
+     * and returns a FindPatientByNextOfKinCommand object for execution, or a FuzzyFindPatientByNextOfKinCommand
+     * object if the keywords start with the fuzzy flag.
      *
      * @throws ParseException if the user input does not conform to the expected format
      */
-    public FindPatientByNextOfKinCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatientByNextOfKinCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (nameKeywords.get(0).equalsIgnoreCase(FuzzyFindCommand.FUZZY_FLAG)) {
+            return parseFuzzy(nameKeywords.subList(1, nameKeywords.size()));
+        }
+
+        return new FindPatientByNextOfKinCommand(new PatientNokContainsKeywordsPredicate(nameKeywords));
+    }
 
-        return new FindPatientByNextOfKinCommand(new PatientNokContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private FuzzyFindPatientByNextOfKinCommand parseFuzzy(List<String> nameKeywords) throws ParseException {
+        if (nameKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatientByNextOfKinCommand.MESSAGE_USAGE));
+        }
+        return new FuzzyFindPatientByNextOfKinCommand(nameKeywords);
     }
 }
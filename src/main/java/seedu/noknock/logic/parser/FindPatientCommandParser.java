@@ -3,30 +3,46 @@ package seedu.noknock.logic.parser;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.noknock.logic.commands.Command;
 import seedu.noknock.logic.commands.FindPatientCommand;
+import seedu.noknock.logic.commands.FuzzyFindCommand;
+import seedu.noknock.logic.commands.FuzzyFindPatientCommand;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.person.PatientNameContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindPatientCommand object
  */
-public class FindPatientCommandParser implements Parser<FindPatientCommand> {
+public class FindPatientCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindPatientCommand
-     * and returns a FindPatientCommand object for execution.
+     * and returns a FindPatientCommand object for execution, or a FuzzyFindPatientCommand object if the
+     * keywords start with the fuzzy flag.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindPatientCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatientCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (nameKeywords.get(0).equalsIgnoreCase(FuzzyFindCommand.FUZZY_FLAG)) {
+            return parseFuzzy(nameKeywords.subList(1, nameKeywords.size()));
+        }
+
+        return new FindPatientCommand(new PatientNameContainsKeywordsPredicate(nameKeywords));
+    }
 
-        return new FindPatientCommand(new PatientNameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+    private FuzzyFindPatientCommand parseFuzzy(List<String> nameKeywords) throws ParseException {
+        if (nameKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatientCommand.MESSAGE_USAGE));
+        }
+        return new FuzzyFindPatientCommand(nameKeywords);
     }
 }
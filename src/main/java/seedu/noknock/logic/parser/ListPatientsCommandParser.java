@@ -0,0 +1,47 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_SORT;
+
+import java.util.Optional;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.PatientOrder;
+
+/**
+ * Parses input arguments and creates a new ListPatientsCommand object.
+ */
+public class ListPatientsCommandParser implements Parser<ListPatientsCommand> {
+
+    public static final String MESSAGE_INVALID_PAGE = "Page is not a non-zero unsigned integer.";
+
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_SORT, PREFIX_PAGE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListPatientsCommand
+     * and returns a ListPatientsCommand object for execution. Any text before the prefixes is ignored.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ListPatientsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SORT, PREFIX_PAGE);
+
+        Optional<String> sort = argMultimap.getValue(PREFIX_SORT);
+        PatientOrder order = sort.isPresent() ? ParserUtil.parsePatientOrder(sort.get()) : PatientOrder.ADDED;
+        Optional<String> page = argMultimap.getValue(PREFIX_PAGE);
+        if (page.isEmpty()) {
+            return new ListPatientsCommand(order);
+        }
+
+        String trimmedPage = page.get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedPage)) {
+            throw new ParseException(MESSAGE_INVALID_PAGE);
+        }
+        return new ListPatientsCommand(order, Index.fromOneBased(Integer.parseInt(trimmedPage)));
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.logic.commands.NextSessionsCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new NextSessionsCommand object.
+ */
+public class NextSessionsCommandParser implements Parser<NextSessionsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NextSessionsCommand
+     * and returns a NextSessionsCommand object for execution. No arguments lists the default number of sessions.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public NextSessionsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new NextSessionsCommand();
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextSessionsCommand.MESSAGE_USAGE));
+        }
+        return new NextSessionsCommand(Integer.parseInt(trimmedArgs));
+    }
+}
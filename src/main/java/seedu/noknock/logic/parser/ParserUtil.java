@@ -8,8 +8,11 @@ import java.util.Set;
 
 import seedu.noknock.commons.core.index.Index;
 import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.logic.commands.PatientReference;
 import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.PatientOrder;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.person.Address;
 import seedu.noknock.model.person.Email;
@@ -20,6 +23,7 @@ import seedu.noknock.model.person.Relationship;
 import seedu.noknock.model.person.Ward;
 import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.Recurrence;
 import seedu.noknock.model.session.SessionStatus;
 import seedu.noknock.model.tag.Tag;
 
@@ -74,6 +78,21 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code patient} into a {@code PatientReference}: by IC if it has the form of an IC, in any case, or
+     * else by one-based index. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code patient} is neither an IC nor a valid index.
+     */
+    public static PatientReference parsePatientReference(String patient) throws ParseException {
+        requireNonNull(patient);
+        String trimmedPatient = patient.trim();
+        if (IC.isValidIC(trimmedPatient.toUpperCase())) {
+            return PatientReference.of(new IC(trimmedPatient));
+        }
+        return PatientReference.of(parseIndex(trimmedPatient));
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -236,6 +255,21 @@ public class ParserUtil {
         return new Time(trimmedTime);
     }
 
+    /**
+     * Parses a {@code String duration} into a {@code Duration}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code duration} is invalid.
+     */
+    public static Duration parseDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        if (!Duration.isValidDuration(trimmedDuration)) {
+            throw new ParseException(Duration.MESSAGE_CONSTRAINTS);
+        }
+        return new Duration(trimmedDuration);
+    }
+
     /**
      * Parses a {@code String date} into an {@code Date}.
      * Leading and trailing whitespaces will be trimmed.
@@ -265,4 +299,34 @@ public class ParserUtil {
         }
         return SessionStatus.of(trimmedStatus);
     }
+
+    /**
+     * Parses a {@code String recurrence} into a {@code Recurrence}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code recurrence} is invalid.
+     */
+    public static Recurrence parseRecurrence(String recurrence) throws ParseException {
+        requireNonNull(recurrence);
+        String trimmedRecurrence = recurrence.trim();
+        if (!Recurrence.isValidRecurrence(trimmedRecurrence)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return Recurrence.fromString(trimmedRecurrence);
+    }
+
+    /**
+     * Parses a {@code String order} naming the field to sort patients by into a {@code PatientOrder}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code order} is invalid.
+     */
+    public static PatientOrder parsePatientOrder(String order) throws ParseException {
+        requireNonNull(order);
+        String trimmedOrder = order.trim();
+        if (!PatientOrder.isValidKeyword(trimmedOrder)) {
+            throw new ParseException(PatientOrder.MESSAGE_CONSTRAINTS);
+        }
+        return PatientOrder.fromKeyword(trimmedOrder);
+    }
 }
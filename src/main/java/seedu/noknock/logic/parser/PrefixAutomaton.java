@@ -0,0 +1,85 @@
+package seedu.noknock.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Recognises a fixed set of {@code Prefix}es in an arguments string.
+ * The prefixes are compiled into a trie-shaped automaton once, so checking whether any of them starts at a position
+ * reads each character at most once, no matter how many prefixes there are.
+ * Instances are immutable and can be shared between threads, so parsers should create theirs once and reuse it.
+ */
+public class PrefixAutomaton {
+    private final State start = new State();
+
+    /**
+     * Creates an automaton that recognises {@code prefixes}.
+     *
+     * @throws IllegalArgumentException if any of the prefixes is empty.
+     */
+    public PrefixAutomaton(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            String text = prefix.getPrefix();
+            checkArgument(!text.isEmpty(), "Prefixes to recognise must not be empty");
+
+            State state = start;
+            for (int i = 0; i < text.length(); i++) {
+                state = state.getOrAddTransition(text.charAt(i));
+            }
+            state.acceptedPrefix = prefix;
+        }
+    }
+
+    /**
+     * Returns the longest recognised prefix that starts at {@code index} of {@code text}, or null if there is none.
+     */
+    public Prefix match(String text, int index) {
+        Prefix longestMatch = null;
+        State state = start;
+        for (int i = index; i < text.length(); i++) {
+            state = state.getTransition(text.charAt(i));
+            if (state == null) {
+                break;
+            }
+            if (state.acceptedPrefix != null) {
+                longestMatch = state.acceptedPrefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    /**
+     * A state of the automaton, reached after reading the characters on the path from the start state.
+     * States have few transitions, so they are kept in small parallel arrays rather than a map.
+     */
+    private static class State {
+        private char[] labels = new char[0];
+        private State[] targets = new State[0];
+        private Prefix acceptedPrefix;
+
+        State getTransition(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return targets[i];
+                }
+            }
+            return null;
+        }
+
+        State getOrAddTransition(char label) {
+            State target = getTransition(label);
+            if (target == null) {
+                target = new State();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                targets = Arrays.copyOf(targets, targets.length + 1);
+                labels[labels.length - 1] = label;
+                targets[targets.length - 1] = target;
+            }
+            return target;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.noknock.logic.commands.QueryCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.query.AndQuery;
+import seedu.noknock.model.query.FieldQuery;
+import seedu.noknock.model.query.NotQuery;
+import seedu.noknock.model.query.OrQuery;
+import seedu.noknock.model.query.PatientQuery;
+import seedu.noknock.model.query.SessionQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * A query is parsed by recursive descent, with NOT binding tighter than AND, and AND tighter than OR:
+ * <pre>
+ *     or    := and (OR and)*
+ *     and   := unary ([AND] unary)*
+ *     unary := NOT unary | ( or ) | FIELD:VALUE
+ * </pre>
+ * Two terms with nothing between them are joined by AND. Keywords are case-insensitive.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown query field: %1$s. "
+            + "Use ward, tag, ic, name, nok, session, status or type.";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected %1$s in query.";
+    public static final String MESSAGE_MISSING_CLOSING_PARENTHESIS = "Missing ')' in query.";
+    public static final String MESSAGE_INVALID_TERM = "Query terms must be FIELD:VALUE, but found: %1$s";
+
+    private static final String KEYWORD_AND = "AND";
+    private static final String KEYWORD_OR = "OR";
+    private static final String KEYWORD_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String DATE_RANGE_SEPARATOR = "..";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        Tokens tokens = new Tokens(trimmedArgs);
+        PatientQuery query = parseOr(tokens);
+        if (tokens.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.peek()));
+        }
+        return new QueryCommand(query);
+    }
+
+    private PatientQuery parseOr(Tokens tokens) throws ParseException {
+        List<PatientQuery> queries = new ArrayList<>();
+        queries.add(parseAnd(tokens));
+        while (tokens.nextIsKeyword(KEYWORD_OR)) {
+            tokens.next();
+            queries.add(parseAnd(tokens));
+        }
+        return OrQuery.of(queries);
+    }
+
+    private PatientQuery parseAnd(Tokens tokens) throws ParseException {
+        List<PatientQuery> queries = new ArrayList<>();
+        queries.add(parseUnary(tokens));
+        while (tokens.hasNext() && !tokens.nextIsKeyword(KEYWORD_OR) && !tokens.peek().equals(CLOSE_PARENTHESIS)) {
+            if (tokens.nextIsKeyword(KEYWORD_AND)) {
+                tokens.next();
+            }
+            queries.add(parseUnary(tokens));
+        }
+        return AndQuery.of(queries);
+    }
+
+    private PatientQuery parseUnary(Tokens tokens) throws ParseException {
+        if (!tokens.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, "end"));
+        }
+        String token = tokens.next();
+        if (token.equalsIgnoreCase(KEYWORD_NOT)) {
+            return new NotQuery(parseUnary(tokens));
+        }
+        if (token.equals(OPEN_PARENTHESIS)) {
+            PatientQuery query = parseOr(tokens);
+            if (!tokens.hasNext() || !tokens.next().equals(CLOSE_PARENTHESIS)) {
+                throw new ParseException(MESSAGE_MISSING_CLOSING_PARENTHESIS);
+            }
+            return query;
+        }
+        if (token.equals(CLOSE_PARENTHESIS) || token.equalsIgnoreCase(KEYWORD_AND)
+                || token.equalsIgnoreCase(KEYWORD_OR)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        return parseTerm(token);
+    }
+
+    private PatientQuery parseTerm(String term) throws ParseException {
+        int separator = term.indexOf(':');
+        if (separator <= 0 || separator == term.length() - 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_TERM, term));
+        }
+        String field = term.substring(0, separator).toLowerCase();
+        String value = term.substring(separator + 1);
+        switch (field) {
+        case "ward":
+            return FieldQuery.ward(ParserUtil.parseWard(value));
+        case "tag":
+            return FieldQuery.tag(ParserUtil.parseTag(value));
+        case "ic":
+            return FieldQuery.ic(ParserUtil.parseIC(value));
+        case "name":
+            return FieldQuery.name(value);
+        case "nok":
+            return FieldQuery.nextOfKin(value);
+        case "session":
+            return parseSessionDates(value);
+        case "status":
+            return SessionQuery.withStatus(ParserUtil.parseSessionStatus(value));
+        case "type":
+            return SessionQuery.withCareType(ParserUtil.parseCareType(value));
+        default:
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, term.substring(0, separator)));
+        }
+    }
+
+    /**
+     * Parses a session date, a range of dates {@code START..END}, {@code today} or {@code week}, the latter being the
+     * current week from Monday to Sunday.
+     */
+    private SessionQuery parseSessionDates(String value) throws ParseException {
+        if (value.equalsIgnoreCase("today")) {
+            Date today = new Date(LocalDate.now().toString());
+            return SessionQuery.between(today, today);
+        }
+        if (value.equalsIgnoreCase("week")) {
+            LocalDate monday = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            return SessionQuery.between(new Date(monday.toString()), new Date(monday.plusDays(6).toString()));
+        }
+        int separator = value.indexOf(DATE_RANGE_SEPARATOR);
+        if (separator < 0) {
+            Date date = ParserUtil.parseDate(value);
+            return SessionQuery.between(date, date);
+        }
+        return SessionQuery.between(ParserUtil.parseDate(value.substring(0, separator)),
+                ParserUtil.parseDate(value.substring(separator + DATE_RANGE_SEPARATOR.length())));
+    }
+
+    /**
+     * The tokens of a query, with parentheses split from the terms they are written against.
+     */
+    private static class Tokens {
+        private final List<String> tokens;
+        private int position;
+
+        Tokens(String query) {
+            String spaced = query.replace(OPEN_PARENTHESIS, " ( ").replace(CLOSE_PARENTHESIS, " ) ").trim();
+            tokens = Arrays.asList(spaced.split("\\s+"));
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        String peek() {
+            return tokens.get(position);
+        }
+
+        String next() {
+            return tokens.get(position++);
+        }
+
+        boolean nextIsKeyword(String keyword) {
+            return hasNext() && peek().equalsIgnoreCase(keyword);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.logic.commands.Command;
+import seedu.noknock.logic.commands.RedoCommand;
+import seedu.noknock.logic.commands.RunScriptCommand;
+import seedu.noknock.logic.commands.RunScriptCommand.ScriptLine;
+import seedu.noknock.logic.commands.UndoCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object.
+ * Every line of the script is parsed here, so a script with an invalid line is rejected before any of its commands
+ * is executed.
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    private static final String COMMENT_MARKER = "#";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read or
+     *     any line of the script is invalid.
+     */
+    @Override
+    public RunScriptCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+
+        Path scriptFile = Paths.get(trimmedArgs);
+        if (!FileUtil.isFileExists(scriptFile)) {
+            throw new ParseException(String.format(RunScriptCommand.MESSAGE_SCRIPT_NOT_FOUND, scriptFile));
+        }
+        return new RunScriptCommand(scriptFile, parseLines(scriptFile));
+    }
+
+    private static List<ScriptLine> parseLines(Path scriptFile) throws ParseException {
+        List<String> texts;
+        try {
+            texts = Files.readAllLines(scriptFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ParseException(String.format(RunScriptCommand.MESSAGE_CANNOT_READ_SCRIPT,
+                    scriptFile, e.getMessage()), e);
+        }
+
+        AddressBookParser addressBookParser = new AddressBookParser();
+        List<ScriptLine> lines = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i).trim();
+            if (text.isEmpty() || text.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                // Checked before parsing, as parsing a run-script line would read that script too
+                String commandWord = AddressBookParser.getCommandWord(text);
+                if (commandWord.equals(RunScriptCommand.COMMAND_WORD)) {
+                    throw new ParseException(RunScriptCommand.MESSAGE_NESTED_SCRIPT);
+                }
+                // A failed script is reverted through the pending changes, which undo and redo would commit early
+                if (commandWord.equals(UndoCommand.COMMAND_WORD) || commandWord.equals(RedoCommand.COMMAND_WORD)) {
+                    throw new ParseException(RunScriptCommand.MESSAGE_UNDO_IN_SCRIPT);
+                }
+                Command command = addressBookParser.parseCommand(text);
+                lines.add(new ScriptLine(lineNumber, text, command));
+            } catch (ParseException e) {
+                throw new ParseException(String.format(RunScriptCommand.MESSAGE_INVALID_LINE,
+                        lineNumber, text, e.getMessage()), e);
+            }
+        }
+        return lines;
+    }
+}
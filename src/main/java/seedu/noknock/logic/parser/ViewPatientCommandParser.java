@@ -2,7 +2,7 @@ package seedu.noknock.logic.parser;
 
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.commands.PatientReference;
 import seedu.noknock.logic.commands.ViewPatientCommand;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 
@@ -20,8 +20,8 @@ public class ViewPatientCommandParser implements Parser<ViewPatientCommand> {
     @Override
     public ViewPatientCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new ViewPatientCommand(index);
+            PatientReference patient = ParserUtil.parsePatientReference(args);
+            return new ViewPatientCommand(patient);
         } catch (ParseException pe) {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewPatientCommand.MESSAGE_USAGE), pe);
@@ -2,12 +2,20 @@ package seedu.noknock.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.person.IC;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
 import seedu.noknock.model.person.UniquePatientList;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -75,6 +83,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         patients.add(p);
     }
 
+    /**
+     * Adds a patient to the address book at {@code index} of the patient list.
+     * The patient must not already exist in the address book.
+     */
+    public void addPatient(int index, Patient p) {
+        patients.add(index, p);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book at once.
+     * The patients must be unique and must not already exist in the address book.
+     */
+    public void addPatients(List<Patient> toAdd) {
+        patients.addAll(toAdd);
+    }
+
     /**
      * Replaces the given patient {@code target} in the list with {@code editedPatient}.
      * {@code target} must exist in the address book.
@@ -86,6 +110,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         patients.setPatient(target, editedPatient);
     }
 
+    /**
+     * Returns the position in the patient list of the patient equal to {@code patient}, or -1 if there is none.
+     */
+    public int indexOfPatient(Patient patient) {
+        return patients.indexOf(patient);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -94,6 +125,59 @@ public class AddressBook implements ReadOnlyAddressBook {
         patients.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} at once.
+     * {@code keys} must exist in the address book.
+     */
+    public void removePatients(Collection<Patient> keys) {
+        patients.removeAll(keys);
+    }
+
+    /**
+     * Returns the patient with {@code ic}, if any.
+     */
+    public Optional<Patient> getPatient(IC ic) {
+        return patients.getPatient(ic);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients in {@code ward}, to be read before the address book next changes.
+     */
+    public PatientBitmap getPatientsInWard(Ward ward) {
+        return patients.getPatientsInWard(ward);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patient with {@code ic}, if any, to be read before the address book next
+     * changes.
+     */
+    public PatientBitmap getPatientsWithIc(IC ic) {
+        return patients.getPatientsWithIc(ic);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients with {@code tag}, to be read before the address book next changes.
+     */
+    public PatientBitmap getPatientsWithTag(Tag tag) {
+        return patients.getPatientsWithTag(tag);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients with a session, or a recurring session, of {@code careType}, to be
+     * read before the address book next changes.
+     */
+    public PatientBitmap getPatientsWithCareType(CareType careType) {
+        return patients.getPatientsWithCareType(careType);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients with a session, or an occurrence of a recurring session, of
+     * {@code status}, to be read before the address book next changes.
+     */
+    public PatientBitmap getPatientsWithSessionStatus(SessionStatus status) {
+        return patients.getPatientsWithSessionStatus(status);
+    }
+
     //// util methods
 
     @Override
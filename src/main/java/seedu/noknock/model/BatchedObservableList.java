@@ -0,0 +1,84 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.CollectionUtil.isSameElements;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of an {@code ObservableList} that can hold back its change notifications.
+ * While deferring, any number of changes to the source list are collected and then published as a single
+ * replacement of the whole list when {@link #flush()} is called.
+ */
+class BatchedObservableList<E> extends ObservableListBase<E> {
+
+    private final ObservableList<E> source;
+    private List<E> elements;
+    private boolean isDeferring = false;
+    private boolean hasPendingChange = false;
+
+    /**
+     * Creates a view of {@code source} that is initially not deferring changes.
+     */
+    BatchedObservableList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        this.elements = new ArrayList<>(source);
+        source.addListener((ListChangeListener<E>) change -> onSourceChanged());
+    }
+
+    /**
+     * Holds back change notifications until the next {@link #flush()}.
+     */
+    void defer() {
+        isDeferring = true;
+    }
+
+    /**
+     * Stops deferring and publishes the changes collected since {@link #defer()}, if any, as one change.
+     */
+    void flush() {
+        isDeferring = false;
+        if (hasPendingChange) {
+            hasPendingChange = false;
+            publish();
+        }
+    }
+
+    private void onSourceChanged() {
+        if (isDeferring) {
+            hasPendingChange = true;
+        } else {
+            publish();
+        }
+    }
+
+    private void publish() {
+        List<E> removed = elements;
+        List<E> updated = new ArrayList<>(source);
+        // an edited element can equal the one it replaces, so the elements are compared by identity
+        if (isSameElements(removed, updated)) {
+            return;
+        }
+
+        elements = updated;
+        beginChange();
+        nextReplace(0, updated.size(), removed);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+}
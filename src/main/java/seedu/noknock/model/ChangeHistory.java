@@ -0,0 +1,151 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Records the changes made to an {@code AddressBook} as pairs of operations that undo and redo them, rather than as
+ * copies of the address book, so each step of the history costs memory in proportion to what it changed.
+ * The changes recorded between two calls to {@link #commit()} form one step, which is undone or redone as a whole.
+ * Only the most recent {@code maxSteps} steps are kept.
+ */
+class ChangeHistory {
+    private final Deque<List<Change>> undoSteps = new ArrayDeque<>();
+    private final Deque<List<Change>> redoSteps = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private int maxSteps;
+
+    /**
+     * Creates a ChangeHistory that keeps at most {@code maxSteps} steps.
+     */
+    ChangeHistory(int maxSteps) {
+        setMaxSteps(maxSteps);
+    }
+
+    /**
+     * Keeps at most {@code maxSteps} steps from now on, dropping the oldest steps if there are more.
+     * A limit of zero or less turns the history off.
+     */
+    void setMaxSteps(int maxSteps) {
+        this.maxSteps = Math.max(0, maxSteps);
+        trim();
+    }
+
+    /**
+     * Records a change that has just been made, which {@code undo} reverts and {@code redo} makes again.
+     * The change is kept until the current step ends even if the history is off, so that it can still be reverted.
+     */
+    void record(Consumer<AddressBook> undo, Consumer<AddressBook> redo) {
+        requireNonNull(undo);
+        requireNonNull(redo);
+        pendingChanges.add(new Change(undo, redo));
+    }
+
+    /**
+     * Returns the number of changes recorded in the current step so far.
+     */
+    int getPendingChangeCount() {
+        return pendingChanges.size();
+    }
+
+    /**
+     * Reverts the changes of the current step after the first {@code keptCount} on {@code addressBook}, latest change
+     * first, and forgets them.
+     */
+    void revertPendingChanges(AddressBook addressBook, int keptCount) {
+        for (int i = pendingChanges.size() - 1; i >= Math.max(0, keptCount); i--) {
+            pendingChanges.remove(i).undo.accept(addressBook);
+        }
+    }
+
+    /**
+     * Ends the current step. A step that made changes can then be undone, and the steps undone before it can no
+     * longer be redone.
+     */
+    void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        if (maxSteps == 0) {
+            pendingChanges.clear();
+            return;
+        }
+        undoSteps.push(pendingChanges);
+        pendingChanges = new ArrayList<>();
+        redoSteps.clear();
+        trim();
+    }
+
+    /**
+     * Returns true if committing the current step would leave a step to undo.
+     */
+    boolean canUndo() {
+        return !undoSteps.isEmpty() || (maxSteps > 0 && !pendingChanges.isEmpty());
+    }
+
+    /**
+     * Returns true if committing the current step would leave a step to redo.
+     */
+    boolean canRedo() {
+        return !redoSteps.isEmpty() && pendingChanges.isEmpty();
+    }
+
+    /**
+     * Reverts the changes of the most recent step on {@code addressBook}, latest change first.
+     *
+     * @throws IllegalStateException if there is no step to undo.
+     */
+    void undo(AddressBook addressBook) {
+        if (undoSteps.isEmpty()) {
+            throw new IllegalStateException("There is no step to undo");
+        }
+        List<Change> step = undoSteps.pop();
+        for (int i = step.size() - 1; i >= 0; i--) {
+            step.get(i).undo.accept(addressBook);
+        }
+        redoSteps.push(step);
+    }
+
+    /**
+     * Makes the changes of the most recently undone step again on {@code addressBook}, earliest change first.
+     *
+     * @throws IllegalStateException if there is no step to redo.
+     */
+    void redo(AddressBook addressBook) {
+        if (redoSteps.isEmpty()) {
+            throw new IllegalStateException("There is no step to redo");
+        }
+        List<Change> step = redoSteps.pop();
+        for (Change change : step) {
+            change.redo.accept(addressBook);
+        }
+        undoSteps.push(step);
+    }
+
+    private void trim() {
+        while (undoSteps.size() > maxSteps) {
+            undoSteps.removeLast();
+        }
+        while (redoSteps.size() > maxSteps) {
+            redoSteps.removeLast();
+        }
+    }
+
+    /**
+     * A change to an address book, with the operations that revert and repeat it.
+     */
+    private static class Change {
+        private final Consumer<AddressBook> undo;
+        private final Consumer<AddressBook> redo;
+
+        Change(Consumer<AddressBook> undo, Consumer<AddressBook> redo) {
+            this.undo = undo;
+            this.redo = redo;
+        }
+    }
+}
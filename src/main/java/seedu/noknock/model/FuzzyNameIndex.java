@@ -0,0 +1,179 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * Finds the patients with a name containing a word spelt similarly to a keyword, for searches that tolerate
+ * differences in spelling or romanisation.
+ * The distinct words of the names are indexed by their trigrams. A keyword within a few edits of a word shares most
+ * of its trigrams with it, so a search only computes the edit distance to the words that have one of the rarest
+ * trigrams of the keyword, instead of to every name.
+ * The index follows every change to the patient list it is created with.
+ */
+public class FuzzyNameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String PADDING = " ".repeat(GRAM_LENGTH - 1);
+
+    private final Function<Patient, List<Name>> namesOfPatient;
+    private final Map<String, Map<Patient, Integer>> patientsByWord = new HashMap<>();
+    private final Map<String, Set<String>> wordsByGram = new HashMap<>();
+
+    /**
+     * Creates an index of the {@code namesOfPatient} of each of {@code patients} that is kept up to date as the list
+     * changes.
+     */
+    public FuzzyNameIndex(ObservableList<Patient> patients, Function<Patient, List<Name>> namesOfPatient) {
+        requireNonNull(patients);
+        requireNonNull(namesOfPatient);
+        this.namesOfPatient = namesOfPatient;
+        patients.forEach(patient -> count(patient, 1));
+        patients.addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(patient -> count(patient, -1));
+                change.getAddedSubList().forEach(patient -> count(patient, 1));
+            }
+        });
+    }
+
+    /**
+     * Returns an index of the names of {@code patients}.
+     */
+    public static FuzzyNameIndex ofPatientNames(ObservableList<Patient> patients) {
+        return new FuzzyNameIndex(patients, patient -> List.of(patient.getName()));
+    }
+
+    /**
+     * Returns an index of the names of the next-of-kin of {@code patients}.
+     */
+    public static FuzzyNameIndex ofNextOfKinNames(ObservableList<Patient> patients) {
+        return new FuzzyNameIndex(patients,
+            patient -> patient.getNextOfKinList().stream().map(NextOfKin::getName).toList());
+    }
+
+    /**
+     * Returns the number of edits by which a word may differ from {@code keyword} to match it: none for keywords of
+     * up to two characters, one for up to five characters and two for longer keywords.
+     */
+    public static int getMaxDistance(String keyword) {
+        return keyword.length() <= 2 ? 0 : keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the patients with a name word that matches any of {@code keywords}, ignoring case, mapped to their
+     * score. The score is the sum over the keywords of the edit distance to the closest matching word, where a
+     * keyword without a matching word counts as one edit more than it allows. A lower score is a closer match.
+     */
+    public Map<Patient, Integer> find(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Patient, Integer> distanceSums = new HashMap<>();
+        int missingDistanceSum = 0;
+        for (String keyword : keywords) {
+            String word = keyword.toLowerCase();
+            int missingDistance = getMaxDistance(word) + 1;
+            Map<Patient, Integer> distances = new HashMap<>();
+            findWords(word).forEach((matchedWord, distance) -> patientsByWord.get(matchedWord).keySet()
+                    .forEach(patient -> distances.merge(patient, distance, Math::min)));
+
+            // Patients that matched earlier keywords but not this one pay the distance of a missing keyword
+            distanceSums.replaceAll((patient, sum) -> sum + distances.getOrDefault(patient, missingDistance));
+            int previousMissingDistanceSum = missingDistanceSum;
+            distances.forEach((patient, distance) ->
+                    distanceSums.putIfAbsent(patient, previousMissingDistanceSum + distance));
+            missingDistanceSum += missingDistance;
+        }
+        return distanceSums;
+    }
+
+    /**
+     * Returns the indexed words within the maximum distance of {@code keyword}, mapped to their distance from it.
+     */
+    private Map<String, Integer> findWords(String keyword) {
+        int maxDistance = getMaxDistance(keyword);
+        Set<String> grams = gramsOf(keyword);
+
+        // Each edit changes at most GRAM_LENGTH of the trigrams of a word, so a word within maxDistance edits of
+        // the keyword shares at least minSharedGrams of its trigrams, and so at least one of any
+        // grams.size() - minSharedGrams + 1 of them. Only the words with the rarest of the trigrams are compared.
+        int minSharedGrams = grams.size() - GRAM_LENGTH * maxDistance;
+        Collection<String> candidates;
+        if (minSharedGrams <= 0) {
+            candidates = patientsByWord.keySet();
+        } else {
+            candidates = new HashSet<>();
+            grams.stream()
+                    .map(gram -> wordsByGram.getOrDefault(gram, Set.of()))
+                    .sorted(Comparator.comparingInt(Set::size))
+                    .limit(grams.size() - minSharedGrams + 1)
+                    .forEach(candidates::addAll);
+        }
+
+        Map<String, Integer> words = new HashMap<>();
+        for (String candidate : candidates) {
+            int distance = StringUtil.getEditDistance(keyword, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                words.put(candidate, distance);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Adds {@code delta} to the number of times {@code patient} has each of the words of its names.
+     */
+    private void count(Patient patient, int delta) {
+        for (Name name : namesOfPatient.apply(patient)) {
+            for (String word : name.fullName.toLowerCase().split("\\s+")) {
+                Map<Patient, Integer> patients = patientsByWord.computeIfAbsent(word, unused -> {
+                    gramsOf(word).forEach(gram -> wordsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(word));
+                    return new HashMap<>();
+                });
+                patients.compute(patient, (unused, count) -> {
+                    int newCount = (count == null ? 0 : count) + delta;
+                    return newCount == 0 ? null : newCount;
+                });
+                if (patients.isEmpty()) {
+                    patientsByWord.remove(word);
+                    gramsOf(word).forEach(gram -> removeWord(gram, word));
+                }
+            }
+        }
+    }
+
+    private void removeWord(String gram, String word) {
+        Set<String> words = wordsByGram.get(gram);
+        words.remove(word);
+        if (words.isEmpty()) {
+            wordsByGram.remove(gram);
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, padded so that its first and last letters start and end
+     * trigrams of their own.
+     */
+    private static Set<String> gramsOf(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,228 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An unmodifiable view of the elements of an {@code ObservableList} that match a filter, in the order of the source.
+ * Like a {@code FilteredList}, the view can filter by a predicate, which tests every element of the source. It can
+ * also be set to the matches of a search that has already been answered by an index, in which case only the matches
+ * are located in the source, by {@code positionOf}, and no other element is tested.
+ * Either way, a later change to the source only tests the elements it adds or updates, so the view stays up to date
+ * in time proportional to the size of the change and the number of elements listed.
+ */
+class IndexedFilteredList<E> extends TransformationList<E, E> {
+
+    private final ToIntFunction<? super E> positionOf;
+    private Predicate<? super E> predicate = unused -> true;
+
+    /** The positions in the source of the elements of this view, in ascending order. */
+    private int[] positions = new int[0];
+    private int size = 0;
+
+    /**
+     * Creates a view of every element of {@code source}. {@code positionOf} must return the position of an element
+     * in the source, or -1 if the source does not contain it.
+     */
+    IndexedFilteredList(ObservableList<E> source, ToIntFunction<? super E> positionOf) {
+        super(source);
+        requireNonNull(positionOf);
+        this.positionOf = positionOf;
+        refilter();
+    }
+
+    /**
+     * Filters the view to the elements of the source that pass {@code predicate}, testing every element.
+     */
+    void setPredicate(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        List<E> removed = new ArrayList<>(this);
+        refilter();
+        publishReplacement(removed);
+    }
+
+    /**
+     * Filters the view to the elements of the source that are equal to any of {@code matches}, without testing the
+     * other elements. Elements added to the source later are listed if they are equal to any of the matches.
+     */
+    void setMatches(Collection<? extends E> matches) {
+        requireNonNull(matches);
+        Set<E> matchSet = new HashSet<>(matches);
+        predicate = matchSet::contains;
+
+        List<E> removed = new ArrayList<>(this);
+        positions = new int[matchSet.size()];
+        size = 0;
+        for (E match : matchSet) {
+            int position = positionOf.applyAsInt(match);
+            if (position >= 0) {
+                positions[size++] = position;
+            }
+        }
+        Arrays.sort(positions, 0, size);
+        publishReplacement(removed);
+    }
+
+    /**
+     * Lists the elements of the source that pass the predicate, testing every element.
+     */
+    private void refilter() {
+        ObservableList<? extends E> source = getSource();
+        positions = new int[source.size()];
+        size = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                positions[size++] = i;
+            }
+        }
+    }
+
+    private void publishReplacement(List<E> removed) {
+        beginChange();
+        nextReplace(0, size, removed);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute();
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Follows a permutation of the source by filtering it again, as the source is never reordered in place.
+     */
+    private void permute() {
+        List<E> removed = new ArrayList<>(this);
+        refilter();
+        nextReplace(0, size, removed);
+    }
+
+    private void update(Change<? extends E> change) {
+        ObservableList<? extends E> source = getSource();
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            int index = findIndex(i);
+            boolean wasListed = index < size && positions[index] == i;
+            boolean isListed = predicate.test(source.get(i));
+            if (wasListed && isListed) {
+                nextUpdate(index);
+            } else if (wasListed) {
+                nextRemove(index, source.get(i));
+                removeRange(index, index + 1, 0);
+            } else if (isListed) {
+                insert(index, new int[] {i}, 1);
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /**
+     * Removes the elements that {@code change} removed from the source and lists the elements it added that match,
+     * shifting the positions of the elements after them.
+     */
+    private void addRemove(Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+        int index = findIndex(from);
+
+        int end = index;
+        while (end < size && positions[end] < from + removedSize) {
+            nextRemove(index, change.getRemoved().get(positions[end] - from));
+            end++;
+        }
+        removeRange(index, end, addedSize - removedSize);
+
+        int[] added = new int[addedSize];
+        int addedMatches = 0;
+        for (int i = from; i < from + addedSize; i++) {
+            if (predicate.test(getSource().get(i))) {
+                added[addedMatches++] = i;
+            }
+        }
+        if (addedMatches > 0) {
+            insert(index, added, addedMatches);
+            nextAdd(index, index + addedMatches);
+        }
+    }
+
+    /**
+     * Removes the positions at {@code [from, to)} and adds {@code shift} to the positions after them.
+     */
+    private void removeRange(int from, int to, int shift) {
+        System.arraycopy(positions, to, positions, from, size - to);
+        size -= to - from;
+        for (int i = from; i < size; i++) {
+            positions[i] += shift;
+        }
+    }
+
+    /**
+     * Inserts the first {@code count} of {@code added} at {@code index} of the positions.
+     */
+    private void insert(int index, int[] added, int count) {
+        if (size + count > positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(size + count, positions.length * 2));
+        }
+        System.arraycopy(positions, index, positions, index + count, size - index);
+        System.arraycopy(added, 0, positions, index, count);
+        size += count;
+    }
+
+    /**
+     * Returns the index of the first element of this view at or after {@code sourceIndex} in the source.
+     */
+    private int findIndex(int sourceIndex) {
+        int index = Arrays.binarySearch(positions, 0, size, sourceIndex);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return getSource().get(positions[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return positions[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = Arrays.binarySearch(positions, 0, size, index);
+        return viewIndex >= 0 ? viewIndex : -1;
+    }
+}
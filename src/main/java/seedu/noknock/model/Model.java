@@ -1,13 +1,23 @@
 package seedu.noknock.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.model.person.IC;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -72,6 +82,12 @@ public interface Model {
      */
     void addPatient(Patient patient);
 
+    /**
+     * Adds all of the given patients in a single update.
+     * The patients must be unique and must not already exist in the address book.
+     */
+    void addPatients(List<Patient> patients);
+
     /**
      * Replaces the given patient {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -80,15 +96,161 @@ public interface Model {
      */
     void setPatient(Patient target, Patient editedPerson);
 
+    /**
+     * Returns the patient with {@code ic} in the address book, if any, looked up in an index rather than by a scan.
+     */
+    Optional<Patient> getPatient(IC ic);
+
+    /**
+     * Returns an unmodifiable view of the patients in {@code ward}, looked up in an index rather than by a scan.
+     * The view must be read before the address book next changes.
+     */
+    PatientBitmap getPatientsInWard(Ward ward);
+
+    /**
+     * Returns an unmodifiable view of the patient with {@code ic}, if any, looked up in the same index as
+     * {@link #getPatient(IC)}. The view must be read before the address book next changes.
+     */
+    PatientBitmap getPatientsWithIc(IC ic);
+
+    /**
+     * Returns an unmodifiable view of the patients with {@code tag}, looked up in an index rather than by a scan.
+     * The view must be read before the address book next changes.
+     */
+    PatientBitmap getPatientsWithTag(Tag tag);
+
+    /**
+     * Returns an unmodifiable view of the patients with a session, or a recurring session, of {@code careType},
+     * looked up in an index rather than by a scan. The view must be read before the address book next changes.
+     */
+    PatientBitmap getPatientsWithCareType(CareType careType);
+
+    /**
+     * Returns an unmodifiable view of the patients with a session, or an occurrence of a recurring session, of
+     * {@code status}, looked up in an index rather than by a scan. The view must be read before the address book
+     * next changes.
+     */
+    PatientBitmap getPatientsWithSessionStatus(SessionStatus status);
+
+    /**
+     * Adds {@code session} to the caring sessions of {@code patient} and returns the updated patient.
+     * {@code patient} must exist in the address book.
+     */
+    Patient addSession(Patient patient, CaringSession session);
+
+    /**
+     * Replaces the caring session at {@code index} of {@code patient}'s session list with {@code session}
+     * and returns the updated patient.
+     * {@code patient} must exist in the address book.
+     */
+    Patient replaceSession(Patient patient, int index, CaringSession session);
+
+    /**
+     * Removes the caring session at {@code index} of {@code patient}'s session list and returns the updated patient.
+     * {@code patient} must exist in the address book.
+     */
+    Patient removeSession(Patient patient, int index);
+
+    /**
+     * Returns true if there is a change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the changes made to the address book by the most recent command that changed it.
+     * All the changes made in one batch are reverted together.
+     */
+    void undoAddressBook();
+
+    /**
+     * Makes the changes to the address book reverted by the most recent undo again.
+     */
+    void redoAddressBook();
+
+    /**
+     * Starts a batch of changes.
+     * Until the matching {@link #endBatch()}, changes to the displayed patient list and the displayed session
+     * filter are held back, and are then published together so that observers are notified only once.
+     * Batches may be nested, in which case changes are published when the outermost batch ends.
+     * The changes made to the address book in a batch are undone and redone together.
+     */
+    void beginBatch();
+
+    /**
+     * Reverts the changes made to the address book since the {@link #beginBatch()} of the innermost batch in
+     * progress, which stays in progress. The reverted changes cannot be undone or redone.
+     * @throws IllegalStateException if there is no batch in progress.
+     */
+    void rollbackBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     * @throws IllegalStateException if there is no batch in progress.
+     */
+    void endBatch();
+
+    /**
+     * Returns true if a batch of changes is in progress.
+     */
+    boolean isInBatch();
+
     /** Returns an unmodifiable view of the filtered patient list */
     ObservableList<Patient> getFilteredPatientList();
 
+    /**
+     * Returns an unmodifiable view of every patient listed by the current filter, or of all patients while a page of
+     * them is listed by {@link #listPatients}, rather than only the patients on the listed page.
+     */
+    ObservableList<Patient> getFilteredPatientListOnAllPages();
+
+    /**
+     * Returns an unmodifiable view of the filtered patient list whose changes are only published outside
+     * of batches. UI should observe this list instead of {@link #getFilteredPatientList()}.
+     */
+    ObservableList<Patient> getDisplayedPatientList();
+
     /**
      * Updates the filter of the filtered patient list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
 
+    /**
+     * Updates the filter of the filtered patient list to filter by the given {@code predicate}, and orders the
+     * filtered patients by {@code comparator} until the filter is next updated. Patients that {@code comparator}
+     * considers equal keep their order in the address book.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator);
+
+    /**
+     * Updates the filter of the filtered patient list to list the patients equal to any of {@code matches}, such as
+     * the result of an index lookup. Unlike filtering by a predicate, the other patients are not tested.
+     * @throws NullPointerException if {@code matches} is null.
+     */
+    void updateFilteredPatientList(Collection<Patient> matches);
+
+    /**
+     * Updates the filter of the filtered patient list to list the patients equal to any of {@code matches}, and
+     * orders them by {@code comparator} until the filter is next updated.
+     * @throws NullPointerException if {@code matches} or {@code comparator} is null.
+     */
+    void updateFilteredPatientList(Collection<Patient> matches, Comparator<Patient> comparator);
+
+    /**
+     * Lists up to {@code limit} of all patients in {@code order}, starting from the patient at {@code offset}, such as
+     * one page of them. The patients are taken from an index kept in that order, so the list is not sorted again.
+     * The listed patients follow changes to the address book until the filter is next updated.
+     * @throws NullPointerException if {@code order} is null.
+     * @throws IllegalArgumentException if {@code offset} is negative or {@code limit} is not positive.
+     */
+    void listPatients(PatientOrder order, int offset, int limit);
+
     /**
      * Updates the filter of the displayed caring sessions (across all patients) to the given {@code predicate}.
      * This affects presentation only and does not modify any stored data.
@@ -103,7 +265,35 @@ public interface Model {
 
     /**
      * Returns a read-only property of the caring-session display filter.
+     * Like {@link #getDisplayedPatientList()}, its changes are only published outside of batches.
      * UI may observe this property to react to filter changes.
      */
     ReadOnlyObjectProperty<Predicate<CaringSession>> sessionDisplayFilterProperty();
+
+    /**
+     * Returns the patient and session counts of each ward, which follow every change to the address book.
+     */
+    WardStatistics getWardStatistics();
+
+    /**
+     * Returns a read-only property of the summaries of every ward for today.
+     * Like {@link #getDisplayedPatientList()}, its changes are only published outside of batches.
+     * UI may observe this property to show the occupancy and workload of the wards.
+     */
+    ReadOnlyObjectProperty<List<WardSummary>> wardSummariesProperty();
+
+    /**
+     * Returns the index for fuzzy searches of patient names, which follows every change to the address book.
+     */
+    FuzzyNameIndex getPatientNameIndex();
+
+    /**
+     * Returns the index for fuzzy searches of next-of-kin names, which follows every change to the address book.
+     */
+    FuzzyNameIndex getNextOfKinNameIndex();
+
+    /**
+     * Returns the incomplete caring sessions ordered by start time, which follow every change to the address book.
+     */
+    UpcomingSessions getUpcomingSessions();
 }
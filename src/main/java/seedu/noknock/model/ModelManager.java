@@ -4,6 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,23 +21,45 @@ import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.noknock.commons.core.GuiSettings;
 import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.IC;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
-    private final ObjectProperty<Predicate<CaringSession>> sessionDisplayFilter =
+    private final ObjectProperty<Predicate<CaringSession>> displayedSessionFilter =
             new SimpleObjectProperty<>(PREDICATE_SHOW_ALL_SESSIONS);
+    private Predicate<CaringSession> sessionDisplayFilter = PREDICATE_SHOW_ALL_SESSIONS;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Patient> filteredPatients;
+    private final IndexedFilteredList<Patient> filteredPatients;
+    private final SortedList<Patient> sortedPatients;
+    private final PagedList<Patient> listedPatients;
+    private final Map<PatientOrder, SortedPatientIndex> sortedIndices = new EnumMap<>(PatientOrder.class);
+    private LocalDate nextSessionIndexDate;
+    private final BatchedObservableList<Patient> displayedPatients;
+    private final ChangeHistory history;
+    private final WardStatistics wardStatistics;
+    private final ObjectProperty<List<WardSummary>> wardSummaries;
+    private final FuzzyNameIndex patientNameIndex;
+    private final FuzzyNameIndex nextOfKinNameIndex;
+    private final UpcomingSessions upcomingSessions;
+    /** For each open batch, innermost first, the number of changes already pending in the history when it began. */
+    private final Deque<Integer> batchStarts = new ArrayDeque<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,7 +71,17 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPatients = new FilteredList<>(this.addressBook.getPatientList());
+        filteredPatients = new IndexedFilteredList<>(
+                this.addressBook.getPatientList(), this.addressBook::indexOfPatient);
+        sortedPatients = new SortedList<>(filteredPatients);
+        listedPatients = new PagedList<>(sortedPatients);
+        displayedPatients = new BatchedObservableList<>(listedPatients);
+        history = new ChangeHistory(this.userPrefs.getUndoHistoryDepth());
+        wardStatistics = new WardStatistics(this.addressBook.getPatientList());
+        wardSummaries = new SimpleObjectProperty<>(wardStatistics.summarize(today()));
+        patientNameIndex = FuzzyNameIndex.ofPatientNames(this.addressBook.getPatientList());
+        nextOfKinNameIndex = FuzzyNameIndex.ofNextOfKinNames(this.addressBook.getPatientList());
+        upcomingSessions = new UpcomingSessions(this.addressBook.getPatientList());
     }
 
     public ModelManager() {
@@ -52,6 +94,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setMaxSteps(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -85,7 +128,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        ReplacedPatients change = new ReplacedPatients(List.copyOf(this.addressBook.getPatientList()));
         this.addressBook.resetData(addressBook);
+        recordChange(change::undo, change::redo);
     }
 
     @Override
@@ -101,12 +146,24 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePatient(Patient target) {
+        int index = addressBook.indexOfPatient(target);
         addressBook.removePatient(target);
+        recordChange(book -> book.addPatient(index, target), book -> book.removePatient(target));
     }
 
     @Override
     public void addPatient(Patient patient) {
         addressBook.addPatient(patient);
+        recordChange(book -> book.removePatient(patient), book -> book.addPatient(patient));
+        updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPatients(List<Patient> patients) {
+        requireNonNull(patients);
+        List<Patient> addedPatients = List.copyOf(patients);
+        addressBook.addPatients(addedPatients);
+        recordChange(book -> book.removePatients(addedPatients), book -> book.addPatients(addedPatients));
         updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -115,6 +172,165 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPatient);
 
         addressBook.setPatient(target, editedPatient);
+        recordChange(book -> book.setPatient(editedPatient, target), book -> book.setPatient(target, editedPatient));
+    }
+
+    @Override
+    public Optional<Patient> getPatient(IC ic) {
+        requireNonNull(ic);
+        return addressBook.getPatient(ic);
+    }
+
+    @Override
+    public PatientBitmap getPatientsInWard(Ward ward) {
+        requireNonNull(ward);
+        return addressBook.getPatientsInWard(ward);
+    }
+
+    @Override
+    public PatientBitmap getPatientsWithIc(IC ic) {
+        requireNonNull(ic);
+        return addressBook.getPatientsWithIc(ic);
+    }
+
+    @Override
+    public PatientBitmap getPatientsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return addressBook.getPatientsWithTag(tag);
+    }
+
+    @Override
+    public PatientBitmap getPatientsWithCareType(CareType careType) {
+        requireNonNull(careType);
+        return addressBook.getPatientsWithCareType(careType);
+    }
+
+    @Override
+    public PatientBitmap getPatientsWithSessionStatus(SessionStatus status) {
+        requireNonNull(status);
+        return addressBook.getPatientsWithSessionStatus(status);
+    }
+
+    @Override
+    public Patient addSession(Patient patient, CaringSession session) {
+        requireAllNonNull(patient, session);
+        Patient editedPatient = patient.withCaringSession(session);
+        setPatient(patient, editedPatient);
+        return editedPatient;
+    }
+
+    @Override
+    public Patient replaceSession(Patient patient, int index, CaringSession session) {
+        requireAllNonNull(patient, session);
+        Patient editedPatient = patient.withCaringSession(index, session);
+        setPatient(patient, editedPatient);
+        return editedPatient;
+    }
+
+    @Override
+    public Patient removeSession(Patient patient, int index) {
+        requireNonNull(patient);
+        Patient editedPatient = patient.withoutCaringSession(index);
+        setPatient(patient, editedPatient);
+        return editedPatient;
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.commit();
+        history.undo(addressBook);
+        publishWardSummariesIfNotInBatch();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.commit();
+        history.redo(addressBook);
+        publishWardSummariesIfNotInBatch();
+    }
+
+    /**
+     * Records a change just made to the address book, which {@code undo} reverts and {@code redo} makes again.
+     * The changes made in a batch are undone together; outside a batch, every change is undone on its own.
+     */
+    private void recordChange(Consumer<AddressBook> undo, Consumer<AddressBook> redo) {
+        history.record(undo, redo);
+        if (!isInBatch()) {
+            history.commit();
+        }
+        publishWardSummariesIfNotInBatch();
+    }
+
+    /**
+     * The replacement of all patients by {@link #setAddressBook}.
+     * Only the replaced patients are kept when the change is made. The patients that replaced them are only copied
+     * when the change is undone, as they are the patients in the address book at that point.
+     */
+    private static class ReplacedPatients {
+        private final List<Patient> previousPatients;
+        private List<Patient> replacementPatients;
+
+        ReplacedPatients(List<Patient> previousPatients) {
+            this.previousPatients = previousPatients;
+        }
+
+        void undo(AddressBook addressBook) {
+            replacementPatients = List.copyOf(addressBook.getPatientList());
+            addressBook.setPatients(previousPatients);
+        }
+
+        void redo(AddressBook addressBook) {
+            addressBook.setPatients(replacementPatients);
+        }
+    }
+
+    //=========== Batching =================================================================================
+
+    @Override
+    public void beginBatch() {
+        if (batchStarts.isEmpty()) {
+            displayedPatients.defer();
+        }
+        batchStarts.push(history.getPendingChangeCount());
+    }
+
+    @Override
+    public void rollbackBatch() {
+        if (batchStarts.isEmpty()) {
+            throw new IllegalStateException("rollbackBatch() called without a matching beginBatch()");
+        }
+        history.revertPendingChanges(addressBook, batchStarts.peek());
+    }
+
+    @Override
+    public void endBatch() {
+        if (batchStarts.isEmpty()) {
+            throw new IllegalStateException("endBatch() called without a matching beginBatch()");
+        }
+        batchStarts.pop();
+        if (batchStarts.isEmpty()) {
+            history.commit();
+            displayedPatients.flush();
+            displayedSessionFilter.set(sessionDisplayFilter);
+            wardSummaries.set(wardStatistics.summarize(today()));
+        }
+    }
+
+    @Override
+    public boolean isInBatch() {
+        return !batchStarts.isEmpty();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -125,13 +341,85 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Patient> getFilteredPatientList() {
-        return filteredPatients;
+        return listedPatients;
+    }
+
+    @Override
+    public ObservableList<Patient> getFilteredPatientListOnAllPages() {
+        return listedPatients.getSource() == sortedPatients ? filteredPatients : addressBook.getPatientList();
+    }
+
+    @Override
+    public ObservableList<Patient> getDisplayedPatientList() {
+        return displayedPatients;
     }
 
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
+        MetricsCenter.recordPatientsScanned(addressBook.getPatientList().size());
+        sortedPatients.setComparator(null);
+        filteredPatients.setPredicate(predicate);
+        listFilteredPatients();
+    }
+
+    @Override
+    public void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator) {
+        requireAllNonNull(predicate, comparator);
+        MetricsCenter.recordPatientsScanned(addressBook.getPatientList().size());
         filteredPatients.setPredicate(predicate);
+        sortedPatients.setComparator(comparator);
+        listFilteredPatients();
+    }
+
+    @Override
+    public void updateFilteredPatientList(Collection<Patient> matches) {
+        requireNonNull(matches);
+        MetricsCenter.recordPatientsScanned(matches.size());
+        sortedPatients.setComparator(null);
+        filteredPatients.setMatches(matches);
+        listFilteredPatients();
+    }
+
+    @Override
+    public void updateFilteredPatientList(Collection<Patient> matches, Comparator<Patient> comparator) {
+        requireAllNonNull(matches, comparator);
+        MetricsCenter.recordPatientsScanned(matches.size());
+        filteredPatients.setMatches(matches);
+        sortedPatients.setComparator(comparator);
+        listFilteredPatients();
+    }
+
+    @Override
+    public void listPatients(PatientOrder order, int offset, int limit) {
+        requireNonNull(order);
+        listedPatients.show(order == PatientOrder.ADDED ? addressBook.getPatientList() : getSortedIndex(order),
+                offset, limit);
+    }
+
+    private void listFilteredPatients() {
+        if (listedPatients.getSource() != sortedPatients) {
+            listedPatients.show(sortedPatients);
+        }
+    }
+
+    /**
+     * Returns the index of all patients sorted in {@code order}, creating it on first use.
+     * The order by next session depends on the date, so its index is sorted again when it is used on a later date.
+     */
+    private SortedPatientIndex getSortedIndex(PatientOrder order) {
+        LocalDate today = LocalDate.now();
+        SortedPatientIndex nextSessionIndex = sortedIndices.get(PatientOrder.NEXT_SESSION);
+        if (nextSessionIndex != null && !today.equals(nextSessionIndexDate)) {
+            nextSessionIndex.setComparator(PatientOrder.NEXT_SESSION.getComparator(today));
+            nextSessionIndexDate = today;
+        }
+        return sortedIndices.computeIfAbsent(order, unused -> {
+            if (order == PatientOrder.NEXT_SESSION) {
+                nextSessionIndexDate = today;
+            }
+            return new SortedPatientIndex(addressBook.getPatientList(), order.getComparator(today));
+        });
     }
 
     @Override
@@ -148,7 +436,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPatients.equals(otherModelManager.filteredPatients);
+                && listedPatients.equals(otherModelManager.listedPatients);
     }
 
     //=========== Filtered Session List Accessors =============================================================
@@ -156,16 +444,60 @@ public class ModelManager implements Model {
     @Override
     public void setSessionDisplayFilter(Predicate<CaringSession> predicate) {
         requireNonNull(predicate);
-        sessionDisplayFilter.set(predicate); // property change will fire
+        sessionDisplayFilter = predicate;
+        if (!isInBatch()) {
+            displayedSessionFilter.set(predicate); // property change will fire
+        }
     }
 
     @Override
     public Predicate<CaringSession> getSessionDisplayFilter() {
-        return sessionDisplayFilter.get();
+        return sessionDisplayFilter;
     }
 
     @Override
     public ReadOnlyObjectProperty<Predicate<CaringSession>> sessionDisplayFilterProperty() {
-        return sessionDisplayFilter;
+        return displayedSessionFilter;
+    }
+
+    //=========== Ward Statistics ==============================================================================
+
+    @Override
+    public WardStatistics getWardStatistics() {
+        return wardStatistics;
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<List<WardSummary>> wardSummariesProperty() {
+        return wardSummaries;
+    }
+
+    private void publishWardSummariesIfNotInBatch() {
+        if (!isInBatch()) {
+            wardSummaries.set(wardStatistics.summarize(today()));
+        }
+    }
+
+    private static Date today() {
+        return new Date(LocalDate.now().toString());
+    }
+
+    //=========== Fuzzy Name Search ============================================================================
+
+    @Override
+    public FuzzyNameIndex getPatientNameIndex() {
+        return patientNameIndex;
+    }
+
+    @Override
+    public FuzzyNameIndex getNextOfKinNameIndex() {
+        return nextOfKinNameIndex;
+    }
+
+    //=========== Upcoming Sessions ============================================================================
+
+    @Override
+    public UpcomingSessions getUpcomingSessions() {
+        return upcomingSessions;
     }
 }
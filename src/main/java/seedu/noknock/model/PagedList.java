@@ -0,0 +1,125 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+import static seedu.noknock.commons.util.CollectionUtil.isSameElements;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of a page of an {@code ObservableList}, which can be switched to a page of another list.
+ * While the view shows the whole of its source, the changes to the source are passed on as they are. While it shows
+ * a page, each change to the source is published as a replacement of the page, which takes time proportional to the
+ * size of the page and the time to get an element of the source.
+ */
+class PagedList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::onSourceChanged;
+    private ObservableList<E> source;
+    private int offset;
+    private int limit;
+
+    /** A copy of the elements of the page, or null while the whole of the source is shown. */
+    private List<E> page;
+
+    /**
+     * Creates a view of the whole of {@code source}.
+     */
+    PagedList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        this.offset = 0;
+        this.limit = Integer.MAX_VALUE;
+        source.addListener(sourceListener);
+    }
+
+    ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows the whole of {@code source}.
+     */
+    void show(ObservableList<E> source) {
+        show(source, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Shows the elements of {@code source} from {@code offset}, up to {@code limit} of them.
+     */
+    void show(ObservableList<E> source, int offset, int limit) {
+        requireNonNull(source);
+        checkArgument(offset >= 0 && limit > 0, "The page must start at a valid offset and hold an element");
+        List<E> removed = new ArrayList<>(this);
+        this.source.removeListener(sourceListener);
+        this.source = source;
+        this.offset = offset;
+        this.limit = limit;
+        source.addListener(sourceListener);
+        page = isPaged() ? copyPage() : null;
+
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    private boolean isPaged() {
+        return offset > 0 || limit < Integer.MAX_VALUE;
+    }
+
+    private List<E> copyPage() {
+        int end = (int) Math.min(source.size(), (long) offset + limit);
+        return offset < end ? new ArrayList<>(source.subList(offset, end)) : new ArrayList<>();
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (page != null) {
+            List<E> removed = page;
+            page = copyPage();
+            if (!isSameElements(removed, page)) {
+                beginChange();
+                nextReplace(0, page.size(), removed);
+                endChange();
+            }
+            return;
+        }
+
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return page != null ? page.get(index) : source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return page != null ? page.size() : source.size();
+    }
+}
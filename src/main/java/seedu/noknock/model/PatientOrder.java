@@ -0,0 +1,80 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * An order in which the patients of the address book can be listed.
+ */
+public enum PatientOrder {
+    ADDED("added", "order added"),
+    NAME("name", "name"),
+    WARD("ward", "ward"),
+    NEXT_SESSION("next-session", "next session");
+
+    public static final String MESSAGE_CONSTRAINTS = "Patients can be sorted by name, ward or next-session";
+
+    private static final Comparator<Patient> BY_NAME =
+            Comparator.comparing(patient -> patient.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+    private static final Comparator<Patient> BY_IC = Comparator.comparing(patient -> patient.getIC().ic);
+
+    private final String keyword;
+    private final String description;
+
+    PatientOrder(String keyword, String description) {
+        this.keyword = keyword;
+        this.description = description;
+    }
+
+    /**
+     * Returns true if a given string names a field that patients can be sorted by.
+     */
+    public static boolean isValidKeyword(String test) {
+        return Arrays.stream(values()).anyMatch(order -> order != ADDED && order.keyword.equalsIgnoreCase(test));
+    }
+
+    /**
+     * Returns the order sorted by the field named {@code keyword}, ignoring case.
+     * @throws IllegalArgumentException if no order sorts by {@code keyword}.
+     */
+    public static PatientOrder fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Arrays.stream(values())
+                .filter(order -> order != ADDED && order.keyword.equalsIgnoreCase(keyword))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Returns a comparator that sorts patients in this order on {@code today}, breaking ties by name and then by IC
+     * so that no two patients of an address book compare as equal.
+     * A patient's next session is its first incomplete session starting on or after {@code today}, and patients
+     * without one come last.
+     * @throws UnsupportedOperationException if this order is {@code ADDED}, which is the order of the address book.
+     */
+    public Comparator<Patient> getComparator(LocalDate today) {
+        requireNonNull(today);
+        LocalDateTime from = today.atStartOfDay();
+        Comparator<Patient> byKey = switch (this) {
+        case NAME -> BY_NAME;
+        case WARD -> Comparator.comparing(Patient::getWard).thenComparing(BY_NAME);
+        case NEXT_SESSION -> Comparator.comparing((Patient patient) -> patient.getNextSession(from)
+                .map(CaringSession::getStart)
+                .orElse(null), Comparator.nullsLast(Comparator.naturalOrder())).thenComparing(BY_NAME);
+        case ADDED -> throw new UnsupportedOperationException("Patients are already kept in the order added");
+        };
+        return byKey.thenComparing(BY_IC);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,395 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable list whose "modifying" methods return a new list rather than changing this one.
+ * The elements are kept in a balanced binary tree, so a new list shares all of the tree with the old one except the
+ * path to the changed element, and getting, adding, replacing or removing an element at an index takes
+ * O(log n) time and memory. Elements cannot be null.
+ *
+ * @param <T> type of the elements
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements} in the order of their iteration, or {@code elements} itself if it is already
+     * a {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> copyOf(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<T>) elements;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with {@code element} added at the end of this list.
+     */
+    public PersistentList<T> plus(T element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index} of this list.
+     */
+    public PersistentList<T> plus(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} of this list replaced by {@code element}.
+     */
+    public PersistentList<T> with(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index} of this list.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the index of the first element of this list that satisfies {@code predicate}, or the size of this list
+     * if none does. The elements must be ordered so that those that do not satisfy {@code predicate} all come before
+     * those that do, e.g. a sorted list and a predicate of being at least some value.
+     */
+    public int firstIndexWhere(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        int index = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (predicate.test(node.value)) {
+                node = node.left;
+            } else {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index after the last element of this list that is not greater than {@code element}.
+     * This list must be sorted by {@code comparator}, so that inserting {@code element} at the index keeps it sorted
+     * and places it after the elements equal to it.
+     */
+    public int insertionIndex(T element, Comparator<? super T> comparator) {
+        requireNonNull(element);
+        requireNonNull(comparator);
+        return firstIndexWhere(other -> comparator.compare(element, other) < 0);
+    }
+
+    /**
+     * Passes the elements of {@code before} that are not in {@code after} to {@code onRemoved}, and the elements of
+     * {@code after} that are not in {@code before} to {@code onAdded}, in order.
+     * Only the elements from the first to the last position where the lists differ are passed, so an element
+     * between two changes is passed to both. The equal elements before and after that range are matched by
+     * skipping the subtrees the two lists share, so if {@code after} was made from {@code before} by a single
+     * change, this takes O(log n) time rather than O(n).
+     */
+    public static <T> void diff(PersistentList<T> before, PersistentList<T> after, Consumer<? super T> onRemoved,
+            Consumer<? super T> onAdded) {
+        requireNonNull(before);
+        requireNonNull(after);
+        requireNonNull(onRemoved);
+        requireNonNull(onAdded);
+        int shorterSize = Math.min(before.size(), after.size());
+        int prefix = countMatching(before.root, after.root, false, shorterSize);
+        int suffix = countMatching(before.root, after.root, true, shorterSize - prefix);
+        for (int i = prefix; i < before.size() - suffix; i++) {
+            onRemoved.accept(before.get(i));
+        }
+        for (int i = prefix; i < after.size() - suffix; i++) {
+            onAdded.accept(after.get(i));
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    //=========== Tree operations =========================================================================
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>((T) elements[middle], build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> replace(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.left, node.right);
+        }
+        return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        return balance(first(node.right), node.left, remove(node.right, 0));
+    }
+
+    private static <T> T first(Node<T> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns a node of {@code value} between {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int difference = heightOf(left) - heightOf(right);
+        if (difference > 1) {
+            if (heightOf(left.left) < heightOf(left.right)) {
+                left = rotateLeft(left.value, left.left, left.right);
+            }
+            return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+        } else if (difference < -1) {
+            if (heightOf(right.right) < heightOf(right.left)) {
+                right = rotateRight(right.value, right.left, right.right);
+            }
+            return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static <T> Node<T> rotateLeft(T value, Node<T> left, Node<T> right) {
+        return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+    }
+
+    private static <T> Node<T> rotateRight(T value, Node<T> left, Node<T> right) {
+        return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+    }
+
+    /**
+     * Returns the number of equal elements, at most {@code limit}, at the start of the trees {@code a} and {@code b},
+     * or at their end if {@code isFromEnd}. A subtree shared by both trees is matched as a whole without visiting it.
+     */
+    private static <T> int countMatching(Node<T> a, Node<T> b, boolean isFromEnd, int limit) {
+        Frontier<T> aFrontier = new Frontier<>(a, isFromEnd);
+        Frontier<T> bFrontier = new Frontier<>(b, isFromEnd);
+        int matched = 0;
+        while (!aFrontier.isEmpty() && !bFrontier.isEmpty()) {
+            Node<T> aNode = aFrontier.peek();
+            Node<T> bNode = bFrontier.peek();
+            if (aNode == bNode && matched + aNode.size <= limit) {
+                aFrontier.pop();
+                bFrontier.pop();
+                matched += aNode.size;
+            } else if (aNode.size == 1 && bNode.size == 1) {
+                if (matched == limit || !aNode.value.equals(bNode.value)) {
+                    break;
+                }
+                aFrontier.pop();
+                bFrontier.pop();
+                matched++;
+            } else if (aNode.size >= bNode.size) {
+                aFrontier.expand();
+            } else {
+                bFrontier.expand();
+            }
+        }
+        return matched;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable node of the tree, which may be shared by several lists.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * The elements of a tree not matched yet, from its start or its end, as a stack of subtrees with the subtree
+     * nearest to that end on top.
+     */
+    private static final class Frontier<T> {
+        private final Deque<Node<T>> subtrees = new ArrayDeque<>();
+        private final boolean isFromEnd;
+
+        Frontier(Node<T> root, boolean isFromEnd) {
+            this.isFromEnd = isFromEnd;
+            if (root != null) {
+                subtrees.push(root);
+            }
+        }
+
+        boolean isEmpty() {
+            return subtrees.isEmpty();
+        }
+
+        Node<T> peek() {
+            return subtrees.peek();
+        }
+
+        void pop() {
+            subtrees.pop();
+        }
+
+        /**
+         * Replaces the subtree on top, which must have more than one element, by its two subtrees and a node of its
+         * own element alone.
+         */
+        void expand() {
+            Node<T> node = subtrees.pop();
+            Node<T> near = isFromEnd ? node.right : node.left;
+            Node<T> far = isFromEnd ? node.left : node.right;
+            if (far != null) {
+                subtrees.push(far);
+            }
+            subtrees.push(new Node<>(node.value, null, null));
+            if (near != null) {
+                subtrees.push(near);
+            }
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, in O(n) time for the whole tree.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> ancestors = new ArrayDeque<>();
+
+        InOrderIterator(Node<T> root) {
+            pushLeftPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !ancestors.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = ancestors.pop();
+            pushLeftPath(node.right);
+            return node.value;
+        }
+
+        private void pushLeftPath(Node<T> node) {
+            while (node != null) {
+                ancestors.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
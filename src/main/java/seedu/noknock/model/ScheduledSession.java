@@ -0,0 +1,64 @@
+package seedu.noknock.model;
+
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * A caring session together with the patient it is scheduled for.
+ */
+public class ScheduledSession {
+
+    private final Patient patient;
+    private final CaringSession session;
+
+    /**
+     * Creates a {@code ScheduledSession} of {@code session}, which is one of the sessions of {@code patient}.
+     */
+    public ScheduledSession(Patient patient, CaringSession session) {
+        requireAllNonNull(patient, session);
+        this.patient = patient;
+        this.session = session;
+    }
+
+    public Patient getPatient() {
+        return patient;
+    }
+
+    public CaringSession getSession() {
+        return session;
+    }
+
+    public LocalDateTime getStart() {
+        return session.getStart();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ScheduledSession otherScheduledSession)) {
+            return false;
+        }
+        return patient.equals(otherScheduledSession.patient) && session.equals(otherScheduledSession.session);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(patient, session);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("patient", patient)
+                .add("session", session)
+                .toString();
+    }
+}
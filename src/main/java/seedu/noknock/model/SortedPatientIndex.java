@@ -0,0 +1,84 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * An unmodifiable view of every patient of a patient list, sorted by a comparator that orders no two patients of
+ * the list as equal.
+ * The sorted patients are kept in a {@link PersistentList}, so a patient added to or removed from the list is
+ * placed or found by binary search and moved into place in O(log n) time, instead of the whole list being sorted
+ * again, and the patients at any position, such as a page of them, are found in O(log n) time each.
+ */
+class SortedPatientIndex extends ObservableListBase<Patient> {
+
+    private final ObservableList<Patient> patients;
+    private Comparator<Patient> comparator;
+    private PersistentList<Patient> sortedPatients;
+
+    /**
+     * Creates an index of {@code patients} sorted by {@code comparator} that is kept up to date as the list changes.
+     */
+    SortedPatientIndex(ObservableList<Patient> patients, Comparator<Patient> comparator) {
+        requireNonNull(patients);
+        requireNonNull(comparator);
+        this.patients = patients;
+        this.comparator = comparator;
+        this.sortedPatients = sort(patients, comparator);
+        patients.addListener((ListChangeListener<Patient>) this::onPatientsChanged);
+    }
+
+    /**
+     * Sorts the patients again by {@code comparator}, for orders that change over time rather than with the patients.
+     */
+    void setComparator(Comparator<Patient> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+        PersistentList<Patient> removed = sortedPatients;
+        sortedPatients = sort(patients, comparator);
+        beginChange();
+        nextReplace(0, sortedPatients.size(), removed);
+        endChange();
+    }
+
+    private static PersistentList<Patient> sort(List<Patient> patients, Comparator<Patient> comparator) {
+        List<Patient> sorted = new ArrayList<>(patients);
+        sorted.sort(comparator);
+        return PersistentList.copyOf(sorted);
+    }
+
+    private void onPatientsChanged(ListChangeListener.Change<? extends Patient> change) {
+        beginChange();
+        while (change.next()) {
+            for (Patient patient : change.getRemoved()) {
+                int index = sortedPatients.firstIndexWhere(other -> comparator.compare(other, patient) >= 0);
+                sortedPatients = sortedPatients.minus(index);
+                nextRemove(index, patient);
+            }
+            for (Patient patient : change.getAddedSubList()) {
+                int index = sortedPatients.insertionIndex(patient, comparator);
+                sortedPatients = sortedPatients.plus(index, patient);
+                nextAdd(index, index + 1);
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public Patient get(int index) {
+        return sortedPatients.get(index);
+    }
+
+    @Override
+    public int size() {
+        return sortedPatients.size();
+    }
+}
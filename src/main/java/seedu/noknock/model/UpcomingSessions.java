@@ -0,0 +1,296 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.RecurringSession;
+
+/**
+ * The incomplete caring sessions of a patient list, ordered by the time they start.
+ * The sessions follow every change to the list, so finding the next sessions from a given time takes O(log n) time
+ * plus the number of sessions returned instead of a scan of all patients, and a change only costs time proportional
+ * to the number of sessions of the patients it adds or removes.
+ * Recurring sessions are not expanded into the index. Instead, the next incomplete occurrence of each recurring
+ * session after a horizon is kept, ordered by start, and a read only creates occurrences of the recurring sessions
+ * whose next occurrence falls before the end of the times read. The horizon is moved forward with
+ * {@link #advanceTo(LocalDateTime)} as sessions come due, which advances the next occurrences it passes; a completed
+ * or skipped occurrence replaces its patient, so the next occurrence is found again. Reads from before the horizon
+ * are still answered, by creating the occurrences of every recurring session.
+ * The sessions may be read from any thread while the list is changed on another.
+ */
+public class UpcomingSessions {
+
+    /** The incomplete sessions starting at each time, in the order they were added. */
+    private final NavigableMap<LocalDateTime, List<ScheduledSession>> sessionsByStart = new TreeMap<>();
+    /** The recurring sessions whose next occurrence starts at each time. */
+    private final NavigableMap<LocalDateTime, List<NextOccurrence>> nextOccurrencesByStart = new TreeMap<>();
+    /** The recurring sessions of each patient that has any, including those without a next occurrence. */
+    private final Map<Patient, List<NextOccurrence>> recurringSessionsByPatient = new LinkedHashMap<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    /** The time after which the next occurrences of the recurring sessions are kept. */
+    private LocalDateTime horizon = LocalDateTime.MIN;
+    private int size;
+
+    /**
+     * Creates an index of the incomplete sessions of {@code patients} that is kept up to date as the list changes.
+     */
+    public UpcomingSessions(ObservableList<Patient> patients) {
+        requireNonNull(patients);
+        patients.forEach(this::add);
+        patients.addListener((ListChangeListener<Patient>) change -> {
+            synchronized (this) {
+                while (change.next()) {
+                    change.getRemoved().forEach(this::remove);
+                    change.getAddedSubList().forEach(this::add);
+                }
+            }
+            listeners.forEach(Runnable::run);
+        });
+    }
+
+    /**
+     * Adds {@code listener}, which is run on the thread that changed the patients after every change to them.
+     */
+    public void addListener(Runnable listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes {@code listener}, which was added by {@link #addListener(Runnable)}.
+     */
+    public void removeListener(Runnable listener) {
+        requireNonNull(listener);
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the number of incomplete sessions, not counting the occurrences of recurring sessions.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Moves the horizon forward to {@code time}, once the sessions starting up to then have come due, so that the
+     * recurring sessions with occurrences up to then are kept at their next occurrence after it.
+     * Does nothing if the horizon is already at or after {@code time}.
+     */
+    public synchronized void advanceTo(LocalDateTime time) {
+        requireNonNull(time);
+        if (!time.isAfter(horizon)) {
+            return;
+        }
+        horizon = time;
+        List<NextOccurrence> passed = new ArrayList<>();
+        while (!nextOccurrencesByStart.isEmpty() && !nextOccurrencesByStart.firstKey().isAfter(time)) {
+            passed.addAll(nextOccurrencesByStart.pollFirstEntry().getValue());
+        }
+        passed.forEach(this::findNextOccurrence);
+    }
+
+    /**
+     * Returns up to {@code count} incomplete sessions starting at or after {@code from}, earliest first.
+     */
+    public synchronized List<ScheduledSession> getNext(LocalDateTime from, int count) {
+        requireNonNull(from);
+        checkArgument(count > 0, "At least one session must be requested");
+        List<ScheduledSession> next = new ArrayList<>();
+        for (List<ScheduledSession> sessions : sessionsByStart.tailMap(from, true).values()) {
+            if (next.size() >= count) {
+                break;
+            }
+            next.addAll(sessions);
+        }
+        BiConsumer<Patient, RecurringSession> addOccurrences = (patient, recurringSession) -> recurringSession
+                .getNextOccurrences(from, count)
+                .forEach(occurrence -> next.add(new ScheduledSession(patient, occurrence)));
+        if (from.isAfter(horizon)) {
+            // the next occurrence after the horizon of any other recurring session is later than these
+            forEachNextOccurrenceUntil(nextOccurrencesByStart.lowerKey(from), addOccurrences);
+            int fromNextOccurrences = 0;
+            for (List<NextOccurrence> nextOccurrences : nextOccurrencesByStart.tailMap(from, true).values()) {
+                if (fromNextOccurrences >= count) {
+                    break;
+                }
+                nextOccurrences.forEach(nextOccurrence -> addOccurrences.accept(nextOccurrence.patient,
+                        nextOccurrence.recurringSession));
+                fromNextOccurrences += nextOccurrences.size();
+            }
+        } else {
+            forEachRecurringSession(addOccurrences);
+        }
+        next.sort(Comparator.comparing(ScheduledSession::getStart));
+        return next.size() > count ? new ArrayList<>(next.subList(0, count)) : next;
+    }
+
+    /**
+     * Returns the incomplete sessions starting after {@code after} and at or before {@code until}, earliest first.
+     */
+    public synchronized List<ScheduledSession> getStartingBetween(LocalDateTime after, LocalDateTime until) {
+        requireAllNonNull(after, until);
+        if (!until.isAfter(after)) {
+            return List.of();
+        }
+        List<ScheduledSession> starting = new ArrayList<>();
+        sessionsByStart.subMap(after, false, until, true).values().forEach(starting::addAll);
+        Date firstDate = Date.of(after.toLocalDate());
+        Date lastDate = Date.of(until.toLocalDate());
+        BiConsumer<Patient, RecurringSession> addOccurrences = (patient, recurringSession) -> recurringSession
+                .getOccurrencesBetween(firstDate, lastDate).stream()
+                .filter(occurrence -> !occurrence.isComplete() && occurrence.getStart().isAfter(after)
+                        && !occurrence.getStart().isAfter(until))
+                .forEach(occurrence -> starting.add(new ScheduledSession(patient, occurrence)));
+        if (!after.isBefore(horizon)) {
+            // a recurring session whose next occurrence is after {@code until} has no occurrence up to then
+            forEachNextOccurrenceUntil(until, addOccurrences);
+        } else {
+            forEachRecurringSession(addOccurrences);
+        }
+        starting.sort(Comparator.comparing(ScheduledSession::getStart));
+        return starting;
+    }
+
+    /**
+     * Returns the earliest time after {@code after} at which an incomplete session starts, if any.
+     */
+    public synchronized Optional<LocalDateTime> getNextStartAfter(LocalDateTime after) {
+        requireNonNull(after);
+        List<LocalDateTime> starts = new ArrayList<>();
+        Optional.ofNullable(sessionsByStart.higherKey(after)).ifPresent(starts::add);
+        // sessions start on the minute, so the next occurrence from just after {@code after} starts after it
+        LocalDateTime justAfter = after.plusNanos(1);
+        BiConsumer<Patient, RecurringSession> addNextStart = (patient, recurringSession) -> recurringSession
+                .getNextOccurrences(justAfter, 1)
+                .forEach(occurrence -> starts.add(occurrence.getStart()));
+        if (!after.isBefore(horizon)) {
+            // only the recurring sessions whose next occurrence has passed by {@code after} need to be looked at
+            forEachNextOccurrenceUntil(after, addNextStart);
+            Optional.ofNullable(nextOccurrencesByStart.higherKey(after)).ifPresent(starts::add);
+        } else {
+            forEachRecurringSession(addNextStart);
+        }
+        return starts.stream().min(Comparator.naturalOrder());
+    }
+
+    /**
+     * Passes each recurring session whose next occurrence starts at or before {@code until} to {@code action}, or
+     * none if {@code until} is null.
+     */
+    private void forEachNextOccurrenceUntil(LocalDateTime until, BiConsumer<Patient, RecurringSession> action) {
+        if (until == null) {
+            return;
+        }
+        for (List<NextOccurrence> nextOccurrences : nextOccurrencesByStart.headMap(until, true).values()) {
+            nextOccurrences.forEach(nextOccurrence -> action.accept(nextOccurrence.patient,
+                    nextOccurrence.recurringSession));
+        }
+    }
+
+    private void forEachRecurringSession(BiConsumer<Patient, RecurringSession> action) {
+        for (List<NextOccurrence> nextOccurrences : recurringSessionsByPatient.values()) {
+            nextOccurrences.forEach(nextOccurrence -> action.accept(nextOccurrence.patient,
+                    nextOccurrence.recurringSession));
+        }
+    }
+
+    private void add(Patient patient) {
+        if (!patient.getRecurringSessionList().isEmpty()) {
+            List<NextOccurrence> nextOccurrences = new ArrayList<>();
+            for (RecurringSession recurringSession : patient.getRecurringSessionList()) {
+                NextOccurrence nextOccurrence = new NextOccurrence(patient, recurringSession);
+                findNextOccurrence(nextOccurrence);
+                nextOccurrences.add(nextOccurrence);
+            }
+            recurringSessionsByPatient.put(patient, nextOccurrences);
+        }
+        forEachIncompleteSession(patient, session -> {
+            sessionsByStart.computeIfAbsent(session.getStart(), unused -> new ArrayList<>(1)).add(session);
+            size++;
+        });
+    }
+
+    private void remove(Patient patient) {
+        List<NextOccurrence> nextOccurrences = recurringSessionsByPatient.remove(patient);
+        if (nextOccurrences != null) {
+            nextOccurrences.forEach(this::removeNextOccurrence);
+        }
+        forEachIncompleteSession(patient, session -> {
+            List<ScheduledSession> sessions = sessionsByStart.get(session.getStart());
+            if (sessions != null && sessions.remove(session)) {
+                size--;
+                if (sessions.isEmpty()) {
+                    sessionsByStart.remove(session.getStart());
+                }
+            }
+        });
+    }
+
+    /**
+     * Finds the first incomplete occurrence of {@code nextOccurrence}'s recurring session after the horizon, and
+     * indexes it by its start if there is one.
+     */
+    private void findNextOccurrence(NextOccurrence nextOccurrence) {
+        nextOccurrence.start = nextOccurrence.recurringSession.getNextOccurrences(horizon.plusNanos(1), 1).stream()
+                .map(CaringSession::getStart)
+                .findFirst()
+                .orElse(null);
+        if (nextOccurrence.start != null) {
+            nextOccurrencesByStart.computeIfAbsent(nextOccurrence.start, unused -> new ArrayList<>(1))
+                    .add(nextOccurrence);
+        }
+    }
+
+    private void removeNextOccurrence(NextOccurrence nextOccurrence) {
+        if (nextOccurrence.start == null) {
+            return;
+        }
+        List<NextOccurrence> nextOccurrences = nextOccurrencesByStart.get(nextOccurrence.start);
+        nextOccurrences.remove(nextOccurrence);
+        if (nextOccurrences.isEmpty()) {
+            nextOccurrencesByStart.remove(nextOccurrence.start);
+        }
+    }
+
+    private static void forEachIncompleteSession(Patient patient, Consumer<ScheduledSession> action) {
+        for (CaringSession session : patient.getCaringSessionList()) {
+            if (!session.isComplete()) {
+                action.accept(new ScheduledSession(patient, session));
+            }
+        }
+    }
+
+    /**
+     * A recurring session of a patient, with the start of its first incomplete occurrence after the horizon, or
+     * null if it has none. Compared by identity, as a patient may have equal recurring sessions.
+     */
+    private static class NextOccurrence {
+        private final Patient patient;
+        private final RecurringSession recurringSession;
+        private LocalDateTime start;
+
+        NextOccurrence(Patient patient, RecurringSession recurringSession) {
+            this.patient = patient;
+            this.recurringSession = recurringSession;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.noknock.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+
+/**
+ * Counts the patients and caring sessions of each ward of a patient list.
+ * The counts follow every change to the list, so reading a count takes O(1) time instead of a scan of all patients,
+ * and a change only costs time proportional to the number of sessions of the patients it adds or removes.
+ * Replacing a patient with an edited copy in the same ward only counts the sessions that differ between the two.
+ * Recurring sessions are kept as they are, so the sessions of a ward on a date also count one occurrence for each
+ * recurring session of the ward that takes place then. They are grouped by their recurrence and by the remainder of
+ * their start date in days divided by its period, so that only the recurring sessions scheduled on the weekday, or
+ * other day of the period, of a date are looked at. Only concrete sessions are counted by care type and status.
+ */
+public class WardStatistics {
+
+    private final Map<Ward, WardCounts> countsByWard = new HashMap<>();
+
+    /**
+     * Creates statistics of {@code patients} that are kept up to date as the list changes.
+     */
+    public WardStatistics(ObservableList<Patient> patients) {
+        requireNonNull(patients);
+        patients.forEach(patient -> count(patient, 1));
+        patients.addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                List<? extends Patient> removed = change.getRemoved();
+                List<? extends Patient> added = change.getAddedSubList();
+                int replacedCount = Math.min(removed.size(), added.size());
+                for (int i = 0; i < replacedCount; i++) {
+                    recount(removed.get(i), added.get(i));
+                }
+                removed.subList(replacedCount, removed.size()).forEach(patient -> count(patient, -1));
+                added.subList(replacedCount, added.size()).forEach(patient -> count(patient, 1));
+            }
+        });
+    }
+
+    /**
+     * Returns the number of patients in {@code ward}.
+     */
+    public int getPatientCount(Ward ward) {
+        requireNonNull(ward);
+        WardCounts counts = countsByWard.get(ward);
+        return counts == null ? 0 : counts.patients;
+    }
+
+    /**
+     * Returns the number of sessions of the patients in {@code ward} that are scheduled on {@code date}.
+     */
+    public int getSessionCount(Ward ward, Date date) {
+        requireAllNonNull(ward, date);
+        WardCounts counts = countsByWard.get(ward);
+        return counts == null ? 0 : counts.countSessionsOn(date);
+    }
+
+    /**
+     * Returns the number of sessions of {@code careType} with {@code status} of the patients in {@code ward}.
+     */
+    public int getSessionCount(Ward ward, CareType careType, SessionStatus status) {
+        requireAllNonNull(ward, careType, status);
+        WardCounts counts = countsByWard.get(ward);
+        return counts == null ? 0 : counts.sessionsByKind.getOrDefault(new SessionKind(careType, status), 0);
+    }
+
+    /**
+     * Returns a summary of every ward with at least one patient on {@code date}, ordered by ward.
+     * Takes time proportional to the number of wards and care types rather than the number of patients.
+     */
+    public List<WardSummary> summarize(Date date) {
+        requireNonNull(date);
+        return countsByWard.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().summarize(entry.getKey(), date))
+                .toList();
+    }
+
+    /**
+     * Adds {@code delta} to the counts of {@code patient} and of each of its sessions.
+     */
+    private void count(Patient patient, int delta) {
+        WardCounts counts = countsByWard.computeIfAbsent(patient.getWard(), unused -> new WardCounts());
+        counts.patients += delta;
+        for (CaringSession session : patient.getCaringSessionList()) {
+            counts.count(session, delta);
+        }
+        for (RecurringSession recurringSession : patient.getRecurringSessionList()) {
+            counts.count(recurringSession, delta);
+        }
+        if (counts.patients == 0) {
+            countsByWard.remove(patient.getWard());
+        }
+    }
+
+    /**
+     * Updates the counts for {@code before} being replaced by {@code after}.
+     * If both are in the same ward, only the sessions that differ between them are counted again.
+     */
+    private void recount(Patient before, Patient after) {
+        if (!before.getWard().equals(after.getWard())) {
+            count(before, -1);
+            count(after, 1);
+            return;
+        }
+        WardCounts counts = countsByWard.get(after.getWard());
+        after.diffCaringSessions(before, session -> counts.count(session, -1), session -> counts.count(session, 1));
+        after.diffRecurringSessions(before, recurringSession -> counts.count(recurringSession, -1),
+                recurringSession -> counts.count(recurringSession, 1));
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code key}, removing the key once its count drops to zero.
+     */
+    private static <K> void adjust(Map<K, Integer> counts, K key, int delta) {
+        counts.compute(key, (unused, count) -> {
+            int newCount = (count == null ? 0 : count) + delta;
+            return newCount == 0 ? null : newCount;
+        });
+    }
+
+    /**
+     * The care type and status by which the sessions of a ward are counted.
+     */
+    private record SessionKind(CareType careType, SessionStatus status) {
+    }
+
+    /**
+     * The recurrence of a recurring session and the day of its period that it is scheduled on, counted in days
+     * from the epoch.
+     */
+    private record RecurrenceSlot(Recurrence recurrence, long day) {
+        static RecurrenceSlot of(Recurrence recurrence, Date date) {
+            return new RecurrenceSlot(recurrence, Math.floorMod(date.value.toEpochDay(), recurrence.getPeriodDays()));
+        }
+    }
+
+    /**
+     * The counts of a single ward.
+     */
+    private static class WardCounts {
+        private final Map<Date, Integer> sessionsByDate = new HashMap<>();
+        private final Map<SessionKind, Integer> sessionsByKind = new HashMap<>();
+        private final Map<RecurrenceSlot, Map<RecurringSession, Integer>> recurringSessionsBySlot = new HashMap<>();
+        private int patients;
+
+        private void count(CaringSession session, int delta) {
+            adjust(sessionsByDate, session.getDate(), delta);
+            adjust(sessionsByKind, new SessionKind(session.getCareType(), session.getStatus()), delta);
+        }
+
+        private void count(RecurringSession recurringSession, int delta) {
+            RecurrenceSlot slot = RecurrenceSlot.of(recurringSession.getRecurrence(), recurringSession.getStartDate());
+            Map<RecurringSession, Integer> recurringSessions =
+                    recurringSessionsBySlot.computeIfAbsent(slot, unused -> new HashMap<>());
+            adjust(recurringSessions, recurringSession, delta);
+            if (recurringSessions.isEmpty()) {
+                recurringSessionsBySlot.remove(slot);
+            }
+        }
+
+        private int countSessionsOn(Date date) {
+            int count = sessionsByDate.getOrDefault(date, 0);
+            for (Recurrence recurrence : Recurrence.values()) {
+                Map<RecurringSession, Integer> recurringSessions =
+                        recurringSessionsBySlot.get(RecurrenceSlot.of(recurrence, date));
+                if (recurringSessions == null) {
+                    continue;
+                }
+                for (Map.Entry<RecurringSession, Integer> entry : recurringSessions.entrySet()) {
+                    if (entry.getKey().occursOn(date)) {
+                        count += entry.getValue();
+                    }
+                }
+            }
+            return count;
+        }
+
+        private WardSummary summarize(Ward ward, Date date) {
+            Map<CareType, Integer> incompleteSessionCounts = new LinkedHashMap<>();
+            sessionsByKind.entrySet().stream()
+                    .filter(entry -> entry.getKey().status() == SessionStatus.INCOMPLETE)
+                    .sorted(Map.Entry.comparingByKey(Comparator.comparing(kind -> kind.careType().value)))
+                    .forEach(entry -> incompleteSessionCounts.put(entry.getKey().careType(), entry.getValue()));
+            return new WardSummary(ward, patients, countSessionsOn(date), incompleteSessionCounts);
+        }
+    }
+}
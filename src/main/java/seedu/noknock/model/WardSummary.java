@@ -0,0 +1,91 @@
+package seedu.noknock.model;
+
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
+
+/**
+ * An immutable snapshot of the occupancy and workload of a ward on a given date.
+ */
+public class WardSummary {
+
+    private final Ward ward;
+    private final int patientCount;
+    private final int sessionCount;
+    private final Map<CareType, Integer> incompleteSessionCounts;
+
+    /**
+     * Creates a summary of {@code ward}, which has {@code patientCount} patients and {@code sessionCount} sessions
+     * on the summarised date. {@code incompleteSessionCounts} gives the number of incomplete sessions of each care
+     * type, in the order in which they are to be shown.
+     */
+    public WardSummary(Ward ward, int patientCount, int sessionCount, Map<CareType, Integer> incompleteSessionCounts) {
+        requireAllNonNull(ward, incompleteSessionCounts);
+        this.ward = ward;
+        this.patientCount = patientCount;
+        this.sessionCount = sessionCount;
+        this.incompleteSessionCounts = Collections.unmodifiableMap(new LinkedHashMap<>(incompleteSessionCounts));
+    }
+
+    public Ward getWard() {
+        return ward;
+    }
+
+    public int getPatientCount() {
+        return patientCount;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    /**
+     * Returns an unmodifiable map of the number of incomplete sessions of each care type in the ward.
+     */
+    public Map<CareType, Integer> getIncompleteSessionCounts() {
+        return incompleteSessionCounts;
+    }
+
+    /**
+     * Returns the number of incomplete sessions in the ward, of any care type.
+     */
+    public int getIncompleteSessionCount() {
+        return incompleteSessionCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof WardSummary otherSummary)) {
+            return false;
+        }
+        return ward.equals(otherSummary.ward)
+                && patientCount == otherSummary.patientCount
+                && sessionCount == otherSummary.sessionCount
+                && incompleteSessionCounts.equals(otherSummary.incompleteSessionCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ward, patientCount, sessionCount, incompleteSessionCounts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("ward", ward)
+                .add("patientCount", patientCount)
+                .add("sessionCount", sessionCount)
+                .add("incompleteSessionCounts", incompleteSessionCounts)
+                .toString();
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.noknock.model.date;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents how long a caring session lasts, in whole minutes.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDuration(String)}
+ */
+public class Duration {
+
+    public static final int MAX_MINUTES = 24 * 60;
+    public static final int DEFAULT_MINUTES = 30;
+    public static final Duration DEFAULT = new Duration(DEFAULT_MINUTES);
+
+    public static final String MESSAGE_CONSTRAINTS =
+        "Durations must be a number of minutes (e.g. 45) or hours and minutes (e.g. 1h30m), "
+            + "from 1 minute to " + MAX_MINUTES / 60 + " hours";
+
+    private static final Pattern DURATION_FORMAT = Pattern.compile("(?:(\\d{1,2})h)?(?:(\\d{1,4})m?)?");
+    private static final int INVALID = -1;
+
+    public final int minutes;
+
+    /**
+     * Constructs a {@code Duration}.
+     *
+     * @param duration A valid duration string.
+     */
+    public Duration(String duration) {
+        requireNonNull(duration);
+        checkArgument(isValidDuration(duration), MESSAGE_CONSTRAINTS);
+        minutes = parseMinutes(duration);
+    }
+
+    private Duration(int minutes) {
+        this.minutes = minutes;
+    }
+
+    /**
+     * Returns true if a given string is a valid duration.
+     */
+    public static boolean isValidDuration(String test) {
+        return test != null && parseMinutes(test) != INVALID;
+    }
+
+    private static int parseMinutes(String input) {
+        Matcher matcher = DURATION_FORMAT.matcher(input.replaceAll("\\s", "").toLowerCase());
+        if (!matcher.matches() || (matcher.group(1) == null && matcher.group(2) == null)) {
+            return INVALID;
+        }
+        int hours = matcher.group(1) == null ? 0 : Integer.parseInt(matcher.group(1));
+        int extraMinutes = matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+        int total = hours * 60 + extraMinutes;
+        return total >= 1 && total <= MAX_MINUTES ? total : INVALID;
+    }
+
+    /**
+     * Returns the duration in a readable format, e.g. 45 min or 1h 30 min.
+     */
+    public String printPretty() {
+        if (minutes < 60) {
+            return minutes + " min";
+        }
+        return minutes % 60 == 0 ? minutes / 60 + "h" : minutes / 60 + "h " + minutes % 60 + " min";
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(minutes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Duration otherDuration)) {
+            return false;
+        }
+        return minutes == otherDuration.minutes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(minutes);
+    }
+}
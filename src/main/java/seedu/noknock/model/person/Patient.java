@@ -1,30 +1,45 @@
 package seedu.noknock.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.PersistentList;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.RecurringSession;
 import seedu.noknock.model.tag.Tag;
 
 /**
  * Represents a patient in the system with personal details, ward assignment,
- * IC number, next-of-kin list, caring sessions, and associated tags.
- * This class is immutable except for the modifiable lists.
+ * IC number, next-of-kin list, caring sessions, recurring caring sessions, and associated tags.
+ * This class is immutable. Its next-of-kin and session lists are persistent lists, so the copies made to
+ * change one next-of-kin or session share the rest of the list with this patient.
  */
 public final class Patient extends Person {
+    private static final Comparator<CaringSession> SESSION_ORDER = Comparator.comparing(CaringSession::getStart);
+
     private final IC ic;
     private final Ward ward;
-    private final List<NextOfKin> nextOfKinList = new ArrayList<>();
-    private final List<CaringSession> caringSessionList = new ArrayList<>();
+    private final PersistentList<NextOfKin> nextOfKinList;
+    private final PersistentList<CaringSession> caringSessionList;
+    private final PersistentList<RecurringSession> recurringSessionList;
     private final Set<Tag> tags = new HashSet<>();
+    /** Patients are immutable, so the hash code is computed once for the many sets and maps of patients. */
+    private final int hashCode;
 
     /**
      * Constructs a {@code Patient} with the given details.
@@ -35,11 +50,21 @@ public final class Patient extends Person {
      * @param tags Tags associated with the patient.
      */
     public Patient(Name name, Ward ward, IC ic, Set<Tag> tags) {
+        this(name, ward, ic, tags, PersistentList.empty(), PersistentList.empty(), PersistentList.empty());
+    }
+
+    private Patient(Name name, Ward ward, IC ic, Set<Tag> tags, PersistentList<NextOfKin> nextOfKinList,
+                    PersistentList<CaringSession> caringSessionList,
+                    PersistentList<RecurringSession> recurringSessionList) {
         super(name);
         requireAllNonNull(ward, ic, tags);
         this.ic = ic;
         this.ward = ward;
         this.tags.addAll(tags);
+        this.nextOfKinList = nextOfKinList;
+        this.caringSessionList = caringSessionList;
+        this.recurringSessionList = recurringSessionList;
+        this.hashCode = Objects.hash(name, ward, ic, this.tags);
     }
 
     public IC getIC() {
@@ -50,22 +75,132 @@ public final class Patient extends Person {
         return ward;
     }
 
+    /**
+     * Returns the patient's next-of-kin, in the order they were added.
+     *
+     * @return Immutable list of next-of-kin.
+     */
     public List<NextOfKin> getNextOfKinList() {
         return nextOfKinList;
     }
 
     /**
-     * Returns a sorted list of caring sessions by date and time.
+     * Returns the patient's caring sessions, sorted by date and time.
+     * Sessions at the same date and time are in the order they were added.
      *
-     * @return Sorted list of caring sessions.
+     * @return Immutable sorted list of caring sessions.
      */
     public List<CaringSession> getCaringSessionList() {
-        return caringSessionList.stream()
-            .sorted(
-                Comparator.comparing((CaringSession a) -> a.getDate().value)
-                    .thenComparing(a -> a.getTime().value)
-            )
-            .toList();
+        return caringSessionList;
+    }
+
+    /**
+     * Returns the patient's recurring caring sessions, in the order they were added.
+     *
+     * @return Immutable list of recurring caring sessions.
+     */
+    public List<RecurringSession> getRecurringSessionList() {
+        return recurringSessionList;
+    }
+
+    /**
+     * Passes the caring sessions of {@code before} that this patient does not have to {@code onRemoved}, and the
+     * caring sessions of this patient that {@code before} does not have to {@code onAdded}, as described in
+     * {@link PersistentList#diff}. Takes O(log n) time if this patient was made from {@code before} by one change.
+     */
+    public void diffCaringSessions(Patient before, Consumer<? super CaringSession> onRemoved,
+                                   Consumer<? super CaringSession> onAdded) {
+        requireNonNull(before);
+        PersistentList.diff(before.caringSessionList, caringSessionList, onRemoved, onAdded);
+    }
+
+    /**
+     * Passes the recurring sessions of {@code before} that this patient does not have to {@code onRemoved}, and the
+     * recurring sessions of this patient that {@code before} does not have to {@code onAdded}, as described in
+     * {@link PersistentList#diff}.
+     */
+    public void diffRecurringSessions(Patient before, Consumer<? super RecurringSession> onRemoved,
+                                      Consumer<? super RecurringSession> onAdded) {
+        requireNonNull(before);
+        PersistentList.diff(before.recurringSessionList, recurringSessionList, onRemoved, onAdded);
+    }
+
+    /**
+     * Returns the patient's caring sessions dated from {@code startDate} to {@code endDate} inclusive, together with
+     * the occurrences of its recurring sessions in that range, sorted by date and time. The sessions are found by
+     * binary search, in O(log n) time for n sessions, and only the occurrences in the range are created.
+     *
+     * @return Immutable sorted list of caring sessions, which is empty if {@code startDate} is after {@code endDate}.
+     */
+    public List<CaringSession> getCaringSessionsBetween(Date startDate, Date endDate) {
+        requireAllNonNull(startDate, endDate);
+        int start = caringSessionList.firstIndexWhere(session -> session.getDate().compareTo(startDate) >= 0);
+        int end = caringSessionList.firstIndexWhere(session -> session.getDate().compareTo(endDate) > 0);
+        List<CaringSession> sessions = start < end ? caringSessionList.subList(start, end) : List.of();
+        if (recurringSessionList.isEmpty()) {
+            return sessions;
+        }
+
+        List<CaringSession> occurrences = getOccurrencesBetween(startDate, endDate);
+        if (occurrences.isEmpty()) {
+            return sessions;
+        }
+        List<CaringSession> merged = new ArrayList<>(sessions);
+        merged.addAll(occurrences);
+        merged.sort(SESSION_ORDER);
+        return Collections.unmodifiableList(merged);
+    }
+
+    /**
+     * Returns the number of the patient's caring sessions dated before {@code date}, which is also the position of
+     * its first session on or after {@code date} in its caring session list. Found by binary search.
+     */
+    public int countCaringSessionsBefore(Date date) {
+        requireNonNull(date);
+        return caringSessionList.firstIndexWhere(session -> session.getDate().compareTo(date) >= 0);
+    }
+
+    /**
+     * Returns the occurrences of the patient's recurring sessions dated from {@code startDate} to {@code endDate}
+     * inclusive, sorted by date and time.
+     */
+    public List<CaringSession> getOccurrencesBetween(Date startDate, Date endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<CaringSession> occurrences = new ArrayList<>();
+        for (RecurringSession recurringSession : recurringSessionList) {
+            occurrences.addAll(recurringSession.getOccurrencesBetween(startDate, endDate));
+        }
+        occurrences.sort(SESSION_ORDER);
+        return occurrences;
+    }
+
+    /**
+     * Returns the patient's first incomplete caring session, or occurrence of a recurring session, starting at or
+     * after {@code from}. The sessions from {@code from} are found by binary search, so only the complete sessions
+     * among them are skipped one by one.
+     */
+    public Optional<CaringSession> getNextSession(LocalDateTime from) {
+        requireNonNull(from);
+        int start = caringSessionList.firstIndexWhere(session -> !session.getStart().isBefore(from));
+        Optional<CaringSession> nextSession = caringSessionList.subList(start, caringSessionList.size()).stream()
+            .filter(session -> !session.isComplete())
+            .findFirst();
+        return Stream.concat(nextSession.stream(), recurringSessionList.stream()
+                .flatMap(recurringSession -> recurringSession.getNextOccurrences(from, 1).stream()))
+            .min(SESSION_ORDER);
+    }
+
+    /**
+     * Creates a copy of the current patient with updated details, keeping its next-of-kin and caring sessions.
+     *
+     * @param newName Patient's new name.
+     * @param newWard Patient's new ward.
+     * @param newIc   Patient's new identification number.
+     * @param newTags Patient's new tags.
+     * @return A new Patient instance with the updated details.
+     */
+    public Patient withDetails(Name newName, Ward newWard, IC newIc, Set<Tag> newTags) {
+        return new Patient(newName, newWard, newIc, newTags, nextOfKinList, caringSessionList, recurringSessionList);
     }
 
     /**
@@ -75,10 +210,32 @@ public final class Patient extends Person {
      * @return A new Patient instance with the updated next-of-kin list.
      */
     public Patient withNextOfKinList(List<NextOfKin> newNextOfKinList) {
-        Patient copy = new Patient(getName(), getWard(), getIC(), getTags());
-        copy.nextOfKinList.addAll(newNextOfKinList);
-        copy.caringSessionList.addAll(this.caringSessionList);
-        return copy;
+        return new Patient(getName(), ward, ic, tags, PersistentList.copyOf(newNextOfKinList), caringSessionList,
+            recurringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient with {@code nextOfKin} added after its other next-of-kin.
+     */
+    public Patient withNextOfKin(NextOfKin nextOfKin) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList.plus(nextOfKin), caringSessionList,
+            recurringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient with the next-of-kin at {@code index} replaced by {@code nextOfKin}.
+     */
+    public Patient withNextOfKin(int index, NextOfKin nextOfKin) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList.with(index, nextOfKin), caringSessionList,
+            recurringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient without the next-of-kin at {@code index}.
+     */
+    public Patient withoutNextOfKin(int index) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList.minus(index), caringSessionList,
+            recurringSessionList);
     }
 
     /**
@@ -88,10 +245,74 @@ public final class Patient extends Person {
      * @return A new Patient instance with the updated caring session list.
      */
     public Patient withCaringSessionList(List<CaringSession> newCaringSessionList) {
-        Patient copy = new Patient(getName(), getWard(), getIC(), getTags());
-        copy.nextOfKinList.addAll(this.nextOfKinList);
-        copy.caringSessionList.addAll(newCaringSessionList);
-        return copy;
+        List<CaringSession> sortedSessions = newCaringSessionList.stream().sorted(SESSION_ORDER).toList();
+        return new Patient(getName(), ward, ic, tags, nextOfKinList, PersistentList.copyOf(sortedSessions),
+            recurringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient with {@code session} added to its caring sessions.
+     */
+    public Patient withCaringSession(CaringSession session) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList, plusSession(caringSessionList, session),
+            recurringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient with the caring session at {@code index} of
+     * {@link #getCaringSessionList()} replaced by {@code session}, which is moved if its date or time changed.
+     */
+    public Patient withCaringSession(int index, CaringSession session) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList,
+            plusSession(caringSessionList.minus(index), session), recurringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient without the caring session at {@code index} of
+     * {@link #getCaringSessionList()}.
+     */
+    public Patient withoutCaringSession(int index) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList, caringSessionList.minus(index),
+            recurringSessionList);
+    }
+
+    /**
+     * Creates a copy of the current patient with an updated recurring caring session list.
+     */
+    public Patient withRecurringSessionList(List<RecurringSession> newRecurringSessionList) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList, caringSessionList,
+            PersistentList.copyOf(newRecurringSessionList));
+    }
+
+    /**
+     * Creates a copy of the current patient with {@code recurringSession} added after its other recurring sessions.
+     */
+    public Patient withRecurringSession(RecurringSession recurringSession) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList, caringSessionList,
+            recurringSessionList.plus(recurringSession));
+    }
+
+    /**
+     * Creates a copy of the current patient with the recurring session at {@code index} of
+     * {@link #getRecurringSessionList()} replaced by {@code recurringSession}.
+     */
+    public Patient withRecurringSession(int index, RecurringSession recurringSession) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList, caringSessionList,
+            recurringSessionList.with(index, recurringSession));
+    }
+
+    /**
+     * Creates a copy of the current patient without the recurring session at {@code index} of
+     * {@link #getRecurringSessionList()}.
+     */
+    public Patient withoutRecurringSession(int index) {
+        return new Patient(getName(), ward, ic, tags, nextOfKinList, caringSessionList,
+            recurringSessionList.minus(index));
+    }
+
+    private static PersistentList<CaringSession> plusSession(PersistentList<CaringSession> sessions,
+                                                             CaringSession session) {
+        return sessions.plus(sessions.insertionIndex(session, SESSION_ORDER), session);
     }
 
     /**
@@ -128,19 +349,25 @@ public final class Patient extends Person {
      * @return True if there is an overlap with existing sessions.
      */
     public boolean hasOverlappingSession(CaringSession newSession) {
-        return caringSessionList.stream().anyMatch(existing -> existing.overlaps(newSession));
+        return hasOverlappingSession(newSession, null);
     }
 
     /**
      * Checks if the new caring session overlaps with any existing sessions,
      * excluding a specific session (useful for edits).
+     * As the sessions are sorted by start and no session lasts longer than {@link Duration#MAX_MINUTES}, only the
+     * sessions starting in that long before the new session ends are checked, which are found in O(log n) time.
      *
      * @param newSession    The new caring session to check.
-     * @param sessionToEdit The session to exclude from the check.
+     * @param sessionToEdit The session to exclude from the check, or null to check all sessions.
      * @return True if there is an overlap with existing sessions, excluding the specified one.
      */
     public boolean hasOverlappingSession(CaringSession newSession, CaringSession sessionToEdit) {
-        return caringSessionList.stream()
+        LocalDateTime newEnd = newSession.getEnd();
+        LocalDateTime earliestOverlappingStart = newSession.getStart().minusMinutes(Duration.MAX_MINUTES);
+        int from = caringSessionList.firstIndexWhere(s -> s.getStart().isAfter(earliestOverlappingStart));
+        int to = caringSessionList.firstIndexWhere(s -> !s.getStart().isBefore(newEnd));
+        return caringSessionList.subList(from, to).stream()
             .filter(s -> !s.equals(sessionToEdit))
             .anyMatch(existing -> existing.overlaps(newSession));
     }
@@ -167,7 +394,7 @@ public final class Patient extends Person {
 
     @Override
     public int hashCode() {
-        return Objects.hash(getName(), getWard(), getIC(), getTags());
+        return hashCode;
     }
 
     @Override
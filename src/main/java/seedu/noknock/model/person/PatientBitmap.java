@@ -0,0 +1,111 @@
+package seedu.noknock.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable set of the patients of a {@code UniquePatientList}, kept as a bitmap of their ordinals in the list.
+ * Combining two bitmaps with {@link #and(PatientBitmap)} or {@link #or(PatientBitmap)} works on 64 patients per
+ * machine word and allocates only the resulting bitmap, instead of hashing every patient into a new set.
+ * A bitmap is only meaningful until its list next changes, as ordinals are reused.
+ */
+public final class PatientBitmap extends AbstractSet<Patient> {
+
+    private final PatientOrdinals ordinals;
+    private final BitSet bits;
+
+    /**
+     * Creates a set of the patients whose ordinals in {@code ordinals} are set in {@code bits}, which the set will
+     * never modify.
+     */
+    PatientBitmap(PatientOrdinals ordinals, BitSet bits) {
+        this.ordinals = ordinals;
+        this.bits = bits;
+    }
+
+    /**
+     * Returns the patients in both this set and {@code other}.
+     */
+    public PatientBitmap and(PatientBitmap other) {
+        BitSet result = copyBitsForCombining(other);
+        result.and(other.bits);
+        return new PatientBitmap(ordinals, result);
+    }
+
+    /**
+     * Returns the patients in this set, {@code other} or both.
+     */
+    public PatientBitmap or(PatientBitmap other) {
+        BitSet result = copyBitsForCombining(other);
+        result.or(other.bits);
+        return new PatientBitmap(ordinals, result);
+    }
+
+    /**
+     * Returns the patients in this set that pass {@code condition}, testing only the patients in this set.
+     */
+    public PatientBitmap filter(Predicate<? super Patient> condition) {
+        requireNonNull(condition);
+        BitSet result = new BitSet();
+        for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+            if (condition.test(ordinals.patientAt(ordinal))) {
+                result.set(ordinal);
+            }
+        }
+        return new PatientBitmap(ordinals, result);
+    }
+
+    private BitSet copyBitsForCombining(PatientBitmap other) {
+        requireNonNull(other);
+        if (other.ordinals != ordinals) {
+            throw new IllegalArgumentException("Only patients of the same list can be combined");
+        }
+        return (BitSet) bits.clone();
+    }
+
+    /**
+     * Returns the number of patients in this set, which takes time proportional to the size of the list.
+     */
+    @Override
+    public int size() {
+        return bits.cardinality();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        int ordinal = ordinals.ordinalOf(other);
+        return ordinal >= 0 && bits.get(ordinal);
+    }
+
+    @Override
+    public Iterator<Patient> iterator() {
+        return new Iterator<>() {
+            private int nextOrdinal = bits.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextOrdinal >= 0;
+            }
+
+            @Override
+            public Patient next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Patient patient = ordinals.patientAt(nextOrdinal);
+                nextOrdinal = bits.nextSetBit(nextOrdinal + 1);
+                return patient;
+            }
+        };
+    }
+}
@@ -5,10 +5,10 @@ import java.util.function.Predicate;
 
 import seedu.noknock.commons.util.ToStringBuilder;
 import seedu.noknock.model.date.Date;
-import seedu.noknock.model.session.CaringSession;
 
 /**
- * Matches patients who have at least one session within [startDate, endDate] (inclusive),
+ * Matches patients who have at least one session within [startDate, endDate] (inclusive), counting the occurrences
+ * of their recurring sessions.
  */
 public class PatientHasSessionsInDateRangePredicate implements Predicate<Patient> {
 
@@ -47,16 +47,14 @@ public class PatientHasSessionsInDateRangePredicate implements Predicate<Patient
         return new PatientHasSessionsInDateRangePredicate(date, date);
     }
 
-    private boolean inRange(Date d) {
-        return d.compareTo(startDate) >= 0 && d.compareTo(endDate) <= 0;
-    }
-
+    /**
+     * Returns true if {@code patient} has a session, or an occurrence of a recurring session, within the range.
+     * Only the sessions within the range are looked at, so recurring sessions are not expanded beyond it.
+     */
     @Override
     public boolean test(Patient patient) {
         Objects.requireNonNull(patient);
-        return patient.getCaringSessionList().stream()
-                .map(CaringSession::getDate)
-                .anyMatch(this::inRange);
+        return !patient.getCaringSessionsBetween(startDate, endDate).isEmpty();
     }
 
     @Override
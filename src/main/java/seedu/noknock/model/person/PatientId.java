@@ -0,0 +1,42 @@
+package seedu.noknock.model.person;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+
+/**
+ * Identifies a patient in the indices of a {@link UniquePatientList} for as long as it stays in the list.
+ * Unlike the patient's position or IC, the id does not change when other patients are added or removed, or when the
+ * patient is edited. A patient that is removed and added again, or restored by replacing the whole list, is given a
+ * new id, so ids must not be kept outside the list; patients are referred to by their IC instead.
+ */
+final class PatientId {
+
+    private final long value;
+
+    PatientId(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PatientId otherId)) {
+            return false;
+        }
+
+        return value == otherId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("value", value).toString();
+    }
+}
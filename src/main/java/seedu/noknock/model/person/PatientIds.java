@@ -0,0 +1,108 @@
+package seedu.noknock.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives the patients of a list ids that do not change while they stay in the list, and keeps track of the patient, IC
+ * and position in the list of each id, so that a patient can be found by IC or equality without a scan of the list.
+ * The positions of the patients after a patient added or removed in the middle of the list are renumbered, which takes
+ * time proportional to their number, as moving them in the list does.
+ */
+class PatientIds {
+
+    private final Map<PatientId, Patient> patientsById = new HashMap<>();
+    private final Map<IC, PatientId> idsByIc = new HashMap<>();
+    private final Map<PatientId, Integer> positionsById = new HashMap<>();
+    private final List<PatientId> idsByPosition = new ArrayList<>();
+    private long nextId;
+
+    /**
+     * Gives {@code patient}, inserted at {@code position} of the list, a new id and returns it.
+     */
+    PatientId add(int position, Patient patient) {
+        PatientId id = new PatientId(nextId++);
+        patientsById.put(id, patient);
+        idsByIc.put(patient.getIC(), id);
+        idsByPosition.add(position, id);
+        renumberFrom(position);
+        return id;
+    }
+
+    /**
+     * Keeps the id {@code id} and its position for {@code patient}, which replaces the patient with the id.
+     */
+    void replace(PatientId id, Patient patient) {
+        Patient replacedPatient = patientsById.put(id, patient);
+        idsByIc.remove(replacedPatient.getIC());
+        idsByIc.put(patient.getIC(), id);
+    }
+
+    /**
+     * Removes the id of the patient at {@code position} of the list.
+     */
+    void remove(int position) {
+        forget(idsByPosition.remove(position));
+        renumberFrom(position);
+    }
+
+    /**
+     * Removes all of {@code ids}, renumbering the positions of the remaining patients once.
+     */
+    void removeAll(Collection<PatientId> ids) {
+        ids.forEach(this::forget);
+        idsByPosition.removeIf(id -> !patientsById.containsKey(id));
+        renumberFrom(0);
+    }
+
+    /**
+     * Returns the id of the patient equal to {@code patient}, or null if there is none.
+     */
+    PatientId idOf(Patient patient) {
+        PatientId id = idsByIc.get(patient.getIC());
+        return id != null && patientsById.get(id).equals(patient) ? id : null;
+    }
+
+    /**
+     * Returns the id of the patient with {@code ic}, or null if there is none.
+     */
+    PatientId idOf(IC ic) {
+        return idsByIc.get(ic);
+    }
+
+    /**
+     * Returns the patient with {@code id}, or null if there is none.
+     */
+    Patient patientWith(PatientId id) {
+        return patientsById.get(id);
+    }
+
+    /**
+     * Returns the position in the list of the patient with {@code id}, which must be in the list.
+     */
+    int positionOf(PatientId id) {
+        return positionsById.get(id);
+    }
+
+    void clear() {
+        patientsById.clear();
+        idsByIc.clear();
+        positionsById.clear();
+        idsByPosition.clear();
+    }
+
+    private void forget(PatientId id) {
+        Patient patient = patientsById.remove(id);
+        idsByIc.remove(patient.getIC());
+        positionsById.remove(id);
+    }
+
+    private void renumberFrom(int position) {
+        for (int i = position; i < idsByPosition.size(); i++) {
+            positionsById.put(idsByPosition.get(i), i);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.noknock.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Numbers the patients of a list with small, dense ordinals, so that sets of them can be kept as bitmaps.
+ * The ordinal of a removed patient is given to the next patient added, so ordinals stay below the largest number of
+ * patients the list has held.
+ */
+class PatientOrdinals {
+
+    private final Map<Patient, Integer> ordinalsByPatient = new HashMap<>();
+    private final List<Patient> patientsByOrdinal = new ArrayList<>();
+    private final BitSet freeOrdinals = new BitSet();
+
+    /**
+     * Gives {@code patient} the lowest free ordinal and returns it.
+     */
+    int assign(Patient patient) {
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal < 0) {
+            ordinal = patientsByOrdinal.size();
+            patientsByOrdinal.add(patient);
+        } else {
+            freeOrdinals.clear(ordinal);
+            patientsByOrdinal.set(ordinal, patient);
+        }
+        ordinalsByPatient.put(patient, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Gives {@code ordinal} to {@code patient}, which replaces the patient with the ordinal.
+     */
+    void replace(int ordinal, Patient patient) {
+        ordinalsByPatient.remove(patientsByOrdinal.set(ordinal, patient));
+        ordinalsByPatient.put(patient, ordinal);
+    }
+
+    /**
+     * Frees {@code ordinal} to be given to another patient.
+     */
+    void release(int ordinal) {
+        ordinalsByPatient.remove(patientsByOrdinal.get(ordinal));
+        patientsByOrdinal.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+    }
+
+    /**
+     * Returns the ordinal of the patient equal to {@code patient}, or -1 if there is none.
+     */
+    int ordinalOf(Object patient) {
+        Integer ordinal = ordinalsByPatient.get(patient);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns the patient with {@code ordinal}.
+     */
+    Patient patientAt(int ordinal) {
+        return patientsByOrdinal.get(ordinal);
+    }
+
+    void clear() {
+        ordinalsByPatient.clear();
+        patientsByOrdinal.clear();
+        freeOrdinals.clear();
+    }
+}
@@ -3,13 +3,26 @@ package seedu.noknock.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.noknock.model.person.exceptions.DuplicatePatientException;
 import seedu.noknock.model.person.exceptions.PatientNotFoundException;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
 
 /**
  * A list of patients that enforces uniqueness between its elements and does not allow nulls.
@@ -18,7 +31,12 @@ import seedu.noknock.model.person.exceptions.PatientNotFoundException;
  * being added or updated is unique in terms of identity in the UniquePatientList. However, the removal of
  * a patient uses Patient#equals(Object) so as to ensure that the patient with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Each patient is given an internal id while it is in the list, and its IC
+ * and position are kept with the id, so that checking for a duplicate, looking up a patient by IC, and finding the
+ * patient to replace take O(1) time. Each patient is also given a dense ordinal, and the patients of each ward, tag,
+ * session care type and session status are indexed as bitmaps of ordinals, so that they can be looked up and combined
+ * without a scan of the list. A recurring session is indexed under its care type and the statuses of its occurrences.
+ * Editing a patient only updates the indices for the tags and sessions that changed.
  *
  * @see Patient#isSamePerson(Person)
  */
@@ -27,13 +45,21 @@ public class UniquePatientList implements Iterable<Patient> {
     private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
     private final ObservableList<Patient> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final PatientIds ids = new PatientIds();
+    private final PatientOrdinals ordinals = new PatientOrdinals();
+    private final Map<Ward, BitSet> patientsByWard = new HashMap<>();
+    private final Map<Tag, BitSet> patientsByTag = new HashMap<>();
+    private final SessionIndex<CareType> patientsByCareType = new SessionIndex<>(new HashMap<>());
+    private final SessionIndex<SessionStatus> patientsBySessionStatus =
+            new SessionIndex<>(new EnumMap<>(SessionStatus.class));
 
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
      */
     public boolean contains(Patient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        // Patients are the same person exactly when their ICs are equal
+        return ids.idOf(toCheck.getIC()) != null;
     }
 
     /**
@@ -46,6 +72,43 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
         internalList.add(toAdd);
+        ids.add(internalList.size() - 1, toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds a patient to the list at {@code index}.
+     * The patient must not already exist in the list.
+     */
+    public void add(int index, Patient toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePatientException();
+        }
+        internalList.add(index, toAdd);
+        ids.add(index, toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list with a single change to the backing list.
+     * The patients must be unique and must not already exist in the list.
+     */
+    public void addAll(List<Patient> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<IC> ics = new HashSet<>();
+        for (Patient patient : toAdd) {
+            if (contains(patient) || !ics.add(patient.getIC())) {
+                throw new DuplicatePatientException();
+            }
+        }
+
+        int position = internalList.size();
+        internalList.addAll(toAdd);
+        for (Patient patient : toAdd) {
+            ids.add(position++, patient);
+            index(patient);
+        }
     }
 
     /**
@@ -56,8 +119,8 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        PatientId id = ids.idOf(target);
+        if (id == null) {
             throw new PatientNotFoundException();
         }
 
@@ -65,7 +128,9 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
 
-        internalList.set(index, editedPatient);
+        internalList.set(ids.positionOf(id), editedPatient);
+        updateIndex(target, editedPatient);
+        ids.replace(id, editedPatient);
     }
 
     /**
@@ -74,14 +139,43 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        PatientId id = ids.idOf(toRemove);
+        if (id == null) {
             throw new PatientNotFoundException();
         }
+        int position = ids.positionOf(id);
+        internalList.remove(position);
+        ids.remove(position);
+        unindex(toRemove);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list with a single change to the backing list.
+     * The patients must exist in the list.
+     */
+    public void removeAll(Collection<Patient> toRemove) {
+        requireNonNull(toRemove);
+        Set<Patient> patientsToRemove = new HashSet<>(toRemove);
+        if (patientsToRemove.isEmpty()) {
+            return;
+        }
+        Set<PatientId> idsToRemove = new HashSet<>();
+        for (Patient patient : patientsToRemove) {
+            PatientId id = ids.idOf(patient);
+            if (id == null) {
+                throw new PatientNotFoundException();
+            }
+            idsToRemove.add(id);
+        }
+        internalList.removeAll(patientsToRemove);
+        ids.removeAll(idsToRemove);
+        patientsToRemove.forEach(this::unindex);
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -95,6 +189,68 @@ public class UniquePatientList implements Iterable<Patient> {
         }
 
         internalList.setAll(patients);
+        reindex();
+    }
+
+    /**
+     * Returns the patient with {@code ic}, if any.
+     */
+    public Optional<Patient> getPatient(IC ic) {
+        requireNonNull(ic);
+        PatientId id = ids.idOf(ic);
+        return id == null ? Optional.empty() : Optional.of(ids.patientWith(id));
+    }
+
+    /**
+     * Returns an unmodifiable view of the patient with {@code ic}, if any, to be read before this list next changes.
+     */
+    public PatientBitmap getPatientsWithIc(IC ic) {
+        BitSet bits = new BitSet();
+        getPatient(ic).ifPresent(patient -> bits.set(ordinals.ordinalOf(patient)));
+        return lookUp(bits);
+    }
+
+    /**
+     * Returns the position in the list of the patient equal to {@code patient}, or -1 if there is none.
+     */
+    public int indexOf(Patient patient) {
+        requireNonNull(patient);
+        PatientId id = ids.idOf(patient);
+        return id == null ? -1 : ids.positionOf(id);
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients in {@code ward}, to be read before this list next changes.
+     */
+    public PatientBitmap getPatientsInWard(Ward ward) {
+        requireNonNull(ward);
+        return lookUp(patientsByWard.get(ward));
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients with {@code tag}, to be read before this list next changes.
+     */
+    public PatientBitmap getPatientsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return lookUp(patientsByTag.get(tag));
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients with a session, or a recurring session, of {@code careType}, to be
+     * read before this list next changes.
+     */
+    public PatientBitmap getPatientsWithCareType(CareType careType) {
+        requireNonNull(careType);
+        return lookUp(patientsByCareType.bitsOf(careType));
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients with a session, or an occurrence of a recurring session, of
+     * {@code status}, to be read before this list next changes.
+     */
+    public PatientBitmap getPatientsWithSessionStatus(SessionStatus status) {
+        requireNonNull(status);
+        return lookUp(patientsBySessionStatus.bitsOf(status));
     }
 
     /**
@@ -134,17 +290,178 @@ public class UniquePatientList implements Iterable<Patient> {
         return internalList.toString();
     }
 
+    private PatientBitmap lookUp(BitSet bits) {
+        return new PatientBitmap(ordinals, bits == null ? new BitSet() : bits);
+    }
+
+    private void index(Patient patient) {
+        int ordinal = ordinals.assign(patient);
+        setBit(patientsByWard, patient.getWard(), ordinal);
+        for (Tag tag : patient.getTags()) {
+            setBit(patientsByTag, tag, ordinal);
+        }
+        for (CaringSession session : patient.getCaringSessionList()) {
+            indexSession(session, ordinal);
+        }
+        for (RecurringSession recurringSession : patient.getRecurringSessionList()) {
+            indexRecurringSession(recurringSession, ordinal);
+        }
+    }
+
+    /**
+     * Removes the patient equal to {@code patient} from the indices. The indexed patient is unindexed rather than
+     * {@code patient} itself, as equal patients may have different sessions.
+     */
+    private void unindex(Patient patient) {
+        int ordinal = ordinals.ordinalOf(patient);
+        Patient indexedPatient = ordinals.patientAt(ordinal);
+        clearBit(patientsByWard, indexedPatient.getWard(), ordinal);
+        for (Tag tag : indexedPatient.getTags()) {
+            clearBit(patientsByTag, tag, ordinal);
+        }
+        for (CaringSession session : indexedPatient.getCaringSessionList()) {
+            unindexSession(session, ordinal);
+        }
+        for (RecurringSession recurringSession : indexedPatient.getRecurringSessionList()) {
+            unindexRecurringSession(recurringSession, ordinal);
+        }
+        ordinals.release(ordinal);
+    }
+
+    /**
+     * Moves the indexed patient equal to {@code target} to {@code editedPatient}, keeping its ordinal and only
+     * updating the indices for the ward, tags and sessions that differ between the two.
+     */
+    private void updateIndex(Patient target, Patient editedPatient) {
+        int ordinal = ordinals.ordinalOf(target);
+        Patient indexedPatient = ordinals.patientAt(ordinal);
+        ordinals.replace(ordinal, editedPatient);
+        if (!indexedPatient.getWard().equals(editedPatient.getWard())) {
+            clearBit(patientsByWard, indexedPatient.getWard(), ordinal);
+            setBit(patientsByWard, editedPatient.getWard(), ordinal);
+        }
+        for (Tag tag : indexedPatient.getTags()) {
+            if (!editedPatient.getTags().contains(tag)) {
+                clearBit(patientsByTag, tag, ordinal);
+            }
+        }
+        for (Tag tag : editedPatient.getTags()) {
+            setBit(patientsByTag, tag, ordinal);
+        }
+        editedPatient.diffCaringSessions(indexedPatient, session -> unindexSession(session, ordinal),
+                session -> indexSession(session, ordinal));
+        editedPatient.diffRecurringSessions(indexedPatient,
+                recurringSession -> unindexRecurringSession(recurringSession, ordinal),
+                recurringSession -> indexRecurringSession(recurringSession, ordinal));
+    }
+
+    private void indexSession(CaringSession session, int ordinal) {
+        patientsByCareType.add(session.getCareType(), ordinal);
+        patientsBySessionStatus.add(session.getStatus(), ordinal);
+    }
+
+    private void unindexSession(CaringSession session, int ordinal) {
+        patientsByCareType.remove(session.getCareType(), ordinal);
+        patientsBySessionStatus.remove(session.getStatus(), ordinal);
+    }
+
+    private void indexRecurringSession(RecurringSession recurringSession, int ordinal) {
+        patientsByCareType.add(recurringSession.getCareType(), ordinal);
+        for (SessionStatus status : recurringSession.getOccurrenceStatuses()) {
+            patientsBySessionStatus.add(status, ordinal);
+        }
+    }
+
+    private void unindexRecurringSession(RecurringSession recurringSession, int ordinal) {
+        patientsByCareType.remove(recurringSession.getCareType(), ordinal);
+        for (SessionStatus status : recurringSession.getOccurrenceStatuses()) {
+            patientsBySessionStatus.remove(status, ordinal);
+        }
+    }
+
+    private void reindex() {
+        ids.clear();
+        ordinals.clear();
+        patientsByWard.clear();
+        patientsByTag.clear();
+        patientsByCareType.clear();
+        patientsBySessionStatus.clear();
+        for (int position = 0; position < internalList.size(); position++) {
+            ids.add(position, internalList.get(position));
+            index(internalList.get(position));
+        }
+    }
+
+    private static <K> void setBit(Map<K, BitSet> index, K key, int ordinal) {
+        index.computeIfAbsent(key, unused -> new BitSet()).set(ordinal);
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> index, K key, int ordinal) {
+        BitSet bits = index.get(key);
+        if (bits == null) {
+            return;
+        }
+        bits.clear(ordinal);
+        if (bits.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
     /**
      * Returns true if {@code patients} contains only unique patients.
      */
     private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePerson(patients.get(j))) {
-                    return false;
-                }
+        // Patients are the same person exactly when their ICs are equal, so duplicate ICs mean duplicate patients
+        Set<IC> ics = new HashSet<>();
+        for (Patient patient : patients) {
+            if (!ics.add(patient.getIC())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Indexes patients by a property of their sessions, which a patient can have more than once.
+     * A patient's bit for a key stays set until all of its sessions with the key are removed, so sessions can be
+     * indexed and unindexed one at a time. Only the sessions beyond the first of each key and patient are counted.
+     */
+    private static class SessionIndex<K> {
+        private final Map<K, BitSet> bitsByKey;
+        private final Map<K, Map<Integer, Integer>> extraCountsByKey = new HashMap<>();
+
+        SessionIndex(Map<K, BitSet> bitsByKey) {
+            this.bitsByKey = bitsByKey;
+        }
+
+        BitSet bitsOf(K key) {
+            return bitsByKey.get(key);
+        }
+
+        void add(K key, int ordinal) {
+            BitSet bits = bitsByKey.computeIfAbsent(key, unused -> new BitSet());
+            if (!bits.get(ordinal)) {
+                bits.set(ordinal);
+                return;
+            }
+            extraCountsByKey.computeIfAbsent(key, unused -> new HashMap<>()).merge(ordinal, 1, Integer::sum);
+        }
+
+        void remove(K key, int ordinal) {
+            Map<Integer, Integer> extraCounts = extraCountsByKey.get(key);
+            if (extraCounts == null || !extraCounts.containsKey(ordinal)) {
+                clearBit(bitsByKey, key, ordinal);
+                return;
+            }
+            extraCounts.computeIfPresent(ordinal, (unused, count) -> count == 1 ? null : count - 1);
+            if (extraCounts.isEmpty()) {
+                extraCountsByKey.remove(key);
+            }
+        }
+
+        void clear() {
+            bitsByKey.clear();
+            extraCountsByKey.clear();
+        }
+    }
 }
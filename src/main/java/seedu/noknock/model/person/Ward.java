@@ -10,7 +10,7 @@ import java.util.Objects;
  * This class provides validation for the ward format and stores the ward information for a person.
  *
  */
-public class Ward {
+public class Ward implements Comparable<Ward> {
     public static final String REGEX_PATTERN = "[1-9]\\d*[a-zA-Z]";
     public static final String MESSAGE_CONSTRAINTS = "Ward number must be a positive integer "
         + "followed by an alphabet. E.g. 2A";
@@ -33,6 +33,31 @@ public class Ward {
         return room;
     }
 
+    /**
+     * Orders wards by the number of their room and then by its letter, so that "2A" comes before "10A".
+     */
+    @Override
+    public int compareTo(Ward other) {
+        int numberLength = countLeadingDigits(room);
+        int otherNumberLength = countLeadingDigits(other.room);
+        if (numberLength != otherNumberLength) {
+            return Integer.compare(numberLength, otherNumberLength);
+        }
+        return room.compareTo(other.room);
+    }
+
+    /**
+     * Returns the number of digits at the start of {@code room}.
+     * Valid rooms have no leading zeros, so a room with more digits has a larger number.
+     */
+    private static int countLeadingDigits(String room) {
+        int count = 0;
+        while (count < room.length() && Character.isDigit(room.charAt(count))) {
+            count++;
+        }
+        return count;
+    }
+
     public String toString() {
         return room;
     }
@@ -0,0 +1,104 @@
+package seedu.noknock.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * A query for the patients that match all of several queries.
+ * It is planned by intersecting the candidates of all of its queries that can use an index, and testing only the
+ * patients in the intersection against the other queries.
+ */
+public class AndQuery extends PatientQuery {
+
+    private final List<PatientQuery> queries;
+
+    private AndQuery(List<PatientQuery> queries) {
+        this.queries = List.copyOf(queries);
+    }
+
+    /**
+     * Returns a query for the patients that match all of {@code queries}.
+     * Nested {@code AndQuery}s are flattened and all {@code SessionQuery}s are combined into one, so that a single
+     * session must meet all of their conditions.
+     */
+    public static PatientQuery of(List<? extends PatientQuery> queries) {
+        requireNonNull(queries);
+        List<PatientQuery> flattened = new ArrayList<>();
+        SessionQuery sessionQuery = null;
+        for (PatientQuery query : queries) {
+            List<PatientQuery> parts = query instanceof AndQuery andQuery ? andQuery.queries : List.of(query);
+            for (PatientQuery part : parts) {
+                if (part instanceof SessionQuery partSessionQuery) {
+                    sessionQuery = sessionQuery == null ? partSessionQuery : sessionQuery.and(partSessionQuery);
+                } else {
+                    flattened.add(part);
+                }
+            }
+        }
+        if (sessionQuery != null) {
+            flattened.add(sessionQuery);
+        }
+        if (flattened.isEmpty()) {
+            throw new IllegalArgumentException("An AND query needs at least one query");
+        }
+        return flattened.size() == 1 ? flattened.get(0) : new AndQuery(flattened);
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return queries.stream().allMatch(query -> query.test(patient));
+    }
+
+    @Override
+    public QueryPlan plan(Model model) {
+        QueryPlan combinedPlan = null;
+        for (PatientQuery query : queries) {
+            QueryPlan plan = query.plan(model);
+            combinedPlan = combinedPlan == null ? plan : combinedPlan.and(plan);
+        }
+        return combinedPlan.isScan() ? QueryPlan.scan(this) : combinedPlan;
+    }
+
+    @Override
+    public Predicate<CaringSession> getSessionFilter() {
+        return queries.stream()
+                .filter(query -> query instanceof SessionQuery)
+                .findFirst()
+                .map(PatientQuery::getSessionFilter)
+                .orElse(Model.PREDICATE_SHOW_ALL_SESSIONS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery otherAndQuery)) {
+            return false;
+        }
+
+        return queries.equals(otherAndQuery.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("queries", queries)
+                .toString();
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.noknock.model.query;
+
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.noknock.commons.util.StringUtil;
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.tag.Tag;
+
+/**
+ * A query on a single field of a patient, such as its ward or name.
+ * Fields with an index in the model are looked up in it; other fields are tested on each patient.
+ */
+public class FieldQuery extends PatientQuery {
+
+    private final String field;
+    private final Object value;
+    private final Predicate<Patient> condition;
+    private final Function<Model, PatientBitmap> index;
+
+    private FieldQuery(String field, Object value, Predicate<Patient> condition, Function<Model, PatientBitmap> index) {
+        requireAllNonNull(field, value, condition);
+        this.field = field;
+        this.value = value;
+        this.condition = condition;
+        this.index = index;
+    }
+
+    /**
+     * Returns a query for the patients in {@code ward}, which is looked up in the ward index.
+     */
+    public static FieldQuery ward(Ward ward) {
+        return new FieldQuery("ward", ward, patient -> patient.getWard().equals(ward),
+            model -> model.getPatientsInWard(ward));
+    }
+
+    /**
+     * Returns a query for the patients with {@code tag}, which is looked up in the tag index.
+     */
+    public static FieldQuery tag(Tag tag) {
+        return new FieldQuery("tag", tag, patient -> patient.getTags().contains(tag),
+            model -> model.getPatientsWithTag(tag));
+    }
+
+    /**
+     * Returns a query for the patient with {@code ic}, which is looked up in the IC index.
+     */
+    public static FieldQuery ic(IC ic) {
+        return new FieldQuery("ic", ic, patient -> patient.getIC().equals(ic),
+            model -> model.getPatientsWithIc(ic));
+    }
+
+    /**
+     * Returns a query for the patients with a word of their name that contains {@code keyword}, ignoring case.
+     */
+    public static FieldQuery name(String keyword) {
+        return new FieldQuery("name", keyword,
+            patient -> StringUtil.containsWordIgnoreCase(patient.getName().fullName, keyword), null);
+    }
+
+    /**
+     * Returns a query for the patients with a next-of-kin whose name has a word containing {@code keyword}.
+     */
+    public static FieldQuery nextOfKin(String keyword) {
+        return new FieldQuery("nok", keyword, patient -> patient.getNextOfKinList().stream()
+            .anyMatch(nok -> StringUtil.containsWordIgnoreCase(nok.getName().fullName, keyword)), null);
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return condition.test(patient);
+    }
+
+    @Override
+    public QueryPlan plan(Model model) {
+        if (index == null) {
+            return QueryPlan.scan(this);
+        }
+        return QueryPlan.lookup(index.apply(model));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldQuery otherFieldQuery)) {
+            return false;
+        }
+
+        return field.equals(otherFieldQuery.field) && value.equals(otherFieldQuery.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add(field, value)
+                .toString();
+    }
+}
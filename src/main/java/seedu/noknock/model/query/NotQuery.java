@@ -0,0 +1,61 @@
+package seedu.noknock.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.Patient;
+
+/**
+ * A query for the patients that do not match a query.
+ * It cannot use an index, so on its own it is planned as a scan; within an {@code AndQuery} it is only tested on the
+ * candidates of the other queries.
+ */
+public class NotQuery extends PatientQuery {
+
+    private final PatientQuery query;
+
+    /**
+     * Creates a query for the patients that do not match {@code query}.
+     */
+    public NotQuery(PatientQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return !query.test(patient);
+    }
+
+    @Override
+    public QueryPlan plan(Model model) {
+        return QueryPlan.scan(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery otherNotQuery)) {
+            return false;
+        }
+
+        return query.equals(otherNotQuery.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
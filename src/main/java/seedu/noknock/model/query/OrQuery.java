@@ -0,0 +1,88 @@
+package seedu.noknock.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+
+/**
+ * A query for the patients that match any of several queries.
+ * If all of its queries can be planned without a scan, it is planned as the union of the bitmaps of their matches;
+ * otherwise every patient is tested.
+ */
+public class OrQuery extends PatientQuery {
+
+    private final List<PatientQuery> queries;
+
+    private OrQuery(List<PatientQuery> queries) {
+        this.queries = List.copyOf(queries);
+    }
+
+    /**
+     * Returns a query for the patients that match any of {@code queries}. Nested {@code OrQuery}s are flattened.
+     */
+    public static PatientQuery of(List<? extends PatientQuery> queries) {
+        requireNonNull(queries);
+        List<PatientQuery> flattened = new ArrayList<>();
+        for (PatientQuery query : queries) {
+            flattened.addAll(query instanceof OrQuery orQuery ? orQuery.queries : List.of(query));
+        }
+        if (flattened.isEmpty()) {
+            throw new IllegalArgumentException("An OR query needs at least one query");
+        }
+        return flattened.size() == 1 ? flattened.get(0) : new OrQuery(flattened);
+    }
+
+    @Override
+    public boolean test(Patient patient) {
+        return queries.stream().anyMatch(query -> query.test(patient));
+    }
+
+    @Override
+    public QueryPlan plan(Model model) {
+        List<QueryPlan> plans = new ArrayList<>();
+        for (PatientQuery query : queries) {
+            QueryPlan plan = query.plan(model);
+            if (plan.isScan()) {
+                return QueryPlan.scan(this);
+            }
+            plans.add(plan);
+        }
+        PatientBitmap matches = plans.get(0).getMatches();
+        for (QueryPlan plan : plans.subList(1, plans.size())) {
+            matches = matches.or(plan.getMatches());
+        }
+        return QueryPlan.lookup(matches);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery otherOrQuery)) {
+            return false;
+        }
+
+        return queries.equals(otherOrQuery.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("queries", queries)
+                .toString();
+    }
+}
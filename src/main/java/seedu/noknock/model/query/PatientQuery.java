@@ -0,0 +1,28 @@
+package seedu.noknock.model.query;
+
+import java.util.function.Predicate;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * A condition on patients that can be planned against the indices of a model.
+ * Planning lets a query look up its candidates in the most selective index it can use and only test the rest
+ * of its conditions on those candidates, instead of testing every patient.
+ */
+public abstract class PatientQuery implements Predicate<Patient> {
+
+    /**
+     * Returns a plan to find the patients of {@code model} that match this query.
+     */
+    public abstract QueryPlan plan(Model model);
+
+    /**
+     * Returns the condition on the sessions of the matching patients that should be displayed.
+     * Only queries on sessions narrow the sessions displayed; other queries display every session.
+     */
+    public Predicate<CaringSession> getSessionFilter() {
+        return Model.PREDICATE_SHOW_ALL_SESSIONS;
+    }
+}
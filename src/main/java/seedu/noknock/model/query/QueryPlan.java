@@ -0,0 +1,120 @@
+package seedu.noknock.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+
+/**
+ * A way to find the patients that match a query: either a set of candidates looked up in an index, of which only
+ * those passing a residual condition match, or a scan of all patients with that condition.
+ * The candidates are bitmaps, so the candidates of several plans are combined word by word.
+ */
+public final class QueryPlan {
+
+    private static final Predicate<Patient> ALWAYS = unused -> true;
+
+    private final PatientBitmap candidates;
+    private final Predicate<Patient> residual;
+
+    private QueryPlan(PatientBitmap candidates, Predicate<Patient> residual) {
+        this.candidates = candidates;
+        this.residual = residual;
+    }
+
+    /**
+     * Returns a plan that tests every patient with {@code condition}.
+     */
+    public static QueryPlan scan(Predicate<Patient> condition) {
+        requireNonNull(condition);
+        return new QueryPlan(null, condition);
+    }
+
+    /**
+     * Returns a plan whose matches are exactly {@code candidates}.
+     */
+    public static QueryPlan lookup(PatientBitmap candidates) {
+        return lookup(candidates, ALWAYS);
+    }
+
+    /**
+     * Returns a plan whose matches are the patients of {@code candidates} that pass {@code residual}.
+     */
+    public static QueryPlan lookup(PatientBitmap candidates, Predicate<Patient> residual) {
+        requireNonNull(candidates);
+        requireNonNull(residual);
+        return new QueryPlan(candidates, residual);
+    }
+
+    /**
+     * Returns true if this plan tests every patient rather than candidates looked up in an index.
+     */
+    public boolean isScan() {
+        return candidates == null;
+    }
+
+    /**
+     * Returns the number of candidates this plan tests.
+     * @throws IllegalStateException if this plan is a scan.
+     */
+    public int getCandidateCount() {
+        if (isScan()) {
+            throw new IllegalStateException("A scan has no candidates");
+        }
+        return candidates.size();
+    }
+
+    /**
+     * Returns the condition that the patients tested by this plan must pass to match.
+     */
+    public Predicate<Patient> getResidual() {
+        return residual;
+    }
+
+    /**
+     * Returns a plan whose matches are those of this plan that also pass {@code condition}.
+     */
+    public QueryPlan and(Predicate<Patient> condition) {
+        requireNonNull(condition);
+        return new QueryPlan(candidates, residual == ALWAYS ? condition : residual.and(condition));
+    }
+
+    /**
+     * Returns a plan whose matches are those of both this plan and {@code other}.
+     * If both plans are lookups, the candidates are the intersection of their candidates, so the residuals of both
+     * are only tested on the patients that are candidates of both.
+     */
+    public QueryPlan and(QueryPlan other) {
+        requireNonNull(other);
+        if (isScan() || other.isScan()) {
+            QueryPlan lookup = isScan() ? other : this;
+            QueryPlan scan = lookup == this ? other : this;
+            return lookup.and(scan.residual);
+        }
+        QueryPlan combined = new QueryPlan(candidates.and(other.candidates), residual);
+        return other.residual == ALWAYS ? combined : combined.and(other.residual);
+    }
+
+    /**
+     * Returns the matching patients, which takes time proportional to the number of candidates if there is a
+     * residual condition to test.
+     * @throws IllegalStateException if this plan is a scan.
+     */
+    public PatientBitmap getMatches() {
+        if (isScan()) {
+            throw new IllegalStateException("The matches of a scan are not known until every patient is tested");
+        }
+        return residual == ALWAYS ? candidates : candidates.filter(residual);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("candidates", isScan() ? "all" : String.valueOf(candidates.size()))
+                .add("residual", residual)
+                .toString();
+    }
+}
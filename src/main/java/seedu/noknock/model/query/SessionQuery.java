@@ -0,0 +1,190 @@
+package seedu.noknock.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+
+/**
+ * A query for the patients with a caring session, or an occurrence of a recurring session, that meets all of a set of
+ * conditions: being dated within a range, having a status and having a care type. Each condition is optional.
+ * The conditions of several session queries joined by {@code AND} are combined by {@link #and(SessionQuery)}, so
+ * that a single session must meet all of them.
+ */
+public class SessionQuery extends PatientQuery {
+
+    private final Date startDate;
+    private final Date endDate;
+    private final Set<SessionStatus> statuses;
+    private final Set<CareType> careTypes;
+
+    private SessionQuery(Date startDate, Date endDate, Set<SessionStatus> statuses, Set<CareType> careTypes) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.statuses = Set.copyOf(statuses);
+        this.careTypes = Set.copyOf(careTypes);
+    }
+
+    /**
+     * Returns a query for the patients with a session dated from {@code startDate} to {@code endDate} inclusive.
+     * If {@code startDate} is after {@code endDate}, the dates are swapped so the range is always valid.
+     */
+    public static SessionQuery between(Date startDate, Date endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        return new SessionQuery(earlier(startDate, endDate), later(startDate, endDate), Set.of(), Set.of());
+    }
+
+    /**
+     * Returns a query for the patients with a session of {@code status}.
+     */
+    public static SessionQuery withStatus(SessionStatus status) {
+        requireNonNull(status);
+        return new SessionQuery(null, null, Set.of(status), Set.of());
+    }
+
+    /**
+     * Returns a query for the patients with a session of {@code careType}.
+     */
+    public static SessionQuery withCareType(CareType careType) {
+        requireNonNull(careType);
+        return new SessionQuery(null, null, Set.of(), Set.of(careType));
+    }
+
+    /**
+     * Returns a query for the patients with a session that meets the conditions of both this query and
+     * {@code other}.
+     */
+    public SessionQuery and(SessionQuery other) {
+        requireNonNull(other);
+        Set<SessionStatus> combinedStatuses = new HashSet<>(statuses);
+        combinedStatuses.addAll(other.statuses);
+        Set<CareType> combinedCareTypes = new HashSet<>(careTypes);
+        combinedCareTypes.addAll(other.careTypes);
+        return new SessionQuery(later(startDate, other.startDate), earlier(endDate, other.endDate),
+                combinedStatuses, combinedCareTypes);
+    }
+
+    /**
+     * Returns true if {@code session} meets all the conditions of this query.
+     */
+    public boolean matches(CaringSession session) {
+        requireNonNull(session);
+        return (startDate == null || session.getDate().compareTo(startDate) >= 0)
+                && (endDate == null || session.getDate().compareTo(endDate) <= 0)
+                && statuses.stream().allMatch(status -> status == session.getStatus())
+                && careTypes.stream().allMatch(careType -> careType.equals(session.getCareType()));
+    }
+
+    /**
+     * Returns true if {@code patient} has a session, or an occurrence of a recurring session, that meets all the
+     * conditions of this query.
+     * Only the sessions and occurrences within the date range, if any, are tested; they are found by binary search.
+     * Without a date range, the recurring sessions are tested by the statuses of their occurrences rather than by
+     * creating every occurrence.
+     */
+    @Override
+    public boolean test(Patient patient) {
+        if (startDate != null && endDate != null) {
+            return patient.getCaringSessionsBetween(startDate, endDate).stream().anyMatch(this::matches);
+        }
+        return patient.getCaringSessionList().stream().anyMatch(this::matches)
+                || patient.getRecurringSessionList().stream().anyMatch(this::matchesAnOccurrence);
+    }
+
+    /**
+     * Returns true if an occurrence of {@code recurringSession} meets the status and care type conditions of this
+     * query.
+     */
+    private boolean matchesAnOccurrence(RecurringSession recurringSession) {
+        Set<SessionStatus> occurrenceStatuses = recurringSession.getOccurrenceStatuses();
+        // an occurrence has a single status
+        return !occurrenceStatuses.isEmpty() && statuses.size() <= 1
+                && occurrenceStatuses.containsAll(statuses)
+                && careTypes.stream().allMatch(careType -> careType.equals(recurringSession.getCareType()));
+    }
+
+    /**
+     * Plans this query by intersecting the patients with a session of each of its statuses and care types, which
+     * are looked up in indices, and testing the sessions of only those patients. The indices also hold the patients
+     * whose recurring sessions have occurrences of a status or care type. A query on dates alone is a scan.
+     */
+    @Override
+    public QueryPlan plan(Model model) {
+        PatientBitmap candidates = null;
+        for (SessionStatus status : statuses) {
+            candidates = intersect(candidates, model.getPatientsWithSessionStatus(status));
+        }
+        for (CareType careType : careTypes) {
+            candidates = intersect(candidates, model.getPatientsWithCareType(careType));
+        }
+        return candidates == null ? QueryPlan.scan(this) : QueryPlan.lookup(candidates, this);
+    }
+
+    @Override
+    public Predicate<CaringSession> getSessionFilter() {
+        return this::matches;
+    }
+
+    private static PatientBitmap intersect(PatientBitmap candidates, PatientBitmap patients) {
+        return candidates == null ? patients : candidates.and(patients);
+    }
+
+    private static Date later(Date first, Date second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private static Date earlier(Date first, Date second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SessionQuery otherSessionQuery)) {
+            return false;
+        }
+
+        return Objects.equals(startDate, otherSessionQuery.startDate)
+                && Objects.equals(endDate, otherSessionQuery.endDate)
+                && statuses.equals(otherSessionQuery.statuses)
+                && careTypes.equals(otherSessionQuery.careTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, statuses, careTypes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .add("statuses", statuses)
+                .add("careTypes", careTypes)
+                .toString();
+    }
+}
@@ -2,22 +2,26 @@ package seedu.noknock.model.session;
 
 import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 
 /**
  * Represents a caring session for a patient.
- * Stores the care type, note, date, time, and status of the session.
+ * Stores the care type, note, date, time, duration, and status of the session.
  */
 public final class CaringSession {
     private final CareType careType;
     private final Note note;
     private final Date date;
     private final Time time;
+    private final Duration duration;
     private final SessionStatus status;
 
     /**
-     * Constructs a CaringSession with status set to INCOMPLETE.
+     * Constructs a CaringSession with status set to INCOMPLETE and the default duration.
      *
      * @param careType the type of care provided
      * @param note     additional notes for the session
@@ -25,16 +29,11 @@ public final class CaringSession {
      * @param time     the time of the session
      */
     public CaringSession(CareType careType, Note note, Date date, Time time) {
-        requireAllNonNull(careType, note, date, time);
-        this.careType = careType;
-        this.note = note;
-        this.date = date;
-        this.time = time;
-        this.status = SessionStatus.INCOMPLETE;
+        this(careType, note, date, time, Duration.DEFAULT, SessionStatus.INCOMPLETE);
     }
 
     /**
-     * Constructs a CaringSession with all fields specified.
+     * Constructs a CaringSession with the default duration.
      * Only used for immutably editing an existing session.
      *
      * @param careType the type of care provided
@@ -44,11 +43,27 @@ public final class CaringSession {
      * @param status   the status of the session
      */
     public CaringSession(CareType careType, Note note, Date date, Time time, SessionStatus status) {
-        requireAllNonNull(careType, note, date, time, status);
+        this(careType, note, date, time, Duration.DEFAULT, status);
+    }
+
+    /**
+     * Constructs a CaringSession with all fields specified.
+     *
+     * @param careType the type of care provided
+     * @param note     additional notes for the session
+     * @param date     the date of the session
+     * @param time     the time of the session
+     * @param duration how long the session lasts
+     * @param status   the status of the session
+     */
+    public CaringSession(CareType careType, Note note, Date date, Time time, Duration duration,
+                         SessionStatus status) {
+        requireAllNonNull(careType, note, date, time, duration, status);
         this.careType = careType;
         this.note = note;
         this.date = date;
         this.time = time;
+        this.duration = duration;
         this.status = status;
     }
 
@@ -80,6 +95,27 @@ public final class CaringSession {
         return time;
     }
 
+    /**
+     * Returns how long this session lasts.
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the date and time at which this session starts.
+     */
+    public LocalDateTime getStart() {
+        return LocalDateTime.of(date.value, time.value);
+    }
+
+    /**
+     * Returns the date and time at which this session ends, which may be on a later date than it starts.
+     */
+    public LocalDateTime getEnd() {
+        return getStart().plusMinutes(duration.minutes);
+    }
+
     /**
      * Returns the status of this session.
      */
@@ -96,14 +132,15 @@ public final class CaringSession {
 
     /**
      * Checks if this caring session overlaps with another session.
-     * Overlap is defined as having the same date, time, and care type.
+     * Overlap is defined as the sessions sharing some time, so a session that ends when the other starts does not
+     * overlap it.
      *
      * @param other The other caring session to compare with.
      * @return True if the sessions overlap, false otherwise.
      */
     public boolean overlaps(CaringSession other) {
-        return this.date.equals(other.date)
-            && this.time.equals(other.time);
+        return getStart().isBefore(other.getEnd())
+            && other.getStart().isBefore(getEnd());
     }
 
     @Override
@@ -118,12 +155,13 @@ public final class CaringSession {
             && note.equals(otherSession.note)
             && date.equals(otherSession.date)
             && time.equals(otherSession.time)
+            && duration.equals(otherSession.duration)
             && status == otherSession.status;
     }
 
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(careType, note, date, time, status);
+        return java.util.Objects.hash(careType, note, date, time, duration, status);
     }
 
     @Override
@@ -133,6 +171,7 @@ public final class CaringSession {
             .add("note", getNote())
             .add("date", getDate())
             .add("time", getTime())
+            .add("duration", getDuration())
             .add("status", getStatus())
             .toString();
     }
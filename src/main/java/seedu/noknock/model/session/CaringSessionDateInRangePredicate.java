@@ -51,6 +51,14 @@ public class CaringSessionDateInRangePredicate implements Predicate<CaringSessio
         return new CaringSessionDateInRangePredicate(new Date(start.toString()), new Date(end.toString()));
     }
 
+    public Date getStartDate() {
+        return startDate;
+    }
+
+    public Date getEndDate() {
+        return endDate;
+    }
+
     @Override
     public boolean test(CaringSession session) {
         Objects.requireNonNull(session);
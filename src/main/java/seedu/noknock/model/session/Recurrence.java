@@ -0,0 +1,70 @@
+package seedu.noknock.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Represents how often a recurring session repeats.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRecurrence(String)}.
+ */
+public enum Recurrence {
+    DAILY("Daily", 1),
+    WEEKLY("Weekly", 7);
+
+    public static final String MESSAGE_CONSTRAINTS =
+        "Recurrence must be one of: "
+            + Arrays.stream(values())
+            .map(Recurrence::toString)
+            .collect(Collectors.joining(", "))
+            + " (case-insensitive)";
+
+    private final String displayValue;
+    private final int periodDays;
+
+    Recurrence(String displayValue, int periodDays) {
+        this.displayValue = displayValue;
+        this.periodDays = periodDays;
+    }
+
+    /**
+     * Returns true if a given string is a valid recurrence.
+     */
+    public static boolean isValidRecurrence(String test) {
+        if (test == null) {
+            return false;
+        }
+        try {
+            fromString(test);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Converts a string to a Recurrence enum value (case-insensitive).
+     */
+    public static Recurrence fromString(String recurrence) {
+        requireNonNull(recurrence);
+        String normalized = recurrence.toUpperCase().trim();
+        try {
+            return Recurrence.valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Returns the number of days from one occurrence to the next.
+     */
+    public int getPeriodDays() {
+        return periodDays;
+    }
+
+    @Override
+    public String toString() {
+        return displayValue;
+    }
+}
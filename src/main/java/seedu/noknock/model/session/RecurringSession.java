@@ -0,0 +1,306 @@
+package seedu.noknock.model.session;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+import static seedu.noknock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import seedu.noknock.commons.util.ToStringBuilder;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.date.Time;
+
+/**
+ * Represents a caring session that repeats at the same time from a start date to an end date, such as a daily
+ * medication round.
+ * Only the rule itself and its exceptions are kept: the dates of the occurrences that were completed and of those
+ * that were skipped. The occurrences are created as {@code CaringSession}s when they are asked for, and only for the
+ * dates asked for.
+ * Guarantees: immutable; the start date is not after the end date; every completed or skipped date is a date on which
+ * the session is scheduled, and no date is both completed and skipped.
+ */
+public final class RecurringSession {
+
+    public static final String MESSAGE_CONSTRAINTS =
+        "The end date of a recurring session must not be before its start date";
+    public static final String MESSAGE_NOT_SCHEDULED = "The recurring session does not take place on %1$s";
+
+    private final CareType careType;
+    private final Note note;
+    private final Time time;
+    private final Duration duration;
+    private final Recurrence recurrence;
+    private final Date startDate;
+    private final Date endDate;
+    private final SortedSet<Date> completedDates;
+    private final SortedSet<Date> skippedDates;
+
+    /**
+     * Constructs a RecurringSession none of whose occurrences have been completed or skipped.
+     */
+    public RecurringSession(CareType careType, Note note, Time time, Duration duration, Recurrence recurrence,
+                            Date startDate, Date endDate) {
+        this(careType, note, time, duration, recurrence, startDate, endDate, Set.of(), Set.of());
+    }
+
+    /**
+     * Constructs a RecurringSession with all fields specified.
+     *
+     * @param completedDates the dates of the occurrences that have been completed
+     * @param skippedDates   the dates of the occurrences that do not take place
+     */
+    public RecurringSession(CareType careType, Note note, Time time, Duration duration, Recurrence recurrence,
+                            Date startDate, Date endDate, Set<Date> completedDates, Set<Date> skippedDates) {
+        requireAllNonNull(careType, note, time, duration, recurrence, startDate, endDate, completedDates,
+            skippedDates);
+        checkArgument(isValidDateRange(startDate, endDate), MESSAGE_CONSTRAINTS);
+        this.careType = careType;
+        this.note = note;
+        this.time = time;
+        this.duration = duration;
+        this.recurrence = recurrence;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.completedDates = Collections.unmodifiableSortedSet(new TreeSet<>(completedDates));
+        this.skippedDates = Collections.unmodifiableSortedSet(new TreeSet<>(skippedDates));
+        for (Date date : this.completedDates) {
+            checkArgument(isScheduledOn(date) && !this.skippedDates.contains(date),
+                String.format(MESSAGE_NOT_SCHEDULED, date));
+        }
+        for (Date date : this.skippedDates) {
+            checkArgument(isScheduledOn(date), String.format(MESSAGE_NOT_SCHEDULED, date));
+        }
+    }
+
+    /**
+     * Returns true if a recurring session may run from {@code startDate} to {@code endDate}.
+     */
+    public static boolean isValidDateRange(Date startDate, Date endDate) {
+        return startDate.compareTo(endDate) <= 0;
+    }
+
+    public CareType getCareType() {
+        return careType;
+    }
+
+    public Note getNote() {
+        return note;
+    }
+
+    public Time getTime() {
+        return time;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    public Date getStartDate() {
+        return startDate;
+    }
+
+    public Date getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Returns the dates of the completed occurrences, in date order.
+     */
+    public SortedSet<Date> getCompletedDates() {
+        return completedDates;
+    }
+
+    /**
+     * Returns the dates of the skipped occurrences, in date order.
+     */
+    public SortedSet<Date> getSkippedDates() {
+        return skippedDates;
+    }
+
+    /**
+     * Returns true if the session is scheduled on {@code date}, whether or not that occurrence was skipped.
+     */
+    public boolean isScheduledOn(Date date) {
+        requireNonNull(date);
+        return date.compareTo(startDate) >= 0 && date.compareTo(endDate) <= 0
+            && ChronoUnit.DAYS.between(startDate.value, date.value) % recurrence.getPeriodDays() == 0;
+    }
+
+    /**
+     * Returns true if an occurrence of the session takes place on {@code date}: it is scheduled then and was not
+     * skipped.
+     */
+    public boolean occursOn(Date date) {
+        return isScheduledOn(date) && !skippedDates.contains(date);
+    }
+
+    /**
+     * Returns the occurrence of the session on {@code date}, if one takes place then.
+     */
+    public Optional<CaringSession> getOccurrenceOn(Date date) {
+        return occursOn(date) ? Optional.of(createOccurrence(date)) : Optional.empty();
+    }
+
+    /**
+     * Returns the occurrences dated from {@code from} to {@code to} inclusive, in date order.
+     * Takes time proportional to the number of dates in the range on which the session is scheduled, however long
+     * the session runs for.
+     */
+    public List<CaringSession> getOccurrencesBetween(Date from, Date to) {
+        requireAllNonNull(from, to);
+        LocalDate last = to.compareTo(endDate) < 0 ? to.value : endDate.value;
+        List<CaringSession> occurrences = new ArrayList<>();
+        for (LocalDate day = firstScheduledDayFrom(from.value); !day.isAfter(last);
+             day = day.plusDays(recurrence.getPeriodDays())) {
+            Date date = Date.of(day);
+            if (!skippedDates.contains(date)) {
+                occurrences.add(createOccurrence(date));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns up to {@code count} incomplete occurrences starting at or after {@code from}, earliest first.
+     * The completed and skipped occurrences from {@code from} are passed over one at a time.
+     */
+    public List<CaringSession> getNextOccurrences(LocalDateTime from, int count) {
+        requireNonNull(from);
+        checkArgument(count > 0, "At least one occurrence must be requested");
+        List<CaringSession> occurrences = new ArrayList<>();
+        for (LocalDate day = firstScheduledDayFrom(from.toLocalDate());
+             !day.isAfter(endDate.value) && occurrences.size() < count;
+             day = day.plusDays(recurrence.getPeriodDays())) {
+            Date date = Date.of(day);
+            if (!day.atTime(time.value).isBefore(from) && !skippedDates.contains(date)
+                    && !completedDates.contains(date)) {
+                occurrences.add(createOccurrence(date));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the first day on or after {@code from} on which the session is scheduled, which may be after the end
+     * date.
+     */
+    private LocalDate firstScheduledDayFrom(LocalDate from) {
+        if (!from.isAfter(startDate.value)) {
+            return startDate.value;
+        }
+        int period = recurrence.getPeriodDays();
+        long periods = (ChronoUnit.DAYS.between(startDate.value, from) + period - 1) / period;
+        return startDate.value.plusDays(periods * period);
+    }
+
+    private CaringSession createOccurrence(Date date) {
+        SessionStatus status = completedDates.contains(date) ? SessionStatus.COMPLETED : SessionStatus.INCOMPLETE;
+        return new CaringSession(careType, note, date, time, duration, status);
+    }
+
+    /**
+     * Returns the statuses of the occurrences that take place, however long the session runs for.
+     * The result is empty if every occurrence was skipped.
+     */
+    public Set<SessionStatus> getOccurrenceStatuses() {
+        long scheduledCount = ChronoUnit.DAYS.between(startDate.value, endDate.value) / recurrence.getPeriodDays() + 1;
+        Set<SessionStatus> statuses = EnumSet.noneOf(SessionStatus.class);
+        if (!completedDates.isEmpty()) {
+            statuses.add(SessionStatus.COMPLETED);
+        }
+        if (scheduledCount > completedDates.size() + skippedDates.size()) {
+            statuses.add(SessionStatus.INCOMPLETE);
+        }
+        return statuses;
+    }
+
+    /**
+     * Returns a copy of this session whose occurrence on {@code date} has {@code status}.
+     *
+     * @throws IllegalArgumentException if no occurrence takes place on {@code date}.
+     */
+    public RecurringSession withOccurrenceStatus(Date date, SessionStatus status) {
+        requireAllNonNull(date, status);
+        checkArgument(occursOn(date), String.format(MESSAGE_NOT_SCHEDULED, date));
+        Set<Date> newCompletedDates = new TreeSet<>(completedDates);
+        if (status == SessionStatus.COMPLETED) {
+            newCompletedDates.add(date);
+        } else {
+            newCompletedDates.remove(date);
+        }
+        return new RecurringSession(careType, note, time, duration, recurrence, startDate, endDate,
+            newCompletedDates, skippedDates);
+    }
+
+    /**
+     * Returns a copy of this session whose occurrence on {@code date} is skipped.
+     *
+     * @throws IllegalArgumentException if no occurrence takes place on {@code date}.
+     */
+    public RecurringSession withoutOccurrence(Date date) {
+        requireNonNull(date);
+        checkArgument(occursOn(date), String.format(MESSAGE_NOT_SCHEDULED, date));
+        Set<Date> newCompletedDates = new TreeSet<>(completedDates);
+        newCompletedDates.remove(date);
+        Set<Date> newSkippedDates = new TreeSet<>(skippedDates);
+        newSkippedDates.add(date);
+        return new RecurringSession(careType, note, time, duration, recurrence, startDate, endDate,
+            newCompletedDates, newSkippedDates);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RecurringSession otherSession)) {
+            return false;
+        }
+        return careType.equals(otherSession.careType)
+            && note.equals(otherSession.note)
+            && time.equals(otherSession.time)
+            && duration.equals(otherSession.duration)
+            && recurrence == otherSession.recurrence
+            && startDate.equals(otherSession.startDate)
+            && endDate.equals(otherSession.endDate)
+            && completedDates.equals(otherSession.completedDates)
+            && skippedDates.equals(otherSession.skippedDates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(careType, note, time, duration, recurrence, startDate, endDate, completedDates,
+            skippedDates);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("careType", careType)
+            .add("note", note)
+            .add("time", time)
+            .add("duration", duration)
+            .add("recurrence", recurrence)
+            .add("startDate", startDate)
+            .add("endDate", endDate)
+            .add("completedDates", completedDates)
+            .add("skippedDates", skippedDates)
+            .toString();
+    }
+}
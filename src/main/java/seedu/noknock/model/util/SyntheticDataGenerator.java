@@ -0,0 +1,259 @@
+package seedu.noknock.model.util;
+
+import static seedu.noknock.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.Phone;
+import seedu.noknock.model.person.Relationship;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
+
+/**
+ * Generates large, realistic-looking address books for load testing and benchmarking.
+ * The output is fully determined by the seed and settings, so the same dataset can be recreated on any machine.
+ * Patients are given unique ICs and no two sessions of a patient overlap.
+ */
+public class SyntheticDataGenerator {
+    public static final List<String> FIRST_NAMES = List.of(
+            "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Mei Ling", "Kumar", "Siti", "Wei Jie",
+            "Priya", "Hui Min", "Ahmad", "Grace", "Daniel", "Nurul", "Rajesh", "Xin Yi", "Farah", "Marcus");
+    public static final List<String> LAST_NAMES = List.of(
+            "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Ng", "Wong",
+            "Rahman", "Chua", "Goh", "Pillai", "Teo", "Koh", "Subramaniam", "Ong", "Hassan", "Lee");
+    public static final List<String> TAG_NAMES = List.of(
+            "VIP", "Diabetic", "Allergic", "PostOp", "Dementia", "Isolation", "Critical", "FallRisk",
+            "Hypertension", "Dialysis", "Stroke", "Palliative");
+    public static final List<String> CARE_TYPES = List.of(
+            "medication", "hygiene", "physiotherapy", "wound care", "feeding", "vital signs", "mobility");
+
+    /** Sessions are scheduled on the hour or half hour between these times. */
+    private static final LocalTime FIRST_SESSION_TIME = LocalTime.of(7, 0);
+    private static final int SESSION_SLOTS_PER_DAY = 28;
+    private static final String WARD_LETTERS = "ABCD";
+    private static final int MAX_IC_NUMBER = 10_000_000;
+
+    private final long seed;
+    private int maxTagsPerPatient = 2;
+    private int maxNextOfKinPerPatient = 3;
+    private int maxSessionsPerPatient = 6;
+    private int wardCount = 24;
+    private double wardSkew = 0;
+    private LocalDate firstSessionDate = LocalDate.of(2026, 1, 1);
+    private int sessionDays = 365;
+    private double completedSessionRatio = 0.5;
+
+    /**
+     * Creates a generator with the default settings whose output is determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the maximum number of tags per patient. Each patient gets a uniformly random number of tags
+     * from 0 to {@code maxTagsPerPatient}.
+     */
+    public SyntheticDataGenerator withMaxTagsPerPatient(int maxTagsPerPatient) {
+        checkArgument(maxTagsPerPatient >= 0 && maxTagsPerPatient <= TAG_NAMES.size(),
+                "Tags per patient must be between 0 and " + TAG_NAMES.size());
+        this.maxTagsPerPatient = maxTagsPerPatient;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of next-of-kin per patient. Each patient gets a uniformly random number of
+     * next-of-kin from 0 to {@code maxNextOfKinPerPatient}.
+     */
+    public SyntheticDataGenerator withMaxNextOfKinPerPatient(int maxNextOfKinPerPatient) {
+        checkArgument(maxNextOfKinPerPatient >= 0, "Next-of-kin per patient must not be negative");
+        this.maxNextOfKinPerPatient = maxNextOfKinPerPatient;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of caring sessions per patient. Each patient gets a uniformly random number of
+     * sessions from 0 to {@code maxSessionsPerPatient}.
+     */
+    public SyntheticDataGenerator withMaxSessionsPerPatient(int maxSessionsPerPatient) {
+        checkArgument(maxSessionsPerPatient >= 0, "Sessions per patient must not be negative");
+        this.maxSessionsPerPatient = maxSessionsPerPatient;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct wards and how unevenly patients are spread across them.
+     * With a {@code wardSkew} of 0 every ward is equally likely; larger values make lower-numbered wards
+     * more crowded, following a Zipf distribution with {@code wardSkew} as the exponent.
+     */
+    public SyntheticDataGenerator withWards(int wardCount, double wardSkew) {
+        checkArgument(wardCount > 0, "Ward count must be positive");
+        checkArgument(wardSkew >= 0, "Ward skew must not be negative");
+        this.wardCount = wardCount;
+        this.wardSkew = wardSkew;
+        return this;
+    }
+
+    /**
+     * Sets the range of dates that sessions are scheduled on: {@code sessionDays} days starting from
+     * {@code firstSessionDate}.
+     */
+    public SyntheticDataGenerator withSessionDates(LocalDate firstSessionDate, int sessionDays) {
+        checkArgument(firstSessionDate != null, "First session date must be given");
+        checkArgument(sessionDays > 0, "Session days must be positive");
+        this.firstSessionDate = firstSessionDate;
+        this.sessionDays = sessionDays;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of sessions that are completed.
+     */
+    public SyntheticDataGenerator withCompletedSessionRatio(double completedSessionRatio) {
+        checkArgument(completedSessionRatio >= 0 && completedSessionRatio <= 1,
+                "Completed session ratio must be between 0 and 1");
+        this.completedSessionRatio = completedSessionRatio;
+        return this;
+    }
+
+    public LocalDate getFirstSessionDate() {
+        return firstSessionDate;
+    }
+
+    public int getSessionDays() {
+        return sessionDays;
+    }
+
+    /**
+     * Returns {@code count} generated patients.
+     * Calling this again with the same count returns equal patients.
+     */
+    public List<Patient> generatePatients(int count) {
+        checkArgument(count >= 0 && count <= MAX_IC_NUMBER, "Patient count must be between 0 and " + MAX_IC_NUMBER);
+        Random random = new Random(seed);
+        double[] wardWeights = getWardWeights();
+        List<Patient> patients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            patients.add(generatePatient(random, i, wardWeights));
+        }
+        return patients;
+    }
+
+    /**
+     * Returns an address book containing {@code count} generated patients.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPatients(generatePatients(count));
+        return addressBook;
+    }
+
+    private Patient generatePatient(Random random, int index, double[] wardWeights) {
+        // The IC number is derived from the index, so ICs are unique
+        char icPrefix = random.nextBoolean() ? 'S' : 'T';
+        char icSuffix = (char) ('A' + random.nextInt(26));
+        IC ic = new IC(String.format("%c%07d%c", icPrefix, index, icSuffix));
+        Ward ward = generateWard(random, wardWeights);
+
+        Patient patient = new Patient(generateName(random), ward, ic, generateTags(random));
+        return patient.withNextOfKinList(generateNextOfKins(random))
+                .withCaringSessionList(generateSessions(random));
+    }
+
+    private Name generateName(Random random) {
+        return new Name(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES));
+    }
+
+    private Ward generateWard(Random random, double[] wardWeights) {
+        int wardIndex = wardCount - 1;
+        double target = random.nextDouble();
+        for (int i = 0; i < wardCount; i++) {
+            if (target < wardWeights[i]) {
+                wardIndex = i;
+                break;
+            }
+        }
+        int level = wardIndex / WARD_LETTERS.length() + 1;
+        return new Ward(level + String.valueOf(WARD_LETTERS.charAt(wardIndex % WARD_LETTERS.length())));
+    }
+
+    /**
+     * Returns the cumulative probability of each ward.
+     */
+    private double[] getWardWeights() {
+        double[] cumulative = new double[wardCount];
+        double total = 0;
+        for (int i = 0; i < wardCount; i++) {
+            total += 1 / Math.pow(i + 1, wardSkew);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < wardCount; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private Set<Tag> generateTags(Random random) {
+        int tagCount = random.nextInt(maxTagsPerPatient + 1);
+        Set<Tag> tags = new HashSet<>();
+        while (tags.size() < tagCount) {
+            tags.add(new Tag(pick(random, TAG_NAMES)));
+        }
+        return tags;
+    }
+
+    private List<NextOfKin> generateNextOfKins(Random random) {
+        int nextOfKinCount = random.nextInt(maxNextOfKinPerPatient + 1);
+        List<NextOfKin> nextOfKins = new ArrayList<>(nextOfKinCount);
+        for (int i = 0; i < nextOfKinCount; i++) {
+            Phone phone = new Phone((random.nextBoolean() ? "8" : "9")
+                    + String.format("%07d", random.nextInt(MAX_IC_NUMBER)));
+            Relationship relationship = Relationship.values()[random.nextInt(Relationship.values().length)];
+            nextOfKins.add(new NextOfKin(generateName(random), phone, relationship));
+        }
+        return nextOfKins;
+    }
+
+    private List<CaringSession> generateSessions(Random random) {
+        int sessionCount = Math.min(random.nextInt(maxSessionsPerPatient + 1), sessionDays * SESSION_SLOTS_PER_DAY);
+        Set<Long> usedSlots = new HashSet<>();
+        List<CaringSession> sessions = new ArrayList<>(sessionCount);
+        while (sessions.size() < sessionCount) {
+            int day = random.nextInt(sessionDays);
+            int slot = random.nextInt(SESSION_SLOTS_PER_DAY);
+            if (!usedSlots.add((long) day * SESSION_SLOTS_PER_DAY + slot)) {
+                continue;
+            }
+
+            LocalDate date = firstSessionDate.plusDays(day);
+            LocalTime time = FIRST_SESSION_TIME.plusMinutes(30L * slot);
+            SessionStatus status = random.nextDouble() < completedSessionRatio
+                    ? SessionStatus.COMPLETED
+                    : SessionStatus.INCOMPLETE;
+            sessions.add(new CaringSession(new CareType(pick(random, CARE_TYPES)), new Note(""),
+                    new Date(date.toString()), new Time(time.toString()), status));
+        }
+        return sessions;
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
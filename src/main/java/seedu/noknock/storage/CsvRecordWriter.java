@@ -0,0 +1,95 @@
+package seedu.noknock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.stream.Collectors;
+
+import seedu.noknock.commons.util.CsvUtil;
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * Writes records as comma-separated values.
+ * Patients are written in the rows read by the {@code import} command, so an exported patient list can be imported
+ * again. Sessions are written one per row, after a header row naming the columns.
+ */
+public class CsvRecordWriter implements RecordWriter {
+
+    public static final String PATIENT_HEADER = "# patient,IC,NAME,WARD,TAGS | nok,PATIENT_IC,NAME,PHONE,RELATIONSHIP"
+            + " | session,PATIENT_IC,DATE,TIME,CARE_TYPE,NOTES,STATUS,DURATION";
+    public static final String SESSION_HEADER = "date,time,ic,name,ward,care_type,notes,status,duration";
+
+    private static final String TAG_SEPARATOR = ";";
+
+    private final Writer writer;
+    private boolean hasWrittenPatientHeader;
+    private boolean hasWrittenSessionHeader;
+
+    /**
+     * Creates a CsvRecordWriter that writes to {@code writer}, which should be buffered.
+     */
+    public CsvRecordWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    @Override
+    public void writePatient(Patient patient) throws IOException {
+        requireNonNull(patient);
+        if (!hasWrittenPatientHeader) {
+            writeLine(PATIENT_HEADER);
+            hasWrittenPatientHeader = true;
+        }
+
+        String ic = patient.getIC().toString();
+        String tags = patient.getTags().stream().map(tag -> tag.tagName).sorted()
+                .collect(Collectors.joining(TAG_SEPARATOR));
+        writeRow("patient", ic, patient.getName().toString(), patient.getWard().toString(), tags);
+        for (NextOfKin nextOfKin : patient.getNextOfKinList()) {
+            writeRow("nok", ic, nextOfKin.getName().toString(), nextOfKin.getPhone().toString(),
+                    nextOfKin.getRelationship().toString());
+        }
+        for (CaringSession session : patient.getCaringSessionList()) {
+            writeRow("session", ic, session.getDate().toString(), session.getTime().toString(),
+                    session.getCareType().toString(), session.getNote().toString(), session.getStatus().toString(),
+                    session.getDuration().toString());
+        }
+    }
+
+    @Override
+    public void writeSession(Patient patient, CaringSession session) throws IOException {
+        requireNonNull(patient);
+        requireNonNull(session);
+        if (!hasWrittenSessionHeader) {
+            writeLine(SESSION_HEADER);
+            hasWrittenSessionHeader = true;
+        }
+
+        writeRow(session.getDate().toString(), session.getTime().toString(), patient.getIC().toString(),
+                patient.getName().toString(), patient.getWard().toString(), session.getCareType().toString(),
+                session.getNote().toString(), session.getStatus().toString(), session.getDuration().toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeRow(String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(CsvUtil.quoteIfNeeded(fields[i]));
+        }
+        writer.write('\n');
+    }
+
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.noknock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The file formats that patients and caring sessions can be exported to, each recognised by its file extensions.
+ */
+public enum ExportFormat {
+    CSV(CsvRecordWriter::new, ".csv"),
+    NDJSON(NdjsonRecordWriter::new, ".ndjson", ".jsonl");
+
+    private final Function<Writer, RecordWriter> writerFactory;
+    private final String[] extensions;
+
+    ExportFormat(Function<Writer, RecordWriter> writerFactory, String... extensions) {
+        this.writerFactory = writerFactory;
+        this.extensions = extensions;
+    }
+
+    /**
+     * Returns the format of {@code file} going by its extension, or an empty Optional if it is not a supported one.
+     */
+    public static Optional<ExportFormat> fromFile(Path file) {
+        requireNonNull(file);
+        Path fileName = file.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String name = fileName.toString().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            for (String extension : format.extensions) {
+                if (name.endsWith(extension)) {
+                    return Optional.of(format);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a {@code RecordWriter} that writes records in this format to {@code writer}.
+     */
+    public RecordWriter createWriter(Writer writer) {
+        requireNonNull(writer);
+        return writerFactory.apply(writer);
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.noknock.commons.exceptions.IllegalValueException;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
@@ -17,6 +18,7 @@ import seedu.noknock.model.session.SessionStatus;
 public class JsonAdaptedCaringSession {
     private final String date;
     private final String time;
+    private final String duration;
     private final String careType;
     private final String note;
     private final String sessionStatus;
@@ -27,11 +29,13 @@ public class JsonAdaptedCaringSession {
     @JsonCreator
     public JsonAdaptedCaringSession(@JsonProperty("date") String date,
                                     @JsonProperty("time") String time,
+                                    @JsonProperty("duration") String duration,
                                     @JsonProperty("careType") String careType,
                                     @JsonProperty("note") String note,
                                     @JsonProperty("status") String sessionStatus) {
         this.date = date;
         this.time = time;
+        this.duration = duration;
         this.careType = careType;
         this.note = note;
         this.sessionStatus = sessionStatus;
@@ -43,6 +47,7 @@ public class JsonAdaptedCaringSession {
     public JsonAdaptedCaringSession(CaringSession source) {
         date = source.getDate().toString();
         time = source.getTime().toString();
+        duration = source.getDuration().toString();
         careType = source.getCareType().toString();
         note = source.getNote().toString();
         sessionStatus = source.getStatus().toString();
@@ -63,6 +68,10 @@ public class JsonAdaptedCaringSession {
             throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
         }
         final Time modelTime = new Time(time);
+        if (duration != null && !Duration.isValidDuration(duration)) {
+            throw new IllegalValueException(Duration.MESSAGE_CONSTRAINTS);
+        }
+        final Duration modelDuration = duration == null ? Duration.DEFAULT : new Duration(duration);
         if (careType == null || !CareType.isValidCareType(careType)) {
             throw new IllegalValueException(CareType.MESSAGE_CONSTRAINTS);
         }
@@ -75,6 +84,6 @@ public class JsonAdaptedCaringSession {
             throw new IllegalValueException(SessionStatus.MESSAGE_CONSTRAINTS);
         }
         final SessionStatus modelSessionStatus = SessionStatus.valueOf(sessionStatus.toUpperCase());
-        return new CaringSession(modelCareType, modelNote, modelDate, modelTime, modelSessionStatus);
+        return new CaringSession(modelCareType, modelNote, modelDate, modelTime, modelDuration, modelSessionStatus);
     }
 }
@@ -15,6 +15,7 @@ import seedu.noknock.model.person.NextOfKin;
 import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.person.Ward;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.RecurringSession;
 import seedu.noknock.model.tag.Tag;
 
 /**
@@ -30,6 +31,7 @@ class JsonAdaptedPatient {
     private final List<JsonAdaptedNextOfKin> nextOfKins = new ArrayList<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final List<JsonAdaptedCaringSession> caringSessions = new ArrayList<>();
+    private final List<JsonAdaptedRecurringSession> recurringSessions = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPatient} with the given patient details.
@@ -39,7 +41,8 @@ class JsonAdaptedPatient {
                               @JsonProperty("ic") String ic,
                               @JsonProperty("tags") List<JsonAdaptedTag> tags,
                               @JsonProperty("nextOfKins") List<JsonAdaptedNextOfKin> nextOfKins,
-                              @JsonProperty("sessions") List<JsonAdaptedCaringSession> sessions) {
+                              @JsonProperty("sessions") List<JsonAdaptedCaringSession> sessions,
+                              @JsonProperty("recurringSessions") List<JsonAdaptedRecurringSession> recurringSessions) {
         this.name = name;
         this.ward = ward;
         this.ic = ic;
@@ -52,6 +55,9 @@ class JsonAdaptedPatient {
         if (sessions != null) {
             this.caringSessions.addAll(sessions);
         }
+        if (recurringSessions != null) {
+            this.recurringSessions.addAll(recurringSessions);
+        }
     }
 
     /**
@@ -70,6 +76,9 @@ class JsonAdaptedPatient {
         caringSessions.addAll(source.getCaringSessionList().stream()
             .map(JsonAdaptedCaringSession::new)
             .toList());
+        recurringSessions.addAll(source.getRecurringSessionList().stream()
+            .map(JsonAdaptedRecurringSession::new)
+            .toList());
     }
 
     /**
@@ -117,9 +126,14 @@ class JsonAdaptedPatient {
         for (JsonAdaptedCaringSession nok : caringSessions) {
             modelCaringSessions.add(nok.toModelType());
         }
+        final List<RecurringSession> modelRecurringSessions = new ArrayList<>();
+        for (JsonAdaptedRecurringSession recurringSession : recurringSessions) {
+            modelRecurringSessions.add(recurringSession.toModelType());
+        }
         return new Patient(modelName, modelWard, modelIC, modelTags)
                 .withNextOfKinList(personNextOfKins)
-                .withCaringSessionList(modelCaringSessions);
+                .withCaringSessionList(modelCaringSessions)
+                .withRecurringSessionList(modelRecurringSessions);
     }
 
 }
@@ -0,0 +1,143 @@
+package seedu.noknock.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.noknock.commons.exceptions.IllegalValueException;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+
+/**
+ * Jackson-friendly version of {@link RecurringSession}.
+ * Only the rule and the dates of its completed and skipped occurrences are stored, never the occurrences themselves.
+ */
+public class JsonAdaptedRecurringSession {
+    private final String careType;
+    private final String note;
+    private final String time;
+    private final String duration;
+    private final String recurrence;
+    private final String startDate;
+    private final String endDate;
+    private final List<String> completedDates = new ArrayList<>();
+    private final List<String> skippedDates = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurringSession} with the given recurring session details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurringSession(@JsonProperty("careType") String careType,
+                                       @JsonProperty("note") String note,
+                                       @JsonProperty("time") String time,
+                                       @JsonProperty("duration") String duration,
+                                       @JsonProperty("recurrence") String recurrence,
+                                       @JsonProperty("startDate") String startDate,
+                                       @JsonProperty("endDate") String endDate,
+                                       @JsonProperty("completedDates") List<String> completedDates,
+                                       @JsonProperty("skippedDates") List<String> skippedDates) {
+        this.careType = careType;
+        this.note = note;
+        this.time = time;
+        this.duration = duration;
+        this.recurrence = recurrence;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        if (completedDates != null) {
+            this.completedDates.addAll(completedDates);
+        }
+        if (skippedDates != null) {
+            this.skippedDates.addAll(skippedDates);
+        }
+    }
+
+    /**
+     * Converts a given {@code RecurringSession} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurringSession(RecurringSession source) {
+        careType = source.getCareType().toString();
+        note = source.getNote().toString();
+        time = source.getTime().toString();
+        duration = source.getDuration().toString();
+        recurrence = source.getRecurrence().toString();
+        startDate = source.getStartDate().toString();
+        endDate = source.getEndDate().toString();
+        source.getCompletedDates().forEach(date -> completedDates.add(date.toString()));
+        source.getSkippedDates().forEach(date -> skippedDates.add(date.toString()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurring session object into the model's {@code RecurringSession}
+     * object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurring session.
+     */
+    public RecurringSession toModelType() throws IllegalValueException {
+        if (careType == null || !CareType.isValidCareType(careType)) {
+            throw new IllegalValueException(CareType.MESSAGE_CONSTRAINTS);
+        }
+        final CareType modelCareType = new CareType(careType);
+        if (note == null || !Note.isValidNote(note)) {
+            throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+        }
+        final Note modelNote = new Note(note);
+        if (time == null || !Time.isValidTime(time)) {
+            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
+        }
+        final Time modelTime = new Time(time);
+        if (duration != null && !Duration.isValidDuration(duration)) {
+            throw new IllegalValueException(Duration.MESSAGE_CONSTRAINTS);
+        }
+        final Duration modelDuration = duration == null ? Duration.DEFAULT : new Duration(duration);
+        if (!Recurrence.isValidRecurrence(recurrence)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        final Recurrence modelRecurrence = Recurrence.fromString(recurrence);
+        final Date modelStartDate = toModelDate(startDate);
+        final Date modelEndDate = toModelDate(endDate);
+        if (!RecurringSession.isValidDateRange(modelStartDate, modelEndDate)) {
+            throw new IllegalValueException(RecurringSession.MESSAGE_CONSTRAINTS);
+        }
+
+        final RecurringSession rule = new RecurringSession(modelCareType, modelNote, modelTime, modelDuration,
+            modelRecurrence, modelStartDate, modelEndDate);
+        final Set<Date> modelSkippedDates = toScheduledDates(rule, skippedDates);
+        final Set<Date> modelCompletedDates = toScheduledDates(rule, completedDates);
+        for (Date date : modelCompletedDates) {
+            if (modelSkippedDates.contains(date)) {
+                throw new IllegalValueException(String.format(RecurringSession.MESSAGE_NOT_SCHEDULED, date));
+            }
+        }
+        return new RecurringSession(modelCareType, modelNote, modelTime, modelDuration, modelRecurrence,
+            modelStartDate, modelEndDate, modelCompletedDates, modelSkippedDates);
+    }
+
+    private static Date toModelDate(String date) throws IllegalValueException {
+        if (date == null || !Date.isValidDate(date)) {
+            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
+        }
+        return new Date(date);
+    }
+
+    private static Set<Date> toScheduledDates(RecurringSession rule, List<String> dates)
+            throws IllegalValueException {
+        final Set<Date> modelDates = new HashSet<>();
+        for (String date : dates) {
+            Date modelDate = toModelDate(date);
+            if (!rule.isScheduledOn(modelDate)) {
+                throw new IllegalValueException(String.format(RecurringSession.MESSAGE_NOT_SCHEDULED, modelDate));
+            }
+            modelDates.add(modelDate);
+        }
+        return modelDates;
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.noknock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import seedu.noknock.commons.util.JsonUtil;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * Writes records as newline-delimited JSON, one JSON object per line.
+ * Patients are written in the same form as in the data file.
+ */
+public class NdjsonRecordWriter implements RecordWriter {
+
+    private final Writer writer;
+
+    /**
+     * Creates a NdjsonRecordWriter that writes to {@code writer}, which should be buffered.
+     */
+    public NdjsonRecordWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    @Override
+    public void writePatient(Patient patient) throws IOException {
+        requireNonNull(patient);
+        writeLine(JsonUtil.toJsonLine(new JsonAdaptedPatient(patient)));
+    }
+
+    @Override
+    public void writeSession(Patient patient, CaringSession session) throws IOException {
+        requireNonNull(patient);
+        requireNonNull(session);
+        writeLine(JsonUtil.toJsonLine(new JsonAdaptedScheduledSession(patient, session)));
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeLine(String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+
+    /**
+     * Jackson-friendly version of a {@link CaringSession} together with the patient it is for.
+     */
+    private static class JsonAdaptedScheduledSession {
+        private final String date;
+        private final String time;
+        private final String duration;
+        private final String ic;
+        private final String name;
+        private final String ward;
+        private final String careType;
+        private final String note;
+        private final String status;
+
+        JsonAdaptedScheduledSession(Patient patient, CaringSession session) {
+            date = session.getDate().toString();
+            time = session.getTime().toString();
+            duration = session.getDuration().toString();
+            ic = patient.getIC().toString();
+            name = patient.getName().toString();
+            ward = patient.getWard().toString();
+            careType = session.getCareType().toString();
+            note = session.getNote().toString();
+            status = session.getStatus().toString();
+        }
+    }
+}
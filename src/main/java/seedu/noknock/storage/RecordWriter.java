@@ -0,0 +1,24 @@
+package seedu.noknock.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+/**
+ * Writes patients or caring sessions to an export file one record at a time, so that the records never need to be
+ * collected in memory first. Closing the writer flushes and closes the file.
+ */
+public interface RecordWriter extends Closeable {
+
+    /**
+     * Writes {@code patient} together with its next-of-kin and caring sessions.
+     */
+    void writePatient(Patient patient) throws IOException;
+
+    /**
+     * Writes {@code session} of {@code patient}, with the details needed to find the patient on the ward.
+     */
+    void writeSession(Patient patient, CaringSession session) throws IOException;
+}
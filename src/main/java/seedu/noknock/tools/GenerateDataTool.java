@@ -0,0 +1,72 @@
+package seedu.noknock.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.util.SyntheticDataGenerator;
+import seedu.noknock.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a generated address book to a data file that the app can open.
+ * Run with {@code ./gradlew generateData -Pargs="--patients=10000 --output=data/noknock.json"}.
+ */
+public class GenerateDataTool {
+    public static final String USAGE = "Options (all optional):\n"
+            + "  --patients=COUNT          number of patients (default 10000)\n"
+            + "  --seed=SEED               random seed (default 42)\n"
+            + "  --max-tags=COUNT          maximum tags per patient (default 2)\n"
+            + "  --max-noks=COUNT          maximum next-of-kin per patient (default 3)\n"
+            + "  --max-sessions=COUNT      maximum caring sessions per patient (default 6)\n"
+            + "  --wards=COUNT             number of wards (default 24)\n"
+            + "  --ward-skew=EXPONENT      Zipf exponent of ward sizes, 0 for even (default 0)\n"
+            + "  --start-date=YYYY-MM-DD   first date sessions are scheduled on (default 2026-01-01)\n"
+            + "  --days=COUNT              number of days sessions are spread over (default 365)\n"
+            + "  --completed-ratio=RATIO   fraction of completed sessions (default 0.5)\n"
+            + "  --output=FILE             data file to write (default data/synthetic.json)";
+
+    static final Set<String> GENERATOR_OPTIONS = Set.of("patients", "seed", "max-tags", "max-noks",
+            "max-sessions", "wards", "ward-skew", "start-date", "days", "completed-ratio");
+
+    /**
+     * Generates the address book described by {@code args} and saves it.
+     */
+    public static void main(String[] args) {
+        try {
+            Set<String> allowedOptions = new HashSet<>(GENERATOR_OPTIONS);
+            allowedOptions.add("output");
+            ToolOptions options = ToolOptions.parse(args, allowedOptions);
+            Path output = options.has("output") ? options.getPath("output") : Paths.get("data", "synthetic.json");
+            int patientCount = options.getInt("patients", 10_000);
+
+            AddressBook addressBook = createGenerator(options).generateAddressBook(patientCount);
+            new JsonAddressBookStorage(output).saveAddressBook(addressBook);
+            System.out.println("Wrote " + patientCount + " patients to " + output);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Could not write data file: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns a generator configured with the {@link #GENERATOR_OPTIONS} in {@code options}.
+     */
+    static SyntheticDataGenerator createGenerator(ToolOptions options) {
+        SyntheticDataGenerator defaults = new SyntheticDataGenerator(0);
+        return new SyntheticDataGenerator(options.getLong("seed", 42))
+                .withMaxTagsPerPatient(options.getInt("max-tags", 2))
+                .withMaxNextOfKinPerPatient(options.getInt("max-noks", 3))
+                .withMaxSessionsPerPatient(options.getInt("max-sessions", 6))
+                .withWards(options.getInt("wards", 24), options.getDouble("ward-skew", 0))
+                .withSessionDates(options.getDate("start-date", defaults.getFirstSessionDate()),
+                        options.getInt("days", defaults.getSessionDays()))
+                .withCompletedSessionRatio(options.getDouble("completed-ratio", 0.5));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.noknock.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and failures of the commands executed by a {@link LoadTestRunner}, grouped by command word.
+ */
+public class LoadTestReport {
+    public static final String ALL_COMMANDS = "(all)";
+
+    private final Map<String, List<Long>> latenciesByCommandWord = new TreeMap<>();
+    private final Map<String, Integer> failuresByCommandWord = new TreeMap<>();
+    private long elapsedNanos = 0;
+
+    /**
+     * Records one execution of {@code commandWord} that took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, long nanos, boolean isSuccessful) {
+        requireNonNull(commandWord);
+        latenciesByCommandWord.computeIfAbsent(commandWord, unused -> new ArrayList<>()).add(nanos);
+        if (!isSuccessful) {
+            failuresByCommandWord.merge(commandWord, 1, Integer::sum);
+        }
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of commands executed with {@code commandWord}, or with any command word if
+     * {@code commandWord} is {@link #ALL_COMMANDS}.
+     */
+    public int getCount(String commandWord) {
+        return getSortedLatencies(commandWord).length;
+    }
+
+    public int getFailureCount(String commandWord) {
+        if (ALL_COMMANDS.equals(commandWord)) {
+            return failuresByCommandWord.values().stream().mapToInt(Integer::intValue).sum();
+        }
+        return failuresByCommandWord.getOrDefault(commandWord, 0);
+    }
+
+    /**
+     * Returns the number of commands executed per second over the whole run.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getCount(ALL_COMMANDS) / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Returns the {@code percentile}-th percentile latency of {@code commandWord} in nanoseconds using the
+     * nearest-rank method, or 0 if it was not executed.
+     */
+    public long getPercentileNanos(String commandWord, double percentile) {
+        long[] latencies = getSortedLatencies(commandWord);
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+        return latencies[Math.max(0, Math.min(latencies.length, rank) - 1)];
+    }
+
+    private long[] getSortedLatencies(String commandWord) {
+        long[] latencies = (ALL_COMMANDS.equals(commandWord)
+                ? latenciesByCommandWord.values().stream().flatMap(List::stream)
+                : latenciesByCommandWord.getOrDefault(commandWord, List.of()).stream())
+                .mapToLong(Long::longValue)
+                .toArray();
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    /**
+     * Returns the report as a table with one row per command word and a final row for all commands.
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Executed %d commands in %.2fs (%.1f commands/s)%n",
+                getCount(ALL_COMMANDS), elapsedNanos / 1e9, getThroughput()));
+        report.append(String.format("%-16s %7s %7s %10s %10s %10s %10s%n",
+                "command", "count", "failed", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+
+        List<String> rows = new ArrayList<>(latenciesByCommandWord.keySet());
+        rows.add(ALL_COMMANDS);
+        for (String commandWord : rows) {
+            report.append(String.format("%-16s %7d %7d %10.3f %10.3f %10.3f %10.3f%n",
+                    commandWord, getCount(commandWord), getFailureCount(commandWord),
+                    getPercentileNanos(commandWord, 50) / 1e6, getPercentileNanos(commandWord, 90) / 1e6,
+                    getPercentileNanos(commandWord, 99) / 1e6, getPercentileNanos(commandWord, 100) / 1e6));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,228 @@
+package seedu.noknock.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Level;
+
+import seedu.noknock.commons.core.Config;
+import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.exceptions.DataLoadingException;
+import seedu.noknock.commons.util.FileUtil;
+import seedu.noknock.logic.Logic;
+import seedu.noknock.logic.LogicManager;
+import seedu.noknock.logic.commands.AddCaringSessionCommand;
+import seedu.noknock.logic.commands.AddNextOfKinCommand;
+import seedu.noknock.logic.commands.DeleteCaringSessionCommand;
+import seedu.noknock.logic.commands.EditCaringSessionCommand;
+import seedu.noknock.logic.commands.EditPatientCommand;
+import seedu.noknock.logic.commands.FindPatientByNextOfKinCommand;
+import seedu.noknock.logic.commands.FindPatientCommand;
+import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.logic.commands.SessionsTodayCommand;
+import seedu.noknock.logic.commands.SessionsWeekCommand;
+import seedu.noknock.logic.commands.ViewPatientCommand;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.util.SyntheticDataGenerator;
+import seedu.noknock.storage.JsonAddressBookStorage;
+import seedu.noknock.storage.JsonUserPrefsStorage;
+import seedu.noknock.storage.StorageManager;
+
+/**
+ * Replays a random but reproducible mix of commands through {@link Logic} without a UI, and reports the
+ * throughput and latency of each command word.
+ * Run with {@code ./gradlew loadTest -Pargs="--patients=10000 --commands=1000"}.
+ */
+public class LoadTestRunner {
+    public static final String USAGE = "Options (all optional):\n"
+            + "  --commands=COUNT          number of commands to execute (default 1000)\n"
+            + "  --data=FILE               data file to load instead of generating patients\n"
+            + "  --patients=COUNT          number of patients to generate (default 10000)\n"
+            + "  and any option of GenerateDataTool to configure the generated patients";
+
+    /** How often each kind of command is executed relative to the others. */
+    private static final List<WeightedCommand> COMMAND_MIX = List.of(
+            new WeightedCommand(10, (runner, shown) -> ListPatientsCommand.COMMAND_WORD),
+            new WeightedCommand(15, (runner, shown) -> FindPatientCommand.COMMAND_WORD + " "
+                    + runner.pickFirstName()),
+            new WeightedCommand(5, (runner, shown) -> FindPatientByNextOfKinCommand.COMMAND_WORD + " "
+                    + runner.pickLastName()),
+            new WeightedCommand(15, (runner, shown) -> ViewPatientCommand.COMMAND_WORD + " "
+                    + runner.pickIndex(shown)),
+            new WeightedCommand(5, (runner, shown) -> SessionsTodayCommand.COMMAND_WORD),
+            new WeightedCommand(5, (runner, shown) -> SessionsWeekCommand.COMMAND_WORD),
+            new WeightedCommand(15, (runner, shown) -> AddCaringSessionCommand.COMMAND_WORD + " "
+                    + runner.pickIndex(shown) + " d/" + runner.pickDate() + " time/" + runner.pickTime()
+                    + " type/" + runner.pick(SyntheticDataGenerator.CARE_TYPES)),
+            new WeightedCommand(10, (runner, shown) -> EditCaringSessionCommand.COMMAND_WORD + " "
+                    + runner.pickIndex(shown) + " 1 status/completed"),
+            new WeightedCommand(5, (runner, shown) -> DeleteCaringSessionCommand.COMMAND_WORD + " "
+                    + runner.pickIndex(shown) + " 1"),
+            new WeightedCommand(5, (runner, shown) -> AddNextOfKinCommand.COMMAND_WORD + " "
+                    + runner.pickIndex(shown) + " n/" + runner.pickFirstName() + " " + runner.pickLastName()
+                    + " p/9" + String.format("%07d", runner.random.nextInt(10_000_000)) + " r/son"),
+            new WeightedCommand(5, (runner, shown) -> EditPatientCommand.COMMAND_WORD + " "
+                    + runner.pickIndex(shown) + " t/" + runner.pick(SyntheticDataGenerator.TAG_NAMES)));
+
+    private final Logic logic;
+    private final Random random;
+    private final LocalDate firstSessionDate;
+    private final int sessionDays;
+
+    /**
+     * Creates a runner that executes commands with {@code logic}. The commands are determined by {@code seed}.
+     * New sessions are scheduled within {@code sessionDays} days from {@code firstSessionDate}.
+     */
+    public LoadTestRunner(Logic logic, long seed, LocalDate firstSessionDate, int sessionDays) {
+        requireNonNull(logic);
+        requireNonNull(firstSessionDate);
+        this.logic = logic;
+        this.random = new Random(seed);
+        this.firstSessionDate = firstSessionDate;
+        this.sessionDays = sessionDays;
+    }
+
+    /**
+     * Executes {@code commandCount} commands and returns their latencies.
+     * Commands that fail, for example because a new session overlaps an existing one, are still counted.
+     */
+    public LoadTestReport run(int commandCount) {
+        LoadTestReport report = new LoadTestReport();
+        long runStart = System.nanoTime();
+        for (int i = 0; i < commandCount; i++) {
+            String commandText = nextCommand();
+            String commandWord = commandText.split(" ", 2)[0];
+
+            long start = System.nanoTime();
+            boolean isSuccessful;
+            try {
+                logic.execute(commandText);
+                isSuccessful = true;
+            } catch (CommandException | ParseException e) {
+                isSuccessful = false;
+            }
+            report.record(commandWord, System.nanoTime() - start, isSuccessful);
+        }
+        report.setElapsedNanos(System.nanoTime() - runStart);
+        return report;
+    }
+
+    /**
+     * Returns the next command of the mix, or a command listing all patients if no patient is shown.
+     */
+    String nextCommand() {
+        int shown = logic.getFilteredPersonList().size();
+        if (shown == 0) {
+            return ListPatientsCommand.COMMAND_WORD;
+        }
+
+        int totalWeight = COMMAND_MIX.stream().mapToInt(WeightedCommand::weight).sum();
+        int target = random.nextInt(totalWeight);
+        for (WeightedCommand command : COMMAND_MIX) {
+            target -= command.weight();
+            if (target < 0) {
+                return command.template().create(this, shown);
+            }
+        }
+        throw new AssertionError("Weights of the command mix do not add up");
+    }
+
+    private String pick(List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private String pickFirstName() {
+        return pick(SyntheticDataGenerator.FIRST_NAMES).split(" ")[0];
+    }
+
+    private String pickLastName() {
+        return pick(SyntheticDataGenerator.LAST_NAMES);
+    }
+
+    private int pickIndex(int shown) {
+        return random.nextInt(shown) + 1;
+    }
+
+    private String pickDate() {
+        return firstSessionDate.plusDays(random.nextInt(sessionDays)).toString();
+    }
+
+    private String pickTime() {
+        return LocalTime.of(7 + random.nextInt(14), random.nextBoolean() ? 0 : 30).toString();
+    }
+
+    /**
+     * Creates the text of a command, given the number of patients currently shown.
+     */
+    @FunctionalInterface
+    private interface CommandTemplate {
+        String create(LoadTestRunner runner, int shownPatients);
+    }
+
+    private record WeightedCommand(int weight, CommandTemplate template) {
+    }
+
+    /**
+     * Loads or generates the patients described by {@code args}, runs the load test and prints the report.
+     * Changes are saved to a temporary file, so the data file given is never modified.
+     */
+    public static void main(String[] args) {
+        try {
+            Set<String> allowedOptions = new HashSet<>(GenerateDataTool.GENERATOR_OPTIONS);
+            allowedOptions.add("commands");
+            allowedOptions.add("data");
+            ToolOptions options = ToolOptions.parse(args, allowedOptions);
+
+            Config config = new Config();
+            config.setLogLevel(Level.WARNING);
+            LogsCenter.init(config);
+
+            SyntheticDataGenerator generator = GenerateDataTool.createGenerator(options);
+            ReadOnlyAddressBook addressBook = options.has("data")
+                    ? readAddressBook(options.getPath("data"))
+                    : generator.generateAddressBook(options.getInt("patients", 10_000));
+
+            int commandCount = options.getInt("commands", 1000);
+            long seed = options.getLong("seed", 42);
+
+            Path tempDirectory = Files.createTempDirectory("noknock-load-test");
+            try {
+                StorageManager storage = new StorageManager(
+                        new JsonAddressBookStorage(tempDirectory.resolve("noknock.json")),
+                        new JsonUserPrefsStorage(tempDirectory.resolve("preferences.json")));
+                Logic logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()), storage);
+
+                System.out.println("Loaded " + addressBook.getPatientList().size() + " patients");
+                LoadTestRunner runner = new LoadTestRunner(logic, seed, generator.getFirstSessionDate(),
+                        generator.getSessionDays());
+                System.out.print(runner.run(commandCount).format());
+            } finally {
+                FileUtil.deleteRecursively(tempDirectory);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        } catch (IOException | DataLoadingException e) {
+            System.err.println("Could not set up load test: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static ReadOnlyAddressBook readAddressBook(Path dataFile) throws DataLoadingException {
+        return new JsonAddressBookStorage(dataFile).readAddressBook()
+                .orElseThrow(() -> new IllegalArgumentException("Data file not found: " + dataFile));
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.noknock.tools;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the named {@code --name=value} options given to a command-line tool.
+ */
+public class ToolOptions {
+    private final Map<String, String> values;
+
+    private ToolOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Parses {@code args}, each of which must be of the form {@code --name=value} with a name in
+     * {@code allowedNames}.
+     *
+     * @throws IllegalArgumentException if an argument is malformed or has an unknown name.
+     */
+    public static ToolOptions parse(String[] args, Set<String> allowedNames) {
+        requireNonNull(args);
+        requireNonNull(allowedNames);
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options must be of the form --name=value: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (!allowedNames.contains(name)) {
+                throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+        return new ToolOptions(values);
+    }
+
+    public String getString(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    public boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    /**
+     * Returns the value of option {@code name} as an int, or {@code defaultValue} if it was not given.
+     *
+     * @throws IllegalArgumentException if the value is not an integer.
+     */
+    public int getInt(String name, int defaultValue) {
+        if (!has(name)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(values.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be an integer: " + values.get(name));
+        }
+    }
+
+    /**
+     * Returns the value of option {@code name} as a long, or {@code defaultValue} if it was not given.
+     *
+     * @throws IllegalArgumentException if the value is not an integer.
+     */
+    public long getLong(String name, long defaultValue) {
+        if (!has(name)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(values.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be an integer: " + values.get(name));
+        }
+    }
+
+    /**
+     * Returns the value of option {@code name} as a double, or {@code defaultValue} if it was not given.
+     *
+     * @throws IllegalArgumentException if the value is not a number.
+     */
+    public double getDouble(String name, double defaultValue) {
+        if (!has(name)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(values.get(name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number: " + values.get(name));
+        }
+    }
+
+    /**
+     * Returns the value of option {@code name} as a date in YYYY-MM-DD format, or {@code defaultValue} if it
+     * was not given.
+     *
+     * @throws IllegalArgumentException if the value is not a date.
+     */
+    public LocalDate getDate(String name, LocalDate defaultValue) {
+        if (!has(name)) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(values.get(name));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("--" + name + " must be a date in YYYY-MM-DD format: "
+                    + values.get(name));
+        }
+    }
+
+    /**
+     * Returns the value of option {@code name} as a path, or null if it was not given.
+     */
+    public Path getPath(String name) {
+        return has(name) ? Paths.get(values.get(name)) : null;
+    }
+}
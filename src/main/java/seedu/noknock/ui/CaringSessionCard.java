@@ -1,11 +1,14 @@
 package seedu.noknock.ui;
 
+import java.util.Optional;
+
 import de.jensd.fx.glyphs.fontawesome.FontAwesomeIconView;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.noknock.commons.core.index.Index;
 import seedu.noknock.model.session.PatientCaringSession;
 
 /**
@@ -14,6 +17,7 @@ import seedu.noknock.model.session.PatientCaringSession;
 public class CaringSessionCard extends UiPart<Region> {
 
     private static final String FXML = "CaringSessionListCard.fxml";
+    private static final String OCCURRENCE_MARKER = "(recurring) ";
 
     public final PatientCaringSession session;
 
@@ -39,18 +43,20 @@ public class CaringSessionCard extends UiPart<Region> {
     private VBox notesContainer;
 
     /**
-     * Creates a {@code CaringSessionListCard} with the given {@code PatientCaringSession} and index to display.
+     * Creates a {@code CaringSessionListCard} with the given {@code PatientCaringSession} and its index for its
+     * patient to display, or a marker instead if it is an occurrence of a recurring session without an index.
      */
-    public CaringSessionCard(PatientCaringSession session, int displayedIndex) {
+    public CaringSessionCard(PatientCaringSession session, Optional<Index> sessionIndex) {
         super(FXML);
         this.session = session;
 
-        id.setText(displayedIndex + ". ");
+        id.setText(sessionIndex.map(index -> index.getOneBased() + ". ").orElse(OCCURRENCE_MARKER));
         careType.setText(session.getCaringSession().getCareType().value);
 
         patientName.setText(session.getPatient().getName().fullName);
         date.setText(session.getCaringSession().getDate().printPretty());
-        time.setText(session.getCaringSession().getTime().toString());
+        time.setText(session.getCaringSession().getTime() + " ("
+                + session.getCaringSession().getDuration().printPretty() + ")");
 
         // Status field
         if (session.getCaringSession().isComplete()) {
@@ -1,14 +1,19 @@
 package seedu.noknock.ui;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -19,16 +24,22 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.commons.core.index.Index;
 import seedu.noknock.model.date.Date;
 import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.CaringSessionDateInRangePredicate;
 import seedu.noknock.model.session.PatientCaringSession;
 
 /**
  * Panel containing the flattened list of caring sessions from all patients,
  * grouped by date with a date header row.
+ * Each caring session is numbered with its index for its patient, and occurrences of recurring sessions are marked
+ * instead, as they cannot be edited or deleted by index.
  */
 public class CaringSessionPanel extends UiPart<Region> {
+    /** The number of days from today for which the occurrences of recurring sessions are shown by default. */
+    static final int OCCURRENCE_PREVIEW_DAYS = 7;
     private static final String FXML = "CaringSessionPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(CaringSessionPanel.class);
 
@@ -36,6 +47,7 @@ public class CaringSessionPanel extends UiPart<Region> {
 
     private final ObservableList<Patient> patients;
     private final ReadOnlyObjectProperty<Predicate<CaringSession>> sessionFilterProp;
+    private boolean isRebuildScheduled = false;
 
     @FXML
     private ListView<Object> sessionListView;
@@ -54,8 +66,24 @@ public class CaringSessionPanel extends UiPart<Region> {
 
         rebuildFromPatients();
 
-        this.patients.addListener((ListChangeListener<Patient>) c -> rebuildFromPatients());
-        this.sessionFilterProp.addListener((obs, oldVal, newVal) -> rebuildFromPatients());
+        this.patients.addListener((ListChangeListener<Patient>) c -> scheduleRebuild());
+        this.sessionFilterProp.addListener((obs, oldVal, newVal) -> scheduleRebuild());
+    }
+
+    /**
+     * Schedules a rebuild of the flattened list on the JavaFX application thread.
+     * A command may change both the patient list and the session filter; the updates for both are already
+     * queued by then, so coalescing them here results in a single rebuild.
+     */
+    private void scheduleRebuild() {
+        if (isRebuildScheduled) {
+            return;
+        }
+        isRebuildScheduled = true;
+        Platform.runLater(() -> {
+            isRebuildScheduled = false;
+            rebuildFromPatients();
+        });
     }
 
     /**
@@ -64,33 +92,78 @@ public class CaringSessionPanel extends UiPart<Region> {
     private void rebuildFromPatients() {
         Predicate<CaringSession> sessionFilter =
                 sessionFilterProp.get() != null ? sessionFilterProp.get() : s -> true;
+        flattenedItems.setAll(flattenSessions(patients, sessionFilter));
+    }
+
+    /**
+     * Returns the caring sessions of {@code patients} that match {@code sessionFilter} as {@code SessionRow}s, sorted
+     * by date and time, with a {@code DateHeader} before the sessions of each date.
+     * The occurrences of recurring sessions are only created for the dates shown: the date range of
+     * {@code sessionFilter} if it is a {@code CaringSessionDateInRangePredicate}, or else the next
+     * {@link #OCCURRENCE_PREVIEW_DAYS} days from today.
+     */
+    static List<Object> flattenSessions(List<Patient> patients, Predicate<CaringSession> sessionFilter) {
+        Function<Patient, Stream<SessionRow>> rowsOf;
+        if (sessionFilter instanceof CaringSessionDateInRangePredicate dateRange) {
+            Date startDate = dateRange.getStartDate();
+            Date endDate = dateRange.getEndDate();
+            rowsOf = p -> Stream.concat(
+                    sessionRowsOf(p, p.countCaringSessionsBefore(startDate), endDate),
+                    occurrenceRowsOf(p, p.getOccurrencesBetween(startDate, endDate)));
+        } else {
+            LocalDate today = LocalDate.now();
+            Date previewStart = Date.of(today);
+            Date previewEnd = Date.of(today.plusDays(OCCURRENCE_PREVIEW_DAYS - 1));
+            rowsOf = p -> Stream.concat(sessionRowsOf(p, 0, null),
+                    occurrenceRowsOf(p, p.getOccurrencesBetween(previewStart, previewEnd)));
+        }
 
         // Collect and sort all sessions in ascending order (least recent first)
-        List<PatientCaringSession> sorted = patients.stream()
-                .flatMap(p -> p.getCaringSessionList().stream()
-                        .filter(sessionFilter)
-                        .map(s -> new PatientCaringSession(p, s)))
+        List<SessionRow> sorted = patients.stream()
+                .flatMap(rowsOf)
+                .filter(row -> sessionFilter.test(row.session().getCaringSession()))
                 .sorted(Comparator
-                        .comparing((PatientCaringSession pcs) -> pcs.getCaringSession().getDate().value)
-                        .thenComparing(pcs -> pcs.getCaringSession().getTime().value))
+                        .comparing((SessionRow row) -> row.session().getCaringSession().getDate().value)
+                        .thenComparing(row -> row.session().getCaringSession().getTime().value))
                 .toList();
 
         // Group by date preserving order
-        Map<Date, List<PatientCaringSession>> groupedMap = sorted.stream()
+        Map<Date, List<SessionRow>> groupedMap = sorted.stream()
             .collect(Collectors.groupingBy(
-                pcs -> pcs.getCaringSession().getDate(),
+                row -> row.session().getCaringSession().getDate(),
                 LinkedHashMap::new,
                 Collectors.toList()
             ));
 
         // Build flattened list with date headers
         List<Object> grouped = new ArrayList<>();
-        for (Map.Entry<Date, List<PatientCaringSession>> entry : groupedMap.entrySet()) {
+        for (Map.Entry<Date, List<SessionRow>> entry : groupedMap.entrySet()) {
             grouped.add(new DateHeader(entry.getKey()));
             grouped.addAll(entry.getValue());
         }
+        return grouped;
+    }
+
+    /**
+     * Returns rows for the caring sessions of {@code patient} from position {@code start} of its session list, up to
+     * the last session dated on or before {@code endDate}, or to the end of the list if {@code endDate} is null.
+     */
+    private static Stream<SessionRow> sessionRowsOf(Patient patient, int start, Date endDate) {
+        List<CaringSession> sessions = patient.getCaringSessionList();
+        List<SessionRow> rows = new ArrayList<>();
+        for (int i = start; i < sessions.size(); i++) {
+            CaringSession session = sessions.get(i);
+            if (endDate != null && session.getDate().compareTo(endDate) > 0) {
+                break;
+            }
+            rows.add(new SessionRow(new PatientCaringSession(patient, session), Optional.of(Index.fromZeroBased(i))));
+        }
+        return rows.stream();
+    }
 
-        flattenedItems.setAll(grouped);
+    private static Stream<SessionRow> occurrenceRowsOf(Patient patient, List<CaringSession> occurrences) {
+        return occurrences.stream()
+                .map(occurrence -> new SessionRow(new PatientCaringSession(patient, occurrence), Optional.empty()));
     }
 
     /**
@@ -99,6 +172,13 @@ public class CaringSessionPanel extends UiPart<Region> {
     private record DateHeader(Date date) {
     }
 
+    /**
+     * A row for {@code session}, with its index in its patient's caring session list as used by {@code edit-session}
+     * and {@code delete-session}, or without one if it is an occurrence of a recurring session.
+     */
+    record SessionRow(PatientCaringSession session, Optional<Index> sessionIndex) {
+    }
+
     /**
      * Custom ListCell that renders DateHeader or PatientCaringSession.
      */
@@ -118,13 +198,8 @@ public class CaringSessionPanel extends UiPart<Region> {
                 label.getStyleClass().add("session-date-header");
                 setGraphic(label);
                 setText(null);
-            } else if (item instanceof PatientCaringSession pcs) {
-                int idx = (int) getListView().getItems().subList(0, getIndex()).stream()
-                    .filter(o -> o instanceof PatientCaringSession)
-                    .count();
-                int displayIndex = idx + 1;
-
-                setGraphic(new CaringSessionCard(pcs, displayIndex).getRoot());
+            } else if (item instanceof SessionRow row) {
+                setGraphic(new CaringSessionCard(row.session(), row.sessionIndex()).getRoot());
                 setText(null);
             } else {
                 setText(item.toString());
@@ -1,12 +1,16 @@
 package seedu.noknock.ui;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.noknock.logic.commands.CommandResult;
-import seedu.noknock.logic.commands.exceptions.CommandException;
-import seedu.noknock.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -14,25 +18,90 @@ import seedu.noknock.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String IN_FLIGHT_STYLE_CLASS = "in-flight";
     private static final String FXML = "CommandBox.fxml";
 
-    private final CommandExecutor commandExecutor;
+    private final CommandInFlightGuard inFlightGuard;
+    private final CommandCompleter commandCompleter;
+
+    /** Command words that repeated presses of Tab cycle through, or empty if the user has typed since. */
+    private List<String> completionCycle = List.of();
+    private boolean isCompleting = false;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
-        this.commandExecutor = commandExecutor;
+        this.inFlightGuard = new CommandInFlightGuard(commandExecutor);
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            if (!isCompleting) {
+                completionCycle = List.of();
+            }
+        });
+        // Tab would otherwise move the focus out of the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                event.consume();
+                handleTabPressed();
+            }
+        });
+    }
+
+    /**
+     * Completes the command word being typed.
+     * If several command words match, the text is extended as far as they agree, and further presses of Tab cycle
+     * through the matching command words.
+     */
+    private void handleTabPressed() {
+        String text = commandTextField.getText();
+        int cycleIndex = completionCycle.indexOf(text);
+        String completedText;
+        if (cycleIndex >= 0) {
+            completedText = completionCycle.get((cycleIndex + 1) % completionCycle.size());
+        } else if (text.isEmpty() || text.chars().anyMatch(Character::isWhitespace)) {
+            return;
+        } else {
+            List<String> completions = commandCompleter.complete(text);
+            if (completions.isEmpty()) {
+                return;
+            } else if (completions.size() == 1) {
+                completedText = completions.get(0) + " ";
+            } else {
+                String commonPrefix = getCommonPrefix(completions);
+                completedText = commonPrefix.length() > text.length() ? commonPrefix : completions.get(0);
+                completionCycle = completions;
+            }
+        }
+
+        isCompleting = true;
+        commandTextField.setText(completedText);
+        commandTextField.positionCaret(completedText.length());
+        isCompleting = false;
+    }
+
+    private static String getCommonPrefix(List<String> words) {
+        String first = words.get(0);
+        int length = first.length();
+        for (String word : words) {
+            int i = 0;
+            while (i < length && i < word.length() && word.charAt(i) == first.charAt(i)) {
+                i++;
+            }
+            length = i;
+        }
+        return first.substring(0, length);
     }
 
     /**
      * Handles the Enter button pressed event.
+     * Does nothing while the previous command is still running.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,11 +110,32 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        Optional<CompletableFuture<CommandResult>> result = inFlightGuard.execute(commandText);
+        if (result.isEmpty()) {
+            return;
+        }
+
+        setStyleToIndicateCommandInFlight(true);
+        result.get().whenComplete((commandResult, error) -> {
+            setStyleToIndicateCommandInFlight(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Locks the command box while a command is being executed, and unlocks it once the command completes.
+     */
+    private void setStyleToIndicateCommandInFlight(boolean isInFlight) {
+        commandTextField.setEditable(!isInFlight);
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (isInFlight && !styleClass.contains(IN_FLIGHT_STYLE_CLASS)) {
+            styleClass.add(IN_FLIGHT_STYLE_CLASS);
+        } else if (!isInFlight) {
+            styleClass.remove(IN_FLIGHT_STYLE_CLASS);
         }
     }
 
@@ -75,11 +165,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns a future of the result.
+         * The future must complete on the JavaFX application thread, exceptionally if the command failed.
          *
          * @see seedu.noknock.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that can complete command words.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the command words that start with {@code prefix}, in alphabetical order.
+         *
+         * @see seedu.noknock.logic.Logic#getCommandWordCompletions(String)
+         */
+        List<String> complete(String prefix);
     }
 
 }
@@ -0,0 +1,55 @@
+package seedu.noknock.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.noknock.logic.commands.CommandResult;
+import seedu.noknock.ui.CommandBox.CommandExecutor;
+
+/**
+ * Lets the command box run only one command at a time, so that pressing Enter again while a command is
+ * running does not submit the same text twice.
+ * Must only be used on the JavaFX application thread, where the futures of {@link CommandExecutor} complete.
+ */
+public class CommandInFlightGuard {
+    private final CommandExecutor commandExecutor;
+    private boolean isInFlight = false;
+
+    /**
+     * Creates a {@code CommandInFlightGuard} that executes commands with {@code commandExecutor}.
+     */
+    public CommandInFlightGuard(CommandExecutor commandExecutor) {
+        requireNonNull(commandExecutor);
+        this.commandExecutor = commandExecutor;
+    }
+
+    /**
+     * Returns true if a command has been executed and has not completed yet.
+     */
+    public boolean isInFlight() {
+        return isInFlight;
+    }
+
+    /**
+     * Starts executing {@code commandText} and returns a future of its result, or an empty {@code Optional}
+     * without executing anything if another command is still running.
+     */
+    public Optional<CompletableFuture<CommandResult>> execute(String commandText) {
+        requireNonNull(commandText);
+        if (isInFlight) {
+            return Optional.empty();
+        }
+
+        isInFlight = true;
+        CompletableFuture<CommandResult> result;
+        try {
+            result = commandExecutor.execute(commandText);
+        } catch (RuntimeException e) {
+            isInFlight = false;
+            throw e;
+        }
+        return Optional.of(result.whenComplete((unused1, unused2) -> isInFlight = false));
+    }
+}
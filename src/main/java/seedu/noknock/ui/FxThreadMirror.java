@@ -0,0 +1,45 @@
+package seedu.noknock.ui;
+
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Creates copies of model observables that are only ever updated on the JavaFX application thread.
+ * Commands modify the model on a background thread, so UI controls must observe these copies instead of
+ * the model's observables directly.
+ */
+public class FxThreadMirror {
+
+    /**
+     * Returns an unmodifiable list that follows {@code source}.
+     * Every change to {@code source} is applied to the returned list, in order, on the JavaFX application thread.
+     * Must be called on the JavaFX application thread.
+     */
+    public static <T> ObservableList<T> of(ObservableList<T> source) {
+        ObservableList<T> mirror = FXCollections.observableArrayList(source);
+        source.addListener((ListChangeListener<T>) change -> {
+            // Snapshot on the thread that made the change, as the source may change again before the update runs
+            List<T> snapshot = List.copyOf(source);
+            Platform.runLater(() -> mirror.setAll(snapshot));
+        });
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Returns a read-only property that follows {@code source}.
+     * Every change to {@code source} is applied to the returned property, in order, on the JavaFX application
+     * thread. Must be called on the JavaFX application thread.
+     */
+    public static <T> ReadOnlyObjectProperty<T> of(ReadOnlyObjectProperty<T> source) {
+        ObjectProperty<T> mirror = new SimpleObjectProperty<>(source.get());
+        source.addListener((obs, oldValue, newValue) -> Platform.runLater(() -> mirror.set(newValue)));
+        return mirror;
+    }
+}
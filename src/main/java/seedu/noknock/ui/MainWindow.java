@@ -1,7 +1,12 @@
 package seedu.noknock.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +17,15 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.noknock.commons.core.GuiSettings;
 import seedu.noknock.commons.core.LogsCenter;
+import seedu.noknock.logic.CommandPipeline;
 import seedu.noknock.logic.Logic;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.ReminderScheduler;
 import seedu.noknock.logic.commands.CommandResult;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -29,10 +39,13 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandPipeline commandPipeline;
+    private ReminderScheduler reminderScheduler;
 
     // Independent Ui parts residing in this Ui container
     private PatientPanel patientPanel;
     private CaringSessionPanel caringSessionPanel;
+    private WardStatsPanel wardStatsPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -51,6 +64,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane wardStatsPlaceholder;
+
     @FXML
     private StackPane statusbarPlaceholder;
 
@@ -62,6 +78,9 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandPipeline = new CommandPipeline(logic);
+        this.reminderScheduler = new ReminderScheduler(logic.getUpcomingSessions(), dueSessions ->
+                Platform.runLater(() -> resultDisplay.setFeedbackToUser(Messages.formatReminder(dueSessions))));
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -114,21 +133,30 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        patientPanel = new PatientPanel(logic.getFilteredPersonList());
+        // Commands change the model on a background thread, so the panels observe copies kept on the UI thread
+        ObservableList<Patient> patientList = FxThreadMirror.of(logic.getFilteredPersonList());
+        ReadOnlyObjectProperty<Predicate<CaringSession>> sessionDisplayFilter =
+                FxThreadMirror.of(logic.sessionDisplayFilterProperty());
+
+        patientPanel = new PatientPanel(patientList);
         patientListPanelPlaceholder.getChildren().add(patientPanel.getRoot());
 
-        caringSessionPanel = new CaringSessionPanel(logic.getFilteredPersonList(),
-                logic.sessionDisplayFilterProperty());
+        caringSessionPanel = new CaringSessionPanel(patientList, sessionDisplayFilter);
         caringSessionListPanelPlaceholder.getChildren().add(caringSessionPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
+        wardStatsPanel = new WardStatsPanel(FxThreadMirror.of(logic.wardSummariesProperty()));
+        wardStatsPlaceholder.getChildren().add(wardStatsPanel.getRoot());
+
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCommandWordCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        reminderScheduler.start();
     }
 
     /**
@@ -167,6 +195,8 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
             (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        commandPipeline.shutdown();
+        reminderScheduler.shutdown();
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -176,29 +206,40 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command for execution on the command pipeline and returns a future of the result.
+     * The result is displayed, and the returned future completes, on the JavaFX application thread.
      *
      * @see seedu.noknock.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandPipeline.submit(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error == null) {
+                handleCommandResult(commandResult);
+            } else {
+                handleCommandFailure(commandText, error);
             }
+        }, Platform::runLater);
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    private void handleCommandFailure(String commandText, Throwable error) {
+        logger.info("An error occurred while executing command: " + commandText);
+        if (error instanceof CommandException || error instanceof ParseException) {
+            resultDisplay.setFeedbackToUser(error.getMessage());
+        } else {
+            resultDisplay.setFeedbackToUser("An unexpected error occurred: " + error);
         }
     }
 }
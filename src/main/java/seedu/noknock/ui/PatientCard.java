@@ -12,6 +12,7 @@ import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.person.Person;
 import seedu.noknock.model.session.CaringSession;
 import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.RecurringSession;
 
 /**
  * A UI component that displays information of a {@code Patient}.
@@ -82,11 +83,12 @@ public class PatientCard extends UiPart<Region> {
 
                     // Session text
                     VBox sessionContent = new VBox(2);
-                    String mainText = String.format("%d. %s - %s at %s",
+                    String mainText = String.format("%d. %s - %s at %s (%s)",
                         sessionIndex++,
                         session.getCareType(),
                         session.getDate().printPretty(),
-                        session.getTime());
+                        session.getTime(),
+                        session.getDuration().printPretty());
 
                     Label mainLabel = new Label(mainText);
                     mainLabel.setWrapText(true);
@@ -102,6 +104,21 @@ public class PatientCard extends UiPart<Region> {
                     sessionContainer.getChildren().addAll(statusBadge, sessionContent);
                     sessions.getChildren().add(sessionContainer);
                 }
+
+                // Recurring sessions are numbered apart from the sessions, as they are edited by their own commands
+                int recurringSessionIndex = 1;
+                for (RecurringSession recurringSession : patient.getRecurringSessionList()) {
+                    Label recurringLabel = new Label(String.format("R%d. %s - %s at %s (%s), %s to %s",
+                        recurringSessionIndex++,
+                        recurringSession.getCareType(),
+                        recurringSession.getRecurrence(),
+                        recurringSession.getTime(),
+                        recurringSession.getDuration().printPretty(),
+                        recurringSession.getStartDate().printPretty(),
+                        recurringSession.getEndDate().printPretty()));
+                    recurringLabel.setWrapText(true);
+                    sessions.getChildren().add(recurringLabel);
+                }
             }
         }
 
@@ -0,0 +1,49 @@
+package seedu.noknock.ui;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.Region;
+import seedu.noknock.model.WardSummary;
+
+/**
+ * Panel showing the number of patients, today's sessions and incomplete sessions of each ward.
+ */
+public class WardStatsPanel extends UiPart<Region> {
+    private static final String FXML = "WardStatsPanel.fxml";
+
+    @FXML
+    private Label emptyLabel;
+
+    @FXML
+    private FlowPane wardSummaryPane;
+
+    /**
+     * Creates a {@code WardStatsPanel} that shows the summaries held by {@code wardSummaries}.
+     */
+    public WardStatsPanel(ReadOnlyObjectProperty<List<WardSummary>> wardSummaries) {
+        super(FXML);
+        emptyLabel.managedProperty().bind(emptyLabel.visibleProperty());
+        wardSummaries.addListener((obs, oldSummaries, newSummaries) -> show(newSummaries));
+        show(wardSummaries.get());
+    }
+
+    private void show(List<WardSummary> summaries) {
+        emptyLabel.setVisible(summaries.isEmpty());
+        wardSummaryPane.getChildren().setAll(summaries.stream()
+                .map(WardStatsPanel::createWardLabel)
+                .collect(Collectors.toList()));
+    }
+
+    private static Label createWardLabel(WardSummary summary) {
+        Label label = new Label(String.format("Ward %s: %d patients | %d today | %d incomplete",
+                summary.getWard(), summary.getPatientCount(), summary.getSessionCount(),
+                summary.getIncompleteSessionCount()));
+        label.getStyleClass().add("cell_small_label");
+        return label;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.noknock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.commons.core.Config;
+import seedu.noknock.commons.util.ConfigUtil;
+import seedu.noknock.commons.util.JsonUtil;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.storage.JsonAddressBookStorage;
+import seedu.noknock.testutil.PatientUtil;
+import seedu.noknock.testutil.TypicalPatients;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path configFile;
+    private Path dataFile;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path prefsFile = temporaryFolder.resolve("preferences.json");
+        dataFile = temporaryFolder.resolve("noknock.json");
+        configFile = temporaryFolder.resolve("config.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(prefsFile);
+        ConfigUtil.saveConfig(config, configFile);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataFile);
+        JsonUtil.saveJsonFile(userPrefs, prefsFile);
+        new JsonAddressBookStorage(dataFile).saveAddressBook(TypicalPatients.getTypicalAddressBook());
+    }
+
+    private String[] getArgs(Path script) {
+        return new String[] {"--script=" + script, "--config=" + configFile};
+    }
+
+    @Test
+    public void isHeadless() {
+        assertTrue(HeadlessApp.isHeadless(new String[] {"--script=admissions.txt"}));
+        assertFalse(HeadlessApp.isHeadless(new String[] {"--config=config.json"}));
+        assertFalse(HeadlessApp.isHeadless(new String[0]));
+    }
+
+    @Test
+    public void run_validScript_savesChanges() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PatientUtil.getAddPatientCommand(TypicalPatients.AMY),
+                PatientUtil.getAddPatientCommand(TypicalPatients.BOB)));
+
+        assertEquals(0, HeadlessApp.run(getArgs(script)));
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(dataFile).readAddressBook().get();
+        assertEquals(TypicalPatients.getTypicalPersons().size() + 2, saved.getPatientList().size());
+    }
+
+    @Test
+    public void run_failingScript_savesNothing() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(PatientUtil.getAddPatientCommand(TypicalPatients.AMY),
+                PatientUtil.getAddPatientCommand(TypicalPatients.AMY)));
+
+        assertEquals(1, HeadlessApp.run(getArgs(script)));
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(dataFile).readAddressBook().get();
+        assertEquals(TypicalPatients.getTypicalPersons().size(), saved.getPatientList().size());
+        assertFalse(saved.getPatientList().stream()
+                .anyMatch(patient -> patient.getIC().equals(TypicalPatients.AMY.getIC())));
+    }
+
+    @Test
+    public void run_noScript_returnsFailure() {
+        assertEquals(1, HeadlessApp.run(new String[] {"--script="}));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.noknock.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.metrics.CommandMetrics.Phase;
+
+public class MetricsCenterTest {
+
+    @BeforeEach
+    public void setUp() {
+        MetricsCenter.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void startCommand_successfulCommand_recordedUnderCommandWord() {
+        try (CommandTimer timer = MetricsCenter.startCommand("  view-patient 1 ")) {
+            timer.endPhase(Phase.PARSE);
+            MetricsCenter.recordPatientsScanned(10);
+            MetricsCenter.recordSessionsTouched(2);
+            timer.endPhase(Phase.EXECUTE);
+            timer.endPhase(Phase.PERSIST);
+            timer.succeed();
+        }
+
+        CommandMetrics metrics = MetricsCenter.getMetrics("view-patient");
+        assertEquals(1, metrics.getExecutionCount());
+        assertEquals(0, metrics.getFailureCount());
+        assertEquals(10, metrics.getPatientsScanned());
+        assertEquals(2, metrics.getSessionsTouched());
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, metrics.getHistogram(phase).getCount());
+        }
+    }
+
+    @Test
+    public void startCommand_unparsedCommand_recordedAsFailure() {
+        try (CommandTimer timer = MetricsCenter.startCommand("unknown-command")) {
+            // parsing fails before the parse phase ends
+        }
+
+        assertNull(MetricsCenter.getMetrics("unknown-command"));
+        CommandMetrics metrics = MetricsCenter.getMetrics(CommandTimer.UNPARSED_COMMAND_KEY);
+        assertEquals(1, metrics.getExecutionCount());
+        assertEquals(1, metrics.getFailureCount());
+        assertEquals(0, metrics.getHistogram(Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void recordPatientsScanned_noCommandInProgress_ignored() {
+        MetricsCenter.recordPatientsScanned(5);
+        MetricsCenter.recordSessionsTouched(5);
+        assertEquals(MetricsCenter.MESSAGE_NO_METRICS, MetricsCenter.getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsRecorded_oneLinePerCommandWord() {
+        for (String commandText : new String[] {"list-patients", "help", "list-patients"}) {
+            try (CommandTimer timer = MetricsCenter.startCommand(commandText)) {
+                timer.endPhase(Phase.PARSE);
+                timer.succeed();
+            }
+        }
+
+        String[] lines = MetricsCenter.getSummary().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("help: 1 run(s), 0 failed | total p50"));
+        assertTrue(lines[1].startsWith("list-patients: 2 run(s), 0 failed | total p50"));
+    }
+
+    @Test
+    public void startPeriodicLogging_invalidInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> MetricsCenter.startPeriodicLogging(0));
+    }
+}
@@ -82,6 +82,23 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void isSameElements() {
+        String element = new String("a");
+        String equalElement = new String("a");
+
+        assertTrue(CollectionUtil.isSameElements(List.of(), List.of()));
+        assertTrue(CollectionUtil.isSameElements(List.of(element), List.of(element)));
+
+        // equal but different elements
+        assertFalse(CollectionUtil.isSameElements(List.of(element), List.of(equalElement)));
+
+        // different sizes
+        assertFalse(CollectionUtil.isSameElements(List.of(element), List.of(element, element)));
+
+        assertThrows(NullPointerException.class, () -> CollectionUtil.isSameElements(null, List.of()));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
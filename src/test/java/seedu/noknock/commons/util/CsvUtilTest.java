@@ -0,0 +1,56 @@
+package seedu.noknock.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.parseLine(null));
+    }
+
+    @Test
+    public void parseLine_unquotedFields_splitOnCommas() throws Exception {
+        assertEquals(List.of("patient", "S1234567A", "Amy Bee", "2A"),
+                CsvUtil.parseLine("patient,S1234567A,Amy Bee,2A"));
+    }
+
+    @Test
+    public void parseLine_emptyFields_kept() throws Exception {
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+        assertEquals(List.of("a", "", ""), CsvUtil.parseLine("a,,"));
+    }
+
+    @Test
+    public void parseLine_quotedFields_unquoted() throws Exception {
+        assertEquals(List.of("a", "b, c", "say \"hi\""), CsvUtil.parseLine("a,\"b, c\",\"say \"\"hi\"\"\""));
+        assertEquals(List.of(""), CsvUtil.parseLine("\"\""));
+    }
+
+    @Test
+    public void parseLine_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () -> CsvUtil.parseLine("a,\"b"));
+    }
+
+    @Test
+    public void quoteIfNeeded_plainField_unchanged() {
+        assertEquals("Amy Bee", CsvUtil.quoteIfNeeded("Amy Bee"));
+        assertEquals("", CsvUtil.quoteIfNeeded(""));
+    }
+
+    @Test
+    public void quoteIfNeeded_specialCharacters_quotedAndReadBack() throws Exception {
+        assertEquals("\"a, b\"", CsvUtil.quoteIfNeeded("a, b"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvUtil.quoteIfNeeded("say \"hi\""));
+
+        String field = "\"quoted\", then, more";
+        assertEquals(List.of("x", field), CsvUtil.parseLine("x," + CsvUtil.quoteIfNeeded(field)));
+    }
+}
@@ -4,10 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.noknock.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +27,17 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void deleteRecursively() throws Exception {
+        Path directory = testFolder.resolve("directory");
+        FileUtil.writeToFile(Files.createDirectories(directory.resolve("nested")).resolve("file.json"), "{}");
+        FileUtil.writeToFile(directory.resolve("other.json"), "{}");
+
+        FileUtil.deleteRecursively(directory);
+        assertFalse(Files.exists(directory));
+
+        // missing directory -> does nothing
+        FileUtil.deleteRecursively(directory);
+    }
+
 }
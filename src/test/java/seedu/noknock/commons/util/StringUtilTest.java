@@ -1,5 +1,6 @@
 package seedu.noknock.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.noknock.testutil.Assert.assertThrows;
@@ -46,6 +47,32 @@ public class StringUtilTest {
     }
 
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_withinMaxDistance_returnsDistance() {
+        assertEquals(0, StringUtil.getEditDistance("tan", "tan", 2));
+        assertEquals(1, StringUtil.getEditDistance("tan", "tam", 2)); // replacement
+        assertEquals(1, StringUtil.getEditDistance("lim", "lime", 2)); // insertion
+        assertEquals(1, StringUtil.getEditDistance("goh", "go", 1)); // deletion
+        assertEquals(2, StringUtil.getEditDistance("mohamad", "muhammad", 2));
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3)); // Boundary value
+    }
+
+    @Test
+    public void getEditDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(1, StringUtil.getEditDistance("tan", "tam", 0));
+        assertEquals(2, StringUtil.getEditDistance("lim", "lee", 1));
+        assertEquals(3, StringUtil.getEditDistance("wong", "wongsakul", 2)); // length difference alone is too far
+        assertEquals(3, StringUtil.getEditDistance("abcdef", "badcfe", 2));
+    }
+
+    @Test
+    public void getEditDistance_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc", 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("abc", "abc", -1));
+    }
+
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
     /*
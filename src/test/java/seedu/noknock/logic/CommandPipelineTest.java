@@ -0,0 +1,103 @@
+package seedu.noknock.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.noknock.logic.commands.CommandTestUtil.IC_DESC_AMY;
+import static seedu.noknock.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.noknock.logic.commands.CommandTestUtil.WARD_DESC_AMY;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.commands.CommandResult;
+import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.logic.commands.ViewPatientCommand;
+import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.storage.JsonAddressBookStorage;
+import seedu.noknock.storage.JsonUserPrefsStorage;
+import seedu.noknock.storage.StorageManager;
+
+public class CommandPipelineTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private CommandPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("noknock.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        pipeline = new CommandPipeline(new LogicManager(model, new StorageManager(addressBookStorage,
+                userPrefsStorage)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void submit_validCommand_completesWithResult() throws Exception {
+        CommandResult result = pipeline.submit(ListPatientsCommand.COMMAND_WORD).get(5, TimeUnit.SECONDS);
+        assertEquals(ListPatientsCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> future = pipeline.submit("uicfhmowqewca");
+        Throwable error = future.handle((result, e) -> e).get(5, TimeUnit.SECONDS);
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void submit_multipleCommands_executedInSubmissionOrder() throws Exception {
+        CompletableFuture<CommandResult> add =
+                pipeline.submit(AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + WARD_DESC_AMY + IC_DESC_AMY);
+        // Only succeeds if the patient added by the previous command is already in the list
+        CompletableFuture<CommandResult> view = pipeline.submit(ViewPatientCommand.COMMAND_WORD + " 1");
+
+        view.get(5, TimeUnit.SECONDS);
+        assertTrue(add.isDone());
+        assertEquals(1, model.getFilteredPatientList().size());
+    }
+
+    @Test
+    public void submit_commandThrowsError_completesExceptionally() throws Exception {
+        CommandPipeline failingPipeline = new CommandPipeline(new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("failing.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("failingPrefs.json")))) {
+            @Override
+            public CommandResult execute(String commandText) {
+                throw new StackOverflowError();
+            }
+        });
+        try {
+            Throwable error = failingPipeline.submit(ListPatientsCommand.COMMAND_WORD).handle((result, e) -> e)
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(error instanceof StackOverflowError);
+        } finally {
+            failingPipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void submit_afterShutdown_completesExceptionally() {
+        pipeline.shutdown();
+        CompletableFuture<CommandResult> future = pipeline.submit(ListPatientsCommand.COMMAND_WORD);
+        assertTrue(future.isCompletedExceptionally());
+    }
+}
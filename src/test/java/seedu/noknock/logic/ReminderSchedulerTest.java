@@ -0,0 +1,85 @@
+package seedu.noknock.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.noknock.model.ScheduledSession;
+import seedu.noknock.model.UpcomingSessions;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class ReminderSchedulerTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final CaringSession PAST = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("07:00").build();
+    private static final CaringSession COMPLETED = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("08:00").withStatus(SessionStatus.COMPLETED).build();
+    private static final CaringSession DUE = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("08:00").build();
+    private static final CaringSession LATER = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("09:00").build();
+
+    private final ObservableList<Patient> patients = FXCollections.observableArrayList();
+    private final BlockingQueue<List<ScheduledSession>> reminders = new LinkedBlockingQueue<>();
+    private ReminderScheduler scheduler;
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Starts a scheduler whose clock is stopped {@code millisBeforeDue} milliseconds before {@code DUE} starts.
+     */
+    private void startScheduler(long millisBeforeDue) {
+        LocalDateTime now = DUE.getStart().minusNanos(TimeUnit.MILLISECONDS.toNanos(millisBeforeDue));
+        Clock clock = Clock.fixed(now.atZone(ZONE).toInstant(), ZONE);
+        scheduler = new ReminderScheduler(new UpcomingSessions(patients), reminders::add, clock,
+                Executors.newSingleThreadScheduledExecutor());
+        scheduler.start();
+    }
+
+    @Test
+    public void start_remindsOfDueSessionsOnly() throws Exception {
+        Patient alice = new PatientBuilder().withName("Alice").withIC("S1234567A").build()
+                .withCaringSessionList(List.of(PAST, DUE, LATER));
+        Patient bob = new PatientBuilder().withName("Bob").withIC("S1234567B").build()
+                .withCaringSessionList(List.of(COMPLETED));
+        patients.addAll(alice, bob);
+        startScheduler(50);
+
+        assertEquals(List.of(new ScheduledSession(alice, DUE)), reminders.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void sessionAddedAfterStart_reminded() throws Exception {
+        startScheduler(100);
+
+        Patient alice = new PatientBuilder().withName("Alice").withIC("S1234567A").build()
+                .withCaringSessionList(List.of(DUE));
+        Patient bob = new PatientBuilder().withName("Bob").withIC("S1234567B").build()
+                .withCaringSessionList(List.of(DUE, LATER));
+        patients.addAll(alice, bob);
+
+        assertEquals(List.of(new ScheduledSession(alice, DUE), new ScheduledSession(bob, DUE)),
+                reminders.poll(5, TimeUnit.SECONDS));
+    }
+}
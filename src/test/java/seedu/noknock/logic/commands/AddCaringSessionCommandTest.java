@@ -20,11 +20,13 @@ import seedu.noknock.model.Model;
 import seedu.noknock.model.ModelManager;
 import seedu.noknock.model.UserPrefs;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
 import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.SessionStatus;
 
 public class AddCaringSessionCommandTest {
 
@@ -82,6 +84,22 @@ public class AddCaringSessionCommandTest {
             String.format(AddCaringSessionCommand.MESSAGE_HAS_OVERLAPPING_SESSION, VALID_SESSION.getCareType()));
     }
 
+    @Test
+    public void execute_sessionStartingDuringExistingSession_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Patient targetPatient = model.getFilteredPatientList().get(0);
+        CaringSession existingSession = new CaringSession(new CareType("physio"), new Note(""),
+            new Date("2025-12-25"), new Time("09:00"), new Duration("1h"), SessionStatus.INCOMPLETE);
+        model.addSession(targetPatient, existingSession);
+
+        CaringSession newSession = new CaringSession(new CareType("medication"), new Note(""),
+            new Date("2025-12-25"), new Time("09:55"));
+        AddCaringSessionCommand command = new AddCaringSessionCommand(Index.fromOneBased(1), newSession);
+
+        assertCommandFailure(command, model,
+            String.format(AddCaringSessionCommand.MESSAGE_HAS_OVERLAPPING_SESSION, newSession.getCareType()));
+    }
+
     @Test
     public void equals() {
         AddCaringSessionCommand command1 = new AddCaringSessionCommand(Index.fromOneBased(1), VALID_SESSION);
@@ -10,6 +10,10 @@ import static seedu.noknock.testutil.TypicalPatients.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,11 +24,22 @@ import seedu.noknock.commons.core.GuiSettings;
 import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.FuzzyNameIndex;
 import seedu.noknock.model.Model;
+import seedu.noknock.model.PatientOrder;
 import seedu.noknock.model.ReadOnlyAddressBook;
 import seedu.noknock.model.ReadOnlyUserPrefs;
+import seedu.noknock.model.UpcomingSessions;
+import seedu.noknock.model.WardStatistics;
+import seedu.noknock.model.WardSummary;
+import seedu.noknock.model.person.IC;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.PatientBitmap;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
 import seedu.noknock.testutil.PatientBuilder;
 
 public class AddPatientCommandTest {
@@ -126,6 +141,11 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPatients(List<Patient> patients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -151,16 +171,76 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Patient addSession(Patient patient, CaringSession session) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Patient replaceSession(Patient patient, int index, CaringSession session) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Patient removeSession(Patient patient, int index) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Patient> getFilteredPatientList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<Patient> getFilteredPatientListOnAllPages() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPatientList(Predicate<Patient> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPatientList(Predicate<Patient> predicate, Comparator<Patient> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPatientList(Collection<Patient> matches) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPatientList(Collection<Patient> matches, Comparator<Patient> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void listPatients(PatientOrder order, int offset, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setSessionDisplayFilter(Predicate<CaringSession> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -175,6 +255,86 @@ public class AddPatientCommandTest {
         public ReadOnlyObjectProperty<Predicate<CaringSession>> sessionDisplayFilterProperty() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public WardStatistics getWardStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Patient> getPatient(IC ic) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PatientBitmap getPatientsInWard(Ward ward) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PatientBitmap getPatientsWithIc(IC ic) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PatientBitmap getPatientsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PatientBitmap getPatientsWithCareType(CareType careType) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PatientBitmap getPatientsWithSessionStatus(SessionStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyObjectProperty<List<WardSummary>> wardSummariesProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FuzzyNameIndex getPatientNameIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FuzzyNameIndex getNextOfKinNameIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public UpcomingSessions getUpcomingSessions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Patient> getDisplayedPatientList() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
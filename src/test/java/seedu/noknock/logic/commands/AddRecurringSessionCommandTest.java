@@ -0,0 +1,98 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class AddRecurringSessionCommandTest {
+
+    private static final RecurringSession DAILY = new RecurringSessionBuilder().build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddRecurringSessionCommand(null, DAILY));
+        assertThrows(NullPointerException.class, () ->
+                new AddRecurringSessionCommand(PatientReference.of(INDEX_FIRST_PERSON), null));
+    }
+
+    @Test
+    public void execute_validPatient_recurringSessionAdded() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Patient patient = model.getFilteredPatientList().get(0);
+        Patient editedPatient = patient.withRecurringSession(DAILY);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPatient(patient, editedPatient);
+
+        String expectedMessage = String.format(AddRecurringSessionCommand.MESSAGE_ADD_RECURRING_SESSION_SUCCESS,
+                Messages.formatRecurringSession(DAILY), Messages.formatPatient(editedPatient));
+        assertCommandSuccess(new AddRecurringSessionCommand(PatientReference.of(INDEX_FIRST_PERSON), DAILY), model,
+                expectedMessage, expectedModel);
+        assertEquals(1, model.getFilteredPatientList().get(0).getRecurringSessionList().size());
+    }
+
+    @Test
+    public void execute_duplicateRecurringSession_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Patient patient = model.getFilteredPatientList().get(0);
+        model.setPatient(patient, patient.withRecurringSession(DAILY));
+
+        assertCommandFailure(new AddRecurringSessionCommand(PatientReference.of(INDEX_FIRST_PERSON), DAILY), model,
+                AddRecurringSessionCommand.MESSAGE_DUPLICATE_RECURRING_SESSION);
+    }
+
+    @Test
+    public void execute_invalidPatientIndex_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPatientList().size() + 1);
+
+        assertCommandFailure(new AddRecurringSessionCommand(PatientReference.of(outOfBoundIndex), DAILY), model,
+                MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        RecurringSession weekly = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY).build();
+        AddRecurringSessionCommand command = new AddRecurringSessionCommand(PatientReference.of(INDEX_FIRST_PERSON),
+                DAILY);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new AddRecurringSessionCommand(PatientReference.of(INDEX_FIRST_PERSON), DAILY)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different patient -> returns false
+        assertFalse(command.equals(new AddRecurringSessionCommand(PatientReference.of(INDEX_SECOND_PERSON),
+                DAILY)));
+
+        // different recurring session -> returns false
+        assertFalse(command.equals(new AddRecurringSessionCommand(PatientReference.of(INDEX_FIRST_PERSON),
+                weekly)));
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_RECURRING_SESSION_INDEX;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class DeleteRecurringSessionCommandTest {
+
+    private static final RecurringSession DAILY = new RecurringSessionBuilder().build();
+    private static final Date DATE = new Date("2030-01-02");
+
+    private static Model modelWithRecurringSession() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Patient patient = model.getFilteredPatientList().get(0);
+        model.setPatient(patient, patient.withRecurringSession(DAILY));
+        return model;
+    }
+
+    @Test
+    public void execute_noDate_recurringSessionDeleted() {
+        Model model = modelWithRecurringSession();
+        Patient patient = model.getFilteredPatientList().get(0);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(DeleteRecurringSessionCommand.MESSAGE_DELETE_SUCCESS,
+                Messages.formatPatient(patient), Messages.formatRecurringSession(DAILY));
+        assertCommandSuccess(new DeleteRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON,
+                Optional.empty()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_date_occurrenceSkipped() {
+        Model model = modelWithRecurringSession();
+        Patient patient = model.getFilteredPatientList().get(0);
+        Model expectedModel = modelWithRecurringSession();
+        expectedModel.setPatient(patient, patient.withRecurringSession(0, DAILY.withoutOccurrence(DATE)));
+
+        String expectedMessage = String.format(DeleteRecurringSessionCommand.MESSAGE_SKIP_SUCCESS,
+                DAILY.getCareType(), DATE, Messages.formatPatient(patient));
+        assertCommandSuccess(new DeleteRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON,
+                Optional.of(DATE)), model, expectedMessage, expectedModel);
+
+        // the occurrence cannot be skipped twice
+        assertCommandFailure(new DeleteRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON,
+                Optional.of(DATE)), model, String.format(RecurringSession.MESSAGE_NOT_SCHEDULED, DATE));
+    }
+
+    @Test
+    public void execute_invalidIndices_throwsCommandException() {
+        Model model = modelWithRecurringSession();
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPatientList().size() + 1);
+
+        assertCommandFailure(new DeleteRecurringSessionCommand(outOfBoundIndex, INDEX_FIRST_PERSON,
+                Optional.empty()), model, MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        assertCommandFailure(new DeleteRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON,
+                Optional.empty()), model, MESSAGE_INVALID_RECURRING_SESSION_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        DeleteRecurringSessionCommand command = new DeleteRecurringSessionCommand(INDEX_FIRST_PERSON,
+                INDEX_FIRST_PERSON, Optional.empty());
+
+        // same values -> returns true
+        assertTrue(command.equals(new DeleteRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON,
+                Optional.empty())));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // different patient index -> returns false
+        assertFalse(command.equals(new DeleteRecurringSessionCommand(INDEX_SECOND_PERSON, INDEX_FIRST_PERSON,
+                Optional.empty())));
+
+        // different date -> returns false
+        assertFalse(command.equals(new DeleteRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON,
+                Optional.of(DATE))));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX;
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_RECURRING_SESSION_INDEX;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class EditRecurringSessionCommandTest {
+
+    private static final RecurringSession DAILY = new RecurringSessionBuilder().build();
+    private static final Date DATE = new Date("2030-01-02");
+
+    private static Model modelWithRecurringSession() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Patient patient = model.getFilteredPatientList().get(0);
+        model.setPatient(patient, patient.withRecurringSession(DAILY));
+        return model;
+    }
+
+    @Test
+    public void execute_occurrenceCompleted_onlyDateStored() {
+        Model model = modelWithRecurringSession();
+        Patient patient = model.getFilteredPatientList().get(0);
+        Model expectedModel = modelWithRecurringSession();
+        expectedModel.setPatient(patient, patient.withRecurringSession(0,
+                DAILY.withOccurrenceStatus(DATE, SessionStatus.COMPLETED)));
+
+        String expectedMessage = String.format(EditRecurringSessionCommand.MESSAGE_EDIT_RECURRING_SESSION_SUCCESS,
+                DAILY.getCareType(), DATE, "completed", Messages.formatPatient(patient));
+        assertCommandSuccess(new EditRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, DATE,
+                SessionStatus.COMPLETED), model, expectedMessage, expectedModel);
+        assertEquals(Set.of(DATE),
+                model.getFilteredPatientList().get(0).getRecurringSessionList().get(0).getCompletedDates());
+    }
+
+    @Test
+    public void execute_noOccurrenceOnDate_throwsCommandException() {
+        Date afterEnd = new Date("2030-02-01");
+        assertCommandFailure(new EditRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, afterEnd,
+                SessionStatus.COMPLETED), modelWithRecurringSession(),
+                String.format(RecurringSession.MESSAGE_NOT_SCHEDULED, afterEnd));
+    }
+
+    @Test
+    public void execute_invalidIndices_throwsCommandException() {
+        Model model = modelWithRecurringSession();
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPatientList().size() + 1);
+
+        assertCommandFailure(new EditRecurringSessionCommand(outOfBoundIndex, INDEX_FIRST_PERSON, DATE,
+                SessionStatus.COMPLETED), model, MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX);
+        assertCommandFailure(new EditRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, DATE,
+                SessionStatus.COMPLETED), model, MESSAGE_INVALID_RECURRING_SESSION_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        EditRecurringSessionCommand command = new EditRecurringSessionCommand(INDEX_FIRST_PERSON,
+                INDEX_FIRST_PERSON, DATE, SessionStatus.COMPLETED);
+
+        // same values -> returns true
+        assertTrue(command.equals(new EditRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, DATE,
+                SessionStatus.COMPLETED)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // different recurring session index -> returns false
+        assertFalse(command.equals(new EditRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, DATE,
+                SessionStatus.COMPLETED)));
+
+        // different date -> returns false
+        assertFalse(command.equals(new EditRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON,
+                new Date("2030-01-03"), SessionStatus.COMPLETED)));
+
+        // different status -> returns false
+        assertFalse(command.equals(new EditRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, DATE,
+                SessionStatus.INCOMPLETE)));
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.util.SyntheticDataGenerator;
+import seedu.noknock.storage.CsvRecordWriter;
+import seedu.noknock.storage.ExportFormat;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class ExportCommandTest {
+
+    private static final Date START_DATE = new Date("2025-10-20");
+    private static final Date END_DATE = new Date("2025-10-26");
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_patients_displayedPatientsWritten() throws IOException {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        Path file = testFolder.resolve("patients.csv");
+
+        assertCommandSuccess(new ExportCommand(file, ExportFormat.CSV), model,
+                String.format(ExportCommand.MESSAGE_PATIENTS_SUCCESS, 1, file), expectedModel);
+        assertEquals(List.of(CsvRecordWriter.PATIENT_HEADER, "patient," + ALICE.getIC() + "," + ALICE.getName() + ","
+                + ALICE.getWard() + ",friends"), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_patientsThenImport_samePatients() throws CommandException {
+        AddressBook addressBook = new SyntheticDataGenerator(3).generateAddressBook(50);
+        Path file = testFolder.resolve("exports").resolve("patients.csv");
+        new ExportCommand(file, ExportFormat.CSV).execute(new ModelManager(addressBook, new UserPrefs()));
+
+        Model importModel = new ModelManager();
+        new ImportCommand(file).execute(importModel);
+
+        List<Patient> expected = addressBook.getPatientList();
+        List<Patient> actual = importModel.getAddressBook().getPatientList();
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getNextOfKinList(), actual.get(i).getNextOfKinList());
+            assertEquals(expected.get(i).getCaringSessionList(), actual.get(i).getCaringSessionList());
+        }
+    }
+
+    @Test
+    public void execute_sessions_sessionsInRangeOfAllPatientsWritten() throws CommandException, IOException {
+        CaringSession before = new CaringSessionBuilder().withDate("2025-10-19").withCareType("Early").build();
+        CaringSession first = new CaringSessionBuilder().withDate("2025-10-20").withCareType("First").build();
+        CaringSession last = new CaringSessionBuilder().withDate("2025-10-26").withCareType("Last").build();
+        Patient amy = new PatientBuilder().withName("Amy Bee").withIC("S1234567A").build()
+                .withCaringSessionList(List.of(before, first));
+        Patient bob = new PatientBuilder().withName("Bob Choo").withIC("S1234567B").build()
+                .withCaringSessionList(List.of(last));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatients(List.of(amy, bob));
+        Model sessionModel = new ModelManager(addressBook, new UserPrefs());
+        // Sessions of patients that are not displayed are exported too
+        showPersonAtIndex(sessionModel, INDEX_FIRST_PERSON);
+        Path file = testFolder.resolve("roster.ndjson");
+
+        CommandResult result = new ExportCommand(file, ExportFormat.NDJSON, START_DATE, END_DATE)
+                .execute(sessionModel);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SESSIONS_SUCCESS, 2, START_DATE, END_DATE, file),
+                result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"ic\":\"S1234567A\"") && lines.get(0).contains("\"careType\":\"First\""));
+        assertTrue(lines.get(1).contains("\"ic\":\"S1234567B\"") && lines.get(1).contains("\"careType\":\"Last\""));
+    }
+
+    @Test
+    public void execute_sessionsWithRecurringSession_occurrencesInRangeWritten() throws CommandException, IOException {
+        CaringSession last = new CaringSessionBuilder().withDate("2025-10-26").withCareType("Last").build();
+        RecurringSession weekly = new RecurringSessionBuilder().withCareType("Weekly").withRecurrence(Recurrence.WEEKLY)
+                .withDates("2025-10-15", "2025-11-30").build();
+        Patient amy = new PatientBuilder().withName("Amy Bee").withIC("S1234567A").build()
+                .withCaringSessionList(List.of(last)).withRecurringSession(weekly);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(amy);
+        Path file = testFolder.resolve("roster.ndjson");
+
+        CommandResult result = new ExportCommand(file, ExportFormat.NDJSON, START_DATE, END_DATE)
+                .execute(new ModelManager(addressBook, new UserPrefs()));
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SESSIONS_SUCCESS, 2, START_DATE, END_DATE, file),
+                result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"date\":\"2025-10-22\"")
+                && lines.get(0).contains("\"careType\":\"Weekly\""));
+        assertTrue(lines.get(1).contains("\"careType\":\"Last\""));
+    }
+
+    @Test
+    public void execute_fileIsDirectory_throwsCommandException() {
+        assertThrows(CommandException.class, () -> new ExportCommand(testFolder, ExportFormat.CSV).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path file = Paths.get("roster.csv");
+        ExportCommand patientsCommand = new ExportCommand(file, ExportFormat.CSV);
+        ExportCommand sessionsCommand = new ExportCommand(file, ExportFormat.CSV, START_DATE, END_DATE);
+
+        // same values -> returns true
+        assertTrue(patientsCommand.equals(new ExportCommand(file, ExportFormat.CSV)));
+        assertTrue(sessionsCommand.equals(new ExportCommand(file, ExportFormat.CSV, START_DATE, END_DATE)));
+
+        // same object -> returns true
+        assertTrue(patientsCommand.equals(patientsCommand));
+
+        // null -> returns false
+        assertFalse(patientsCommand.equals(null));
+
+        // different values -> returns false
+        assertFalse(patientsCommand.equals(sessionsCommand));
+        assertFalse(patientsCommand.equals(new ExportCommand(Paths.get("other.csv"), ExportFormat.CSV)));
+        assertFalse(patientsCommand.equals(new ExportCommand(file, ExportFormat.NDJSON)));
+        assertFalse(sessionsCommand.equals(new ExportCommand(file, ExportFormat.CSV, START_DATE, START_DATE)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = Paths.get("roster.csv");
+        ExportCommand command = new ExportCommand(file, ExportFormat.CSV, START_DATE, END_DATE);
+        assertEquals(ExportCommand.class.getCanonicalName() + "{file=" + file + ", format=CSV, startDate="
+                + START_DATE + ", endDate=" + END_DATE + "}", command.toString());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.PatientNameContainsKeywordsPredicate;
+import seedu.noknock.model.tag.Tag;
+
+public class FilterTagCommandTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_singleTag_patientsWithTagListed() {
+        expectedModel.updateFilteredPatientList(patient -> patient.getTags().contains(FRIENDS));
+        assertCommandSuccess(new FilterTagCommand(Set.of(FRIENDS)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), expectedModel);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_multipleTags_patientsWithAllTagsListed() {
+        expectedModel.updateFilteredPatientList(BENSON::equals);
+        assertCommandSuccess(new FilterTagCommand(Set.of(FRIENDS, OWES_MONEY)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_unknownTag_noPatientListed() {
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(new FilterTagCommand(Set.of(new Tag("unknown"), FRIENDS)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_afterNameSearch_narrowsSearchResult() {
+        PatientNameContainsKeywordsPredicate meier = new PatientNameContainsKeywordsPredicate(List.of("Meier"));
+        model.updateFilteredPatientList(meier);
+
+        expectedModel.updateFilteredPatientList(meier.and(patient -> patient.getTags().contains(FRIENDS)));
+        assertCommandSuccess(new FilterTagCommand(Set.of(FRIENDS)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void equals() {
+        FilterTagCommand filterFriendsCommand = new FilterTagCommand(Set.of(FRIENDS));
+
+        assertTrue(filterFriendsCommand.equals(filterFriendsCommand));
+        assertTrue(filterFriendsCommand.equals(new FilterTagCommand(Set.of(FRIENDS))));
+        assertFalse(filterFriendsCommand.equals(null));
+        assertFalse(filterFriendsCommand.equals(1));
+        assertFalse(filterFriendsCommand.equals(new FilterTagCommand(Set.of(OWES_MONEY))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FilterTagCommand command = new FilterTagCommand(Set.of(FRIENDS));
+        String expected = FilterTagCommand.class.getCanonicalName() + "{tags=" + Set.of(FRIENDS) + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.PatientOrder;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.PatientNameContainsKeywordsPredicate;
+import seedu.noknock.model.person.Ward;
+
+public class FilterWardCommandTest {
+
+    private static final Ward WARD_2A = new Ward("2A");
+    private static final Ward WARD_2B = new Ward("2B");
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPatient(BOB);
+        model = new ModelManager(addressBook, new UserPrefs());
+        expectedModel = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_singleWard_patientsInWardListed() {
+        expectedModel.updateFilteredPatientList(BOB::equals);
+        assertCommandSuccess(new FilterWardCommand(List.of(WARD_2B)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_multipleWards_patientsInAnyWardListed() {
+        assertCommandSuccess(new FilterWardCommand(List.of(WARD_2A, WARD_2B)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 8), expectedModel);
+    }
+
+    @Test
+    public void execute_afterNameSearch_narrowsSearchResult() {
+        PatientNameContainsKeywordsPredicate meier = new PatientNameContainsKeywordsPredicate(List.of("Meier"));
+        model.updateFilteredPatientList(meier);
+
+        expectedModel.updateFilteredPatientList(meier);
+        assertCommandSuccess(new FilterWardCommand(List.of(WARD_2A)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPatientList());
+
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(new FilterWardCommand(List.of(WARD_2B)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_afterListingOnePage_patientsOnAllPagesFiltered() {
+        // BOB was added last, so he is not on the first page
+        model.listPatients(PatientOrder.ADDED, 0, 1);
+
+        expectedModel.updateFilteredPatientList(BOB::equals);
+        assertCommandSuccess(new FilterWardCommand(List.of(WARD_2B)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FilterWardCommand filter2aCommand = new FilterWardCommand(List.of(WARD_2A));
+
+        assertTrue(filter2aCommand.equals(filter2aCommand));
+        assertTrue(filter2aCommand.equals(new FilterWardCommand(List.of(new Ward("2a")))));
+        assertFalse(filter2aCommand.equals(null));
+        assertFalse(filter2aCommand.equals(1));
+        assertFalse(filter2aCommand.equals(new FilterWardCommand(List.of(WARD_2B))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FilterWardCommand command = new FilterWardCommand(List.of(WARD_2A));
+        String expected = FilterWardCommand.class.getCanonicalName() + "{wards=[2A]}";
+        assertEquals(expected, command.toString());
+    }
+}
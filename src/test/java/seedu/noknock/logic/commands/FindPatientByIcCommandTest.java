@@ -0,0 +1,67 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.IC;
+
+public class FindPatientByIcCommandTest {
+
+    private static final IC UNKNOWN_IC = new IC("T0000000Z");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_noIcs_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FindPatientByIcCommand(List.of()));
+    }
+
+    @Test
+    public void execute_multipleIcs_patientsWithIcsListed() {
+        expectedModel.updateFilteredPatientList(Set.of(BENSON, CARL)::contains);
+        assertCommandSuccess(new FindPatientByIcCommand(List.of(CARL.getIC(), UNKNOWN_IC, BENSON.getIC())), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(List.of(BENSON, CARL), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_unknownIc_noPatientFound() {
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(new FindPatientByIcCommand(List.of(UNKNOWN_IC)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FindPatientByIcCommand findBensonCommand = new FindPatientByIcCommand(List.of(BENSON.getIC()));
+
+        assertTrue(findBensonCommand.equals(findBensonCommand));
+        assertTrue(findBensonCommand.equals(new FindPatientByIcCommand(List.of(new IC(BENSON.getIC().ic)))));
+        assertFalse(findBensonCommand.equals(null));
+        assertFalse(findBensonCommand.equals(1));
+        assertFalse(findBensonCommand.equals(new FindPatientByIcCommand(List.of(CARL.getIC()))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindPatientByIcCommand command = new FindPatientByIcCommand(List.of(UNKNOWN_IC));
+        String expected = FindPatientByIcCommand.class.getCanonicalName() + "{ics=[T0000000Z]}";
+        assertEquals(expected, command.toString());
+    }
+}
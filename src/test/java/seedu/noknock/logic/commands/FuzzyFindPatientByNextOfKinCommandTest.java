@@ -0,0 +1,69 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.NextOfKinBuilder;
+
+public class FuzzyFindPatientByNextOfKinCommandTest {
+
+    private final Patient aliceWithNextOfKin =
+            ALICE.withNextOfKin(new NextOfKinBuilder().withName("Mohamad Ali").build());
+    private final Patient bensonWithNextOfKin =
+            BENSON.withNextOfKin(new NextOfKinBuilder().withName("Muhamad").build());
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPatient(aliceWithNextOfKin);
+        addressBook.addPatient(bensonWithNextOfKin);
+        model = new ModelManager(addressBook, new UserPrefs());
+        expectedModel = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_misspeltKeyword_closestMatchesListedFirst() {
+        List<?> expectedOrder = List.of(bensonWithNextOfKin, aliceWithNextOfKin);
+        expectedModel.updateFilteredPatientList(expectedOrder::contains, Comparator.comparing(expectedOrder::indexOf));
+        assertCommandSuccess(new FuzzyFindPatientByNextOfKinCommand(List.of("Muhammad")), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(expectedOrder, model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_patientNameOnly_noPatientFound() {
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(new FuzzyFindPatientByNextOfKinCommand(List.of("Benson")), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FuzzyFindPatientByNextOfKinCommand findAliCommand = new FuzzyFindPatientByNextOfKinCommand(List.of("Ali"));
+
+        assertTrue(findAliCommand.equals(findAliCommand));
+        assertTrue(findAliCommand.equals(new FuzzyFindPatientByNextOfKinCommand(List.of("Ali"))));
+        assertFalse(findAliCommand.equals(null));
+        assertFalse(findAliCommand.equals(new FuzzyFindPatientByNextOfKinCommand(List.of("Tan"))));
+        assertFalse(findAliCommand.equals(new FuzzyFindPatientCommand(List.of("Ali"))));
+    }
+}
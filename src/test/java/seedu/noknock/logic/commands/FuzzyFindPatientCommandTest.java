@@ -0,0 +1,61 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.ELLE;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+
+public class FuzzyFindPatientCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_misspeltKeyword_closestMatchesListedFirst() {
+        List<?> expectedOrder = List.of(ELLE, BENSON, DANIEL);
+        expectedModel.updateFilteredPatientList(expectedOrder::contains, Comparator.comparing(expectedOrder::indexOf));
+        assertCommandSuccess(new FuzzyFindPatientCommand(List.of("Meyer")), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), expectedModel);
+        assertEquals(expectedOrder, model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_noSimilarName_noPatientFound() {
+        expectedModel.updateFilteredPatientList(unused -> false);
+        assertCommandSuccess(new FuzzyFindPatientCommand(List.of("Smith")), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FuzzyFindPatientCommand findMeierCommand = new FuzzyFindPatientCommand(List.of("Meier"));
+
+        assertTrue(findMeierCommand.equals(findMeierCommand));
+        assertTrue(findMeierCommand.equals(new FuzzyFindPatientCommand(List.of("Meier"))));
+        assertFalse(findMeierCommand.equals(null));
+        assertFalse(findMeierCommand.equals(1));
+        assertFalse(findMeierCommand.equals(new FuzzyFindPatientCommand(List.of("Kurz"))));
+        assertFalse(findMeierCommand.equals(new FuzzyFindPatientByNextOfKinCommand(List.of("Meier"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyFindPatientCommand command = new FuzzyFindPatientCommand(List.of("Meier"));
+        String expected = FuzzyFindPatientCommand.class.getCanonicalName() + "{keywords=[Meier]}";
+        assertEquals(expected, command.toString());
+    }
+}
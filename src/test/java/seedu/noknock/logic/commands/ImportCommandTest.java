@@ -0,0 +1,124 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.AMY;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.logic.parser.CsvImportParser;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.Patient;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validFile_allPatientsAdded() throws IOException {
+        Path file = writeCsv("patient,S1234567A,Amy Bee,2A,friend",
+                "nok,S1234567A,Sammy,11111111,Daughter",
+                "session,S1234567A,2025-10-20,14:30,Insulin",
+                "patient,S1234567B,Bob Choo,2B,husband;friend");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPatients(List.of(AMY, BOB));
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, 1, 1, file), expectedModel);
+        List<Patient> patients = model.getAddressBook().getPatientList();
+        Patient importedAmy = patients.get(patients.size() - 2);
+        assertEquals(1, importedAmy.getNextOfKinList().size());
+        assertEquals(1, importedAmy.getCaringSessionList().size());
+    }
+
+    @Test
+    public void execute_invalidRow_nothingImported() throws IOException {
+        Path file = writeCsv("patient,S1234567A,Amy Bee,2A",
+                "patient," + ALICE.getIC() + ",Alice Pauline,2A");
+
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_INVALID_ROWS, 1,
+                file, "Line 2: " + AddPatientCommand.MESSAGE_DUPLICATE_PATIENT));
+        assertFalse(model.hasPatient(AMY));
+    }
+
+    @Test
+    public void execute_manyInvalidRows_firstErrorsListed() throws IOException {
+        List<String> lines = new ArrayList<>();
+        int invalidRows = ImportCommand.MAX_REPORTED_ERRORS + 3;
+        for (int i = 1; i <= invalidRows; i++) {
+            lines.add("visitor," + i);
+        }
+        Path file = writeCsv(lines.toArray(String[]::new));
+
+        StringBuilder expectedErrors = new StringBuilder();
+        for (int i = 1; i <= ImportCommand.MAX_REPORTED_ERRORS; i++) {
+            expectedErrors.append("Line ").append(i).append(": ")
+                    .append(String.format(CsvImportParser.MESSAGE_UNKNOWN_TYPE, "visitor")).append('\n');
+        }
+        expectedErrors.append(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 3));
+
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_INVALID_ROWS,
+                invalidRows, file, expectedErrors));
+    }
+
+    @Test
+    public void execute_fileNotFound_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand command = new ImportCommand(Paths.get("admissions.csv"));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ImportCommand(Paths.get("admissions.csv"))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different type -> returns false
+        assertFalse(command.equals(new ClearCommand()));
+
+        // different file -> returns false
+        assertFalse(command.equals(new ImportCommand(Paths.get("other.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = Paths.get("admissions.csv");
+        assertEquals(ImportCommand.class.getCanonicalName() + "{file=" + file + "}",
+                new ImportCommand(file).toString());
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = testFolder.resolve("import.csv");
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -1,14 +1,25 @@
 package seedu.noknock.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.commands.exceptions.CommandException;
 import seedu.noknock.model.AddressBook;
 import seedu.noknock.model.Model;
 import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.PatientOrder;
 import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.Patient;
 import seedu.noknock.testutil.PatientBuilder;
 
 public class ListPatientsCommandTest {
@@ -27,9 +38,77 @@ public class ListPatientsCommandTest {
     }
 
     @Test
-    public void execute_listPatients_showsOnlyPatients() {
+    public void execute_listPatients_showsOnlyPatients() throws CommandException {
         CommandResult result = new ListPatientsCommand().execute(model);
         assertEquals(ListPatientsCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
         assertEquals(2, model.getFilteredPatientList().size());
     }
+
+    @Test
+    public void execute_sorted_listsAllPatientsInOrder() throws CommandException {
+        Patient cara = new PatientBuilder().withName("Cara").withWard("1A").withIC("S0000001A").build();
+        Patient alan = new PatientBuilder().withName("alan").withWard("3C").withIC("S0000002A").build();
+        Patient bob = new PatientBuilder().withName("Bob").withWard("2B").withIC("S0000003A").build();
+        AddressBook addressBook = new AddressBook();
+        List.of(cara, alan, bob).forEach(addressBook::addPatient);
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new ListPatientsCommand(PatientOrder.NAME).execute(model);
+        assertEquals(String.format(ListPatientsCommand.MESSAGE_SUCCESS_SORTED, PatientOrder.NAME),
+                result.getFeedbackToUser());
+        assertEquals(List.of(alan, bob, cara), model.getFilteredPatientList());
+
+        new ListPatientsCommand(PatientOrder.WARD).execute(model);
+        assertEquals(List.of(cara, bob, alan), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_page_listsOnePage() throws CommandException {
+        AddressBook addressBook = new AddressBook();
+        for (int i = ListPatientsCommand.PAGE_SIZE + 5; i > 0; i--) {
+            addressBook.addPatient(new PatientBuilder().withName("Patient " + (char) ('A' + i))
+                    .withIC(String.format("S%07dA", i)).build());
+        }
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new ListPatientsCommand(PatientOrder.NAME, INDEX_SECOND_PERSON).execute(model);
+        assertEquals(String.format(ListPatientsCommand.MESSAGE_SUCCESS_PAGE, 2, 2, PatientOrder.NAME),
+                result.getFeedbackToUser());
+        assertEquals(5, model.getFilteredPatientList().size());
+        assertEquals("Patient " + (char) ('A' + ListPatientsCommand.PAGE_SIZE + 1),
+                model.getFilteredPatientList().get(0).getName().fullName);
+
+        new ListPatientsCommand(PatientOrder.ADDED, INDEX_FIRST_PERSON).execute(model);
+        assertEquals(addressBook.getPatientList().subList(0, ListPatientsCommand.PAGE_SIZE),
+                model.getFilteredPatientList());
+    }
+
+    @Test
+    public void execute_pageOutOfRange_throwsCommandException() {
+        assertCommandFailure(new ListPatientsCommand(PatientOrder.NAME, INDEX_SECOND_PERSON), model,
+                String.format(ListPatientsCommand.MESSAGE_INVALID_PAGE, 1));
+    }
+
+    @Test
+    public void equals() {
+        ListPatientsCommand byName = new ListPatientsCommand(PatientOrder.NAME);
+        ListPatientsCommand byNameFirstPage = new ListPatientsCommand(PatientOrder.NAME, Index.fromOneBased(1));
+
+        assertTrue(byName.equals(byName));
+        assertTrue(byName.equals(new ListPatientsCommand(PatientOrder.NAME)));
+        assertTrue(byNameFirstPage.equals(new ListPatientsCommand(PatientOrder.NAME, INDEX_FIRST_PERSON)));
+        assertTrue(new ListPatientsCommand().equals(new ListPatientsCommand(PatientOrder.ADDED)));
+
+        assertFalse(byName.equals(null));
+        assertFalse(byName.equals(byNameFirstPage));
+        assertFalse(byName.equals(new ListPatientsCommand(PatientOrder.WARD)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListPatientsCommand command = new ListPatientsCommand(PatientOrder.WARD, INDEX_FIRST_PERSON);
+        String expected = ListPatientsCommand.class.getCanonicalName() + "{order=" + PatientOrder.WARD
+                + ", page=" + INDEX_FIRST_PERSON + "}";
+        assertEquals(expected, command.toString());
+    }
 }
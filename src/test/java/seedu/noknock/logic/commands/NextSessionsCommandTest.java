@@ -0,0 +1,96 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.ScheduledSession;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class NextSessionsCommandTest {
+
+    private static final CaringSession PAST = new CaringSessionBuilder().withDate("2020-01-01")
+            .withTime("08:00").build();
+    private static final CaringSession FIRST = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("08:00").build();
+    private static final CaringSession SECOND = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("09:00").build();
+    private static final CaringSession THIRD = new CaringSessionBuilder().withDate("2030-01-02")
+            .withTime("08:00").build();
+
+    private final Patient alice = new PatientBuilder().withName("Alice").withIC("S1234567A").build()
+            .withCaringSessionList(List.of(PAST, SECOND));
+    private final Patient bob = new PatientBuilder().withName("Bob").withIC("S1234567B").build()
+            .withCaringSessionList(List.of(FIRST, THIRD));
+    private final Patient carl = new PatientBuilder().withName("Carl").withIC("S1234567C").build();
+
+    private Model createModel(Patient... patients) {
+        AddressBook addressBook = new AddressBook();
+        List.of(patients).forEach(addressBook::addPatient);
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nonPositiveCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NextSessionsCommand(0));
+    }
+
+    @Test
+    public void execute_listsNextSessionsInStartOrder() {
+        Model model = createModel(alice, bob, carl);
+
+        CommandResult result = new NextSessionsCommand(2).execute(model);
+
+        String expectedSessions = Messages.formatScheduledSession(new ScheduledSession(bob, FIRST)) + "\n"
+                + Messages.formatScheduledSession(new ScheduledSession(alice, SECOND));
+        assertEquals(String.format(NextSessionsCommand.MESSAGE_NEXT_SESSIONS, 2, expectedSessions),
+                result.getFeedbackToUser());
+        assertEquals(List.of(bob, alice), model.getFilteredPatientList());
+        assertTrue(model.getSessionDisplayFilter().test(FIRST));
+        assertTrue(model.getSessionDisplayFilter().test(SECOND));
+        assertFalse(model.getSessionDisplayFilter().test(PAST));
+        assertFalse(model.getSessionDisplayFilter().test(THIRD));
+    }
+
+    @Test
+    public void execute_noUpcomingSessions_listsNoPatients() {
+        Model model = createModel(carl, new PatientBuilder().withIC("S7654321A").build()
+                .withCaringSessionList(List.of(PAST)));
+
+        CommandResult result = new NextSessionsCommand().execute(model);
+
+        assertEquals(NextSessionsCommand.MESSAGE_NO_NEXT_SESSIONS, result.getFeedbackToUser());
+        assertEquals(List.of(), model.getFilteredPatientList());
+    }
+
+    @Test
+    public void equals() {
+        NextSessionsCommand nextFive = new NextSessionsCommand(5);
+
+        assertTrue(nextFive.equals(nextFive));
+        assertTrue(nextFive.equals(new NextSessionsCommand()));
+
+        assertFalse(nextFive.equals(null));
+        assertFalse(nextFive.equals(new NextSessionsCommand(3)));
+        assertFalse(nextFive.equals(new SessionsTodayCommand()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = NextSessionsCommand.class.getCanonicalName() + "{count=3}";
+        assertEquals(expected, new NextSessionsCommand(3).toString());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.exceptions.CommandException;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.IC;
+
+public class PatientReferenceTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void resolve_index_patientInDisplayedList() throws Exception {
+        assertEquals(ALICE, PatientReference.of(INDEX_FIRST_PERSON).resolve(model));
+
+        model.updateFilteredPatientList(ALICE::equals);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_PATIENT_DISPLAYED_INDEX, ()
+            -> PatientReference.of(INDEX_SECOND_PERSON).resolve(model));
+    }
+
+    @Test
+    public void resolve_ic_patientWithIcWhetherListedOrNot() throws Exception {
+        model.updateFilteredPatientList(ALICE::equals);
+        assertEquals(CARL, PatientReference.of(CARL.getIC()).resolve(model));
+
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_PATIENT_IC_NOT_FOUND, "T0000000Z"), ()
+            -> PatientReference.of(new IC("T0000000Z")).resolve(model));
+    }
+
+    @Test
+    public void equals() {
+        PatientReference firstIndex = PatientReference.of(INDEX_FIRST_PERSON);
+        PatientReference aliceIc = PatientReference.of(ALICE.getIC());
+
+        assertTrue(firstIndex.equals(PatientReference.of(Index.fromZeroBased(0))));
+        assertEquals(firstIndex.hashCode(), PatientReference.of(Index.fromZeroBased(0)).hashCode());
+        assertTrue(aliceIc.equals(PatientReference.of(new IC(ALICE.getIC().ic))));
+        assertFalse(firstIndex.equals(null));
+        assertFalse(firstIndex.equals(aliceIc));
+        assertFalse(firstIndex.equals(PatientReference.of(INDEX_SECOND_PERSON)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(INDEX_FIRST_PERSON.toString(), PatientReference.of(INDEX_FIRST_PERSON).toString());
+        assertEquals("S1234567A", PatientReference.of(new IC("S1234567A")).toString());
+    }
+}
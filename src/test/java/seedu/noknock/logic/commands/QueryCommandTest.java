@@ -0,0 +1,85 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.query.AndQuery;
+import seedu.noknock.model.query.FieldQuery;
+import seedu.noknock.model.query.PatientQuery;
+import seedu.noknock.model.query.SessionQuery;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
+import seedu.noknock.testutil.CaringSessionBuilder;
+
+public class QueryCommandTest {
+
+    private static final FieldQuery WARD_2A = FieldQuery.ward(new Ward("2A"));
+    private static final FieldQuery TAG_FRIENDS = FieldQuery.tag(new Tag("friends"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_indexedQuery_matchingPatientsListed() {
+        PatientQuery query = AndQuery.of(List.of(WARD_2A, TAG_FRIENDS, FieldQuery.name("Meier")));
+        expectedModel.updateFilteredPatientList(query);
+        assertCommandSuccess(new QueryCommand(query), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_sessionQuery_matchingPatientsAndSessionsListed() {
+        CaringSession incomplete = new CaringSessionBuilder().withDate("2030-01-01").build();
+        CaringSession completed = new CaringSessionBuilder().withDate("2030-01-01").withTime("14:00")
+                .withStatus(SessionStatus.COMPLETED).build();
+        Patient aliceWithSessions = ALICE.withCaringSession(incomplete).withCaringSession(completed);
+        Patient bensonWithSessions = BENSON.withCaringSession(completed);
+        model.setPatient(ALICE, aliceWithSessions);
+        model.setPatient(BENSON, bensonWithSessions);
+
+        Date date = new Date("2030-01-01");
+        PatientQuery query = AndQuery.of(List.of(TAG_FRIENDS, SessionQuery.between(date, date),
+                SessionQuery.withStatus(SessionStatus.INCOMPLETE)));
+        CommandResult result = new QueryCommand(query).execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), result.getFeedbackToUser());
+        assertEquals(List.of(aliceWithSessions), model.getFilteredPatientList());
+        assertTrue(query.getSessionFilter().test(incomplete));
+        assertFalse(query.getSessionFilter().test(completed));
+    }
+
+    @Test
+    public void equals() {
+        QueryCommand queryWardCommand = new QueryCommand(WARD_2A);
+
+        assertTrue(queryWardCommand.equals(queryWardCommand));
+        assertTrue(queryWardCommand.equals(new QueryCommand(FieldQuery.ward(new Ward("2A")))));
+        assertFalse(queryWardCommand.equals(null));
+        assertFalse(queryWardCommand.equals(1));
+        assertFalse(queryWardCommand.equals(new QueryCommand(TAG_FRIENDS)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryCommand command = new QueryCommand(WARD_2A);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + WARD_2A + "}";
+        assertEquals(expected, command.toString());
+    }
+}
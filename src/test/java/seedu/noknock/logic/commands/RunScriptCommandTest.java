@@ -0,0 +1,98 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.AMY;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.commands.RunScriptCommand.ScriptLine;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+
+public class RunScriptCommandTest {
+    private static final Path SCRIPT = Paths.get("admissions.txt");
+    private static final ScriptLine ADD_AMY = new ScriptLine(1, "add-patient amy", new AddPatientCommand(AMY));
+    private static final ScriptLine ADD_BOB = new ScriptLine(2, "add-patient bob", new AddPatientCommand(BOB));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allLinesSucceed_allChangesKept() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPatient(AMY);
+        expectedModel.addPatient(BOB);
+
+        assertCommandSuccess(new RunScriptCommand(SCRIPT, List.of(ADD_AMY, ADD_BOB)), model,
+                String.format(RunScriptCommand.MESSAGE_SUCCESS, 2, SCRIPT), expectedModel);
+    }
+
+    @Test
+    public void execute_lineFails_noChangesKept() {
+        ScriptLine addAmyAgain = new ScriptLine(3, "add-patient amy again", new AddPatientCommand(AMY));
+        RunScriptCommand command = new RunScriptCommand(SCRIPT, List.of(ADD_AMY, ADD_BOB, addAmyAgain));
+        assertCommandFailure(command, model, String.format(RunScriptCommand.MESSAGE_FAILED_LINE, 3,
+                "add-patient amy again", AddPatientCommand.MESSAGE_DUPLICATE_PATIENT));
+        assertFalse(model.hasPatient(AMY));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_lineFailsInBatch_onlyScriptChangesReverted() {
+        ScriptLine addAmyAgain = new ScriptLine(2, "add-patient amy again", new AddPatientCommand(AMY));
+        model.beginBatch();
+        model.addPatient(BOB);
+        assertCommandFailure(new RunScriptCommand(SCRIPT, List.of(ADD_AMY, addAmyAgain)), model,
+                String.format(RunScriptCommand.MESSAGE_FAILED_LINE, 2, "add-patient amy again",
+                AddPatientCommand.MESSAGE_DUPLICATE_PATIENT));
+        model.endBatch();
+
+        assertFalse(model.hasPatient(AMY));
+        assertTrue(model.hasPatient(BOB));
+    }
+
+    @Test
+    public void execute_noLines_success() {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new RunScriptCommand(SCRIPT, List.of()), model,
+                String.format(RunScriptCommand.MESSAGE_SUCCESS, 0, SCRIPT), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand command = new RunScriptCommand(SCRIPT, List.of(ADD_AMY));
+
+        // same values -> returns true
+        assertTrue(command.equals(new RunScriptCommand(SCRIPT, List.of(ADD_AMY))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different file -> returns false
+        assertFalse(command.equals(new RunScriptCommand(Paths.get("other.txt"), List.of(ADD_AMY))));
+
+        // different lines -> returns false
+        assertFalse(command.equals(new RunScriptCommand(SCRIPT, List.of(ADD_BOB))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunScriptCommand command = new RunScriptCommand(SCRIPT, List.of(ADD_AMY));
+        String expected = RunScriptCommand.class.getCanonicalName() + "{scriptFile=" + SCRIPT + ", lines=["
+                + ScriptLine.class.getCanonicalName() + "{lineNumber=1, text=add-patient amy}]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.metrics.CommandMetrics.Phase;
+import seedu.noknock.commons.core.metrics.CommandTimer;
+import seedu.noknock.commons.core.metrics.MetricsCenter;
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @AfterEach
+    public void tearDown() {
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void execute_noCommandsRecorded_showsNoMetricsMessage() {
+        MetricsCenter.reset();
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, MetricsCenter.MESSAGE_NO_METRICS);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_commandsRecorded_showsSummary() {
+        MetricsCenter.reset();
+        try (CommandTimer timer = MetricsCenter.startCommand(ListPatientsCommand.COMMAND_WORD)) {
+            timer.endPhase(Phase.PARSE);
+            timer.succeed();
+        }
+
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(ListPatientsCommand.COMMAND_WORD + ": 1 run(s), 0 failed"));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand();
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand()));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(new HelpCommand()));
+    }
+}
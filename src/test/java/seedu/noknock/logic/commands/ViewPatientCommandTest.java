@@ -14,6 +14,7 @@ import seedu.noknock.model.AddressBook;
 import seedu.noknock.model.Model;
 import seedu.noknock.model.ModelManager;
 import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.IC;
 import seedu.noknock.testutil.PatientBuilder;
 
 public class ViewPatientCommandTest {
@@ -30,7 +31,7 @@ public class ViewPatientCommandTest {
 
     @Test
     public void constructor_nullIndex_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new ViewPatientCommand(null));
+        assertThrows(NullPointerException.class, () -> new ViewPatientCommand((Index) null));
     }
 
     @Test
@@ -43,6 +44,24 @@ public class ViewPatientCommandTest {
         assertEquals(1, model.getFilteredPatientList().size());
     }
 
+    @Test
+    public void execute_icOfUnlistedPatient_success() throws CommandException {
+        model.updateFilteredPatientList(unused -> false);
+        ViewPatientCommand viewCommand = new ViewPatientCommand(PatientReference.of(new IC("S1234567B")));
+        CommandResult result = viewCommand.execute(model);
+
+        assertEquals(String.format("Viewing Patient: %s", "Bob Brown"), result.getFeedbackToUser());
+        assertEquals(1, model.getFilteredPatientList().size());
+    }
+
+    @Test
+    public void execute_unknownIc_throwsCommandException() {
+        ViewPatientCommand viewCommand = new ViewPatientCommand(PatientReference.of(new IC("S7654321A")));
+
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_PATIENT_IC_NOT_FOUND, "S7654321A"), ()
+            -> viewCommand.execute(model));
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         ViewPatientCommand viewCommand = new ViewPatientCommand(Index.fromOneBased(3));
@@ -0,0 +1,51 @@
+package seedu.noknock.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class WardStatsCommandTest {
+
+    @Test
+    public void execute_noPatients_showsNoWardsMessage() {
+        assertCommandSuccess(new WardStatsCommand(), new ModelManager(), WardStatsCommand.MESSAGE_NO_WARDS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_patientsInWards_showsCountsOfEachWard() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String today = LocalDate.now().toString();
+        Patient patient = new PatientBuilder().withName("Zed").withWard("3B").withIC("S7654321Z").build();
+        model.addPatient(patient);
+        model.addSession(patient, new CaringSessionBuilder().withCareType("medication").withDate(today).build());
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(WardStatsCommand.MESSAGE_SUCCESS, today,
+                "2A: 7 patient(s), 0 session(s) today, 0 incomplete\n"
+                + "3B: 1 patient(s), 1 session(s) today, 1 incomplete (medication 1)");
+        assertCommandSuccess(new WardStatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        WardStatsCommand command = new WardStatsCommand();
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new WardStatsCommand()));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new StatsCommand()));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.noknock.logic.parser;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -13,11 +14,15 @@ import org.junit.jupiter.api.Test;
 import seedu.noknock.commons.core.index.Index;
 import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.AddCaringSessionCommand;
+import seedu.noknock.logic.commands.PatientReference;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
+import seedu.noknock.model.person.IC;
 import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
 import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.SessionStatus;
 
 public class AddCaringSessionCommandParserTest {
 
@@ -46,6 +51,30 @@ public class AddCaringSessionCommandParserTest {
         assertParseSuccess(parser, USER_INPUT_ALL_FIELDS, expectedCommand);
     }
 
+    @Test
+    public void parse_icInPlaceOfIndex_success() {
+        CaringSession expectedSession = new CaringSession(
+            new CareType(VALID_TYPE), new Note(VALID_NOTE), new Date(VALID_DATE), new Time(VALID_TIME));
+        AddCaringSessionCommand expectedCommand = new AddCaringSessionCommand(
+            PatientReference.of(new IC("S1234567A")), expectedSession);
+
+        assertParseSuccess(parser, USER_INPUT_ALL_FIELDS.replaceFirst("1", "S1234567A"), expectedCommand);
+    }
+
+    @Test
+    public void parse_durationPresent_success() {
+        String input = USER_INPUT_ALL_FIELDS + " " + PREFIX_DURATION + "1h30m";
+        CaringSession expectedSession = new CaringSession(new CareType(VALID_TYPE), new Note(VALID_NOTE),
+            new Date(VALID_DATE), new Time(VALID_TIME), new Duration("90"), SessionStatus.INCOMPLETE);
+
+        assertParseSuccess(parser, input, new AddCaringSessionCommand(Index.fromOneBased(1), expectedSession));
+    }
+
+    @Test
+    public void parse_invalidDuration_failure() {
+        assertParseFailure(parser, USER_INPUT_ALL_FIELDS + " " + PREFIX_DURATION + "0", Duration.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_emptyNotes_failure() {
         CaringSession expectedSession = new CaringSession(
@@ -0,0 +1,65 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.AddRecurringSessionCommand;
+import seedu.noknock.logic.commands.PatientReference;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class AddRecurringSessionCommandParserTest {
+
+    private static final String REQUIRED_FIELDS = " time/08:00 type/medication every/weekly "
+            + "from/2030-01-01 to/2030-01-31";
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddRecurringSessionCommand.MESSAGE_USAGE);
+
+    private final AddRecurringSessionCommandParser parser = new AddRecurringSessionCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        RecurringSession expected = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY)
+                .withDuration("15").withNote("Morning round").build();
+        assertParseSuccess(parser, "1" + REQUIRED_FIELDS + " dur/15 notes/Morning round",
+                new AddRecurringSessionCommand(PatientReference.of(INDEX_FIRST_PERSON), expected));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_defaultsUsed() {
+        RecurringSession expected = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY).withNote("")
+                .build();
+        assertParseSuccess(parser, "S1234567A" + REQUIRED_FIELDS,
+                new AddRecurringSessionCommand(PatientReference.of(new IC("S1234567A")), expected));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        assertParseFailure(parser, REQUIRED_FIELDS, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 time/08:00 type/medication every/weekly from/2030-01-01",
+                MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 time/08:00 type/medication from/2030-01-01 to/2030-01-31",
+                MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, "1 time/08:00 type/medication every/monthly from/2030-01-01 to/2030-01-31",
+                Recurrence.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "1 time/08:00 type/medication every/daily from/2030-01-31 to/2030-01-01",
+                RecurringSession.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, "1" + REQUIRED_FIELDS + " every/daily",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_RECURRENCE));
+    }
+}
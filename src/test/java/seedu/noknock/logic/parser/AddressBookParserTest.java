@@ -4,31 +4,64 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND_SUGGESTION;
 import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.noknock.logic.commands.AddCaringSessionCommand;
 import seedu.noknock.logic.commands.AddNextOfKinCommand;
 import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.commands.AddRecurringSessionCommand;
 import seedu.noknock.logic.commands.ClearCommand;
 import seedu.noknock.logic.commands.DeleteCaringSessionCommand;
 import seedu.noknock.logic.commands.DeleteNextOfKinCommand;
 import seedu.noknock.logic.commands.DeletePatientCommand;
+import seedu.noknock.logic.commands.DeleteRecurringSessionCommand;
 import seedu.noknock.logic.commands.EditCaringSessionCommand;
 import seedu.noknock.logic.commands.EditNextOfKinCommand;
 import seedu.noknock.logic.commands.EditPatientCommand;
 import seedu.noknock.logic.commands.EditPatientCommand.EditPatientDescriptor;
+import seedu.noknock.logic.commands.EditRecurringSessionCommand;
 import seedu.noknock.logic.commands.ExitCommand;
+import seedu.noknock.logic.commands.ExportCommand;
+import seedu.noknock.logic.commands.FilterTagCommand;
+import seedu.noknock.logic.commands.FilterWardCommand;
+import seedu.noknock.logic.commands.FindPatientByIcCommand;
 import seedu.noknock.logic.commands.FindPatientByNextOfKinCommand;
 import seedu.noknock.logic.commands.FindPatientCommand;
+import seedu.noknock.logic.commands.FuzzyFindPatientByNextOfKinCommand;
+import seedu.noknock.logic.commands.FuzzyFindPatientCommand;
 import seedu.noknock.logic.commands.HelpCommand;
+import seedu.noknock.logic.commands.ImportCommand;
 import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.logic.commands.NextSessionsCommand;
+import seedu.noknock.logic.commands.QueryCommand;
+import seedu.noknock.logic.commands.RedoCommand;
+import seedu.noknock.logic.commands.RunScriptCommand;
 import seedu.noknock.logic.commands.SessionsTodayCommand;
 import seedu.noknock.logic.commands.SessionsWeekCommand;
+import seedu.noknock.logic.commands.StatsCommand;
+import seedu.noknock.logic.commands.UndoCommand;
+import seedu.noknock.logic.commands.ViewPatientCommand;
+import seedu.noknock.logic.commands.WardStatsCommand;
 import seedu.noknock.logic.parser.exceptions.ParseException;
+import seedu.noknock.model.PatientOrder;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.IC;
 import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.query.AndQuery;
+import seedu.noknock.model.query.FieldQuery;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
+import seedu.noknock.storage.ExportFormat;
 import seedu.noknock.testutil.EditPatientDescriptorBuilder;
 import seedu.noknock.testutil.PatientBuilder;
 import seedu.noknock.testutil.PatientUtil;
@@ -59,6 +92,18 @@ public class AddressBookParserTest {
         assertEquals(new EditPatientCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -82,12 +127,54 @@ public class AddressBookParserTest {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
 
+    @Test
+    public void parseCommand_misspeltCommand_throwsParseExceptionWithSuggestion() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "view-patient"), ()
+            -> parser.parseCommand("veiw-patient 1"));
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COMMAND_SUGGESTION, "help"), ()
+            -> parser.parseCommand("hepl"));
+    }
+
+    @Test
+    public void parseCommand_commandWordFollowedByTab_success() throws Exception {
+        assertTrue(parser.parseCommand(ViewPatientCommand.COMMAND_WORD + "\t1") instanceof ViewPatientCommand);
+    }
+
+    @Test
+    public void getCommandWordCompletions() {
+        assertEquals(List.of(DeleteNextOfKinCommand.COMMAND_WORD, DeletePatientCommand.COMMAND_WORD,
+                DeleteRecurringSessionCommand.COMMAND_WORD, DeleteCaringSessionCommand.COMMAND_WORD),
+                parser.getCommandWordCompletions("delete-"));
+        assertEquals(List.of(), parser.getCommandWordCompletions("xyz"));
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals(RunScriptCommand.COMMAND_WORD,
+                AddressBookParser.getCommandWord("  " + RunScriptCommand.COMMAND_WORD + "\tscript.txt"));
+        assertEquals(ListPatientsCommand.COMMAND_WORD,
+                AddressBookParser.getCommandWord(ListPatientsCommand.COMMAND_WORD));
+        assertEquals("", AddressBookParser.getCommandWord("   "));
+    }
+
     @Test
     public void parseCommand_addCaringSession() throws Exception {
         String userInput = AddCaringSessionCommand.COMMAND_WORD + " 1 d/2025-12-25 time/14:30 type/medication";
         assertTrue(parser.parseCommand(userInput) instanceof AddCaringSessionCommand);
     }
 
+    @Test
+    public void parseCommand_recurringSessions() throws Exception {
+        assertTrue(parser.parseCommand(AddRecurringSessionCommand.COMMAND_WORD
+                + " 1 time/08:00 type/medication every/daily from/2030-01-01 to/2030-01-31")
+                instanceof AddRecurringSessionCommand);
+        assertEquals(new EditRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, new Date("2030-01-02"),
+                SessionStatus.COMPLETED), parser.parseCommand(EditRecurringSessionCommand.COMMAND_WORD
+                + " 1 1 d/2030-01-02 status/completed"));
+        assertEquals(new DeleteRecurringSessionCommand(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON, Optional.empty()),
+                parser.parseCommand(DeleteRecurringSessionCommand.COMMAND_WORD + " 1 1"));
+    }
+
     @Test
     public void parseCommand_addNextOfKin() throws Exception {
         String userInput = AddNextOfKinCommand.COMMAND_WORD + " 1 n/John Doe p/98765432 r/son";
@@ -136,16 +223,57 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(userInput) instanceof FindPatientByNextOfKinCommand);
     }
 
+    @Test
+    public void parseCommand_findIc() throws Exception {
+        assertEquals(new FindPatientByIcCommand(List.of(new IC("S1234567A"))),
+                parser.parseCommand(FindPatientByIcCommand.COMMAND_WORD + " S1234567A"));
+    }
+
+    @Test
+    public void parseCommand_fuzzyFind() throws Exception {
+        assertEquals(new FuzzyFindPatientCommand(List.of("Jon")),
+                parser.parseCommand(FindPatientCommand.COMMAND_WORD + " --fuzzy Jon"));
+        assertEquals(new FuzzyFindPatientByNextOfKinCommand(List.of("Jon")),
+                parser.parseCommand(FindPatientByNextOfKinCommand.COMMAND_WORD + " --fuzzy Jon"));
+    }
+
     @Test
     public void parseCommand_findPatient() throws Exception {
         String userInput = FindPatientCommand.COMMAND_WORD + " John";
         assertTrue(parser.parseCommand(userInput) instanceof FindPatientCommand);
     }
 
+    @Test
+    public void parseCommand_filterWard() throws Exception {
+        FilterWardCommand command = (FilterWardCommand) parser.parseCommand(FilterWardCommand.COMMAND_WORD + " 2A 3B");
+        assertEquals(new FilterWardCommand(List.of(new Ward("2A"), new Ward("3B"))), command);
+    }
+
+    @Test
+    public void parseCommand_filterTag() throws Exception {
+        FilterTagCommand command = (FilterTagCommand) parser.parseCommand(FilterTagCommand.COMMAND_WORD + " diabetic");
+        assertEquals(new FilterTagCommand(Set.of(new Tag("diabetic"))), command);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(QueryCommand.COMMAND_WORD + " ward:3A tag:diabetic");
+        assertEquals(new QueryCommand(AndQuery.of(List.of(FieldQuery.ward(new Ward("3A")),
+                FieldQuery.tag(new Tag("diabetic"))))), command);
+    }
+
     @Test
     public void parseCommand_listPatients() throws Exception {
         assertTrue(parser.parseCommand(ListPatientsCommand.COMMAND_WORD) instanceof ListPatientsCommand);
         assertTrue(parser.parseCommand(ListPatientsCommand.COMMAND_WORD + " 3") instanceof ListPatientsCommand);
+        assertEquals(new ListPatientsCommand(PatientOrder.WARD, INDEX_FIRST_PERSON),
+                parser.parseCommand(ListPatientsCommand.COMMAND_WORD + " sort/ward page/1"));
+    }
+
+    @Test
+    public void parseCommand_nextSessions() throws Exception {
+        assertEquals(new NextSessionsCommand(), parser.parseCommand(NextSessionsCommand.COMMAND_WORD));
+        assertEquals(new NextSessionsCommand(3), parser.parseCommand(NextSessionsCommand.COMMAND_WORD + " 3"));
     }
 
     @Test
@@ -154,6 +282,30 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(SessionsTodayCommand.COMMAND_WORD + " 3") instanceof SessionsTodayCommand);
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " patients.csv");
+        assertEquals(new ExportCommand(Paths.get("patients.csv"), ExportFormat.CSV), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " admissions.csv");
+        assertEquals(new ImportCommand(Paths.get("admissions.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_wardStats() throws Exception {
+        assertTrue(parser.parseCommand(WardStatsCommand.COMMAND_WORD) instanceof WardStatsCommand);
+        assertTrue(parser.parseCommand(WardStatsCommand.COMMAND_WORD + " 3") instanceof WardStatsCommand);
+    }
+
     @Test
     public void parseCommand_sessionsWeek() throws Exception {
         assertTrue(parser.parseCommand(SessionsWeekCommand.COMMAND_WORD) instanceof SessionsWeekCommand);
@@ -136,6 +136,38 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixRecognised() {
+        Prefix t = new Prefix("t/");
+        Prefix time = new Prefix("time/");
+        Prefix ti = new Prefix("ti/");
+        String argsString = "1 t/ tag time/14:30 ti/x timex/ y";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, new PrefixAutomaton(t, time, ti));
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, t, "tag");
+        assertArgumentPresent(argMultimap, time, "14:30");
+        assertArgumentPresent(argMultimap, ti, "x timex/ y");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognised() {
+        String argsString = "preamble\tp/value \np/value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, argsString);
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
+    @Test
+    public void tokenize_sharedAutomaton_sameResultAsPrefixes() {
+        PrefixAutomaton automaton = new PrefixAutomaton(pSlash, dashT, hatQ);
+        String argsString = "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value p/ pSlash value -t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, automaton);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value", "another dashT value", "");
+        assertArgumentPresent(argMultimap, hatQ, "", "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
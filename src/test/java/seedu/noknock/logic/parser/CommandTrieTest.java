@@ -0,0 +1,89 @@
+package seedu.noknock.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CommandTrieTest {
+    private CommandTrie<Integer> trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new CommandTrie<>();
+        trie.put("add-patient", 1);
+        trie.put("add-nok", 2);
+        trie.put("add-session", 3);
+        trie.put("delete-patient", 4);
+        trie.put("help", 5);
+        trie.put("exit", 6);
+    }
+
+    @Test
+    public void get_storedWord_returnsValue() {
+        assertEquals(1, trie.get("add-patient"));
+        assertEquals(5, trie.get("help"));
+        assertEquals(6, trie.size());
+    }
+
+    @Test
+    public void get_prefixOrUnknownWord_returnsNull() {
+        assertNull(trie.get("add-"));
+        assertNull(trie.get("add-patients"));
+        assertNull(trie.get(""));
+        assertNull(trie.get("list"));
+    }
+
+    @Test
+    public void put_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.put("", 7));
+        assertThrows(IllegalArgumentException.class, () -> trie.put("add patient", 7));
+        assertThrows(IllegalArgumentException.class, () -> trie.put("help", 7));
+    }
+
+    @Test
+    public void put_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.put(null, 7));
+        assertThrows(NullPointerException.class, () -> trie.put("list", null));
+    }
+
+    @Test
+    public void getWordsStartingWith_validPrefix_returnsSortedWords() {
+        assertEquals(List.of("add-nok", "add-patient", "add-session"), trie.getWordsStartingWith("add"));
+        assertEquals(List.of("add-patient"), trie.getWordsStartingWith("add-p"));
+        assertEquals(List.of("help"), trie.getWordsStartingWith("help"));
+        assertEquals(List.of(), trie.getWordsStartingWith("x"));
+        assertEquals(List.of(), trie.getWordsStartingWith("helpme"));
+        assertEquals(6, trie.getWordsStartingWith("").size());
+    }
+
+    @Test
+    public void getClosestWords_misspeltWord_returnsClosestWords() {
+        assertEquals(List.of("add-patient"), trie.getClosestWords("add-pateint", 2));
+        assertEquals(List.of("help"), trie.getClosestWords("hlp", 2));
+        assertEquals(List.of("exit"), trie.getClosestWords("exit", 2));
+        assertEquals(List.of("add-nok"), trie.getClosestWords("ad-nok", 2));
+    }
+
+    @Test
+    public void getClosestWords_tiedWords_returnsAllInOrder() {
+        trie.put("help-me", 7);
+        trie.put("help-us", 8);
+        assertEquals(List.of("help-me", "help-us"), trie.getClosestWords("help-ue", 1));
+    }
+
+    @Test
+    public void getClosestWords_tooFar_returnsEmptyList() {
+        assertEquals(List.of(), trie.getClosestWords("unknownCommand", 2));
+        assertEquals(List.of(), trie.getClosestWords("hlp", 0));
+    }
+
+    @Test
+    public void getClosestWords_negativeDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.getClosestWords("help", -1));
+    }
+}
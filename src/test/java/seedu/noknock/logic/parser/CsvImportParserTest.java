@@ -0,0 +1,195 @@
+package seedu.noknock.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.util.CsvUtil;
+import seedu.noknock.logic.commands.AddCaringSessionCommand;
+import seedu.noknock.logic.commands.AddNextOfKinCommand;
+import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.parser.CsvImportParser.Result;
+import seedu.noknock.logic.parser.CsvImportParser.RowError;
+import seedu.noknock.model.AddressBook;
+import seedu.noknock.model.ReadOnlyAddressBook;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.NextOfKin;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.util.SyntheticDataGenerator;
+import seedu.noknock.testutil.NextOfKinBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class CsvImportParserTest {
+
+    private static final String AMY = "patient,S1234567A,Amy Bee,2A,friend;diabetic";
+    private static final String AMY_DAUGHTER = "nok,S1234567A,Sammy,11111111,Daughter";
+    private static final String AMY_SESSION =
+            "session,S1234567A,2025-10-20,14:30,Insulin,\"Before lunch, 5 units\",completed";
+
+    private final CsvImportParser parser = new CsvImportParser();
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvImportParser(0, Runnable::run));
+        assertThrows(NullPointerException.class, () -> new CsvImportParser(1, null));
+    }
+
+    @Test
+    public void parse_validRows_success() throws Exception {
+        Result result = parse(parser, new AddressBook(), "# type,...", AMY, "", AMY_DAUGHTER, AMY_SESSION,
+                "patient,S1234567B,Bob Choo,2B");
+
+        assertFalse(result.hasErrors());
+        assertEquals(1, result.getNextOfKinCount());
+        assertEquals(1, result.getSessionCount());
+        assertEquals(2, result.getPatients().size());
+
+        Patient amy = result.getPatients().get(0);
+        assertEquals(new PatientBuilder().withName("Amy Bee").withWard("2A").withIC("S1234567A")
+                .withTags("friend", "diabetic").build(), amy);
+        NextOfKin daughter = new NextOfKinBuilder().withName("Sammy").withPhone("11111111")
+                .withRelationship("Daughter").build();
+        assertEquals(List.of(daughter), amy.getNextOfKinList());
+        CaringSession session = amy.getCaringSessionList().get(0);
+        assertEquals("Before lunch, 5 units", session.getNote().value);
+        assertEquals(SessionStatus.COMPLETED, session.getStatus());
+
+        Patient bob = result.getPatients().get(1);
+        assertEquals(new IC("S1234567B"), bob.getIC());
+        assertTrue(bob.getTags().isEmpty());
+        assertTrue(bob.getNextOfKinList().isEmpty());
+    }
+
+    @Test
+    public void parse_sessionWithoutNotesOrStatus_defaultsUsed() throws Exception {
+        Result result = parse(parser, new AddressBook(), AMY, "session,S1234567A,2025-10-20,14:30,Insulin");
+        CaringSession session = result.getPatients().get(0).getCaringSessionList().get(0);
+        assertEquals("", session.getNote().value);
+        assertEquals(SessionStatus.INCOMPLETE, session.getStatus());
+        assertEquals(Duration.DEFAULT, session.getDuration());
+    }
+
+    @Test
+    public void parse_sessionsWithDuration_overlapsByTimeRange() throws Exception {
+        Result result = parse(parser, new AddressBook(), AMY,
+                "session,S1234567A,2025-10-20,14:00,Physio,,,1h",
+                "session,S1234567A,2025-10-20,14:55,Insulin",
+                "session,S1234567A,2025-10-20,15:00,Insulin");
+
+        assertEquals(List.of(new RowError(3,
+                String.format(AddCaringSessionCommand.MESSAGE_HAS_OVERLAPPING_SESSION, "Insulin"))),
+                result.getErrors());
+        List<CaringSession> sessions = result.getPatients().get(0).getCaringSessionList();
+        assertEquals(new Duration("60"), sessions.get(0).getDuration());
+        assertEquals(2, sessions.size());
+    }
+
+    @Test
+    public void parse_invalidRows_allErrorsReportedWithLineNumbers() throws Exception {
+        Result result = parse(parser, getTypicalAddressBook(),
+                AMY,
+                "patient,S1234567A,Amy Again,2A",
+                "patient," + ALICE.getIC() + ",Alice,2A",
+                "visitor,S1234567A",
+                "nok,S1234567A,Sammy",
+                "nok,S7654321Z,Sammy,11111111,Daughter",
+                AMY_DAUGHTER,
+                AMY_DAUGHTER,
+                AMY_SESSION,
+                "session,S1234567A,2025-10-20,14:30,Physio",
+                "patient,S1234567C,Carl,2A,\"open",
+                "patient,not-an-ic,Carl,2A");
+
+        assertEquals(List.of(
+                new RowError(2, String.format(CsvImportParser.MESSAGE_DUPLICATE_PATIENT_IN_FILE, 1)),
+                new RowError(3, AddPatientCommand.MESSAGE_DUPLICATE_PATIENT),
+                new RowError(4, String.format(CsvImportParser.MESSAGE_UNKNOWN_TYPE, "visitor")),
+                new RowError(5, String.format(CsvImportParser.MESSAGE_WRONG_FIELD_COUNT,
+                        CsvImportParser.TYPE_NEXT_OF_KIN, "5", 3)),
+                new RowError(6, String.format(CsvImportParser.MESSAGE_UNKNOWN_PATIENT, "S7654321Z")),
+                new RowError(8, AddNextOfKinCommand.MESSAGE_DUPLICATE_NOK),
+                new RowError(10, String.format(AddCaringSessionCommand.MESSAGE_HAS_OVERLAPPING_SESSION, "Physio")),
+                new RowError(11, CsvUtil.MESSAGE_UNTERMINATED_QUOTE),
+                new RowError(12, IC.MESSAGE_CONSTRAINTS)), result.getErrors());
+        assertTrue(result.hasErrors());
+    }
+
+    @Test
+    public void parse_rowsForPatientBeforePatient_error() throws Exception {
+        Result result = parse(parser, new AddressBook(), AMY_DAUGHTER, AMY);
+        assertEquals(List.of(new RowError(1, String.format(CsvImportParser.MESSAGE_UNKNOWN_PATIENT, "S1234567A"))),
+                result.getErrors());
+    }
+
+    @Test
+    public void parse_smallChunksOnSeveralThreads_sameResultAsOneChunk() throws Exception {
+        StringBuilder csv = new StringBuilder();
+        List<Patient> patients = new SyntheticDataGenerator(7).generatePatients(200);
+        for (Patient patient : patients) {
+            csv.append(String.join(",", CsvImportParser.TYPE_PATIENT, patient.getIC().toString(),
+                    patient.getName().toString(), patient.getWard().toString())).append('\n');
+            for (NextOfKin nextOfKin : patient.getNextOfKinList()) {
+                csv.append(String.join(",", CsvImportParser.TYPE_NEXT_OF_KIN, patient.getIC().toString(),
+                        nextOfKin.getName().toString(), nextOfKin.getPhone().toString(),
+                        nextOfKin.getRelationship().toString())).append('\n');
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Result chunked = new CsvImportParser(3, executor).parse(
+                    new BufferedReader(new StringReader(csv.toString())), new AddressBook());
+            Result whole = parser.parse(new BufferedReader(new StringReader(csv.toString())), new AddressBook());
+
+            assertFalse(chunked.hasErrors());
+            assertEquals(whole.getPatients(), chunked.getPatients());
+            assertEquals(patients.size(), chunked.getPatients().size());
+            for (int i = 0; i < patients.size(); i++) {
+                assertEquals(patients.get(i).getIC(), chunked.getPatients().get(i).getIC());
+                assertEquals(patients.get(i).getNextOfKinList(), chunked.getPatients().get(i).getNextOfKinList());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void join_failedChunk_throwsUnwrappedException() {
+        assertEquals(List.of(), CsvImportParser.join(CompletableFuture.completedFuture(List.of())));
+        assertThrows(IllegalStateException.class, "chunk failed", () ->
+                CsvImportParser.join(CompletableFuture.failedFuture(new IllegalStateException("chunk failed"))));
+        assertThrows(StackOverflowError.class, () ->
+                CsvImportParser.join(CompletableFuture.failedFuture(new StackOverflowError())));
+    }
+
+    @Test
+    public void rowError_equalsAndToString() {
+        RowError error = new RowError(3, "Bad row");
+        assertEquals(new RowError(3, "Bad row"), error);
+        assertFalse(error.equals(new RowError(4, "Bad row")));
+        assertFalse(error.equals(new RowError(3, "Other")));
+        assertFalse(error.equals(null));
+        assertEquals("Line 3: Bad row", error.toString());
+    }
+
+    private static Result parse(CsvImportParser parser, ReadOnlyAddressBook existingData, String... lines)
+            throws IOException {
+        return parser.parse(new BufferedReader(new StringReader(String.join("\n", lines))), existingData);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.commands.DeleteRecurringSessionCommand;
+import seedu.noknock.model.date.Date;
+
+public class DeleteRecurringSessionCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteRecurringSessionCommand.MESSAGE_USAGE);
+
+    private final DeleteRecurringSessionCommandParser parser = new DeleteRecurringSessionCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDeleteRecurringSessionCommand() {
+        assertParseSuccess(parser, "1 2", new DeleteRecurringSessionCommand(Index.fromOneBased(1),
+                Index.fromOneBased(2), Optional.empty()));
+        assertParseSuccess(parser, "1 2 d/2030-01-02", new DeleteRecurringSessionCommand(Index.fromOneBased(1),
+                Index.fromOneBased(2), Optional.of(new Date("2030-01-02"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2 3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a 2", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2 d/someday", Date.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.noknock.logic.parser;
 import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_CARE_TYPE;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
@@ -16,6 +17,7 @@ import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.EditCaringSessionCommand;
 import seedu.noknock.logic.commands.EditCaringSessionCommand.EditSessionDescriptor;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.Note;
@@ -82,6 +84,14 @@ public class EditCaringSessionCommandParserTest {
             Index.fromOneBased(1), Index.fromOneBased(1), descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
 
+        // duration
+        userInput = "1 1 " + PREFIX_DURATION + "1h";
+        descriptor = new EditSessionDescriptor();
+        descriptor.setDuration(new Duration("60"));
+        expectedCommand = new EditCaringSessionCommand(
+            Index.fromOneBased(1), Index.fromOneBased(1), descriptor);
+        assertParseSuccess(parser, userInput, expectedCommand);
+
         // care type
         userInput = "1 1 " + PREFIX_CARE_TYPE + VALID_TYPE;
         descriptor = new EditSessionDescriptor();
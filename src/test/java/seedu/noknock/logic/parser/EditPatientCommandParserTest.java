@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import seedu.noknock.commons.core.index.Index;
 import seedu.noknock.logic.Messages;
 import seedu.noknock.logic.commands.EditPatientCommand;
+import seedu.noknock.logic.commands.PatientReference;
 import seedu.noknock.model.person.IC;
 import seedu.noknock.model.person.Name;
 import seedu.noknock.model.person.Ward;
@@ -118,6 +119,16 @@ public class EditPatientCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_icPreamble_success() {
+        EditPatientCommand.EditPatientDescriptor descriptor = new EditPatientDescriptorBuilder()
+            .withName(VALID_NAME_BOB).build();
+        EditPatientCommand expectedCommand =
+            new EditPatientCommand(PatientReference.of(new IC(VALID_IC_BOB)), descriptor);
+
+        assertParseSuccess(parser, VALID_IC_BOB + NAME_DESC_BOB, expectedCommand);
+    }
+
     @Test
     public void parse_someFieldsSpecified_success() {
         String userInput = "1" + NAME_DESC_BOB + WARD_DESC_BOB;
@@ -0,0 +1,46 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.logic.commands.EditRecurringSessionCommand;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.session.SessionStatus;
+
+public class EditRecurringSessionCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditRecurringSessionCommand.MESSAGE_USAGE);
+
+    private final EditRecurringSessionCommandParser parser = new EditRecurringSessionCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsEditRecurringSessionCommand() {
+        assertParseSuccess(parser, "1 2 d/2030-01-02 status/completed",
+                new EditRecurringSessionCommand(Index.fromOneBased(1), Index.fromOneBased(2), new Date("2030-01-02"),
+                        SessionStatus.COMPLETED));
+    }
+
+    @Test
+    public void parse_invalidIndices_failure() {
+        assertParseFailure(parser, "1 d/2030-01-02 status/completed", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 0 d/2030-01-02 status/completed", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2 3 d/2030-01-02 status/completed", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_missingFields_failure() {
+        assertParseFailure(parser, "1 2 d/2030-01-02", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2 status/completed", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, "1 2 d/2030-13-02 status/completed", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "1 2 d/2030-01-02 status/done", SessionStatus.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.ExportCommand;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.storage.ExportFormat;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_fileOnly_returnsPatientsExport() {
+        assertParseSuccess(parser, " patients.csv ", new ExportCommand(Paths.get("patients.csv"), ExportFormat.CSV));
+        assertParseSuccess(parser, " patients.jsonl",
+                new ExportCommand(Paths.get("patients.jsonl"), ExportFormat.NDJSON));
+    }
+
+    @Test
+    public void parse_fileAndDates_returnsSessionsExport() {
+        assertParseSuccess(parser, " roster.ndjson from/2025-10-20 to/26-10-2025",
+                new ExportCommand(Paths.get("roster.ndjson"), ExportFormat.NDJSON,
+                        new Date("2025-10-20"), new Date("2025-10-26")));
+    }
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        // no file
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2025-10-20 to/2025-10-26", MESSAGE_INVALID_FORMAT);
+
+        // only one of the dates
+        assertParseFailure(parser, " roster.csv from/2025-10-20", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " roster.csv to/2025-10-26", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " roster.json", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+        assertParseFailure(parser, " roster.csv from/tomorrow to/2025-10-26", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " roster.csv from/2025-10-20 from/2025-10-21 to/2025-10-26",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FROM));
+    }
+}
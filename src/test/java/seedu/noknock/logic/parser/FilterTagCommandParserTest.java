@@ -0,0 +1,37 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.commands.FilterTagCommand;
+import seedu.noknock.model.tag.Tag;
+
+public class FilterTagCommandParserTest {
+
+    private FilterTagCommandParser parser = new FilterTagCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterTagCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "diabetic fall-risk", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterTagCommand() {
+        FilterTagCommand expectedCommand = new FilterTagCommand(Set.of(new Tag("diabetic"), new Tag("fallRisk")));
+        assertParseSuccess(parser, "diabetic fallRisk", expectedCommand);
+
+        // multiple whitespaces and repeated tags
+        assertParseSuccess(parser, " \n fallRisk \n \t diabetic  fallRisk \t", expectedCommand);
+    }
+}
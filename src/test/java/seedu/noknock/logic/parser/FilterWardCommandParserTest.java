@@ -0,0 +1,37 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.commands.FilterWardCommand;
+import seedu.noknock.model.person.Ward;
+
+public class FilterWardCommandParserTest {
+
+    private FilterWardCommandParser parser = new FilterWardCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterWardCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidWard_throwsParseException() {
+        assertParseFailure(parser, "2A ward3", Ward.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterWardCommand() {
+        FilterWardCommand expectedCommand = new FilterWardCommand(List.of(new Ward("2A"), new Ward("3B")));
+        assertParseSuccess(parser, "2A 3B", expectedCommand);
+
+        // multiple whitespaces between wards
+        assertParseSuccess(parser, " \n 2a \n \t 3b  \t", expectedCommand);
+    }
+}
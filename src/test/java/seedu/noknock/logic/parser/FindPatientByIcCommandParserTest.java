@@ -0,0 +1,38 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.commands.FindPatientByIcCommand;
+import seedu.noknock.model.person.IC;
+
+public class FindPatientByIcCommandParserTest {
+
+    private FindPatientByIcCommandParser parser = new FindPatientByIcCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatientByIcCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidIc_throwsParseException() {
+        assertParseFailure(parser, "S1234567A 1234567", IC.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindPatientByIcCommand() {
+        FindPatientByIcCommand expectedCommand =
+                new FindPatientByIcCommand(List.of(new IC("S1234567A"), new IC("T7654321B")));
+        assertParseSuccess(parser, "S1234567A T7654321B", expectedCommand);
+
+        // multiple whitespaces between ICs
+        assertParseSuccess(parser, " \n S1234567A \n \t T7654321B  \t", expectedCommand);
+    }
+}
@@ -5,10 +5,12 @@ import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.noknock.logic.commands.FindPatientCommand;
+import seedu.noknock.logic.commands.FuzzyFindPatientCommand;
 import seedu.noknock.model.person.PatientNameContainsKeywordsPredicate;
 
 public class FindPatientCommandParserTest {
@@ -21,6 +23,18 @@ public class FindPatientCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatientCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindPatientCommand() {
+        assertParseSuccess(parser, " --fuzzy Alise  Bob ", new FuzzyFindPatientCommand(List.of("Alise", "Bob")));
+        assertParseSuccess(parser, "--FUZZY alise", new FuzzyFindPatientCommand(List.of("alise")));
+    }
+
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " --fuzzy ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPatientCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validArgs_returnsFindPatientCommand() {
         // no leading and trailing whitespaces
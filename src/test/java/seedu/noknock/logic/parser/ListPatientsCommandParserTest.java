@@ -0,0 +1,41 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.Messages;
+import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.model.PatientOrder;
+
+public class ListPatientsCommandParserTest {
+
+    private final ListPatientsCommandParser parser = new ListPatientsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListInOrderAdded() {
+        assertParseSuccess(parser, "", new ListPatientsCommand());
+        assertParseSuccess(parser, " 3", new ListPatientsCommand());
+    }
+
+    @Test
+    public void parse_sortAndPage_returnsListPatientsCommand() {
+        assertParseSuccess(parser, " sort/name", new ListPatientsCommand(PatientOrder.NAME));
+        assertParseSuccess(parser, " sort/Next-Session ", new ListPatientsCommand(PatientOrder.NEXT_SESSION));
+        assertParseSuccess(parser, " sort/ward page/2",
+                new ListPatientsCommand(PatientOrder.WARD, INDEX_SECOND_PERSON));
+        assertParseSuccess(parser, " page/2", new ListPatientsCommand(PatientOrder.ADDED, INDEX_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " sort/age", PatientOrder.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " sort/added", PatientOrder.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " page/0", ListPatientsCommandParser.MESSAGE_INVALID_PAGE);
+        assertParseFailure(parser, " page/two", ListPatientsCommandParser.MESSAGE_INVALID_PAGE);
+        assertParseFailure(parser, " sort/name sort/ward",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SORT));
+    }
+}
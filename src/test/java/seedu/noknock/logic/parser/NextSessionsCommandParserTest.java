@@ -0,0 +1,32 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.commands.NextSessionsCommand;
+
+public class NextSessionsCommandParserTest {
+    private NextSessionsCommandParser parser = new NextSessionsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsDefaultCount() {
+        assertParseSuccess(parser, "   ", new NextSessionsCommand(NextSessionsCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_validArgs_returnsNextSessionsCommand() {
+        assertParseSuccess(parser, " 12 ", new NextSessionsCommand(12));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextSessionsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "a", expectedMessage);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "-3", expectedMessage);
+        assertParseFailure(parser, "1 2", expectedMessage);
+    }
+}
@@ -13,8 +13,10 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.noknock.logic.commands.PatientReference;
 import seedu.noknock.logic.parser.exceptions.ParseException;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.person.Address;
 import seedu.noknock.model.person.Email;
@@ -55,6 +57,20 @@ public class ParserUtilTest {
             -> ParserUtil.parseIndex(Long.toString(Integer.MAX_VALUE + 1)));
     }
 
+    @Test
+    public void parsePatientReference_validInput_success() throws Exception {
+        assertEquals(PatientReference.of(INDEX_FIRST_PERSON), ParserUtil.parsePatientReference("  1  "));
+        assertEquals(PatientReference.of(new IC("S1234567A")), ParserUtil.parsePatientReference(" S1234567A "));
+        assertEquals(PatientReference.of(new IC("S1234567A")), ParserUtil.parsePatientReference("s1234567a"));
+    }
+
+    @Test
+    public void parsePatientReference_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parsePatientReference("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, ()
+            -> ParserUtil.parsePatientReference("S1234567"));
+    }
+
     @Test
     public void parseIndex_validInput_success() throws Exception {
         // No whitespaces
@@ -358,6 +374,21 @@ public class ParserUtilTest {
         assertEquals(expectedTime, ParserUtil.parseTime(timeWithWhitespace));
     }
 
+    @Test
+    public void parseDuration_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseDuration(null));
+    }
+
+    @Test
+    public void parseDuration_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("0"));
+    }
+
+    @Test
+    public void parseDuration_validValueWithWhitespace_returnsTrimmedDuration() throws Exception {
+        assertEquals(new Duration("1h30m"), ParserUtil.parseDuration(WHITESPACE + "1h30m" + WHITESPACE));
+    }
+
     @Test
     public void parseDate_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseDate(null));
@@ -0,0 +1,53 @@
+package seedu.noknock.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.noknock.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixAutomatonTest {
+    private final PrefixAutomaton automaton =
+            new PrefixAutomaton(PREFIX_NAME, PREFIX_NOTES, PREFIX_TAG, PREFIX_TIME, PREFIX_DATE);
+
+    @Test
+    public void match_prefixAtIndex_returnsPrefix() {
+        assertEquals(PREFIX_NAME, automaton.match("n/John", 0));
+        assertEquals(PREFIX_NOTES, automaton.match("1 notes/ok", 2));
+        assertEquals(PREFIX_TIME, automaton.match("time/14:00", 0));
+        assertEquals(PREFIX_TAG, automaton.match("t/", 0));
+    }
+
+    @Test
+    public void match_noPrefixAtIndex_returnsNull() {
+        assertNull(automaton.match("n/John", 1));
+        assertNull(automaton.match("note/x", 0));
+        assertNull(automaton.match("tim", 0));
+        assertNull(automaton.match("", 0));
+        assertNull(automaton.match("p/123", 0));
+    }
+
+    @Test
+    public void match_overlappingPrefixes_returnsLongest() {
+        Prefix a = new Prefix("a/");
+        Prefix ab = new Prefix("a/b/");
+        PrefixAutomaton overlapping = new PrefixAutomaton(a, ab);
+        assertEquals(ab, overlapping.match("a/b/c", 0));
+        assertEquals(a, overlapping.match("a/bc", 0));
+    }
+
+    @Test
+    public void constructor_emptyPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PrefixAutomaton(PREFIX_NAME, new Prefix("")));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PrefixAutomaton((Prefix) null));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.noknock.logic.parser;
+
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.commands.QueryCommand;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.query.AndQuery;
+import seedu.noknock.model.query.FieldQuery;
+import seedu.noknock.model.query.NotQuery;
+import seedu.noknock.model.query.OrQuery;
+import seedu.noknock.model.query.SessionQuery;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final FieldQuery WARD_3A = FieldQuery.ward(new Ward("3A"));
+    private static final FieldQuery WARD_3B = FieldQuery.ward(new Ward("3B"));
+    private static final FieldQuery TAG_DIABETIC = FieldQuery.tag(new Tag("diabetic"));
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_singleTerm_returnsQueryCommand() {
+        assertParseSuccess(parser, " ward:3A ", new QueryCommand(WARD_3A));
+        assertParseSuccess(parser, "ic:S1234567A", new QueryCommand(FieldQuery.ic(new IC("S1234567A"))));
+        assertParseSuccess(parser, "NAME:alice", new QueryCommand(FieldQuery.name("alice")));
+        assertParseSuccess(parser, "nok:john", new QueryCommand(FieldQuery.nextOfKin("john")));
+        assertParseSuccess(parser, "type:Medication",
+                new QueryCommand(SessionQuery.withCareType(new CareType("Medication"))));
+    }
+
+    @Test
+    public void parse_sessionDates_returnsQueryCommand() {
+        Date start = new Date("2026-10-17");
+        Date end = new Date("2026-10-23");
+        assertParseSuccess(parser, "session:2026-10-17", new QueryCommand(SessionQuery.between(start, start)));
+        assertParseSuccess(parser, "session:2026-10-17..2026-10-23",
+                new QueryCommand(SessionQuery.between(start, end)));
+        assertParseSuccess(parser, "session:17-10-2026..23-10-2026",
+                new QueryCommand(SessionQuery.between(start, end)));
+    }
+
+    @Test
+    public void parse_conjunction_returnsQueryCommand() {
+        Date start = new Date("2026-10-17");
+        Date end = new Date("2026-10-23");
+        QueryCommand expected = new QueryCommand(AndQuery.of(List.of(WARD_3A, TAG_DIABETIC,
+                SessionQuery.between(start, end), SessionQuery.withStatus(SessionStatus.INCOMPLETE))));
+
+        assertParseSuccess(parser, "ward:3A AND tag:diabetic AND session:2026-10-17..2026-10-23 AND status:incomplete",
+                expected);
+        // implicit and lower-case AND
+        assertParseSuccess(parser, "ward:3A tag:diabetic and session:2026-10-17..2026-10-23 status:incomplete",
+                expected);
+    }
+
+    @Test
+    public void parse_precedenceAndParentheses_returnsQueryCommand() {
+        assertParseSuccess(parser, "ward:3A OR ward:3B AND tag:diabetic", new QueryCommand(
+                OrQuery.of(List.of(WARD_3A, AndQuery.of(List.of(WARD_3B, TAG_DIABETIC))))));
+        assertParseSuccess(parser, "(ward:3A OR ward:3B) AND NOT tag:diabetic", new QueryCommand(
+                AndQuery.of(List.of(OrQuery.of(List.of(WARD_3A, WARD_3B)), new NotQuery(TAG_DIABETIC)))));
+        assertParseSuccess(parser, "((ward:3A))", new QueryCommand(WARD_3A));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, "bed:3", String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "bed"));
+        assertParseFailure(parser, "ward", String.format(QueryCommandParser.MESSAGE_INVALID_TERM, "ward"));
+        assertParseFailure(parser, "ward:", String.format(QueryCommandParser.MESSAGE_INVALID_TERM, "ward:"));
+        assertParseFailure(parser, "(ward:3A", QueryCommandParser.MESSAGE_MISSING_CLOSING_PARENTHESIS);
+        assertParseFailure(parser, "ward:3A)", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, ")"));
+        assertParseFailure(parser, "ward:3A AND", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, "end"));
+        assertParseFailure(parser, "OR ward:3A", String.format(QueryCommandParser.MESSAGE_UNEXPECTED_TOKEN, "OR"));
+        assertParseFailure(parser, "session:2026-13-40", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "tag:not-a-tag", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.noknock.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.noknock.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.noknock.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.noknock.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.noknock.testutil.TypicalPatients.AMY;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.logic.commands.AddPatientCommand;
+import seedu.noknock.logic.commands.RedoCommand;
+import seedu.noknock.logic.commands.RunScriptCommand;
+import seedu.noknock.logic.commands.RunScriptCommand.ScriptLine;
+import seedu.noknock.logic.commands.UndoCommand;
+import seedu.noknock.logic.commands.ViewPatientCommand;
+import seedu.noknock.testutil.PatientUtil;
+
+public class RunScriptCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+
+    @Test
+    public void parse_validScript_returnsRunScriptCommand() throws Exception {
+        String addAmy = PatientUtil.getAddPatientCommand(AMY).trim();
+        String addBob = PatientUtil.getAddPatientCommand(BOB).trim();
+        String viewFirst = ViewPatientCommand.COMMAND_WORD + " 1";
+        Path script = writeScript("# Admissions", addAmy, "", "   " + addBob + "  ", viewFirst);
+
+        RunScriptCommand expectedCommand = new RunScriptCommand(script, List.of(
+                new ScriptLine(2, addAmy, new AddPatientCommand(AMY)),
+                new ScriptLine(4, addBob, new AddPatientCommand(BOB)),
+                new ScriptLine(5, viewFirst, new ViewPatientCommand(INDEX_FIRST_PERSON))));
+        assertEquals(expectedCommand, parser.parse(" " + script));
+    }
+
+    @Test
+    public void parse_emptyScript_returnsCommandWithNoLines() throws Exception {
+        Path script = writeScript("# nothing to do", "");
+        assertEquals(new RunScriptCommand(script, List.of()), parser.parse(script.toString()));
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws Exception {
+        Path script = writeScript(PatientUtil.getAddPatientCommand(AMY), "unknown-command 1");
+        assertParseFailure(parser, script.toString(),
+                String.format(RunScriptCommand.MESSAGE_INVALID_LINE, 2, "unknown-command 1", MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_nestedScript_throwsParseException() throws Exception {
+        Files.writeString(temporaryFolder.resolve("other.txt"), "");
+        Path nested = writeScript(RunScriptCommand.COMMAND_WORD + " " + temporaryFolder.resolve("other.txt"));
+        assertParseFailure(parser, nested.toString(), String.format(RunScriptCommand.MESSAGE_INVALID_LINE, 1,
+                RunScriptCommand.COMMAND_WORD + " " + temporaryFolder.resolve("other.txt"),
+                RunScriptCommand.MESSAGE_NESTED_SCRIPT));
+    }
+
+    @Test
+    public void parse_selfReferencingScript_throwsParseException() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        String runItself = RunScriptCommand.COMMAND_WORD + " " + script;
+        writeScript(runItself);
+        assertParseFailure(parser, script.toString(), String.format(RunScriptCommand.MESSAGE_INVALID_LINE, 1,
+                runItself, RunScriptCommand.MESSAGE_NESTED_SCRIPT));
+
+        // the script can be parsed again once it no longer runs itself
+        writeScript("# fixed");
+        assertEquals(new RunScriptCommand(script, List.of()), parser.parse(script.toString()));
+    }
+
+    @Test
+    public void parse_undoOrRedo_throwsParseException() throws Exception {
+        Path script = writeScript(PatientUtil.getAddPatientCommand(AMY), UndoCommand.COMMAND_WORD);
+        assertParseFailure(parser, script.toString(), String.format(RunScriptCommand.MESSAGE_INVALID_LINE, 2,
+                UndoCommand.COMMAND_WORD, RunScriptCommand.MESSAGE_UNDO_IN_SCRIPT));
+
+        writeScript(RedoCommand.COMMAND_WORD);
+        assertParseFailure(parser, script.toString(), String.format(RunScriptCommand.MESSAGE_INVALID_LINE, 1,
+                RedoCommand.COMMAND_WORD, RunScriptCommand.MESSAGE_UNDO_IN_SCRIPT));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path missing = temporaryFolder.resolve("missing.txt");
+        assertParseFailure(parser, missing.toString(),
+                String.format(RunScriptCommand.MESSAGE_SCRIPT_NOT_FOUND, missing));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.CaringSessionBuilder;
+
+public class BatchedObservableListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a");
+    private final BatchedObservableList<String> batchedList = new BatchedObservableList<>(source);
+    private final List<List<String>> published = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        batchedList.addListener((ListChangeListener<String>) change -> published.add(List.copyOf(batchedList)));
+    }
+
+    @Test
+    public void constructor_nullSource_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchedObservableList<>(null));
+    }
+
+    @Test
+    public void sourceChanged_notDeferring_publishedImmediately() {
+        source.add("b");
+        source.remove("a");
+        assertEquals(List.of(List.of("a", "b"), List.of("b")), published);
+    }
+
+    @Test
+    public void sourceChanged_deferring_publishedOnceOnFlush() {
+        batchedList.defer();
+        source.add("b");
+        source.set(0, "c");
+        source.add("d");
+        assertEquals(List.of("a"), batchedList);
+        assertTrue(published.isEmpty());
+
+        batchedList.flush();
+        assertEquals(List.of(List.of("c", "b", "d")), published);
+    }
+
+    @Test
+    public void flush_noNetChange_notPublished() {
+        batchedList.defer();
+        source.add("b");
+        source.remove("b");
+        batchedList.flush();
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    public void flush_elementReplacedByEqualElement_published() {
+        ObservableList<Patient> patients = FXCollections.observableArrayList(ALICE);
+        BatchedObservableList<Patient> batchedPatients = new BatchedObservableList<>(patients);
+        List<List<Patient>> publishedPatients = new ArrayList<>();
+        batchedPatients.addListener((ListChangeListener<Patient>) change ->
+                publishedPatients.add(List.copyOf(batchedPatients)));
+
+        // sessions are not compared by Patient#equals
+        Patient editedAlice = ALICE.withCaringSession(new CaringSessionBuilder().build());
+        batchedPatients.defer();
+        patients.set(0, editedAlice);
+        batchedPatients.flush();
+
+        assertEquals(1, publishedPatients.size());
+        assertSame(editedAlice, batchedPatients.get(0));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> batchedList.add("b"));
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.person.Patient;
+
+public class ChangeHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void commit_noRecordedChanges_nothingToUndo() {
+        ChangeHistory history = new ChangeHistory(10);
+        history.commit();
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, () -> history.undo(addressBook));
+        assertThrows(IllegalStateException.class, () -> history.redo(addressBook));
+    }
+
+    @Test
+    public void undo_stepWithSeveralChanges_latestChangeUndoneFirst() {
+        ChangeHistory history = new ChangeHistory(10);
+        addPatient(history, ALICE);
+        addPatient(history, BENSON);
+        history.commit();
+
+        // the changes are undone in reverse, so each removal finds its patient
+        history.undo(addressBook);
+        assertTrue(addressBook.getPatientList().isEmpty());
+        assertFalse(history.canUndo());
+
+        history.redo(addressBook);
+        assertEquals(List.of(ALICE, BENSON), addressBook.getPatientList());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoStepsCleared() {
+        ChangeHistory history = new ChangeHistory(10);
+        addPatient(history, ALICE);
+        history.commit();
+        history.undo(addressBook);
+        assertTrue(history.canRedo());
+
+        addPatient(history, BENSON);
+        history.commit();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void setMaxSteps_fewerSteps_oldestStepsDropped() {
+        ChangeHistory history = new ChangeHistory(10);
+        addPatient(history, ALICE);
+        history.commit();
+        addPatient(history, BENSON);
+        history.commit();
+
+        history.setMaxSteps(1);
+        history.undo(addressBook);
+        assertFalse(history.canUndo());
+        assertEquals(List.of(ALICE), addressBook.getPatientList());
+    }
+
+    @Test
+    public void record_zeroMaxSteps_nothingRecorded() {
+        ChangeHistory history = new ChangeHistory(0);
+        addPatient(history, ALICE);
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void canUndoAndCanRedo_pendingChanges_stepNotEnded() {
+        ChangeHistory history = new ChangeHistory(10);
+        addPatient(history, ALICE);
+        history.commit();
+        history.undo(addressBook);
+
+        addPatient(history, BENSON);
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+        assertEquals(1, history.getPendingChangeCount());
+    }
+
+    @Test
+    public void revertPendingChanges_changesAfterKeptCountReverted() {
+        ChangeHistory history = new ChangeHistory(0);
+        addPatient(history, ALICE);
+        addPatient(history, BENSON);
+
+        history.revertPendingChanges(addressBook, 1);
+        assertEquals(List.of(ALICE), addressBook.getPatientList());
+        assertEquals(1, history.getPendingChangeCount());
+
+        history.revertPendingChanges(addressBook, 0);
+        assertTrue(addressBook.getPatientList().isEmpty());
+        assertEquals(0, history.getPendingChangeCount());
+    }
+
+    private void addPatient(ChangeHistory history, Patient patient) {
+        addressBook.addPatient(patient);
+        history.record(book -> book.removePatient(patient), book -> book.addPatient(patient));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.ELLE;
+import static seedu.noknock.testutil.TypicalPatients.FIONA;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalPersons;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.NextOfKinBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class FuzzyNameIndexTest {
+
+    private final ObservableList<Patient> patients = FXCollections.observableArrayList(getTypicalPersons());
+    private final FuzzyNameIndex patientNameIndex = FuzzyNameIndex.ofPatientNames(patients);
+
+    @Test
+    public void getMaxDistance_dependsOnKeywordLength() {
+        assertEquals(0, FuzzyNameIndex.getMaxDistance("ng"));
+        assertEquals(1, FuzzyNameIndex.getMaxDistance("meier"));
+        assertEquals(2, FuzzyNameIndex.getMaxDistance("pauline"));
+    }
+
+    @Test
+    public void find_misspeltKeyword_matchesSimilarWordsByDistance() {
+        // Meier is an exact match, Meyer one edit away
+        assertEquals(Map.of(BENSON, 0, DANIEL, 0, ELLE, 1), patientNameIndex.find(List.of("meier")));
+        assertEquals(Map.of(ALICE, 2), patientNameIndex.find(List.of("PAULIEN")));
+        assertEquals(Map.of(), patientNameIndex.find(List.of("smith")));
+    }
+
+    @Test
+    public void find_shortKeyword_onlyExactWordMatches() {
+        assertEquals(Map.of(), patientNameIndex.find(List.of("al")));
+    }
+
+    @Test
+    public void find_multipleKeywords_missingKeywordsAddToScore() {
+        // "kunz" is one edit from Kurz, "karl" is one edit from Carl and a missing keyword of four letters costs two
+        assertEquals(Map.of(CARL, 1 + 1, FIONA, 0 + 2), patientNameIndex.find(List.of("kunz", "karl")));
+        assertEquals(Map.of(CARL, 1 + 1, FIONA, 2 + 0), patientNameIndex.find(List.of("karl", "kunz")));
+    }
+
+    @Test
+    public void find_followsChangesToList() {
+        Patient renamedAlice = new PatientBuilder(ALICE).withName("Alyce Tan").build();
+        patients.set(0, renamedAlice);
+        assertEquals(Map.of(), patientNameIndex.find(List.of("pauline")));
+        assertEquals(Map.of(renamedAlice, 1), patientNameIndex.find(List.of("alice")));
+
+        patients.remove(renamedAlice);
+        assertEquals(Map.of(), patientNameIndex.find(List.of("alice")));
+    }
+
+    @Test
+    public void find_nextOfKinNames_matchesPatientsOfNextOfKin() {
+        FuzzyNameIndex nextOfKinNameIndex = FuzzyNameIndex.ofNextOfKinNames(patients);
+        Patient bensonWithNextOfKin = BENSON.withNextOfKin(new NextOfKinBuilder().withName("Mohamad Ali").build())
+                .withNextOfKin(new NextOfKinBuilder().withName("Mohamad Ali").build());
+        patients.set(1, bensonWithNextOfKin);
+        assertEquals(Map.of(BENSON, 2), nextOfKinNameIndex.find(List.of("muhammad")));
+
+        // the name is still indexed while the patient has another next-of-kin with it
+        patients.set(1, bensonWithNextOfKin.withoutNextOfKin(0));
+        assertEquals(Map.of(BENSON, 2), nextOfKinNameIndex.find(List.of("muhammad")));
+        patients.set(1, BENSON);
+        assertEquals(Map.of(), nextOfKinNameIndex.find(List.of("muhammad")));
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class IndexedFilteredListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d");
+    private final AtomicInteger positionsLookedUp = new AtomicInteger();
+    private final IndexedFilteredList<String> filteredList = new IndexedFilteredList<>(source, element -> {
+        positionsLookedUp.incrementAndGet();
+        return source.indexOf(element);
+    });
+
+    /** A copy of the filtered list kept up to date only by applying the changes it publishes. */
+    private final List<String> mirror = new ArrayList<>(filteredList);
+
+    @BeforeEach
+    public void setUp() {
+        filteredList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void constructor_nullPositionOf_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IndexedFilteredList<>(source, null));
+    }
+
+    @Test
+    public void constructor_listsEveryElement() {
+        assertEquals(List.of("a", "b", "c", "d"), filteredList);
+    }
+
+    @Test
+    public void setPredicate_listsMatchingElementsInSourceOrder() {
+        filteredList.setPredicate(element -> !element.equals("b"));
+        assertEquals(List.of("a", "c", "d"), filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void setMatches_locatesOnlyTheMatches() {
+        filteredList.setMatches(Set.of("d", "b", "absent"));
+        assertEquals(List.of("b", "d"), filteredList);
+        assertEquals(filteredList, mirror);
+        assertEquals(3, positionsLookedUp.get());
+    }
+
+    @Test
+    public void sourceChanged_afterSetMatches_followsSource() {
+        filteredList.setMatches(List.of("b", "d", "e"));
+
+        source.add(0, "e");
+        assertEquals(List.of("e", "b", "d"), filteredList);
+        source.remove("b");
+        assertEquals(List.of("e", "d"), filteredList);
+        source.set(source.indexOf("d"), "x");
+        assertEquals(List.of("e"), filteredList);
+        source.set(source.indexOf("a"), "b");
+        assertEquals(List.of("e", "b"), filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void getSourceIndex_mapsToSourcePositions() {
+        filteredList.setMatches(List.of("b", "d"));
+        assertEquals(1, filteredList.getSourceIndex(0));
+        assertEquals(3, filteredList.getSourceIndex(1));
+        assertEquals(1, filteredList.getViewIndex(3));
+        assertEquals(-1, filteredList.getViewIndex(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.get(2));
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsFilteredList() {
+        Random random = new Random(47);
+        FilteredList<String> expected = new FilteredList<>(source, element -> element.compareTo("m") < 0);
+        filteredList.setPredicate(element -> element.compareTo("m") < 0);
+        for (int i = 0; i < 500; i++) {
+            String element = String.valueOf((char) ('a' + random.nextInt(26)));
+            int operation = random.nextInt(4);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), element);
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), element);
+            } else {
+                int from = random.nextInt(source.size());
+                source.remove(from, from + random.nextInt(source.size() - from + 1));
+                source.addAll(from, List.of(element, element + element));
+            }
+            assertEquals(expected, filteredList);
+        }
+        assertEquals(filteredList, mirror);
+    }
+}
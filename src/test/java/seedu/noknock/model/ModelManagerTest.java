@@ -2,21 +2,34 @@ package seedu.noknock.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.noknock.model.Model.PREDICATE_SHOW_ALL_SESSIONS;
 import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalPatients.ALICE;
 import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.noknock.commons.core.GuiSettings;
+import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.person.PatientNameContainsKeywordsPredicate;
+import seedu.noknock.model.session.CaringSession;
 import seedu.noknock.testutil.AddressBookBuilder;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +106,326 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPatientList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPatientList_withComparator_sortsFilteredList() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.addPatient(CARL);
+
+        modelManager.updateFilteredPatientList(patient -> !patient.equals(BENSON),
+                Comparator.comparing(patient -> patient.getName().fullName, Comparator.reverseOrder()));
+        assertEquals(List.of(CARL, ALICE), modelManager.getFilteredPatientList());
+
+        // a predicate alone lists the patients in their original order again
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredPatientList());
+    }
+
+    @Test
+    public void updateFilteredPatientList_matches_listsMatchesInAddressBookOrder() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.addPatient(CARL);
+
+        modelManager.updateFilteredPatientList(List.of(CARL, ALICE, DANIEL));
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPatientList());
+
+        // the matches stay listed as the address book changes
+        Patient editedCarl = new PatientBuilder(CARL).withWard("9Z").build();
+        modelManager.setPatient(CARL, editedCarl);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPatientList());
+        modelManager.deletePatient(ALICE);
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getFilteredPatientList());
+
+        modelManager.updateFilteredPatientList(List.of(ALICE, BENSON),
+                Comparator.comparing(patient -> patient.getName().fullName, Comparator.reverseOrder()));
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredPatientList());
+    }
+
+    @Test
+    public void listPatients_sortedPage_followsAddressBookUntilFilterUpdated() {
+        modelManager.addPatient(CARL);
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+
+        modelManager.listPatients(PatientOrder.NAME, 1, 2);
+        assertEquals(List.of(BENSON, CARL), modelManager.getFilteredPatientList());
+        assertEquals(List.of(BENSON, CARL), modelManager.getDisplayedPatientList());
+
+        modelManager.deletePatient(ALICE);
+        assertEquals(List.of(CARL), modelManager.getFilteredPatientList());
+
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(CARL, BENSON), modelManager.getFilteredPatientList());
+        assertEquals(List.of(CARL, BENSON), modelManager.getDisplayedPatientList());
+    }
+
+    @Test
+    public void getFilteredPatientListOnAllPages_pageListed_allPatients() {
+        modelManager.addPatient(CARL);
+        modelManager.addPatient(ALICE);
+        modelManager.updateFilteredPatientList(CARL::equals);
+        assertEquals(List.of(CARL), modelManager.getFilteredPatientListOnAllPages());
+
+        modelManager.listPatients(PatientOrder.NAME, 0, 1);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPatientList());
+        assertEquals(List.of(CARL, ALICE), modelManager.getFilteredPatientListOnAllPages());
+    }
+
+    @Test
+    public void endBatch_noBatchInProgress_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.endBatch());
+    }
+
+    @Test
+    public void beginBatch_changesInBatch_publishedOnceAtEnd() {
+        List<ListChangeListener.Change<? extends Patient>> changes = new ArrayList<>();
+        modelManager.getDisplayedPatientList().addListener((ListChangeListener<Patient>) changes::add);
+
+        modelManager.beginBatch();
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.updateFilteredPatientList(patient -> patient.equals(BENSON));
+        modelManager.setSessionDisplayFilter(session -> false);
+
+        // changes are visible to commands but not published yet
+        assertEquals(List.of(BENSON), modelManager.getFilteredPatientList());
+        assertTrue(modelManager.getDisplayedPatientList().isEmpty());
+        assertEquals(PREDICATE_SHOW_ALL_SESSIONS, modelManager.sessionDisplayFilterProperty().get());
+
+        modelManager.endBatch();
+        assertEquals(1, changes.size());
+        assertEquals(List.of(BENSON), modelManager.getDisplayedPatientList());
+        assertEquals(modelManager.getSessionDisplayFilter(), modelManager.sessionDisplayFilterProperty().get());
+    }
+
+    @Test
+    public void beginBatch_nestedBatches_publishedAtOutermostEnd() {
+        modelManager.beginBatch();
+        modelManager.beginBatch();
+        modelManager.addPatient(ALICE);
+        modelManager.endBatch();
+        assertTrue(modelManager.isInBatch());
+        assertTrue(modelManager.getDisplayedPatientList().isEmpty());
+
+        modelManager.endBatch();
+        assertFalse(modelManager.isInBatch());
+        assertEquals(List.of(ALICE), modelManager.getDisplayedPatientList());
+    }
+
+    @Test
+    public void addPatient_noBatch_publishedImmediately() {
+        modelManager.addPatient(ALICE);
+        assertEquals(List.of(ALICE), modelManager.getDisplayedPatientList());
+    }
+
+    @Test
+    public void addSession_patientInAddressBook_patientReplaced() {
+        CaringSession session = new CaringSessionBuilder().build();
+        modelManager.addPatient(ALICE);
+
+        Patient editedAlice = modelManager.addSession(ALICE, session);
+        assertEquals(List.of(session), editedAlice.getCaringSessionList());
+        assertEquals(List.of(editedAlice), modelManager.getAddressBook().getPatientList());
+        assertSame(editedAlice, modelManager.getAddressBook().getPatientList().get(0));
+    }
+
+    @Test
+    public void replaceSession_sessionAtIndex_replacedAndUndoable() {
+        CaringSession session = new CaringSessionBuilder().withDate("2030-01-01").build();
+        CaringSession editedSession = new CaringSessionBuilder().withDate("2030-01-02").build();
+        modelManager.addPatient(ALICE);
+        Patient aliceWithSession = modelManager.addSession(ALICE, session);
+
+        Patient editedAlice = modelManager.replaceSession(aliceWithSession, 0, editedSession);
+        assertEquals(List.of(editedSession), editedAlice.getCaringSessionList());
+        assertSame(editedAlice, modelManager.getAddressBook().getPatientList().get(0));
+
+        modelManager.undoAddressBook();
+        assertSame(aliceWithSession, modelManager.getAddressBook().getPatientList().get(0));
+    }
+
+    @Test
+    public void removeSession_sessionAtIndex_removed() {
+        modelManager.addPatient(ALICE);
+        Patient aliceWithSession = modelManager.addSession(ALICE, new CaringSessionBuilder().build());
+
+        Patient editedAlice = modelManager.removeSession(aliceWithSession, 0);
+        assertTrue(editedAlice.getCaringSessionList().isEmpty());
+        assertSame(editedAlice, modelManager.getAddressBook().getPatientList().get(0));
+    }
+
+    @Test
+    public void undoAddressBook_noChanges_cannotUndo() {
+        assertFalse(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.undoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.redoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_addPatient_patientRemovedAndRestoredByRedo() {
+        modelManager.addPatient(ALICE);
+        assertTrue(modelManager.canUndoAddressBook());
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPatient(ALICE));
+        assertFalse(modelManager.canUndoAddressBook());
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPatientList());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_deletePatient_patientRestoredAtSamePosition() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Patient> patients = List.copyOf(modelManager.getAddressBook().getPatientList());
+
+        modelManager.deletePatient(BENSON);
+        modelManager.undoAddressBook();
+        assertEquals(patients, modelManager.getAddressBook().getPatientList());
+
+        modelManager.redoAddressBook();
+        assertFalse(modelManager.hasPatient(BENSON));
+    }
+
+    @Test
+    public void undoAddressBook_setPatient_originalPatientRestored() {
+        Patient editedAlice = new PatientBuilder(ALICE).withWard("9Z").build();
+        modelManager.addPatient(ALICE);
+        modelManager.setPatient(ALICE, editedAlice);
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPatientList());
+
+        modelManager.redoAddressBook();
+        assertEquals(List.of(editedAlice), modelManager.getAddressBook().getPatientList());
+    }
+
+    @Test
+    public void undoAddressBook_addPatients_allPatientsRemoved() {
+        modelManager.addPatient(CARL);
+        modelManager.addPatients(List.of(ALICE, BENSON));
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(CARL), modelManager.getAddressBook().getPatientList());
+    }
+
+    @Test
+    public void undoAddressBook_setAddressBook_previousPatientsRestored() {
+        modelManager.addPatient(ALICE);
+        modelManager.setAddressBook(getTypicalAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPatientList());
+
+        modelManager.redoAddressBook();
+        assertEquals(getTypicalAddressBook().getPatientList(), modelManager.getAddressBook().getPatientList());
+    }
+
+    @Test
+    public void undoAddressBook_changesInBatch_undoneTogether() {
+        modelManager.addPatient(CARL);
+        modelManager.beginBatch();
+        modelManager.addPatient(ALICE);
+        modelManager.deletePatient(CARL);
+        modelManager.addPatient(BENSON);
+        modelManager.endBatch();
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(CARL), modelManager.getAddressBook().getPatientList());
+
+        modelManager.redoAddressBook();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPatientList());
+    }
+
+    @Test
+    public void canUndoAddressBook_inBatch_batchNotSplit() {
+        modelManager.beginBatch();
+        modelManager.addPatient(ALICE);
+        assertTrue(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+        modelManager.addPatient(BENSON);
+        modelManager.endBatch();
+
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBook().getPatientList().isEmpty());
+    }
+
+    @Test
+    public void rollbackBatch_changesInBatchReverted() {
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackBatch());
+
+        modelManager.addPatient(CARL);
+        modelManager.beginBatch();
+        modelManager.addPatient(ALICE);
+        modelManager.beginBatch();
+        modelManager.deletePatient(CARL);
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.rollbackBatch();
+        modelManager.endBatch();
+        modelManager.endBatch();
+
+        // only the innermost batch is reverted, and the reverted changes are not part of the undo history
+        assertEquals(List.of(CARL, ALICE), modelManager.getAddressBook().getPatientList());
+        modelManager.undoAddressBook();
+        assertEquals(List.of(CARL), modelManager.getAddressBook().getPatientList());
+    }
+
+    @Test
+    public void undoAddressBook_newChangeAfterUndo_cannotRedo() {
+        modelManager.addPatient(ALICE);
+        modelManager.undoAddressBook();
+        modelManager.addPatient(BENSON);
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_moreChangesThanHistoryDepth_oldestChangesDropped() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(2);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.addPatient(CARL);
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPatientList());
+    }
+
+    @Test
+    public void undoAddressBook_historyDepthZero_cannotUndo() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(0);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addPatient(ALICE);
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void wardSummariesProperty_changesInBatch_publishedWhenBatchEnds() {
+        List<List<WardSummary>> published = new ArrayList<>();
+        modelManager.wardSummariesProperty().addListener((obs, oldValue, newValue) -> published.add(newValue));
+
+        modelManager.beginBatch();
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(CARL);
+        assertTrue(published.isEmpty());
+        modelManager.endBatch();
+
+        assertEquals(1, published.size());
+        assertEquals(2, published.get(0).get(0).getPatientCount());
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(), modelManager.wardSummariesProperty().get());
+        assertEquals(0, modelManager.getWardStatistics().getPatientCount(ALICE.getWard()));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build();
@@ -0,0 +1,85 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+    private final ObservableList<String> otherSource = FXCollections.observableArrayList("x", "y");
+    private final PagedList<String> pagedList = new PagedList<>(source);
+
+    /** A copy of the paged list kept up to date only by applying the changes it publishes. */
+    private final List<String> mirror = new ArrayList<>(pagedList);
+
+    @BeforeEach
+    public void setUp() {
+        pagedList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void show_invalidPage_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> pagedList.show(source, -1, 2));
+        assertThrows(IllegalArgumentException.class, () -> pagedList.show(source, 0, 0));
+    }
+
+    @Test
+    public void sourceChanged_wholeSource_followsSource() {
+        source.remove("b");
+        source.add(0, "z");
+        assertEquals(List.of("z", "a", "c", "d", "e"), pagedList);
+        assertEquals(pagedList, mirror);
+    }
+
+    @Test
+    public void show_page_showsOnlyThePage() {
+        pagedList.show(source, 2, 2);
+        assertEquals(List.of("c", "d"), pagedList);
+
+        source.remove("a");
+        assertEquals(List.of("d", "e"), pagedList);
+        source.remove("e");
+        assertEquals(List.of("d"), pagedList);
+        assertEquals(pagedList, mirror);
+
+        pagedList.show(source, 5, 2);
+        assertTrue(pagedList.isEmpty());
+    }
+
+    @Test
+    public void show_otherSource_stopsFollowingPreviousSource() {
+        pagedList.show(otherSource);
+        source.add("f");
+        otherSource.add("z");
+        assertEquals(List.of("x", "y", "z"), pagedList);
+        assertEquals(otherSource, pagedList.getSource());
+        assertEquals(pagedList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_pageElementReplacedByEqualElement_published() {
+        String equalElement = new String("c");
+        pagedList.show(source, 2, 2);
+        source.set(2, equalElement);
+
+        assertSame(equalElement, pagedList.get(0));
+        assertSame(equalElement, mirror.get(0));
+    }
+}
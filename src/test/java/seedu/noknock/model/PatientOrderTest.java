@@ -0,0 +1,79 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class PatientOrderTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 1, 2);
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(PatientOrder.NAME, PatientOrder.fromKeyword("NAME"));
+        assertEquals(PatientOrder.NEXT_SESSION, PatientOrder.fromKeyword("next-session"));
+        assertThrows(IllegalArgumentException.class, () -> PatientOrder.fromKeyword("added"));
+
+        assertTrue(PatientOrder.isValidKeyword("Ward"));
+        assertFalse(PatientOrder.isValidKeyword("age"));
+        assertFalse(PatientOrder.isValidKeyword(null));
+    }
+
+    @Test
+    public void getComparator_added_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PatientOrder.ADDED.getComparator(TODAY));
+    }
+
+    @Test
+    public void getComparator_nextSession_upcomingSessionsFirst() {
+        Patient noSession = new PatientBuilder().withName("Anna").withIC("S0000001A").build();
+        Patient onlyPastSession = new PatientBuilder().withName("Anna").withIC("S0000002A").build()
+                .withCaringSession(new CaringSessionBuilder().withDate("2030-01-01").build());
+        Patient later = new PatientBuilder().withName("Bella").withIC("S0000003A").build()
+                .withCaringSession(new CaringSessionBuilder().withDate("2030-01-05").build());
+        Patient sooner = new PatientBuilder().withName("Cleo").withIC("S0000004A").build()
+                .withCaringSession(new CaringSessionBuilder().withDate("2030-01-02").build());
+
+        List<Patient> patients = new ArrayList<>(List.of(onlyPastSession, later, noSession, sooner));
+        patients.sort(PatientOrder.NEXT_SESSION.getComparator(TODAY));
+
+        // patients without an upcoming session are ordered by name, then by IC
+        assertEquals(List.of(sooner, later, noSession, onlyPastSession), patients);
+    }
+
+    @Test
+    public void getComparator_ward_byWardThenName() {
+        Patient bob = new PatientBuilder().withName("Bob").withWard("1A").withIC("S0000001A").build();
+        Patient amy = new PatientBuilder().withName("amy").withWard("2A").withIC("S0000002A").build();
+        Patient carl = new PatientBuilder().withName("Carl").withWard("1A").withIC("S0000003A").build();
+
+        List<Patient> patients = new ArrayList<>(List.of(carl, amy, bob));
+        patients.sort(PatientOrder.WARD.getComparator(TODAY));
+        assertEquals(List.of(bob, carl, amy), patients);
+
+        patients.sort(PatientOrder.NAME.getComparator(TODAY));
+        assertEquals(List.of(amy, bob, carl), patients);
+    }
+
+    @Test
+    public void getComparator_ward_byRoomNumberBeforeLetter() {
+        Patient tenA = new PatientBuilder().withName("Amy").withWard("10A").withIC("S0000001A").build();
+        Patient twoB = new PatientBuilder().withName("Bob").withWard("2B").withIC("S0000002A").build();
+        Patient twoA = new PatientBuilder().withName("Carl").withWard("2A").withIC("S0000003A").build();
+
+        List<Patient> patients = new ArrayList<>(List.of(tenA, twoB, twoA));
+        patients.sort(PatientOrder.WARD.getComparator(TODAY));
+        assertEquals(List.of(twoA, twoB, tenA), patients);
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        List<Integer> elements = List.of(5, 3, 8, 1);
+        assertEquals(elements, PersistentList.copyOf(elements));
+        assertTrue(PersistentList.copyOf(List.of()).isEmpty());
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 2));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void plusWithMinus_originalListUnchanged() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "b", "c", "d"), list.plus("d"));
+        assertEquals(List.of("x", "a", "b", "c"), list.plus(0, "x"));
+        assertEquals(List.of("a", "x", "c"), list.with(1, "x"));
+        assertEquals(List.of("a", "c"), list.minus(1));
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(1));
+    }
+
+    @Test
+    public void add_unsupported_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> PersistentList.<String>empty().add("a"));
+    }
+
+    @Test
+    public void insertionIndex_sortedList_indexAfterEqualElements() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 3, 3, 5));
+        assertEquals(0, list.insertionIndex(0, Comparator.naturalOrder()));
+        assertEquals(3, list.insertionIndex(3, Comparator.naturalOrder()));
+        assertEquals(4, list.insertionIndex(9, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void firstIndexWhere_sortedList_firstMatchingIndex() {
+        PersistentList<Integer> list = PersistentList.copyOf(List.of(1, 3, 3, 5));
+        assertEquals(1, list.firstIndexWhere(element -> element >= 3));
+        assertEquals(0, list.firstIndexWhere(element -> element >= 0));
+        assertEquals(4, list.firstIndexWhere(element -> element > 5));
+    }
+
+    @Test
+    public void diff_singleChange_onlyChangedElementsPassed() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 1000; i++) {
+            list = list.plus(i);
+        }
+
+        assertDiff(List.of(), List.of(-1), list, list.plus(500, -1));
+        assertDiff(List.of(500), List.of(-1), list, list.with(500, -1));
+        assertDiff(List.of(0), List.of(), list, list.minus(0));
+        assertDiff(List.of(), List.of(1000), list, list.plus(1000));
+        assertDiff(List.of(), List.of(), list, list);
+    }
+
+    @Test
+    public void diff_unrelatedLists_differingRangePassed() {
+        PersistentList<String> before = PersistentList.copyOf(List.of("a", "b", "c", "d"));
+        assertDiff(List.of("b", "c"), List.of("x"), before, PersistentList.copyOf(List.of("a", "x", "d")));
+        assertDiff(List.of("a", "b", "c", "d"), List.of(), before, PersistentList.empty());
+        assertDiff(List.of(), List.of("a", "b", "c", "d"), PersistentList.empty(), before);
+        // equal elements at both ends are only matched once
+        assertDiff(List.of(), List.of("a"), PersistentList.copyOf(List.of("a")),
+                PersistentList.copyOf(List.of("a", "a")));
+    }
+
+    @Test
+    public void diff_randomChanges_removedAndAddedGiveAfter() {
+        Random random = new Random(7);
+        PersistentList<Integer> before = PersistentList.empty();
+        for (int i = 0; i < 200; i++) {
+            before = before.plus(random.nextInt(50));
+        }
+        for (int round = 0; round < 100; round++) {
+            PersistentList<Integer> after = before;
+            for (int change = random.nextInt(3); change >= 0; change--) {
+                int operation = random.nextInt(3);
+                if (operation == 0 || after.isEmpty()) {
+                    after = after.plus(random.nextInt(after.size() + 1), random.nextInt(50));
+                } else if (operation == 1) {
+                    after = after.with(random.nextInt(after.size()), random.nextInt(50));
+                } else {
+                    after = after.minus(random.nextInt(after.size()));
+                }
+            }
+
+            List<Integer> removed = new ArrayList<>();
+            List<Integer> added = new ArrayList<>();
+            PersistentList.diff(before, after, removed::add, added::add);
+            List<Integer> expected = new ArrayList<>(before);
+            removed.forEach(element -> assertTrue(expected.remove(element)));
+            expected.addAll(added);
+            expected.sort(Comparator.naturalOrder());
+            List<Integer> actual = new ArrayList<>(after);
+            actual.sort(Comparator.naturalOrder());
+            assertEquals(actual, expected);
+            before = after;
+        }
+    }
+
+    @Test
+    public void randomOperations_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                list = list.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            }
+        }
+
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    private static <T> void assertDiff(List<T> expectedRemoved, List<T> expectedAdded, PersistentList<T> before,
+            PersistentList<T> after) {
+        List<T> removed = new ArrayList<>();
+        List<T> added = new ArrayList<>();
+        PersistentList.diff(before, after, removed::add, added::add);
+        assertEquals(expectedRemoved, removed);
+        assertEquals(expectedAdded, added);
+    }
+}
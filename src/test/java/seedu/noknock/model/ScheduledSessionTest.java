@@ -0,0 +1,52 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.testutil.CaringSessionBuilder;
+
+public class ScheduledSessionTest {
+
+    private static final CaringSession SESSION = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("08:00").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScheduledSession(null, SESSION));
+        assertThrows(NullPointerException.class, () -> new ScheduledSession(ALICE, null));
+    }
+
+    @Test
+    public void getStart_startOfSession() {
+        assertEquals(SESSION.getStart(), new ScheduledSession(ALICE, SESSION).getStart());
+    }
+
+    @Test
+    public void equals() {
+        ScheduledSession scheduledSession = new ScheduledSession(ALICE, SESSION);
+
+        assertTrue(scheduledSession.equals(scheduledSession));
+        assertTrue(scheduledSession.equals(new ScheduledSession(ALICE, SESSION)));
+        assertEquals(scheduledSession.hashCode(), new ScheduledSession(ALICE, SESSION).hashCode());
+
+        assertFalse(scheduledSession.equals(null));
+        assertFalse(scheduledSession.equals(SESSION));
+        assertFalse(scheduledSession.equals(new ScheduledSession(BENSON, SESSION)));
+        assertFalse(scheduledSession.equals(new ScheduledSession(ALICE,
+                new CaringSessionBuilder(SESSION).withTime("09:00").build())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = ScheduledSession.class.getCanonicalName() + "{patient=" + ALICE + ", session=" + SESSION
+                + "}";
+        assertEquals(expected, new ScheduledSession(ALICE, SESSION).toString());
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class SortedPatientIndexTest {
+
+    private static final Comparator<Patient> BY_NAME = PatientOrder.NAME.getComparator(LocalDate.now());
+
+    private final Patient carl = new PatientBuilder().withName("Carl").withWard("1A").withIC("S0000001A").build();
+    private final Patient amy = new PatientBuilder().withName("Amy").withWard("3A").withIC("S0000002A").build();
+    private final Patient bob = new PatientBuilder().withName("Bob").withWard("2A").withIC("S0000003A").build();
+    private final ObservableList<Patient> patients = FXCollections.observableArrayList(carl, amy);
+
+    @Test
+    public void constructor_nullComparator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortedPatientIndex(patients, null));
+    }
+
+    @Test
+    public void constructor_sortsPatients() {
+        assertEquals(List.of(amy, carl), new SortedPatientIndex(patients, BY_NAME));
+    }
+
+    @Test
+    public void patientsChanged_keepsSortedAndPublishesChanges() {
+        SortedPatientIndex index = new SortedPatientIndex(patients, BY_NAME);
+        List<Patient> mirror = new ArrayList<>(index);
+        index.addListener((ListChangeListener<Patient>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        patients.add(bob);
+        assertEquals(List.of(amy, bob, carl), index);
+        Patient renamedAmy = new PatientBuilder(amy).withName("Zoe").build();
+        patients.set(patients.indexOf(amy), renamedAmy);
+        assertEquals(List.of(bob, carl, renamedAmy), index);
+        patients.remove(carl);
+        assertEquals(List.of(bob, renamedAmy), index);
+        patients.setAll(carl, amy, bob);
+        assertEquals(List.of(amy, bob, carl), index);
+        assertEquals(index, mirror);
+    }
+
+    @Test
+    public void setComparator_sortsAgain() {
+        SortedPatientIndex index = new SortedPatientIndex(patients, BY_NAME);
+        index.setComparator(PatientOrder.WARD.getComparator(LocalDate.now()));
+        assertEquals(List.of(carl, amy), index);
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class UpcomingSessionsTest {
+
+    private static final LocalDateTime START_OF_DAY = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private static final CaringSession EIGHT_AM = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("08:00").build();
+    private static final CaringSession NINE_AM = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("09:00").build();
+    private static final CaringSession TEN_AM = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("10:00").build();
+    private static final CaringSession COMPLETED = new CaringSessionBuilder().withDate("2030-01-01")
+            .withTime("07:00").withStatus(SessionStatus.COMPLETED).build();
+
+    private static final Patient ALICE = new PatientBuilder().withName("Alice").withIC("S1234567A")
+            .build().withCaringSessionList(List.of(COMPLETED, NINE_AM));
+    private static final Patient BOB = new PatientBuilder().withName("Bob").withIC("S1234567B")
+            .build().withCaringSessionList(List.of(EIGHT_AM, TEN_AM));
+    private static final Patient CARL = new PatientBuilder().withName("Carl").withIC("S1234567C")
+            .build().withCaringSessionList(List.of(NINE_AM));
+
+    private final ObservableList<Patient> patients = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new UpcomingSessions(null));
+    }
+
+    @Test
+    public void getNext_incompleteSessionsInStartOrder() {
+        patients.addAll(ALICE, BOB, CARL);
+        UpcomingSessions upcomingSessions = new UpcomingSessions(patients);
+
+        assertEquals(4, upcomingSessions.size());
+        assertEquals(List.of(new ScheduledSession(BOB, EIGHT_AM), new ScheduledSession(ALICE, NINE_AM),
+                new ScheduledSession(CARL, NINE_AM), new ScheduledSession(BOB, TEN_AM)),
+                upcomingSessions.getNext(START_OF_DAY, 10));
+        assertEquals(List.of(new ScheduledSession(BOB, EIGHT_AM), new ScheduledSession(ALICE, NINE_AM)),
+                upcomingSessions.getNext(START_OF_DAY, 2));
+        assertEquals(List.of(new ScheduledSession(ALICE, NINE_AM), new ScheduledSession(CARL, NINE_AM)),
+                upcomingSessions.getNext(NINE_AM.getStart(), 2));
+        assertEquals(List.of(), upcomingSessions.getNext(TEN_AM.getStart().plusMinutes(1), 2));
+        assertThrows(IllegalArgumentException.class, () -> upcomingSessions.getNext(START_OF_DAY, 0));
+    }
+
+    @Test
+    public void getStartingBetween_excludesStartIncludesEnd() {
+        patients.addAll(ALICE, BOB, CARL);
+        UpcomingSessions upcomingSessions = new UpcomingSessions(patients);
+
+        assertEquals(List.of(new ScheduledSession(ALICE, NINE_AM), new ScheduledSession(CARL, NINE_AM),
+                new ScheduledSession(BOB, TEN_AM)),
+                upcomingSessions.getStartingBetween(EIGHT_AM.getStart(), TEN_AM.getStart()));
+        assertEquals(List.of(), upcomingSessions.getStartingBetween(TEN_AM.getStart(), EIGHT_AM.getStart()));
+    }
+
+    @Test
+    public void getNextStartAfter() {
+        patients.addAll(ALICE, BOB);
+        UpcomingSessions upcomingSessions = new UpcomingSessions(patients);
+
+        assertEquals(Optional.of(EIGHT_AM.getStart()), upcomingSessions.getNextStartAfter(START_OF_DAY));
+        assertEquals(Optional.of(NINE_AM.getStart()), upcomingSessions.getNextStartAfter(EIGHT_AM.getStart()));
+        assertEquals(Optional.empty(), upcomingSessions.getNextStartAfter(TEN_AM.getStart()));
+    }
+
+    @Test
+    public void listChanges_followed() {
+        UpcomingSessions upcomingSessions = new UpcomingSessions(patients);
+        AtomicInteger changes = new AtomicInteger();
+        Runnable listener = changes::incrementAndGet;
+        upcomingSessions.addListener(listener);
+
+        patients.addAll(ALICE, BOB);
+        assertEquals(3, upcomingSessions.size());
+
+        // completing a session replaces the patient
+        CaringSession completedEightAm = new CaringSessionBuilder(EIGHT_AM).withStatus(SessionStatus.COMPLETED)
+                .build();
+        Patient updatedBob = BOB.withCaringSessionList(List.of(completedEightAm, TEN_AM));
+        patients.set(1, updatedBob);
+        assertEquals(List.of(new ScheduledSession(ALICE, NINE_AM), new ScheduledSession(updatedBob, TEN_AM)),
+                upcomingSessions.getNext(START_OF_DAY, 10));
+
+        patients.remove(ALICE);
+        assertEquals(Optional.of(TEN_AM.getStart()), upcomingSessions.getNextStartAfter(START_OF_DAY));
+        assertEquals(3, changes.get());
+
+        upcomingSessions.removeListener(listener);
+        patients.clear();
+        assertEquals(0, upcomingSessions.size());
+        assertEquals(3, changes.get());
+    }
+
+    @Test
+    public void recurringSessions_occurrencesCreatedWhenRead() {
+        // daily at 08:00 from 1 to 3 January 2030, with the first occurrence completed
+        RecurringSession daily = new RecurringSessionBuilder().withDates("2030-01-01", "2030-01-03")
+                .withCompletedDates("2030-01-01").build();
+        Patient dora = new PatientBuilder().withName("Dora").withIC("S1234567D").build()
+                .withRecurringSession(daily);
+        patients.addAll(ALICE, dora);
+        UpcomingSessions upcomingSessions = new UpcomingSessions(patients);
+        ScheduledSession secondOccurrence = new ScheduledSession(dora,
+                daily.getOccurrenceOn(new Date("2030-01-02")).orElseThrow());
+        ScheduledSession thirdOccurrence = new ScheduledSession(dora,
+                daily.getOccurrenceOn(new Date("2030-01-03")).orElseThrow());
+
+        // occurrences are not counted in the index
+        assertEquals(1, upcomingSessions.size());
+        assertEquals(List.of(new ScheduledSession(ALICE, NINE_AM), secondOccurrence),
+                upcomingSessions.getNext(START_OF_DAY, 2));
+        assertEquals(List.of(secondOccurrence, thirdOccurrence),
+                upcomingSessions.getNext(NINE_AM.getStart().plusMinutes(1), 5));
+        assertEquals(List.of(new ScheduledSession(ALICE, NINE_AM), secondOccurrence),
+                upcomingSessions.getStartingBetween(START_OF_DAY, secondOccurrence.getStart()));
+        assertEquals(Optional.of(secondOccurrence.getStart()),
+                upcomingSessions.getNextStartAfter(NINE_AM.getStart()));
+        assertEquals(Optional.of(thirdOccurrence.getStart()),
+                upcomingSessions.getNextStartAfter(secondOccurrence.getStart()));
+
+        patients.remove(dora);
+        assertEquals(Optional.empty(), upcomingSessions.getNextStartAfter(NINE_AM.getStart()));
+    }
+
+    @Test
+    public void advanceTo_recurringSessionsKeptAtNextOccurrence() {
+        // daily at 08:00 from 1 to 5 January 2030
+        RecurringSession daily = new RecurringSessionBuilder().withDates("2030-01-01", "2030-01-05").build();
+        Patient dora = new PatientBuilder().withName("Dora").withIC("S1234567D").build()
+                .withRecurringSession(daily);
+        patients.addAll(ALICE, dora);
+        UpcomingSessions upcomingSessions = new UpcomingSessions(patients);
+        LocalDateTime secondStart = LocalDateTime.of(2030, 1, 2, 8, 0);
+        LocalDateTime thirdStart = LocalDateTime.of(2030, 1, 3, 8, 0);
+
+        upcomingSessions.advanceTo(secondStart);
+        assertEquals(Optional.of(thirdStart), upcomingSessions.getNextStartAfter(secondStart));
+        assertEquals(List.of(thirdStart, thirdStart.plusDays(1)),
+                upcomingSessions.getNext(secondStart.plusMinutes(1), 2).stream().map(ScheduledSession::getStart)
+                        .toList());
+        assertEquals(List.of(thirdStart), upcomingSessions.getStartingBetween(secondStart, thirdStart)
+                .stream().map(ScheduledSession::getStart).toList());
+
+        // reads from before the horizon still find the occurrences that have passed it
+        assertEquals(Optional.of(LocalDateTime.of(2030, 1, 1, 8, 0)),
+                upcomingSessions.getNextStartAfter(START_OF_DAY));
+        assertEquals(List.of(new ScheduledSession(ALICE, NINE_AM)),
+                upcomingSessions.getStartingBetween(EIGHT_AM.getStart(), NINE_AM.getStart()));
+
+        // completing the next occurrence moves it on
+        Patient doraCompleted = dora.withRecurringSession(0, daily.withOccurrenceStatus(new Date("2030-01-03"),
+                SessionStatus.COMPLETED));
+        patients.set(1, doraCompleted);
+        assertEquals(Optional.of(thirdStart.plusDays(1)), upcomingSessions.getNextStartAfter(secondStart));
+
+        // reads after the next occurrence without moving the horizon look past it
+        assertEquals(Optional.of(thirdStart.plusDays(2)), upcomingSessions.getNextStartAfter(thirdStart.plusDays(1)));
+        upcomingSessions.advanceTo(thirdStart.plusDays(2));
+        assertEquals(Optional.empty(), upcomingSessions.getNextStartAfter(thirdStart.plusDays(2)));
+    }
+}
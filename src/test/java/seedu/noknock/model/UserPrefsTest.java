@@ -1,5 +1,7 @@
 package seedu.noknock.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.noknock.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +20,14 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryDepth_copiedAndCompared() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(UserPrefs.DEFAULT_UNDO_HISTORY_DEPTH, userPrefs.getUndoHistoryDepth());
+
+        userPrefs.setUndoHistoryDepth(5);
+        assertEquals(5, new UserPrefs(userPrefs).getUndoHistoryDepth());
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
 }
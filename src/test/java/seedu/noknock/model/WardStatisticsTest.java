@@ -0,0 +1,212 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class WardStatisticsTest {
+
+    private static final Ward WARD_2A = new Ward("2A");
+    private static final Ward WARD_3B = new Ward("3B");
+    private static final Date DATE = new Date("2025-10-20");
+    private static final CareType MEDICATION = new CareType("medication");
+    private static final CareType HYGIENE = new CareType("hygiene");
+
+    private static final CaringSession MEDICATION_SESSION = new CaringSessionBuilder().withCareType("medication")
+            .withDate("2025-10-20").withTime("09:00").build();
+    private static final CaringSession HYGIENE_SESSION = new CaringSessionBuilder().withCareType("hygiene")
+            .withDate("2025-10-20").withTime("11:00").build();
+    private static final CaringSession COMPLETED_SESSION = new CaringSessionBuilder().withCareType("medication")
+            .withDate("2025-10-21").withStatus(SessionStatus.COMPLETED).build();
+
+    private static final Patient ALICE = new PatientBuilder().withName("Alice").withWard("2A").withIC("S1234567A")
+            .build().withCaringSessionList(List.of(MEDICATION_SESSION, COMPLETED_SESSION));
+    private static final Patient BOB = new PatientBuilder().withName("Bob").withWard("2A").withIC("S1234567B")
+            .build().withCaringSessionList(List.of(HYGIENE_SESSION, MEDICATION_SESSION));
+    private static final Patient CARL = new PatientBuilder().withName("Carl").withWard("3B").withIC("S1234567C")
+            .build();
+
+    private final ObservableList<Patient> patients = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WardStatistics(null));
+    }
+
+    @Test
+    public void constructor_existingPatients_counted() {
+        patients.addAll(ALICE, CARL);
+        WardStatistics statistics = new WardStatistics(patients);
+
+        assertEquals(1, statistics.getPatientCount(WARD_2A));
+        assertEquals(1, statistics.getPatientCount(WARD_3B));
+        assertEquals(1, statistics.getSessionCount(WARD_2A, DATE));
+    }
+
+    @Test
+    public void getCounts_patientsAdded_countedByWardDateCareTypeAndStatus() {
+        WardStatistics statistics = new WardStatistics(patients);
+        patients.addAll(ALICE, BOB, CARL);
+
+        assertEquals(2, statistics.getPatientCount(WARD_2A));
+        assertEquals(1, statistics.getPatientCount(WARD_3B));
+        assertEquals(3, statistics.getSessionCount(WARD_2A, DATE));
+        assertEquals(0, statistics.getSessionCount(WARD_3B, DATE));
+        assertEquals(2, statistics.getSessionCount(WARD_2A, MEDICATION, SessionStatus.INCOMPLETE));
+        assertEquals(1, statistics.getSessionCount(WARD_2A, MEDICATION, SessionStatus.COMPLETED));
+        assertEquals(1, statistics.getSessionCount(WARD_2A, HYGIENE, SessionStatus.INCOMPLETE));
+        assertEquals(0, statistics.getPatientCount(new Ward("9Z")));
+    }
+
+    @Test
+    public void getCounts_patientReplaced_countsUpdated() {
+        WardStatistics statistics = new WardStatistics(patients);
+        patients.addAll(ALICE, BOB);
+
+        Patient editedAlice = ALICE.withCaringSession(1, new CaringSessionBuilder(COMPLETED_SESSION)
+                .withStatus(SessionStatus.INCOMPLETE).build());
+        patients.set(0, editedAlice);
+
+        assertEquals(3, statistics.getSessionCount(WARD_2A, MEDICATION, SessionStatus.INCOMPLETE));
+        assertEquals(0, statistics.getSessionCount(WARD_2A, MEDICATION, SessionStatus.COMPLETED));
+
+        Patient movedBob = BOB.withDetails(BOB.getName(), WARD_3B, BOB.getIC(), BOB.getTags());
+        patients.set(1, movedBob);
+
+        assertEquals(1, statistics.getPatientCount(WARD_2A));
+        assertEquals(1, statistics.getPatientCount(WARD_3B));
+        assertEquals(1, statistics.getSessionCount(WARD_2A, DATE));
+        assertEquals(2, statistics.getSessionCount(WARD_3B, DATE));
+    }
+
+    @Test
+    public void getCounts_patientsRemoved_countsUpdated() {
+        WardStatistics statistics = new WardStatistics(patients);
+        patients.addAll(ALICE, BOB, CARL);
+
+        patients.remove(BOB);
+        assertEquals(1, statistics.getPatientCount(WARD_2A));
+        assertEquals(0, statistics.getSessionCount(WARD_2A, HYGIENE, SessionStatus.INCOMPLETE));
+
+        patients.setAll(CARL);
+        assertEquals(0, statistics.getPatientCount(WARD_2A));
+        assertEquals(0, statistics.getSessionCount(WARD_2A, DATE));
+    }
+
+    @Test
+    public void summarize_wardsOrderedWithIncompleteSessionsByCareType() {
+        WardStatistics statistics = new WardStatistics(patients);
+        patients.addAll(CARL, ALICE, BOB);
+
+        List<WardSummary> expected = List.of(
+                new WardSummary(WARD_2A, 2, 3, Map.of(HYGIENE, 1, MEDICATION, 2)),
+                new WardSummary(WARD_3B, 1, 0, Map.of()));
+        List<WardSummary> summaries = statistics.summarize(DATE);
+        assertEquals(expected, summaries);
+        assertEquals(List.of(HYGIENE, MEDICATION), List.copyOf(summaries.get(0).getIncompleteSessionCounts().keySet()));
+    }
+
+    @Test
+    public void summarize_wardsOrderedByRoomNumber() {
+        WardStatistics statistics = new WardStatistics(patients);
+        Patient eve = new PatientBuilder().withName("Eve").withWard("10A").withIC("S1234567E").build();
+        patients.addAll(eve, CARL, ALICE);
+
+        List<Ward> wards = statistics.summarize(DATE).stream().map(WardSummary::getWard).toList();
+        assertEquals(List.of(WARD_2A, WARD_3B, new Ward("10A")), wards);
+    }
+
+    @Test
+    public void getCounts_sessionsEditedInPlace_onlyChangedSessionsRecounted() {
+        WardStatistics statistics = new WardStatistics(patients);
+        patients.addAll(ALICE, BOB);
+
+        Patient withHygiene = ALICE.withCaringSession(HYGIENE_SESSION);
+        patients.set(0, withHygiene);
+        assertEquals(4, statistics.getSessionCount(WARD_2A, DATE));
+        assertEquals(2, statistics.getSessionCount(WARD_2A, HYGIENE, SessionStatus.INCOMPLETE));
+
+        patients.set(0, withHygiene.withoutCaringSession(0));
+        assertEquals(3, statistics.getSessionCount(WARD_2A, DATE));
+        assertEquals(1, statistics.getSessionCount(WARD_2A, MEDICATION, SessionStatus.INCOMPLETE));
+        assertEquals(1, statistics.getSessionCount(WARD_2A, MEDICATION, SessionStatus.COMPLETED));
+        assertEquals(2, statistics.getPatientCount(WARD_2A));
+
+        patients.setAll(BOB, ALICE);
+        assertEquals(3, statistics.getSessionCount(WARD_2A, DATE));
+        assertEquals(1, statistics.getSessionCount(WARD_2A, HYGIENE, SessionStatus.INCOMPLETE));
+    }
+
+    @Test
+    public void summarize_noPatients_returnsEmptyList() {
+        WardStatistics statistics = new WardStatistics(patients);
+        patients.add(ALICE);
+        patients.clear();
+        assertTrue(statistics.summarize(DATE).isEmpty());
+    }
+
+    @Test
+    public void getSessionCount_recurringSessions_countedOnDatesTheyOccur() {
+        WardStatistics statistics = new WardStatistics(patients);
+        RecurringSession weekly = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY)
+                .withDates("2025-10-13", "2025-10-31").build();
+        Patient dora = new PatientBuilder().withName("Dora").withWard("3B").withIC("S1234567D").build()
+                .withRecurringSession(weekly).withRecurringSession(weekly);
+        patients.addAll(CARL, dora);
+
+        assertEquals(2, statistics.getSessionCount(WARD_3B, DATE));
+        assertEquals(0, statistics.getSessionCount(WARD_3B, new Date("2025-10-21")));
+        assertEquals(new WardSummary(WARD_3B, 2, 2, Map.of()), statistics.summarize(DATE).get(0));
+
+        patients.set(1, dora.withoutRecurringSession(0));
+        assertEquals(1, statistics.getSessionCount(WARD_3B, DATE));
+
+        patients.remove(1);
+        assertEquals(0, statistics.getSessionCount(WARD_3B, DATE));
+    }
+
+    @Test
+    public void getSessionCount_recurringSessionsOfDifferentDays_countedOnTheirDaysOnly() {
+        WardStatistics statistics = new WardStatistics(patients);
+        // 2025-10-20 is a Monday
+        RecurringSession mondays = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY)
+                .withDates("2025-10-13", "2025-11-30").withSkippedDates("2025-10-27").build();
+        RecurringSession tuesdays = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY)
+                .withDates("2025-10-14", "2025-11-30").build();
+        RecurringSession daily = new RecurringSessionBuilder().withRecurrence(Recurrence.DAILY)
+                .withDates("2025-10-21", "2025-10-27").build();
+        Patient dora = new PatientBuilder().withName("Dora").withWard("3B").withIC("S1234567D").build()
+                .withRecurringSession(mondays).withRecurringSession(tuesdays).withRecurringSession(daily);
+        patients.add(dora);
+
+        assertEquals(1, statistics.getSessionCount(WARD_3B, DATE));
+        assertEquals(2, statistics.getSessionCount(WARD_3B, new Date("2025-10-21")));
+        assertEquals(1, statistics.getSessionCount(WARD_3B, new Date("2025-10-22")));
+        assertEquals(1, statistics.getSessionCount(WARD_3B, new Date("2025-10-27")));
+        assertEquals(1, statistics.getSessionCount(WARD_3B, new Date("2025-11-03")));
+        assertEquals(0, statistics.getSessionCount(WARD_3B, new Date("2025-12-01")));
+
+        patients.set(0, dora.withoutRecurringSession(0));
+        assertEquals(0, statistics.getSessionCount(WARD_3B, DATE));
+        assertEquals(2, statistics.getSessionCount(WARD_3B, new Date("2025-10-21")));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.noknock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.CareType;
+
+public class WardSummaryTest {
+
+    private static final Ward WARD = new Ward("2A");
+    private static final CareType MEDICATION = new CareType("medication");
+    private static final CareType HYGIENE = new CareType("hygiene");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WardSummary(null, 1, 1, Map.of()));
+        assertThrows(NullPointerException.class, () -> new WardSummary(WARD, 1, 1, null));
+    }
+
+    @Test
+    public void getIncompleteSessionCounts_copyOfGivenCounts() {
+        Map<CareType, Integer> counts = new HashMap<>(Map.of(MEDICATION, 2, HYGIENE, 3));
+        WardSummary summary = new WardSummary(WARD, 4, 1, counts);
+        counts.clear();
+
+        assertEquals(Map.of(MEDICATION, 2, HYGIENE, 3), summary.getIncompleteSessionCounts());
+        assertEquals(5, summary.getIncompleteSessionCount());
+        assertThrows(UnsupportedOperationException.class, () -> summary.getIncompleteSessionCounts().clear());
+    }
+
+    @Test
+    public void equals() {
+        WardSummary summary = new WardSummary(WARD, 4, 1, Map.of(MEDICATION, 2));
+
+        assertTrue(summary.equals(summary));
+        assertTrue(summary.equals(new WardSummary(new Ward("2a"), 4, 1, Map.of(MEDICATION, 2))));
+        assertFalse(summary.equals(null));
+        assertFalse(summary.equals(1));
+        assertFalse(summary.equals(new WardSummary(new Ward("3B"), 4, 1, Map.of(MEDICATION, 2))));
+        assertFalse(summary.equals(new WardSummary(WARD, 5, 1, Map.of(MEDICATION, 2))));
+        assertFalse(summary.equals(new WardSummary(WARD, 4, 2, Map.of(MEDICATION, 2))));
+        assertFalse(summary.equals(new WardSummary(WARD, 4, 1, Map.of(HYGIENE, 2))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        WardSummary summary = new WardSummary(WARD, 4, 1, Map.of(MEDICATION, 2));
+        String expected = WardSummary.class.getCanonicalName() + "{ward=2A, patientCount=4, sessionCount=1, "
+                + "incompleteSessionCounts={medication=2}}";
+        assertEquals(expected, summary.toString());
+    }
+}
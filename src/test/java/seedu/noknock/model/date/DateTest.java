@@ -25,6 +25,12 @@ public class DateTest {
         assertEquals(testDate1.value, testDate2.value);
     }
 
+    @Test
+    public void of() {
+        assertThrows(NullPointerException.class, () -> Date.of(null));
+        assertEquals(new Date("2024-03-31"), Date.of(LocalDate.of(2024, 3, 31)));
+    }
+
     @Test
     public void constructorInvalidTest() {
         // null test
@@ -0,0 +1,75 @@
+package seedu.noknock.model.date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class DurationTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Duration(null));
+    }
+
+    @Test
+    public void constructor_invalidDuration_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Duration("0"));
+    }
+
+    @Test
+    public void isValidDuration() {
+        // invalid durations
+        assertFalse(Duration.isValidDuration(null));
+        assertFalse(Duration.isValidDuration(""));
+        assertFalse(Duration.isValidDuration("h"));
+        assertFalse(Duration.isValidDuration("0m"));
+        assertFalse(Duration.isValidDuration("-5"));
+        assertFalse(Duration.isValidDuration("1.5h"));
+        assertFalse(Duration.isValidDuration("24h1m")); // longer than a day
+        assertFalse(Duration.isValidDuration("thirty"));
+
+        // valid durations
+        assertTrue(Duration.isValidDuration("1"));
+        assertTrue(Duration.isValidDuration("45m"));
+        assertTrue(Duration.isValidDuration("2h"));
+        assertTrue(Duration.isValidDuration("1h 30m"));
+        assertTrue(Duration.isValidDuration("1H30"));
+        assertTrue(Duration.isValidDuration("1440"));
+    }
+
+    @Test
+    public void constructor_validDuration_minutesParsed() {
+        assertEquals(45, new Duration("45").minutes);
+        assertEquals(45, new Duration("45m").minutes);
+        assertEquals(120, new Duration("2h").minutes);
+        assertEquals(90, new Duration("1h30m").minutes);
+    }
+
+    @Test
+    public void printPretty() {
+        assertEquals("45 min", new Duration("45").printPretty());
+        assertEquals("2h", new Duration("120").printPretty());
+        assertEquals("1h 30 min", new Duration("90").printPretty());
+    }
+
+    @Test
+    public void toString_readBackAsSameDuration() {
+        Duration duration = new Duration("1h30m");
+        assertEquals("90", duration.toString());
+        assertEquals(duration, new Duration(duration.toString()));
+    }
+
+    @Test
+    public void equals() {
+        Duration duration = new Duration("30");
+        assertTrue(duration.equals(Duration.DEFAULT));
+        assertTrue(duration.equals(duration));
+        assertFalse(duration.equals(null));
+        assertFalse(duration.equals(30));
+        assertNotEquals(duration, new Duration("31"));
+    }
+}
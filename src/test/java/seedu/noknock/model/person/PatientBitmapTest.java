@@ -0,0 +1,86 @@
+package seedu.noknock.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.tag.Tag;
+
+public class PatientBitmapTest {
+
+    private final UniquePatientList patients = new UniquePatientList();
+    private PatientBitmap friends;
+    private PatientBitmap owesMoney;
+    private PatientBitmap wardOfBob;
+
+    @BeforeEach
+    public void setUp() {
+        List<Patient> typicalPatients = new ArrayList<>(getTypicalPersons());
+        typicalPatients.add(BOB);
+        patients.setPatients(typicalPatients);
+        friends = patients.getPatientsWithTag(new Tag("friends"));
+        owesMoney = patients.getPatientsWithTag(new Tag("owesMoney"));
+        wardOfBob = patients.getPatientsInWard(BOB.getWard());
+    }
+
+    @Test
+    public void and_returnsPatientsInBoth() {
+        assertEquals(Set.of(BENSON), friends.and(owesMoney));
+        assertEquals(Set.of(), friends.and(wardOfBob));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), friends);
+    }
+
+    @Test
+    public void or_returnsPatientsInEither() {
+        assertEquals(Set.of(ALICE, BENSON, DANIEL, BOB), friends.or(wardOfBob));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), friends.or(owesMoney));
+    }
+
+    @Test
+    public void filter_returnsPatientsPassingCondition() {
+        assertEquals(Set.of(BENSON, DANIEL), friends.filter(patient -> patient.getName().fullName.contains("Meier")));
+    }
+
+    @Test
+    public void combine_bitmapsOfDifferentLists_throwsIllegalArgumentException() {
+        UniquePatientList otherPatients = new UniquePatientList();
+        otherPatients.add(BOB);
+        PatientBitmap otherWardOfBob = otherPatients.getPatientsInWard(BOB.getWard());
+        assertThrows(IllegalArgumentException.class, () -> wardOfBob.and(otherWardOfBob));
+        assertThrows(IllegalArgumentException.class, () -> wardOfBob.or(otherWardOfBob));
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(friends.contains(ALICE));
+        assertFalse(friends.contains(CARL));
+        assertFalse(friends.contains(null));
+        assertFalse(friends.contains("Alice"));
+    }
+
+    @Test
+    public void sizeAndIsEmpty() {
+        assertEquals(3, friends.size());
+        assertFalse(friends.isEmpty());
+        assertTrue(friends.and(wardOfBob).isEmpty());
+    }
+
+    @Test
+    public void iterator_modifySet_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> friends.remove(ALICE));
+    }
+}
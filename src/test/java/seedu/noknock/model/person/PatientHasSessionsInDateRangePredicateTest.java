@@ -11,8 +11,11 @@ import org.junit.jupiter.api.Test;
 
 import seedu.noknock.model.date.Date;
 import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
 import seedu.noknock.testutil.CaringSessionBuilder;
 import seedu.noknock.testutil.PatientBuilder;
+import seedu.noknock.testutil.RecurringSessionBuilder;
 
 public class PatientHasSessionsInDateRangePredicateTest {
 
@@ -134,4 +137,17 @@ public class PatientHasSessionsInDateRangePredicateTest {
 
         assertFalse(predicate.test(patient));
     }
+
+    @Test
+    public void test_recurringSessionOccursInRange_returnsTrue() {
+        PatientHasSessionsInDateRangePredicate predicate =
+                new PatientHasSessionsInDateRangePredicate(new Date("2030-01-08"), new Date("2030-01-08"));
+        RecurringSession weekly = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY).build();
+
+        assertTrue(predicate.test(new PatientBuilder().build().withRecurringSession(weekly)));
+        assertFalse(predicate.test(new PatientBuilder().build()
+                .withRecurringSession(weekly.withoutOccurrence(new Date("2030-01-08")))));
+        assertFalse(new PatientHasSessionsInDateRangePredicate(new Date("2030-01-09"), new Date("2030-01-14"))
+                .test(new PatientBuilder().build().withRecurringSession(weekly)));
+    }
 }
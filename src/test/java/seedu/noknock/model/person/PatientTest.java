@@ -14,9 +14,21 @@ import static seedu.noknock.testutil.TypicalPatients.ALICE;
 import static seedu.noknock.testutil.TypicalPatients.AMY;
 import static seedu.noknock.testutil.TypicalPatients.BOB;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.NextOfKinBuilder;
 import seedu.noknock.testutil.PatientBuilder;
+import seedu.noknock.testutil.RecurringSessionBuilder;
 
 public class PatientTest {
 
@@ -80,6 +92,170 @@ public class PatientTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getNextOfKinList_modifyList_throwsUnsupportedOperationException() {
+        Patient patient = new PatientBuilder().build();
+        assertThrows(UnsupportedOperationException.class, () ->
+                patient.getNextOfKinList().add(new NextOfKinBuilder().build()));
+    }
+
+    @Test
+    public void withCaringSession_sessionsKeptSortedByDateAndTime() {
+        CaringSession late = new CaringSessionBuilder().withDate("2030-01-02").withTime("09:00").build();
+        CaringSession early = new CaringSessionBuilder().withDate("2030-01-01").withTime("15:00").build();
+        CaringSession middle = new CaringSessionBuilder().withDate("2030-01-02").withTime("08:00").build();
+
+        Patient patient = new PatientBuilder().build().withCaringSession(late).withCaringSession(early)
+                .withCaringSession(middle);
+        assertEquals(List.of(early, middle, late), patient.getCaringSessionList());
+    }
+
+    @Test
+    public void withCaringSession_replaceAtIndex_sessionMovedToItsNewTime() {
+        CaringSession first = new CaringSessionBuilder().withDate("2030-01-01").build();
+        CaringSession second = new CaringSessionBuilder().withDate("2030-01-02").build();
+        CaringSession movedFirst = new CaringSessionBuilder().withDate("2030-01-03").build();
+        Patient patient = new PatientBuilder().build().withCaringSessionList(List.of(second, first));
+
+        Patient editedPatient = patient.withCaringSession(0, movedFirst);
+        assertEquals(List.of(second, movedFirst), editedPatient.getCaringSessionList());
+        assertEquals(List.of(first, second), patient.getCaringSessionList());
+
+        assertEquals(List.of(second), patient.withoutCaringSession(0).getCaringSessionList());
+    }
+
+    @Test
+    public void hasOverlappingSession_longEarlierSession_returnsTrue() {
+        CaringSession longSession = new CaringSessionBuilder().withDate("2030-01-01").withTime("08:00")
+                .withDuration("10h").build();
+        CaringSession shortSession = new CaringSessionBuilder().withDate("2030-01-01").withTime("12:00").build();
+        Patient patient = new PatientBuilder().build().withCaringSession(longSession)
+                .withCaringSession(new CaringSessionBuilder().withDate("2030-01-01").withTime("19:00").build());
+
+        CaringSession newSession = new CaringSessionBuilder().withDate("2030-01-01").withTime("17:50").build();
+        assertTrue(patient.hasOverlappingSession(newSession));
+        assertFalse(patient.hasOverlappingSession(newSession, longSession));
+        assertFalse(patient.withoutCaringSession(0).hasOverlappingSession(shortSession));
+    }
+
+    @Test
+    public void hasOverlappingSession_adjacentSessions_returnsFalse() {
+        Patient patient = new PatientBuilder().build()
+                .withCaringSession(new CaringSessionBuilder().withDate("2030-01-01").withTime("09:00").build())
+                .withCaringSession(new CaringSessionBuilder().withDate("2030-01-01").withTime("10:00").build());
+
+        assertFalse(patient.hasOverlappingSession(
+                new CaringSessionBuilder().withDate("2030-01-01").withTime("09:30").build()));
+        assertTrue(patient.hasOverlappingSession(
+                new CaringSessionBuilder().withDate("2030-01-01").withTime("09:35").build()));
+    }
+
+    @Test
+    public void getCaringSessionsBetween_returnsSessionsInDateRange() {
+        CaringSession first = new CaringSessionBuilder().withDate("2030-01-01").build();
+        CaringSession second = new CaringSessionBuilder().withDate("2030-01-02").build();
+        CaringSession third = new CaringSessionBuilder().withDate("2030-01-03").withTime("08:00").build();
+        CaringSession fourth = new CaringSessionBuilder().withDate("2030-01-03").withTime("12:00").build();
+        Patient patient = new PatientBuilder().build().withCaringSession(fourth).withCaringSession(first)
+                .withCaringSession(third).withCaringSession(second);
+
+        assertEquals(List.of(second, third, fourth),
+                patient.getCaringSessionsBetween(new Date("2030-01-02"), new Date("2030-01-03")));
+        assertEquals(List.of(first), patient.getCaringSessionsBetween(new Date("2029-12-31"), new Date("2030-01-01")));
+        assertTrue(patient.getCaringSessionsBetween(new Date("2030-01-04"), new Date("2030-02-01")).isEmpty());
+        assertTrue(patient.getCaringSessionsBetween(new Date("2030-01-03"), new Date("2030-01-01")).isEmpty());
+    }
+
+    @Test
+    public void countCaringSessionsBefore_returnsPositionOfFirstSessionFromDate() {
+        Patient patient = new PatientBuilder().build()
+                .withCaringSession(new CaringSessionBuilder().withDate("2030-01-01").build())
+                .withCaringSession(new CaringSessionBuilder().withDate("2030-01-03").build());
+
+        assertEquals(0, patient.countCaringSessionsBefore(new Date("2030-01-01")));
+        assertEquals(1, patient.countCaringSessionsBefore(new Date("2030-01-02")));
+        assertEquals(1, patient.countCaringSessionsBefore(new Date("2030-01-03")));
+        assertEquals(2, patient.countCaringSessionsBefore(new Date("2030-01-04")));
+    }
+
+    @Test
+    public void getNextSession_returnsFirstIncompleteSessionFromTime() {
+        CaringSession past = new CaringSessionBuilder().withDate("2030-01-01").build();
+        CaringSession completed = new CaringSessionBuilder().withDate("2030-01-02")
+                .withStatus(SessionStatus.COMPLETED).build();
+        CaringSession next = new CaringSessionBuilder().withDate("2030-01-03").build();
+        Patient patient = new PatientBuilder().build().withCaringSession(next).withCaringSession(past)
+                .withCaringSession(completed);
+
+        assertEquals(Optional.of(past), patient.getNextSession(LocalDateTime.of(2029, 12, 31, 0, 0)));
+        assertEquals(Optional.of(next), patient.getNextSession(LocalDateTime.of(2030, 1, 2, 0, 0)));
+        assertEquals(Optional.empty(), patient.getNextSession(LocalDateTime.of(2030, 1, 4, 0, 0)));
+    }
+
+    @Test
+    public void getCaringSessionsBetween_recurringOccurrencesMergedInOrder() {
+        CaringSession concrete = new CaringSessionBuilder().withDate("2030-01-02").withTime("09:00").build();
+        RecurringSession daily = new RecurringSessionBuilder().withDates("2030-01-01", "2030-01-03").build();
+        Patient patient = new PatientBuilder().build().withCaringSession(concrete).withRecurringSession(daily);
+
+        List<CaringSession> occurrences = daily.getOccurrencesBetween(new Date("2030-01-02"), new Date("2030-01-03"));
+        assertEquals(occurrences, patient.getOccurrencesBetween(new Date("2030-01-02"), new Date("2030-01-03")));
+        assertEquals(List.of(occurrences.get(0), concrete, occurrences.get(1)),
+                patient.getCaringSessionsBetween(new Date("2030-01-02"), new Date("2030-01-03")));
+        assertTrue(patient.getCaringSessionsBetween(new Date("2030-01-04"), new Date("2030-02-01")).isEmpty());
+    }
+
+    @Test
+    public void getNextSession_recurringOccurrenceBeforeConcreteSession_returnsOccurrence() {
+        CaringSession concrete = new CaringSessionBuilder().withDate("2030-01-02").withTime("09:00").build();
+        RecurringSession daily = new RecurringSessionBuilder().withDates("2030-01-01", "2030-01-03")
+                .withCompletedDates("2030-01-01").build();
+        Patient patient = new PatientBuilder().build().withCaringSession(concrete).withRecurringSession(daily);
+
+        assertEquals(daily.getOccurrenceOn(new Date("2030-01-02")),
+                patient.getNextSession(LocalDateTime.of(2030, 1, 1, 0, 0)));
+        assertEquals(Optional.of(concrete), patient.getNextSession(LocalDateTime.of(2030, 1, 2, 8, 1)));
+        assertEquals(Optional.empty(), patient.getNextSession(LocalDateTime.of(2030, 1, 3, 8, 1)));
+    }
+
+    @Test
+    public void withRecurringSession_addReplaceAndRemove_originalUnchanged() {
+        RecurringSession daily = new RecurringSessionBuilder().build();
+        RecurringSession weekly = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY).build();
+        Patient patient = new PatientBuilder().build().withRecurringSession(daily);
+
+        assertEquals(List.of(daily, weekly), patient.withRecurringSession(weekly).getRecurringSessionList());
+        assertEquals(List.of(weekly), patient.withRecurringSession(0, weekly).getRecurringSessionList());
+        assertTrue(patient.withoutRecurringSession(0).getRecurringSessionList().isEmpty());
+        assertEquals(List.of(daily), patient.withRecurringSessionList(List.of(daily)).getRecurringSessionList());
+        assertEquals(List.of(daily), patient.withDetails(BOB.getName(), BOB.getWard(), BOB.getIC(), BOB.getTags())
+                .withCaringSession(new CaringSessionBuilder().build()).getRecurringSessionList());
+        assertEquals(List.of(daily), patient.getRecurringSessionList());
+    }
+
+    @Test
+    public void withNextOfKin_addReplaceAndRemove_originalUnchanged() {
+        NextOfKin first = new NextOfKinBuilder().withName("First Kin").build();
+        NextOfKin second = new NextOfKinBuilder().withName("Second Kin").build();
+        Patient patient = new PatientBuilder().build().withNextOfKin(first);
+
+        assertEquals(List.of(first, second), patient.withNextOfKin(second).getNextOfKinList());
+        assertEquals(List.of(second), patient.withNextOfKin(0, second).getNextOfKinList());
+        assertTrue(patient.withoutNextOfKin(0).getNextOfKinList().isEmpty());
+        assertEquals(List.of(first), patient.getNextOfKinList());
+    }
+
+    @Test
+    public void withDetails_keepsNextOfKinAndSessions() {
+        Patient patient = new PatientBuilder().build().withNextOfKin(new NextOfKinBuilder().build())
+                .withCaringSession(new CaringSessionBuilder().build());
+        Patient editedPatient = patient.withDetails(BOB.getName(), BOB.getWard(), BOB.getIC(), BOB.getTags());
+
+        assertEquals(BOB, editedPatient);
+        assertEquals(patient.getNextOfKinList(), editedPatient.getNextOfKinList());
+        assertEquals(patient.getCaringSessionList(), editedPatient.getCaringSessionList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Patient.class.getCanonicalName() + "{name=" + ALICE.getName() + ", ward=" + ALICE.getWard()
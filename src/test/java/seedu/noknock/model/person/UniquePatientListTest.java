@@ -7,15 +7,22 @@ import static seedu.noknock.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.noknock.testutil.Assert.assertThrows;
 import static seedu.noknock.testutil.TypicalPatients.ALICE;
 import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.HOON;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.noknock.model.person.exceptions.DuplicatePatientException;
 import seedu.noknock.model.person.exceptions.PatientNotFoundException;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
+import seedu.noknock.testutil.CaringSessionBuilder;
 import seedu.noknock.testutil.PatientBuilder;
 
 public class UniquePatientListTest {
@@ -57,6 +64,58 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePatientList.addAll(null));
+    }
+
+    @Test
+    public void addAll_newPatients_addedInOrder() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.addAll(List.of(BOB, HOON));
+        assertEquals(List.of(ALICE, BOB, HOON), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_patientAlreadyInList_throwsDuplicatePatientException() {
+        uniquePatientList.add(ALICE);
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.addAll(List.of(BOB, ALICE)));
+        assertEquals(List.of(ALICE), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicatePatientsInList_throwsDuplicatePatientException() {
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.addAll(List.of(BOB, BOB)));
+        assertTrue(uniquePatientList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAtIndex_newPatient_addedAtIndex() {
+        uniquePatientList.addAll(List.of(ALICE, HOON));
+        uniquePatientList.add(1, BOB);
+        assertEquals(List.of(ALICE, BOB, HOON), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAtIndex_patientAlreadyInList_throwsDuplicatePatientException() {
+        uniquePatientList.add(ALICE);
+        assertThrows(DuplicatePatientException.class, () -> uniquePatientList.add(0, ALICE));
+    }
+
+    @Test
+    public void removeAll_patientsInList_removed() {
+        uniquePatientList.addAll(List.of(ALICE, BOB, HOON));
+        uniquePatientList.removeAll(List.of(HOON, ALICE));
+        assertEquals(List.of(BOB), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_patientNotInList_throwsPatientNotFoundException() {
+        uniquePatientList.addAll(List.of(ALICE, BOB));
+        assertThrows(PatientNotFoundException.class, () -> uniquePatientList.removeAll(List.of(ALICE, HOON)));
+        assertEquals(List.of(ALICE, BOB), uniquePatientList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPatient_nullTargetPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.setPatient(null, ALICE));
@@ -161,6 +220,176 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(listWithDuplicatePatients));
     }
 
+    @Test
+    public void indexOf_followsEditsAndOtherChanges() {
+        uniquePatientList.addAll(List.of(ALICE, BOB, HOON));
+        assertEquals(2, uniquePatientList.indexOf(HOON));
+
+        uniquePatientList.remove(ALICE);
+        Patient editedHoon = new PatientBuilder(HOON).withIC("T7654321Z").withWard("5C").build();
+        uniquePatientList.setPatient(HOON, editedHoon);
+        assertEquals(Optional.of(editedHoon), uniquePatientList.getPatient(editedHoon.getIC()));
+        assertEquals(1, uniquePatientList.indexOf(editedHoon));
+        assertEquals(-1, uniquePatientList.indexOf(HOON));
+
+        uniquePatientList.add(0, ALICE);
+        assertEquals(2, uniquePatientList.indexOf(editedHoon));
+        uniquePatientList.removeAll(List.of(ALICE, BOB));
+        assertEquals(0, uniquePatientList.indexOf(editedHoon));
+    }
+
+    @Test
+    public void indexOf_removedAndAddedAgain_foundAtNewPosition() {
+        uniquePatientList.addAll(List.of(ALICE, BOB));
+        uniquePatientList.remove(ALICE);
+        assertEquals(-1, uniquePatientList.indexOf(ALICE));
+        assertEquals(Optional.empty(), uniquePatientList.getPatient(ALICE.getIC()));
+
+        uniquePatientList.add(ALICE);
+        assertEquals(1, uniquePatientList.indexOf(ALICE));
+        assertEquals(Optional.of(ALICE), uniquePatientList.getPatient(ALICE.getIC()));
+    }
+
+    @Test
+    public void setPatient_afterRemovalBeforeTarget_replacesAtShiftedPosition() {
+        uniquePatientList.addAll(List.of(ALICE, BOB, HOON));
+        uniquePatientList.remove(BOB);
+        Patient editedHoon = new PatientBuilder(HOON).withWard("5C").build();
+        uniquePatientList.setPatient(HOON, editedHoon);
+        assertEquals(List.of(ALICE, editedHoon), uniquePatientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPatient_followsChangesToList() {
+        uniquePatientList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePatientList.getPatient(ALICE.getIC()));
+        assertEquals(Optional.empty(), uniquePatientList.getPatient(BOB.getIC()));
+
+        Patient aliceWithNewIc = new PatientBuilder(ALICE).withIC("T7654321Z").build();
+        uniquePatientList.setPatient(ALICE, aliceWithNewIc);
+        assertEquals(Optional.empty(), uniquePatientList.getPatient(ALICE.getIC()));
+        assertEquals(Optional.of(aliceWithNewIc), uniquePatientList.getPatient(new IC("T7654321Z")));
+
+        uniquePatientList.remove(aliceWithNewIc);
+        assertEquals(Optional.empty(), uniquePatientList.getPatient(new IC("T7654321Z")));
+
+        uniquePatientList.setPatients(List.of(HOON));
+        assertEquals(Optional.of(HOON), uniquePatientList.getPatient(HOON.getIC()));
+    }
+
+    @Test
+    public void getPatientsWithIc_followsChangesToList() {
+        uniquePatientList.addAll(List.of(ALICE, BOB));
+        assertEquals(Set.of(BOB), uniquePatientList.getPatientsWithIc(BOB.getIC()));
+
+        uniquePatientList.remove(BOB);
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithIc(BOB.getIC()));
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsWithIc(ALICE.getIC()));
+    }
+
+    @Test
+    public void getPatientsInWard_followsChangesToList() {
+        Ward wardOfBob = BOB.getWard();
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(0, BOB);
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsInWard(ALICE.getWard()));
+        assertEquals(Set.of(BOB), uniquePatientList.getPatientsInWard(wardOfBob));
+
+        Patient movedAlice = new PatientBuilder(ALICE).withWard(wardOfBob.getRoom()).build();
+        uniquePatientList.setPatient(ALICE, movedAlice);
+        assertEquals(Set.of(), uniquePatientList.getPatientsInWard(ALICE.getWard()));
+        assertEquals(Set.of(BOB, movedAlice), uniquePatientList.getPatientsInWard(wardOfBob));
+
+        uniquePatientList.remove(BOB);
+        assertEquals(Set.of(movedAlice), uniquePatientList.getPatientsInWard(wardOfBob));
+
+        uniquePatientList.setPatients(List.of(HOON));
+        assertEquals(Set.of(), uniquePatientList.getPatientsInWard(wardOfBob));
+        assertEquals(Set.of(HOON), uniquePatientList.getPatientsInWard(HOON.getWard()));
+    }
+
+    @Test
+    public void getPatientsWithTag_followsChangesToList() {
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        uniquePatientList.addAll(List.of(ALICE, BOB));
+        assertEquals(Set.of(BOB), uniquePatientList.getPatientsWithTag(husband));
+
+        Patient taggedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        uniquePatientList.setPatient(ALICE, taggedAlice);
+        assertEquals(Set.of(BOB, taggedAlice), uniquePatientList.getPatientsWithTag(husband));
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithTag(new Tag("friends")));
+
+        uniquePatientList.removeAll(List.of(BOB, taggedAlice));
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithTag(husband));
+    }
+
+    @Test
+    public void getPatientsWithSessions_followsChangesToSessions() {
+        CareType medication = new CareType("Medication");
+        Patient aliceWithSession = ALICE.withCaringSession(new CaringSessionBuilder()
+                .withCareType("Medication").build());
+        Patient bobWithSession = BOB.withCaringSession(new CaringSessionBuilder()
+                .withStatus(SessionStatus.COMPLETED).build());
+        uniquePatientList.addAll(List.of(aliceWithSession, bobWithSession));
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsWithCareType(medication));
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsWithSessionStatus(SessionStatus.INCOMPLETE));
+        assertEquals(Set.of(BOB), uniquePatientList.getPatientsWithSessionStatus(SessionStatus.COMPLETED));
+
+        uniquePatientList.setPatient(aliceWithSession, aliceWithSession.withoutCaringSession(0));
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithCareType(medication));
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithSessionStatus(SessionStatus.INCOMPLETE));
+
+        // removing an equal patient without the sessions still unindexes the sessions of the patient in the list
+        uniquePatientList.remove(BOB);
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithSessionStatus(SessionStatus.COMPLETED));
+    }
+
+    @Test
+    public void getPatientsWithSessions_oneOfSeveralSessionsEdited_otherSessionsStillIndexed() {
+        CareType medication = new CareType("Medication");
+        Patient aliceWithSessions = ALICE
+                .withCaringSession(new CaringSessionBuilder().withCareType("Medication").withTime("09:00").build())
+                .withCaringSession(new CaringSessionBuilder().withCareType("Medication").withTime("18:00").build());
+        uniquePatientList.addAll(List.of(aliceWithSessions, BOB));
+
+        Patient oneSessionCompleted = aliceWithSessions.withCaringSession(0,
+                new CaringSessionBuilder(aliceWithSessions.getCaringSessionList().get(0))
+                        .withStatus(SessionStatus.COMPLETED).build());
+        uniquePatientList.setPatient(aliceWithSessions, oneSessionCompleted);
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsWithCareType(medication));
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsWithSessionStatus(SessionStatus.INCOMPLETE));
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsWithSessionStatus(SessionStatus.COMPLETED));
+
+        // the target is equal to the patient in the list but has none of its sessions
+        Patient oneSessionLeft = oneSessionCompleted.withoutCaringSession(1);
+        uniquePatientList.setPatient(ALICE, oneSessionLeft);
+        assertEquals(Set.of(ALICE), uniquePatientList.getPatientsWithCareType(medication));
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithSessionStatus(SessionStatus.INCOMPLETE));
+
+        uniquePatientList.setPatient(oneSessionLeft, oneSessionLeft.withoutCaringSession(0));
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithCareType(medication));
+        assertEquals(Set.of(), uniquePatientList.getPatientsWithSessionStatus(SessionStatus.COMPLETED));
+    }
+
+    @Test
+    public void getPatientsInWard_afterRemoval_ordinalReused() {
+        uniquePatientList.addAll(List.of(ALICE, BOB));
+        uniquePatientList.remove(ALICE);
+        uniquePatientList.add(HOON);
+
+        assertEquals(Set.of(HOON), uniquePatientList.getPatientsInWard(HOON.getWard()));
+        assertEquals(Set.of(BOB, HOON), uniquePatientList.getPatientsInWard(BOB.getWard())
+                .or(uniquePatientList.getPatientsInWard(HOON.getWard())));
+        assertFalse(uniquePatientList.getPatientsInWard(ALICE.getWard()).contains(ALICE));
+    }
+
+    @Test
+    public void getPatientsWithTag_modifySet_throwsUnsupportedOperationException() {
+        uniquePatientList.add(BOB);
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquePatientList.getPatientsWithTag(new Tag(VALID_TAG_HUSBAND)).clear());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 
 public class WardTest {
@@ -64,6 +67,13 @@ public class WardTest {
         assertFalse(ward1.equals("3B"));
     }
 
+    @Test
+    public void compareTo_roomsOrderedByNumberThenLetter() {
+        List<Ward> sorted = Stream.of("10A", "2B", "2A", "9Z", "100A", "10B").map(Ward::new).sorted().toList();
+        assertEquals(Stream.of("2A", "2B", "9Z", "10A", "10B", "100A").map(Ward::new).toList(), sorted);
+        assertEquals(0, new Ward("3b").compareTo(new Ward("3B")));
+    }
+
     @Test
     public void toString_correctOutput() {
         Ward ward = new Ward("7D");
@@ -0,0 +1,109 @@
+package seedu.noknock.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.model.tag.Tag;
+
+public class AndQueryTest {
+
+    private static final FieldQuery WARD_2A = FieldQuery.ward(new Ward("2A"));
+    private static final FieldQuery TAG_FRIENDS = FieldQuery.tag(new Tag("friends"));
+    private static final FieldQuery TAG_OWES_MONEY = FieldQuery.tag(new Tag("owesMoney"));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void of_singleQuery_returnsQuery() {
+        assertSame(WARD_2A, AndQuery.of(List.of(WARD_2A)));
+    }
+
+    @Test
+    public void of_nestedAndSessionQueries_flattenedAndMerged() {
+        Date date = new Date("2030-01-01");
+        PatientQuery nested = AndQuery.of(List.of(TAG_FRIENDS, SessionQuery.between(date, date)));
+        PatientQuery query = AndQuery.of(List.of(WARD_2A, nested, SessionQuery.withStatus(SessionStatus.INCOMPLETE)));
+
+        assertEquals(AndQuery.of(List.of(WARD_2A, TAG_FRIENDS,
+                SessionQuery.between(date, date).and(SessionQuery.withStatus(SessionStatus.INCOMPLETE)))), query);
+    }
+
+    @Test
+    public void plan_icQuery_looksUpPatientWithIc() {
+        QueryPlan plan = AndQuery.of(List.of(WARD_2A, FieldQuery.ic(BENSON.getIC()))).plan(model);
+
+        assertFalse(plan.isScan());
+        assertEquals(1, plan.getCandidateCount());
+        assertEquals(Set.of(BENSON), plan.getMatches());
+
+        plan = FieldQuery.ic(new IC("T0000000Z")).plan(model);
+        assertFalse(plan.isScan());
+        assertTrue(plan.getMatches().isEmpty());
+    }
+
+    @Test
+    public void plan_indexedQueries_looksUpMostSelectiveIndex() {
+        QueryPlan plan = AndQuery.of(List.of(WARD_2A, TAG_FRIENDS)).plan(model);
+
+        assertFalse(plan.isScan());
+        assertEquals(3, plan.getCandidateCount());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), plan.getMatches());
+
+        plan = AndQuery.of(List.of(WARD_2A, TAG_FRIENDS, TAG_OWES_MONEY)).plan(model);
+        assertEquals(1, plan.getCandidateCount());
+        assertEquals(Set.of(BENSON), plan.getMatches());
+    }
+
+    @Test
+    public void plan_residualQueriesTestedOnCandidates() {
+        PatientQuery query = AndQuery.of(List.of(TAG_FRIENDS, new NotQuery(FieldQuery.name("Meier"))));
+        QueryPlan plan = query.plan(model);
+
+        assertEquals(3, plan.getCandidateCount());
+        assertEquals(Set.of(ALICE), plan.getMatches());
+    }
+
+    @Test
+    public void plan_noIndexedQuery_scans() {
+        PatientQuery query = AndQuery.of(List.of(FieldQuery.name("Alice"), new NotQuery(TAG_FRIENDS)));
+        assertTrue(query.plan(model).isScan());
+    }
+
+    @Test
+    public void test() {
+        PatientQuery query = AndQuery.of(List.of(WARD_2A, TAG_FRIENDS));
+        assertTrue(query.test(ALICE));
+        assertFalse(query.test(BOB));
+    }
+
+    @Test
+    public void equals() {
+        PatientQuery query = AndQuery.of(List.of(WARD_2A, TAG_FRIENDS));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(AndQuery.of(List.of(WARD_2A, TAG_FRIENDS))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(WARD_2A));
+        assertFalse(query.equals(AndQuery.of(List.of(WARD_2A, TAG_OWES_MONEY))));
+        assertFalse(query.equals(OrQuery.of(List.of(WARD_2A, TAG_FRIENDS))));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.noknock.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.BOB;
+import static seedu.noknock.testutil.TypicalPatients.CARL;
+import static seedu.noknock.testutil.TypicalPatients.DANIEL;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.tag.Tag;
+
+public class OrQueryTest {
+
+    private static final FieldQuery WARD_2B = FieldQuery.ward(new Ward("2B"));
+    private static final FieldQuery TAG_FRIENDS = FieldQuery.tag(new Tag("friends"));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void plan_allIndexed_looksUpUnionOfIndexes() {
+        model.addPatient(BOB);
+        QueryPlan plan = OrQuery.of(List.of(WARD_2B, TAG_FRIENDS)).plan(model);
+
+        assertFalse(plan.isScan());
+        assertEquals(Set.of(ALICE, BENSON, DANIEL, BOB), plan.getMatches());
+    }
+
+    @Test
+    public void plan_unindexedQuery_scans() {
+        PatientQuery query = OrQuery.of(List.of(TAG_FRIENDS, FieldQuery.name("Carl")));
+
+        assertTrue(query.plan(model).isScan());
+        assertTrue(query.test(CARL));
+        assertTrue(query.test(ALICE));
+        assertFalse(query.test(BOB));
+    }
+
+    @Test
+    public void equals() {
+        PatientQuery query = OrQuery.of(List.of(WARD_2B, TAG_FRIENDS));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(OrQuery.of(List.of(OrQuery.of(List.of(WARD_2B)), TAG_FRIENDS))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(OrQuery.of(List.of(TAG_FRIENDS, WARD_2B))));
+    }
+}
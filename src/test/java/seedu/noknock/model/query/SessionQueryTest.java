@@ -0,0 +1,131 @@
+package seedu.noknock.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+import static seedu.noknock.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.Model;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class SessionQueryTest {
+
+    private static final Date FIRST = new Date("2030-01-01");
+    private static final Date SECOND = new Date("2030-01-02");
+    private static final Date THIRD = new Date("2030-01-03");
+
+    private final CaringSession completedOnFirst = new CaringSessionBuilder().withDate("2030-01-01")
+            .withStatus(SessionStatus.COMPLETED).build();
+    private final CaringSession incompleteOnThird = new CaringSessionBuilder().withDate("2030-01-03")
+            .withCareType("Medication").build();
+
+    @Test
+    public void between_reversedDates_swapped() {
+        assertEquals(SessionQuery.between(FIRST, THIRD), SessionQuery.between(THIRD, FIRST));
+    }
+
+    @Test
+    public void matches_allConditionsApplyToSameSession() {
+        SessionQuery query = SessionQuery.between(FIRST, SECOND).and(SessionQuery.withStatus(SessionStatus.INCOMPLETE));
+
+        assertFalse(query.matches(completedOnFirst));
+        assertFalse(query.matches(incompleteOnThird));
+        assertTrue(SessionQuery.between(SECOND, THIRD).and(SessionQuery.withCareType(new CareType("Medication")))
+                .matches(incompleteOnThird));
+    }
+
+    @Test
+    public void and_dateRanges_intersected() {
+        SessionQuery query = SessionQuery.between(FIRST, SECOND).and(SessionQuery.between(SECOND, THIRD));
+        assertEquals(SessionQuery.between(SECOND, SECOND), query);
+
+        SessionQuery disjoint = SessionQuery.between(FIRST, FIRST).and(SessionQuery.between(THIRD, THIRD));
+        assertFalse(disjoint.matches(completedOnFirst));
+        assertFalse(disjoint.matches(incompleteOnThird));
+    }
+
+    @Test
+    public void test() {
+        Patient patient = new PatientBuilder().build().withCaringSession(completedOnFirst)
+                .withCaringSession(incompleteOnThird);
+
+        assertTrue(SessionQuery.between(FIRST, SECOND).test(patient));
+        assertFalse(SessionQuery.between(SECOND, SECOND).test(patient));
+        assertTrue(SessionQuery.withStatus(SessionStatus.INCOMPLETE).test(patient));
+        assertFalse(SessionQuery.between(FIRST, SECOND).and(SessionQuery.withStatus(SessionStatus.INCOMPLETE))
+                .test(patient));
+        assertFalse(SessionQuery.between(FIRST, FIRST).test(new PatientBuilder().build()));
+
+        Patient recurringPatient = new PatientBuilder().build().withRecurringSession(new RecurringSessionBuilder()
+                .withDates("2030-01-01", "2030-01-02").withSkippedDates("2030-01-01").build());
+        assertTrue(SessionQuery.between(SECOND, THIRD).test(recurringPatient));
+        assertFalse(SessionQuery.between(FIRST, FIRST).test(recurringPatient));
+        assertTrue(SessionQuery.withStatus(SessionStatus.INCOMPLETE).test(recurringPatient));
+        assertFalse(SessionQuery.withStatus(SessionStatus.COMPLETED).test(recurringPatient));
+    }
+
+    @Test
+    public void plan_statusOrCareType_looksUpIndexedPatients() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Patient aliceWithSessions = ALICE.withCaringSession(completedOnFirst).withCaringSession(incompleteOnThird);
+        Patient bensonWithSession = BENSON.withCaringSession(incompleteOnThird);
+        model.setPatient(ALICE, aliceWithSessions);
+        model.setPatient(BENSON, bensonWithSession);
+
+        QueryPlan plan = SessionQuery.withCareType(new CareType("Medication")).plan(model);
+        assertEquals(2, plan.getCandidateCount());
+        assertEquals(Set.of(ALICE, BENSON), plan.getMatches());
+
+        // both patients have an incomplete medication session, but only Alice has a completed one
+        plan = SessionQuery.withStatus(SessionStatus.COMPLETED).and(SessionQuery.between(FIRST, SECOND)).plan(model);
+        assertEquals(1, plan.getCandidateCount());
+        assertEquals(Set.of(ALICE), plan.getMatches());
+
+        assertTrue(SessionQuery.between(FIRST, THIRD).plan(model).isScan());
+    }
+
+    @Test
+    public void plan_recurringSessionsOnly_sameMatchesAsScan() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        RecurringSession dailyMedication = new RecurringSessionBuilder().withCareType("Medication")
+                .withDates("2030-01-01", "2030-01-31").withCompletedDates("2030-01-02").build();
+        Patient aliceWithRecurringSession = ALICE.withRecurringSession(dailyMedication);
+        model.setPatient(ALICE, aliceWithRecurringSession);
+        Date tenth = new Date("2030-01-10");
+
+        assertTrue(SessionQuery.between(tenth, tenth).test(aliceWithRecurringSession));
+        assertEquals(Set.of(ALICE), SessionQuery.between(tenth, tenth)
+                .and(SessionQuery.withStatus(SessionStatus.INCOMPLETE)).plan(model).getMatches());
+        assertEquals(Set.of(ALICE), SessionQuery.between(tenth, tenth)
+                .and(SessionQuery.withCareType(new CareType("Medication"))).plan(model).getMatches());
+        assertEquals(Set.of(ALICE), SessionQuery.withStatus(SessionStatus.COMPLETED).plan(model).getMatches());
+
+        // only the occurrence on 2 January was completed
+        assertEquals(Set.of(), SessionQuery.between(tenth, tenth)
+                .and(SessionQuery.withStatus(SessionStatus.COMPLETED)).plan(model).getMatches());
+        assertEquals(Set.of(), SessionQuery.withCareType(new CareType("Hygiene")).plan(model).getMatches());
+    }
+
+    @Test
+    public void getSessionFilter_filtersMatchingSessions() {
+        SessionQuery query = SessionQuery.withStatus(SessionStatus.COMPLETED);
+        assertTrue(query.getSessionFilter().test(completedOnFirst));
+        assertFalse(query.getSessionFilter().test(incompleteOnThird));
+    }
+}
@@ -9,6 +9,7 @@ import static seedu.noknock.testutil.Assert.assertThrows;
 import org.junit.jupiter.api.Test;
 
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 
 public class CaringSessionTest {
@@ -114,6 +115,41 @@ public class CaringSessionTest {
         assertFalse(session1.overlaps(session2));
     }
 
+    @Test
+    public void overlaps_startsDuringOtherSession_returnsTrue() {
+        CaringSession session1 = new CaringSession(VALID_CARE_TYPE, VALID_NOTE, VALID_DATE, VALID_TIME);
+        CaringSession session2 = new CaringSession(VALID_CARE_TYPE, VALID_NOTE, VALID_DATE, new Time("14:35"));
+
+        assertTrue(session1.overlaps(session2));
+        assertTrue(session2.overlaps(session1));
+    }
+
+    @Test
+    public void overlaps_startsWhenOtherSessionEnds_returnsFalse() {
+        CaringSession session1 = new CaringSession(VALID_CARE_TYPE, VALID_NOTE, VALID_DATE, VALID_TIME,
+            new Duration("1h"), SessionStatus.INCOMPLETE);
+        CaringSession session2 = new CaringSession(VALID_CARE_TYPE, VALID_NOTE, VALID_DATE, new Time("15:30"));
+
+        assertFalse(session1.overlaps(session2));
+    }
+
+    @Test
+    public void overlaps_sessionPastMidnight_overlapsNextDay() {
+        CaringSession overnight = new CaringSession(VALID_CARE_TYPE, VALID_NOTE, VALID_DATE, new Time("23:00"),
+            new Duration("2h"), SessionStatus.INCOMPLETE);
+        CaringSession earlyMorning = new CaringSession(VALID_CARE_TYPE, VALID_NOTE, DIFFERENT_DATE, new Time("00:30"));
+
+        assertEquals(DIFFERENT_DATE.value.atTime(1, 0), overnight.getEnd());
+        assertTrue(overnight.overlaps(earlyMorning));
+    }
+
+    @Test
+    public void equals_differentDuration_returnsFalse() {
+        CaringSession session = new CaringSession(VALID_CARE_TYPE, VALID_NOTE, VALID_DATE, VALID_TIME);
+        assertNotEquals(session, new CaringSession(VALID_CARE_TYPE, VALID_NOTE, VALID_DATE, VALID_TIME,
+            new Duration("45"), SessionStatus.INCOMPLETE));
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         CaringSession session = new CaringSession(VALID_CARE_TYPE, VALID_NOTE, VALID_DATE, VALID_TIME);
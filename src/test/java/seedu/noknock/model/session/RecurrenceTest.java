@@ -0,0 +1,44 @@
+package seedu.noknock.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurrenceTest {
+
+    @Test
+    public void isValidRecurrence() {
+        // invalid recurrences
+        assertFalse(Recurrence.isValidRecurrence(null));
+        assertFalse(Recurrence.isValidRecurrence(""));
+        assertFalse(Recurrence.isValidRecurrence("monthly"));
+
+        // valid recurrences
+        assertTrue(Recurrence.isValidRecurrence("daily"));
+        assertTrue(Recurrence.isValidRecurrence(" WEEKLY "));
+    }
+
+    @Test
+    public void fromString() {
+        assertEquals(Recurrence.DAILY, Recurrence.fromString("Daily"));
+        assertEquals(Recurrence.WEEKLY, Recurrence.fromString("weekly"));
+        assertThrows(IllegalArgumentException.class, Recurrence.MESSAGE_CONSTRAINTS, () ->
+                Recurrence.fromString("fortnightly"));
+        assertThrows(NullPointerException.class, () -> Recurrence.fromString(null));
+    }
+
+    @Test
+    public void getPeriodDays() {
+        assertEquals(1, Recurrence.DAILY.getPeriodDays());
+        assertEquals(7, Recurrence.WEEKLY.getPeriodDays());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("Daily", Recurrence.DAILY.toString());
+        assertEquals("Weekly", Recurrence.WEEKLY.toString());
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.noknock.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class RecurringSessionTest {
+
+    /** Daily at 08:00 from 1 to 31 January 2030. */
+    private static final RecurringSession DAILY = new RecurringSessionBuilder().build();
+    /** Weekly at 08:00 from 1 January 2030 (a Tuesday) to 31 January 2030. */
+    private static final RecurringSession WEEKLY = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY)
+            .build();
+
+    private static CaringSession occurrence(String date, SessionStatus status) {
+        return new CaringSessionBuilder().withCareType(RecurringSessionBuilder.DEFAULT_CARE_TYPE)
+                .withNote(RecurringSessionBuilder.DEFAULT_NOTE).withDate(date)
+                .withTime(RecurringSessionBuilder.DEFAULT_TIME).withStatus(status).build();
+    }
+
+    private static CaringSession occurrence(String date) {
+        return occurrence(date, SessionStatus.INCOMPLETE);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RecurringSession(null, new Note(""),
+                new Time("08:00"), Duration.DEFAULT, Recurrence.DAILY, new Date("2030-01-01"),
+                new Date("2030-01-31")));
+    }
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, RecurringSession.MESSAGE_CONSTRAINTS, () ->
+                new RecurringSessionBuilder().withDates("2030-01-31", "2030-01-01").build());
+    }
+
+    @Test
+    public void constructor_exceptionOnUnscheduledDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecurringSessionBuilder(WEEKLY)
+                .withCompletedDates("2030-01-02").build());
+        assertThrows(IllegalArgumentException.class, () -> new RecurringSessionBuilder(DAILY)
+                .withSkippedDates("2030-02-01").build());
+        assertThrows(IllegalArgumentException.class, () -> new RecurringSessionBuilder(DAILY)
+                .withCompletedDates("2030-01-02").withSkippedDates("2030-01-02").build());
+    }
+
+    @Test
+    public void isValidDateRange() {
+        assertTrue(RecurringSession.isValidDateRange(new Date("2030-01-01"), new Date("2030-01-01")));
+        assertTrue(RecurringSession.isValidDateRange(new Date("2030-01-01"), new Date("2030-01-02")));
+        assertFalse(RecurringSession.isValidDateRange(new Date("2030-01-02"), new Date("2030-01-01")));
+    }
+
+    @Test
+    public void occursOn() {
+        RecurringSession session = new RecurringSessionBuilder(WEEKLY).withSkippedDates("2030-01-15").build();
+
+        assertTrue(session.occursOn(new Date("2030-01-01")));
+        assertTrue(session.occursOn(new Date("2030-01-29")));
+        assertFalse(session.occursOn(new Date("2030-01-02")));
+        assertFalse(session.occursOn(new Date("2029-12-25")));
+        assertFalse(session.occursOn(new Date("2030-02-05")));
+
+        // skipped occurrence is still scheduled
+        assertTrue(session.isScheduledOn(new Date("2030-01-15")));
+        assertFalse(session.occursOn(new Date("2030-01-15")));
+        assertEquals(Optional.empty(), session.getOccurrenceOn(new Date("2030-01-15")));
+        assertEquals(Optional.of(occurrence("2030-01-08")), session.getOccurrenceOn(new Date("2030-01-08")));
+    }
+
+    @Test
+    public void getOccurrencesBetween_onlyDatesInRangeExpanded() {
+        RecurringSession session = new RecurringSessionBuilder(WEEKLY).withCompletedDates("2030-01-08")
+                .withSkippedDates("2030-01-15").build();
+
+        assertEquals(List.of(occurrence("2030-01-08", SessionStatus.COMPLETED), occurrence("2030-01-22")),
+                session.getOccurrencesBetween(new Date("2030-01-03"), new Date("2030-01-27")));
+        assertEquals(List.of(occurrence("2030-01-29")),
+                session.getOccurrencesBetween(new Date("2030-01-23"), new Date("2030-12-31")));
+        assertEquals(List.of(occurrence("2030-01-01")),
+                session.getOccurrencesBetween(new Date("2029-01-01"), new Date("2030-01-01")));
+        assertEquals(List.of(), session.getOccurrencesBetween(new Date("2030-01-02"), new Date("2030-01-07")));
+        assertEquals(List.of(), session.getOccurrencesBetween(new Date("2030-01-29"), new Date("2030-01-01")));
+        assertEquals(31, DAILY.getOccurrencesBetween(new Date("2029-01-01"), new Date("2031-01-01")).size());
+    }
+
+    @Test
+    public void getNextOccurrences_skipsCompletedAndSkippedOccurrences() {
+        RecurringSession session = new RecurringSessionBuilder(DAILY).withCompletedDates("2030-01-02")
+                .withSkippedDates("2030-01-03").build();
+
+        assertEquals(List.of(occurrence("2030-01-01"), occurrence("2030-01-04")),
+                session.getNextOccurrences(LocalDateTime.of(2029, 12, 1, 0, 0), 2));
+        // the occurrence on the day of from has started already
+        assertEquals(List.of(occurrence("2030-01-04")),
+                session.getNextOccurrences(LocalDateTime.of(2030, 1, 1, 8, 1), 1));
+        assertEquals(List.of(occurrence("2030-01-31")),
+                session.getNextOccurrences(LocalDateTime.of(2030, 1, 31, 8, 0), 5));
+        assertEquals(List.of(), session.getNextOccurrences(LocalDateTime.of(2030, 1, 31, 8, 1), 5));
+        assertThrows(IllegalArgumentException.class, () ->
+                session.getNextOccurrences(LocalDateTime.of(2030, 1, 1, 0, 0), 0));
+    }
+
+    @Test
+    public void getOccurrenceStatuses() {
+        assertEquals(Set.of(SessionStatus.INCOMPLETE), WEEKLY.getOccurrenceStatuses());
+        assertEquals(Set.of(SessionStatus.COMPLETED, SessionStatus.INCOMPLETE), new RecurringSessionBuilder(WEEKLY)
+                .withCompletedDates("2030-01-08").build().getOccurrenceStatuses());
+
+        // every occurrence completed or skipped
+        assertEquals(Set.of(SessionStatus.COMPLETED), new RecurringSessionBuilder(WEEKLY)
+                .withCompletedDates("2030-01-01", "2030-01-08", "2030-01-15")
+                .withSkippedDates("2030-01-22", "2030-01-29").build().getOccurrenceStatuses());
+        assertEquals(Set.of(), new RecurringSessionBuilder(WEEKLY)
+                .withSkippedDates("2030-01-01", "2030-01-08", "2030-01-15", "2030-01-22", "2030-01-29")
+                .build().getOccurrenceStatuses());
+    }
+
+    @Test
+    public void withOccurrenceStatus() {
+        Date date = new Date("2030-01-08");
+        RecurringSession completed = WEEKLY.withOccurrenceStatus(date, SessionStatus.COMPLETED);
+
+        assertEquals(Set.of(date), completed.getCompletedDates());
+        assertEquals(Optional.of(occurrence("2030-01-08", SessionStatus.COMPLETED)),
+                completed.getOccurrenceOn(date));
+        assertEquals(WEEKLY, completed.withOccurrenceStatus(date, SessionStatus.INCOMPLETE));
+        assertThrows(IllegalArgumentException.class, String.format(RecurringSession.MESSAGE_NOT_SCHEDULED,
+                new Date("2030-01-09")), () -> WEEKLY.withOccurrenceStatus(new Date("2030-01-09"),
+                SessionStatus.COMPLETED));
+    }
+
+    @Test
+    public void withoutOccurrence() {
+        Date date = new Date("2030-01-08");
+        RecurringSession skipped = WEEKLY.withOccurrenceStatus(date, SessionStatus.COMPLETED)
+                .withoutOccurrence(date);
+
+        assertEquals(Set.of(), skipped.getCompletedDates());
+        assertEquals(Set.of(date), skipped.getSkippedDates());
+        assertFalse(skipped.occursOn(date));
+        assertThrows(IllegalArgumentException.class, () -> skipped.withoutOccurrence(date));
+    }
+
+    @Test
+    public void equals() {
+        RecurringSession copy = new RecurringSessionBuilder(DAILY).build();
+
+        // same values -> returns true
+        assertTrue(DAILY.equals(copy));
+        assertEquals(DAILY.hashCode(), copy.hashCode());
+
+        // same object -> returns true
+        assertTrue(DAILY.equals(DAILY));
+
+        // null -> returns false
+        assertFalse(DAILY.equals(null));
+
+        // different type -> returns false
+        assertFalse(DAILY.equals(5));
+
+        // different recurrence -> returns false
+        assertFalse(DAILY.equals(WEEKLY));
+
+        // different time -> returns false
+        assertFalse(DAILY.equals(new RecurringSessionBuilder(DAILY).withTime("09:00").build()));
+
+        // different end date -> returns false
+        assertFalse(DAILY.equals(new RecurringSessionBuilder(DAILY).withDates("2030-01-01", "2030-01-30").build()));
+
+        // different exceptions -> returns false
+        assertFalse(DAILY.equals(new RecurringSessionBuilder(DAILY).withSkippedDates("2030-01-02").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = RecurringSession.class.getCanonicalName() + "{careType=" + DAILY.getCareType()
+                + ", note=" + DAILY.getNote() + ", time=" + DAILY.getTime() + ", duration=" + DAILY.getDuration()
+                + ", recurrence=" + DAILY.getRecurrence() + ", startDate=" + DAILY.getStartDate()
+                + ", endDate=" + DAILY.getEndDate() + ", completedDates=[], skippedDates=[]}";
+        assertEquals(expected, DAILY.toString());
+    }
+}
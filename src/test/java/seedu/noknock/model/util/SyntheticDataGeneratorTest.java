@@ -0,0 +1,99 @@
+package seedu.noknock.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.person.IC;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generatePatients_sameSeed_sameData() {
+        List<Patient> first = new SyntheticDataGenerator(7).generatePatients(200);
+        List<Patient> second = new SyntheticDataGenerator(7).generatePatients(200);
+        assertEquals(first, second);
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getNextOfKinList(), second.get(i).getNextOfKinList());
+            assertEquals(first.get(i).getCaringSessionList(), second.get(i).getCaringSessionList());
+        }
+    }
+
+    @Test
+    public void generatePatients_differentSeed_differentData() {
+        assertNotEquals(new SyntheticDataGenerator(1).generatePatients(50),
+                new SyntheticDataGenerator(2).generatePatients(50));
+    }
+
+    @Test
+    public void generatePatients_fewerPatients_prefixOfMorePatients() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3);
+        assertEquals(generator.generatePatients(20), generator.generatePatients(40).subList(0, 20));
+    }
+
+    @Test
+    public void generatePatients_withSettings_withinLimits() {
+        LocalDate firstDate = LocalDate.of(2026, 10, 1);
+        List<Patient> patients = new SyntheticDataGenerator(11)
+                .withMaxTagsPerPatient(1)
+                .withMaxNextOfKinPerPatient(2)
+                .withMaxSessionsPerPatient(30)
+                .withWards(3, 1.5)
+                .withSessionDates(firstDate, 2)
+                .withCompletedSessionRatio(0)
+                .generatePatients(500);
+
+        Set<IC> ics = patients.stream().map(Patient::getIC).collect(Collectors.toSet());
+        assertEquals(patients.size(), ics.size());
+
+        Set<String> wards = new HashSet<>();
+        for (Patient patient : patients) {
+            wards.add(patient.getWard().toString());
+            assertTrue(patient.getTags().size() <= 1);
+            assertTrue(patient.getNextOfKinList().size() <= 2);
+
+            List<CaringSession> sessions = patient.getCaringSessionList();
+            assertTrue(sessions.size() <= 30);
+            for (int i = 0; i < sessions.size(); i++) {
+                CaringSession session = sessions.get(i);
+                assertFalse(session.getDate().value.isBefore(firstDate));
+                assertTrue(session.getDate().value.isBefore(firstDate.plusDays(2)));
+                assertEquals("Incomplete", session.getStatus().toString());
+                for (int j = i + 1; j < sessions.size(); j++) {
+                    assertFalse(session.overlaps(sessions.get(j)));
+                }
+            }
+        }
+        assertEquals(3, wards.size());
+    }
+
+    @Test
+    public void generateAddressBook_validCount_containsAllPatients() {
+        assertEquals(100, new SyntheticDataGenerator(5).generateAddressBook(100).getPatientList().size());
+    }
+
+    @Test
+    public void withSettings_invalidValues_throwIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(0);
+        assertThrows(IllegalArgumentException.class, () -> generator.withMaxTagsPerPatient(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withMaxNextOfKinPerPatient(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withMaxSessionsPerPatient(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withWards(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.withWards(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withSessionDates(LocalDate.now(), 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.withCompletedSessionRatio(1.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.generatePatients(-1));
+    }
+}
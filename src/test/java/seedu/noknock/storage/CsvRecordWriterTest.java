@@ -0,0 +1,60 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.NextOfKinBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+
+public class CsvRecordWriterTest {
+
+    private static final CaringSession SESSION = new CaringSessionBuilder().withDate("2025-10-20").withTime("14:30")
+            .withCareType("Insulin").withNote("Before lunch, say \"hi\"").withStatus(SessionStatus.COMPLETED).build();
+    private static final Patient PATIENT = new PatientBuilder().withName("Amy Bee").withIC("S1234567A").withWard("2A")
+            .withTags("friend", "diabetic")
+            .withNextOfKinList(new NextOfKinBuilder().withName("Sammy").withPhone("11111111")
+                    .withRelationship("Daughter").build())
+            .build()
+            .withCaringSessionList(List.of(SESSION));
+
+    private final StringWriter output = new StringWriter();
+    private final CsvRecordWriter writer = new CsvRecordWriter(output);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvRecordWriter(null));
+    }
+
+    @Test
+    public void writePatient_patientWithRecords_importRowsWrittenAfterHeader() throws IOException {
+        writer.writePatient(PATIENT);
+        writer.writePatient(new PatientBuilder().withName("Bob Choo").withIC("S1234567B").withWard("2B").build());
+        writer.close();
+
+        assertEquals(CsvRecordWriter.PATIENT_HEADER + "\n"
+                + "patient,S1234567A,Amy Bee,2A,diabetic;friend\n"
+                + "nok,S1234567A,Sammy,11111111,Daughter\n"
+                + "session,S1234567A,2025-10-20,14:30,Insulin,\"Before lunch, say \"\"hi\"\"\",Completed,30\n"
+                + "patient,S1234567B,Bob Choo,2B,\n", output.toString());
+    }
+
+    @Test
+    public void writeSession_sessions_rowsWrittenAfterHeader() throws IOException {
+        writer.writeSession(PATIENT, SESSION);
+        writer.writeSession(PATIENT, SESSION);
+        writer.close();
+
+        String row = "2025-10-20,14:30,S1234567A,Amy Bee,2A,Insulin,\"Before lunch, say \"\"hi\"\"\",Completed,30\n";
+        assertEquals(CsvRecordWriter.SESSION_HEADER + "\n" + row + row, output.toString());
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ExportFormatTest {
+
+    @Test
+    public void fromFile_supportedExtension_returnsFormat() {
+        assertEquals(Optional.of(ExportFormat.CSV), ExportFormat.fromFile(Paths.get("roster.csv")));
+        assertEquals(Optional.of(ExportFormat.CSV), ExportFormat.fromFile(Paths.get("exports", "ROSTER.CSV")));
+        assertEquals(Optional.of(ExportFormat.NDJSON), ExportFormat.fromFile(Paths.get("roster.ndjson")));
+        assertEquals(Optional.of(ExportFormat.NDJSON), ExportFormat.fromFile(Paths.get("roster.jsonl")));
+    }
+
+    @Test
+    public void fromFile_unsupportedExtension_returnsEmpty() {
+        assertEquals(Optional.empty(), ExportFormat.fromFile(Paths.get("roster.json")));
+        assertEquals(Optional.empty(), ExportFormat.fromFile(Paths.get("csv")));
+        assertEquals(Optional.empty(), ExportFormat.fromFile(Paths.get("/")));
+    }
+
+    @Test
+    public void createWriter_returnsWriterForFormat() {
+        assertTrue(ExportFormat.CSV.createWriter(new StringWriter()) instanceof CsvRecordWriter);
+        assertTrue(ExportFormat.NDJSON.createWriter(new StringWriter()) instanceof NdjsonRecordWriter);
+    }
+}
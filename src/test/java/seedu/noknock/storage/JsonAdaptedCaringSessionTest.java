@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.noknock.commons.exceptions.IllegalValueException;
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
@@ -16,12 +17,14 @@ public class JsonAdaptedCaringSessionTest {
 
     private static final String VALID_DATE = "2026-10-26";
     private static final String VALID_TIME = "09:00";
+    private static final String VALID_DURATION = "45";
     private static final String VALID_CARE_TYPE = "FEEDING";
     private static final String VALID_NOTE = "Fed patient twice";
     private static final String VALID_STATUS = "INCOMPLETE";
 
     private static final String INVALID_DATE = "2024-99-99";
     private static final String INVALID_TIME = "25:00";
+    private static final String INVALID_DURATION = "0";
     private static final String INVALID_CARE_TYPE = "";
     private static final String INVALID_NOTE = "\n";
     private static final String INVALID_STATUS = "";
@@ -42,35 +45,49 @@ public class JsonAdaptedCaringSessionTest {
     @Test
     public void toModelType_invalidDate_throwsIllegalValueException() {
         JsonAdaptedCaringSession adapted = new JsonAdaptedCaringSession(
-            INVALID_DATE, VALID_TIME, VALID_CARE_TYPE, VALID_NOTE, VALID_STATUS);
+            INVALID_DATE, VALID_TIME, VALID_DURATION, VALID_CARE_TYPE, VALID_NOTE, VALID_STATUS);
         assertThrows(IllegalValueException.class, adapted::toModelType);
     }
 
     @Test
     public void toModelType_invalidTime_throwsIllegalValueException() {
         JsonAdaptedCaringSession adapted = new JsonAdaptedCaringSession(
-            VALID_DATE, INVALID_TIME, VALID_CARE_TYPE, VALID_NOTE, VALID_STATUS);
+            VALID_DATE, INVALID_TIME, VALID_DURATION, VALID_CARE_TYPE, VALID_NOTE, VALID_STATUS);
         assertThrows(IllegalValueException.class, adapted::toModelType);
     }
 
     @Test
     public void toModelType_invalidCareType_throwsIllegalValueException() {
         JsonAdaptedCaringSession adapted = new JsonAdaptedCaringSession(
-            VALID_DATE, VALID_TIME, INVALID_CARE_TYPE, VALID_NOTE, VALID_STATUS);
+            VALID_DATE, VALID_TIME, VALID_DURATION, INVALID_CARE_TYPE, VALID_NOTE, VALID_STATUS);
         assertThrows(IllegalValueException.class, adapted::toModelType);
     }
 
     @Test
     public void toModelType_invalidNote_throwsIllegalValueException() {
         JsonAdaptedCaringSession adapted = new JsonAdaptedCaringSession(
-            VALID_DATE, VALID_TIME, VALID_CARE_TYPE, INVALID_NOTE, VALID_STATUS);
+            VALID_DATE, VALID_TIME, VALID_DURATION, VALID_CARE_TYPE, INVALID_NOTE, VALID_STATUS);
         assertThrows(IllegalValueException.class, adapted::toModelType);
     }
 
     @Test
     public void toModelType_invalidStatus_throwsIllegalValueException() {
         JsonAdaptedCaringSession adapted = new JsonAdaptedCaringSession(
-            VALID_DATE, VALID_TIME, VALID_CARE_TYPE, VALID_NOTE, INVALID_STATUS);
+            VALID_DATE, VALID_TIME, VALID_DURATION, VALID_CARE_TYPE, VALID_NOTE, INVALID_STATUS);
         assertThrows(IllegalValueException.class, adapted::toModelType);
     }
+
+    @Test
+    public void toModelType_invalidDuration_throwsIllegalValueException() {
+        JsonAdaptedCaringSession adapted = new JsonAdaptedCaringSession(
+            VALID_DATE, VALID_TIME, INVALID_DURATION, VALID_CARE_TYPE, VALID_NOTE, VALID_STATUS);
+        assertThrows(IllegalValueException.class, adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingDuration_defaultDuration() throws Exception {
+        JsonAdaptedCaringSession adapted = new JsonAdaptedCaringSession(
+            VALID_DATE, VALID_TIME, null, VALID_CARE_TYPE, VALID_NOTE, VALID_STATUS);
+        assertEquals(Duration.DEFAULT, adapted.toModelType().getDuration());
+    }
 }
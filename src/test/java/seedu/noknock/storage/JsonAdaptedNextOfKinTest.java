@@ -33,6 +33,16 @@ public class JsonAdaptedNextOfKinTest {
         assertEquals(original, model);
     }
 
+    @Test
+    public void toModelType_multiWordRelationship_success() throws Exception {
+        NextOfKin original = new NextOfKin(
+            new Name(VALID_NAME),
+            new Phone(VALID_PHONE),
+            Relationship.DOMESTIC_HELPER);
+
+        assertEquals(original, new JsonAdaptedNextOfKin(original).toModelType());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedNextOfKin adapted = new JsonAdaptedNextOfKin(
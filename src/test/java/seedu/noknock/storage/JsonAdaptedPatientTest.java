@@ -14,7 +14,11 @@ import org.junit.jupiter.api.Test;
 import seedu.noknock.commons.exceptions.IllegalValueException;
 import seedu.noknock.model.person.IC;
 import seedu.noknock.model.person.Name;
+import seedu.noknock.model.person.Patient;
 import seedu.noknock.model.person.Ward;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.testutil.RecurringSessionBuilder;
 
 public class JsonAdaptedPatientTest {
     private static final String INVALID_NAME = "R@chel";
@@ -34,16 +38,45 @@ public class JsonAdaptedPatientTest {
     private static final List<JsonAdaptedCaringSession> VALID_SESSIONS = BENSON.getCaringSessionList().stream()
         .map(JsonAdaptedCaringSession::new)
         .collect(Collectors.toList());
+    private static final List<JsonAdaptedRecurringSession> VALID_RECURRING_SESSIONS =
+        List.of(new JsonAdaptedRecurringSession(new RecurringSessionBuilder().build()));
+
     @Test
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(BENSON);
         assertEquals(BENSON, patient.toModelType());
     }
 
+    @Test
+    public void toModelType_recurringSessions_keptWithTheirExceptions() throws Exception {
+        RecurringSession recurringSession = new RecurringSessionBuilder().withCompletedDates("2030-01-02")
+            .withSkippedDates("2030-01-03").build();
+        Patient source = BENSON.withRecurringSession(recurringSession);
+        assertEquals(List.of(recurringSession), new JsonAdaptedPatient(source).toModelType()
+            .getRecurringSessionList());
+    }
+
+    @Test
+    public void toModelType_nullRecurringSessions_returnsPatientWithoutRecurringSessions() throws Exception {
+        JsonAdaptedPatient patient = new JsonAdaptedPatient(VALID_NAME, VALID_WARD, VALID_IC, VALID_TAGS,
+                VALID_NOKS, VALID_SESSIONS, null);
+        assertEquals(List.of(), patient.toModelType().getRecurringSessionList());
+    }
+
+    @Test
+    public void toModelType_invalidRecurringSession_throwsIllegalValueException() {
+        List<JsonAdaptedRecurringSession> invalidRecurringSessions = List.of(new JsonAdaptedRecurringSession(
+            "medication", "", "08:00", "30", "monthly", "2030-01-01", "2030-01-31", null, null));
+        JsonAdaptedPatient patient = new JsonAdaptedPatient(VALID_NAME, VALID_WARD, VALID_IC, VALID_TAGS,
+                VALID_NOKS, VALID_SESSIONS, invalidRecurringSessions);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, patient::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPatient patient =
-            new JsonAdaptedPatient(INVALID_NAME, VALID_WARD, VALID_IC, VALID_TAGS, VALID_NOKS, VALID_SESSIONS);
+            new JsonAdaptedPatient(INVALID_NAME, VALID_WARD, VALID_IC, VALID_TAGS, VALID_NOKS, VALID_SESSIONS,
+                VALID_RECURRING_SESSIONS);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -51,7 +84,7 @@ public class JsonAdaptedPatientTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(null, VALID_WARD, VALID_IC, VALID_TAGS,
-                VALID_NOKS, VALID_SESSIONS);
+                VALID_NOKS, VALID_SESSIONS, VALID_RECURRING_SESSIONS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -59,7 +92,8 @@ public class JsonAdaptedPatientTest {
     @Test
     public void toModelType_invalidWard_throwsIllegalValueException() {
         JsonAdaptedPatient patient =
-            new JsonAdaptedPatient(VALID_NAME, INVALID_WARD, VALID_IC, VALID_TAGS, VALID_NOKS, VALID_SESSIONS);
+            new JsonAdaptedPatient(VALID_NAME, INVALID_WARD, VALID_IC, VALID_TAGS, VALID_NOKS, VALID_SESSIONS,
+                VALID_RECURRING_SESSIONS);
         String expectedMessage = Ward.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -67,7 +101,7 @@ public class JsonAdaptedPatientTest {
     @Test
     public void toModelType_nullWard_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(VALID_NAME, null, VALID_IC, VALID_TAGS,
-                VALID_NOKS, VALID_SESSIONS);
+                VALID_NOKS, VALID_SESSIONS, VALID_RECURRING_SESSIONS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Ward.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -75,7 +109,8 @@ public class JsonAdaptedPatientTest {
     @Test
     public void toModelType_invalidIC_throwsIllegalValueException() {
         JsonAdaptedPatient patient =
-            new JsonAdaptedPatient(VALID_NAME, VALID_WARD, INVALID_IC, VALID_TAGS, VALID_NOKS, VALID_SESSIONS);
+            new JsonAdaptedPatient(VALID_NAME, VALID_WARD, INVALID_IC, VALID_TAGS, VALID_NOKS, VALID_SESSIONS,
+                VALID_RECURRING_SESSIONS);
         String expectedMessage = IC.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -83,7 +118,7 @@ public class JsonAdaptedPatientTest {
     @Test
     public void toModelType_nullIC_throwsIllegalValueException() {
         JsonAdaptedPatient patient = new JsonAdaptedPatient(VALID_NAME, VALID_WARD, null, VALID_TAGS, VALID_NOKS,
-                VALID_SESSIONS);
+                VALID_SESSIONS, VALID_RECURRING_SESSIONS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, IC.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, patient::toModelType);
     }
@@ -93,7 +128,8 @@ public class JsonAdaptedPatientTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedPatient patient =
-            new JsonAdaptedPatient(VALID_NAME, VALID_WARD, VALID_IC, invalidTags, VALID_NOKS, VALID_SESSIONS);
+            new JsonAdaptedPatient(VALID_NAME, VALID_WARD, VALID_IC, invalidTags, VALID_NOKS, VALID_SESSIONS,
+                VALID_RECURRING_SESSIONS);
         assertThrows(IllegalValueException.class, patient::toModelType);
     }
 }
@@ -0,0 +1,97 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.exceptions.IllegalValueException;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class JsonAdaptedRecurringSessionTest {
+
+    private static final String VALID_CARE_TYPE = "medication";
+    private static final String VALID_NOTE = "Morning round";
+    private static final String VALID_TIME = "08:00";
+    private static final String VALID_DURATION = "15";
+    private static final String VALID_RECURRENCE = "Weekly";
+    private static final String VALID_START_DATE = "2030-01-01";
+    private static final String VALID_END_DATE = "2030-01-31";
+    private static final List<String> VALID_COMPLETED_DATES = List.of("2030-01-08");
+    private static final List<String> VALID_SKIPPED_DATES = List.of("2030-01-15");
+
+    private static JsonAdaptedRecurringSession adapt(String careType, String time, String duration, String recurrence,
+                                                     String startDate, String endDate, List<String> completedDates,
+                                                     List<String> skippedDates) {
+        return new JsonAdaptedRecurringSession(careType, VALID_NOTE, time, duration, recurrence, startDate, endDate,
+                completedDates, skippedDates);
+    }
+
+    @Test
+    public void toModelType_validFields_success() throws Exception {
+        RecurringSession original = new RecurringSessionBuilder().withRecurrence(Recurrence.WEEKLY)
+                .withCompletedDates("2030-01-08").withSkippedDates("2030-01-15", "2030-01-22").build();
+        assertEquals(original, new JsonAdaptedRecurringSession(original).toModelType());
+    }
+
+    @Test
+    public void toModelType_missingOptionalFields_defaultsUsed() throws Exception {
+        RecurringSession model = adapt(VALID_CARE_TYPE, VALID_TIME, null, VALID_RECURRENCE, VALID_START_DATE,
+                VALID_END_DATE, null, null).toModelType();
+        assertEquals(Duration.DEFAULT, model.getDuration());
+        assertEquals(List.of(), List.copyOf(model.getCompletedDates()));
+        assertEquals(List.of(), List.copyOf(model.getSkippedDates()));
+    }
+
+    @Test
+    public void toModelType_invalidCareType_throwsIllegalValueException() {
+        JsonAdaptedRecurringSession adapted = adapt("", VALID_TIME, VALID_DURATION, VALID_RECURRENCE,
+                VALID_START_DATE, VALID_END_DATE, VALID_COMPLETED_DATES, VALID_SKIPPED_DATES);
+        assertThrows(IllegalValueException.class, CareType.MESSAGE_CONSTRAINTS, adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidTime_throwsIllegalValueException() {
+        JsonAdaptedRecurringSession adapted = adapt(VALID_CARE_TYPE, "25:00", VALID_DURATION, VALID_RECURRENCE,
+                VALID_START_DATE, VALID_END_DATE, VALID_COMPLETED_DATES, VALID_SKIPPED_DATES);
+        assertThrows(IllegalValueException.class, Time.MESSAGE_CONSTRAINTS, adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        JsonAdaptedRecurringSession adapted = adapt(VALID_CARE_TYPE, VALID_TIME, VALID_DURATION, null,
+                VALID_START_DATE, VALID_END_DATE, VALID_COMPLETED_DATES, VALID_SKIPPED_DATES);
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidDates_throwsIllegalValueException() {
+        JsonAdaptedRecurringSession missingEnd = adapt(VALID_CARE_TYPE, VALID_TIME, VALID_DURATION,
+                VALID_RECURRENCE, VALID_START_DATE, null, VALID_COMPLETED_DATES, VALID_SKIPPED_DATES);
+        assertThrows(IllegalValueException.class, Date.MESSAGE_CONSTRAINTS, missingEnd::toModelType);
+
+        JsonAdaptedRecurringSession endBeforeStart = adapt(VALID_CARE_TYPE, VALID_TIME, VALID_DURATION,
+                VALID_RECURRENCE, VALID_END_DATE, VALID_START_DATE, List.of(), List.of());
+        assertThrows(IllegalValueException.class, RecurringSession.MESSAGE_CONSTRAINTS, endBeforeStart::toModelType);
+    }
+
+    @Test
+    public void toModelType_exceptionNotScheduled_throwsIllegalValueException() {
+        JsonAdaptedRecurringSession unscheduled = adapt(VALID_CARE_TYPE, VALID_TIME, VALID_DURATION,
+                VALID_RECURRENCE, VALID_START_DATE, VALID_END_DATE, List.of("2030-01-09"), VALID_SKIPPED_DATES);
+        assertThrows(IllegalValueException.class, String.format(RecurringSession.MESSAGE_NOT_SCHEDULED,
+                "2030-01-09"), unscheduled::toModelType);
+
+        JsonAdaptedRecurringSession completedAndSkipped = adapt(VALID_CARE_TYPE, VALID_TIME, VALID_DURATION,
+                VALID_RECURRENCE, VALID_START_DATE, VALID_END_DATE, VALID_SKIPPED_DATES, VALID_SKIPPED_DATES);
+        assertThrows(IllegalValueException.class, completedAndSkipped::toModelType);
+    }
+}
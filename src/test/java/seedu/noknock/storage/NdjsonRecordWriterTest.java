@@ -0,0 +1,50 @@
+package seedu.noknock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.noknock.testutil.Assert.assertThrows;
+import static seedu.noknock.testutil.TypicalPatients.ALICE;
+import static seedu.noknock.testutil.TypicalPatients.BENSON;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.util.JsonUtil;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.testutil.CaringSessionBuilder;
+
+public class NdjsonRecordWriterTest {
+
+    private final StringWriter output = new StringWriter();
+    private final NdjsonRecordWriter writer = new NdjsonRecordWriter(output);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NdjsonRecordWriter(null));
+    }
+
+    @Test
+    public void writePatient_patients_onePatientPerLine() throws Exception {
+        writer.writePatient(ALICE);
+        writer.writePatient(BENSON);
+        writer.close();
+
+        String[] lines = output.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(ALICE, JsonUtil.fromJsonString(lines[0], JsonAdaptedPatient.class).toModelType());
+        assertEquals(BENSON, JsonUtil.fromJsonString(lines[1], JsonAdaptedPatient.class).toModelType());
+    }
+
+    @Test
+    public void writeSession_session_oneObjectPerLine() throws Exception {
+        CaringSession session = new CaringSessionBuilder().withDate("2025-10-20").withTime("14:30")
+                .withCareType("Insulin").withNote("Before lunch").build();
+        writer.writeSession(ALICE, session);
+        writer.close();
+
+        assertEquals("{\"date\":\"2025-10-20\",\"time\":\"14:30\",\"duration\":\"30\",\"ic\":\"" + ALICE.getIC() + "\","
+                + "\"name\":\"" + ALICE.getName() + "\",\"ward\":\"" + ALICE.getWard() + "\","
+                + "\"careType\":\"Insulin\",\"note\":\"Before lunch\",\"status\":\"" + session.getStatus() + "\"}\n",
+                output.toString());
+    }
+}
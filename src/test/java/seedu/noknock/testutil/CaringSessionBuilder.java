@@ -1,6 +1,7 @@
 package seedu.noknock.testutil;
 
 import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
 import seedu.noknock.model.date.Time;
 import seedu.noknock.model.session.CareType;
 import seedu.noknock.model.session.CaringSession;
@@ -15,12 +16,14 @@ public class CaringSessionBuilder {
     public static final String DEFAULT_NOTE = "Routine check";
     public static final String DEFAULT_DATE = java.time.LocalDate.now().plusDays(1).toString();
     public static final String DEFAULT_TIME = java.time.LocalTime.of(10, 0).toString();
+    public static final String DEFAULT_DURATION = String.valueOf(Duration.DEFAULT_MINUTES);
     public static final String DEFAULT_STATUS = "INCOMPLETE";
 
     private CareType careType;
     private Note note;
     private Date date;
     private Time time;
+    private Duration duration;
     private SessionStatus status;
 
     /**
@@ -31,6 +34,7 @@ public class CaringSessionBuilder {
         note = new Note(DEFAULT_NOTE);
         date = new Date(DEFAULT_DATE);
         time = new Time(DEFAULT_TIME);
+        duration = new Duration(DEFAULT_DURATION);
         status = SessionStatus.of(DEFAULT_STATUS);
     }
 
@@ -42,6 +46,7 @@ public class CaringSessionBuilder {
         note = sessionToCopy.getNote();
         date = sessionToCopy.getDate();
         time = sessionToCopy.getTime();
+        duration = sessionToCopy.getDuration();
         status = sessionToCopy.getStatus();
     }
 
@@ -77,6 +82,14 @@ public class CaringSessionBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Duration} of the {@code CaringSession} that we are building.
+     */
+    public CaringSessionBuilder withDuration(String duration) {
+        this.duration = new Duration(duration);
+        return this;
+    }
+
     /**
      * Sets the {@code SessionStatus} of the {@code CaringSession} that we are building.
      */
@@ -89,6 +102,6 @@ public class CaringSessionBuilder {
      * Builds the {@code CaringSession} object.
      */
     public CaringSession build() {
-        return new CaringSession(careType, note, date, time, status);
+        return new CaringSession(careType, note, date, time, duration, status);
     }
 }
@@ -93,8 +93,6 @@ public class PatientBuilder {
      * Builds the Patient object.
      */
     public Patient build() {
-        Patient patient = new Patient(name, ward, ic, tags);
-        noks.forEach(nok -> patient.getNextOfKinList().add(nok));
-        return patient;
+        return new Patient(name, ward, ic, tags).withNextOfKinList(noks);
     }
 }
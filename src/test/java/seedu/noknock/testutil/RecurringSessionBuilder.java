@@ -0,0 +1,146 @@
+package seedu.noknock.testutil;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.date.Duration;
+import seedu.noknock.model.date.Time;
+import seedu.noknock.model.session.CareType;
+import seedu.noknock.model.session.Note;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+
+/**
+ * A utility class to help with building RecurringSession objects for tests.
+ */
+public class RecurringSessionBuilder {
+    public static final String DEFAULT_CARE_TYPE = "medication";
+    public static final String DEFAULT_NOTE = "Morning round";
+    public static final String DEFAULT_TIME = "08:00";
+    public static final String DEFAULT_DURATION = String.valueOf(Duration.DEFAULT_MINUTES);
+    public static final Recurrence DEFAULT_RECURRENCE = Recurrence.DAILY;
+    public static final String DEFAULT_START_DATE = "2030-01-01";
+    public static final String DEFAULT_END_DATE = "2030-01-31";
+
+    private CareType careType;
+    private Note note;
+    private Time time;
+    private Duration duration;
+    private Recurrence recurrence;
+    private Date startDate;
+    private Date endDate;
+    private Set<Date> completedDates;
+    private Set<Date> skippedDates;
+
+    /**
+     * Creates a {@code RecurringSessionBuilder} with the default details.
+     */
+    public RecurringSessionBuilder() {
+        careType = new CareType(DEFAULT_CARE_TYPE);
+        note = new Note(DEFAULT_NOTE);
+        time = new Time(DEFAULT_TIME);
+        duration = new Duration(DEFAULT_DURATION);
+        recurrence = DEFAULT_RECURRENCE;
+        startDate = new Date(DEFAULT_START_DATE);
+        endDate = new Date(DEFAULT_END_DATE);
+        completedDates = new HashSet<>();
+        skippedDates = new HashSet<>();
+    }
+
+    /**
+     * Initializes the RecurringSessionBuilder with the data of {@code sessionToCopy}.
+     */
+    public RecurringSessionBuilder(RecurringSession sessionToCopy) {
+        careType = sessionToCopy.getCareType();
+        note = sessionToCopy.getNote();
+        time = sessionToCopy.getTime();
+        duration = sessionToCopy.getDuration();
+        recurrence = sessionToCopy.getRecurrence();
+        startDate = sessionToCopy.getStartDate();
+        endDate = sessionToCopy.getEndDate();
+        completedDates = new HashSet<>(sessionToCopy.getCompletedDates());
+        skippedDates = new HashSet<>(sessionToCopy.getSkippedDates());
+    }
+
+    /**
+     * Sets the {@code CareType} of the {@code RecurringSession} that we are building.
+     */
+    public RecurringSessionBuilder withCareType(String careType) {
+        this.careType = new CareType(careType);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Note} of the {@code RecurringSession} that we are building.
+     */
+    public RecurringSessionBuilder withNote(String note) {
+        this.note = new Note(note);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Time} of the {@code RecurringSession} that we are building.
+     */
+    public RecurringSessionBuilder withTime(String time) {
+        this.time = new Time(time);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Duration} of the {@code RecurringSession} that we are building.
+     */
+    public RecurringSessionBuilder withDuration(String duration) {
+        this.duration = new Duration(duration);
+        return this;
+    }
+
+    /**
+     * Sets the {@code Recurrence} of the {@code RecurringSession} that we are building.
+     */
+    public RecurringSessionBuilder withRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        return this;
+    }
+
+    /**
+     * Sets the start and end dates of the {@code RecurringSession} that we are building.
+     */
+    public RecurringSessionBuilder withDates(String startDate, String endDate) {
+        this.startDate = new Date(startDate);
+        this.endDate = new Date(endDate);
+        return this;
+    }
+
+    /**
+     * Sets the dates of the completed occurrences of the {@code RecurringSession} that we are building.
+     */
+    public RecurringSessionBuilder withCompletedDates(String... dates) {
+        completedDates = toDates(dates);
+        return this;
+    }
+
+    /**
+     * Sets the dates of the skipped occurrences of the {@code RecurringSession} that we are building.
+     */
+    public RecurringSessionBuilder withSkippedDates(String... dates) {
+        skippedDates = toDates(dates);
+        return this;
+    }
+
+    /**
+     * Builds the {@code RecurringSession} object.
+     */
+    public RecurringSession build() {
+        return new RecurringSession(careType, note, time, duration, recurrence, startDate, endDate, completedDates,
+            skippedDates);
+    }
+
+    private static Set<Date> toDates(String... dates) {
+        Set<Date> set = new HashSet<>();
+        for (String date : dates) {
+            set.add(new Date(date));
+        }
+        return set;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.noknock.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.tools.LoadTestReport.ALL_COMMANDS;
+
+import org.junit.jupiter.api.Test;
+
+public class LoadTestReportTest {
+
+    @Test
+    public void record_multipleCommands_groupedByCommandWord() {
+        LoadTestReport report = new LoadTestReport();
+        for (int i = 1; i <= 10; i++) {
+            report.record("list-patients", i * 1000L, true);
+        }
+        report.record("view-patient", 50_000L, false);
+        report.setElapsedNanos(2_000_000_000L);
+
+        assertEquals(10, report.getCount("list-patients"));
+        assertEquals(1, report.getCount("view-patient"));
+        assertEquals(11, report.getCount(ALL_COMMANDS));
+        assertEquals(0, report.getFailureCount("list-patients"));
+        assertEquals(1, report.getFailureCount(ALL_COMMANDS));
+        assertEquals(5.5, report.getThroughput());
+
+        assertEquals(5000L, report.getPercentileNanos("list-patients", 50));
+        assertEquals(9000L, report.getPercentileNanos("list-patients", 90));
+        assertEquals(10_000L, report.getPercentileNanos("list-patients", 100));
+        assertEquals(1000L, report.getPercentileNanos("list-patients", 0));
+        assertEquals(50_000L, report.getPercentileNanos(ALL_COMMANDS, 100));
+    }
+
+    @Test
+    public void getPercentileNanos_unknownCommand_returnsZero() {
+        assertEquals(0, new LoadTestReport().getPercentileNanos("list-patients", 50));
+    }
+
+    @Test
+    public void getThroughput_noElapsedTime_returnsZero() {
+        LoadTestReport report = new LoadTestReport();
+        report.record("list-patients", 1000L, true);
+        assertEquals(0, report.getThroughput());
+    }
+
+    @Test
+    public void format_containsEveryCommandWord() {
+        LoadTestReport report = new LoadTestReport();
+        report.record("list-patients", 1000L, true);
+        report.record("view-patient", 2000L, true);
+        String formatted = report.format();
+        assertTrue(formatted.contains("list-patients"));
+        assertTrue(formatted.contains("view-patient"));
+        assertTrue(formatted.contains(ALL_COMMANDS));
+    }
+}
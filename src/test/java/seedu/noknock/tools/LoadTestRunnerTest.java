@@ -0,0 +1,61 @@
+package seedu.noknock.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.tools.LoadTestReport.ALL_COMMANDS;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.noknock.logic.Logic;
+import seedu.noknock.logic.LogicManager;
+import seedu.noknock.logic.commands.ListPatientsCommand;
+import seedu.noknock.model.ModelManager;
+import seedu.noknock.model.UserPrefs;
+import seedu.noknock.model.util.SyntheticDataGenerator;
+import seedu.noknock.storage.JsonAddressBookStorage;
+import seedu.noknock.storage.JsonUserPrefsStorage;
+import seedu.noknock.storage.StorageManager;
+
+public class LoadTestRunnerTest {
+    private static final LocalDate FIRST_SESSION_DATE = LocalDate.of(2026, 1, 1);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Logic createLogic(int patientCount) {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("noknock.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        ModelManager model = new ModelManager(new SyntheticDataGenerator(1).generateAddressBook(patientCount),
+                new UserPrefs());
+        return new LogicManager(model, storage);
+    }
+
+    @Test
+    public void run_generatedPatients_executesAllCommands() {
+        LoadTestReport report = new LoadTestRunner(createLogic(50), 3, FIRST_SESSION_DATE, 30).run(100);
+        assertEquals(100, report.getCount(ALL_COMMANDS));
+        assertTrue(report.getFailureCount(ALL_COMMANDS) < 100);
+        assertTrue(report.getThroughput() > 0);
+    }
+
+    @Test
+    public void nextCommand_sameSeed_sameCommands() {
+        Logic logic = createLogic(20);
+        LoadTestRunner first = new LoadTestRunner(logic, 9, FIRST_SESSION_DATE, 30);
+        LoadTestRunner second = new LoadTestRunner(logic, 9, FIRST_SESSION_DATE, 30);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.nextCommand(), second.nextCommand());
+        }
+    }
+
+    @Test
+    public void nextCommand_noPatientsShown_listsPatients() {
+        LoadTestRunner runner = new LoadTestRunner(createLogic(0), 9, FIRST_SESSION_DATE, 30);
+        assertEquals(ListPatientsCommand.COMMAND_WORD, runner.nextCommand());
+    }
+}
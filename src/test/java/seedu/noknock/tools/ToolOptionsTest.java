@@ -0,0 +1,70 @@
+package seedu.noknock.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ToolOptionsTest {
+    private static final Set<String> ALLOWED = Set.of("count", "ratio", "start", "out", "name");
+
+    @Test
+    public void parse_validArgs_success() {
+        ToolOptions options = ToolOptions.parse(new String[] {"--count=12", "--ratio=0.25", "--start=2026-03-04",
+            "--out=data/x.json", "--name=a=b"}, ALLOWED);
+        assertEquals(12, options.getInt("count", 0));
+        assertEquals(12L, options.getLong("count", 0));
+        assertEquals(0.25, options.getDouble("ratio", 0));
+        assertEquals(LocalDate.of(2026, 3, 4), options.getDate("start", null));
+        assertEquals(Paths.get("data/x.json"), options.getPath("out"));
+        assertEquals("a=b", options.getString("name", ""));
+    }
+
+    @Test
+    public void parse_noArgs_returnsDefaults() {
+        ToolOptions options = ToolOptions.parse(new String[0], ALLOWED);
+        assertFalse(options.has("count"));
+        assertEquals(5, options.getInt("count", 5));
+        assertEquals(0.5, options.getDouble("ratio", 0.5));
+        assertEquals(LocalDate.MIN, options.getDate("start", LocalDate.MIN));
+        assertNull(options.getPath("out"));
+        assertEquals("x", options.getString("name", "x"));
+    }
+
+    @Test
+    public void parse_emptyValue_hasOption() {
+        assertTrue(ToolOptions.parse(new String[] {"--name="}, ALLOWED).has("name"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ToolOptions.parse(new String[] {"count=1"}, ALLOWED));
+        assertThrows(IllegalArgumentException.class, () -> ToolOptions.parse(new String[] {"--count"}, ALLOWED));
+        assertThrows(IllegalArgumentException.class, () -> ToolOptions.parse(new String[] {"--size=1"}, ALLOWED));
+    }
+
+    @Test
+    public void getValue_invalidValues_throwsIllegalArgumentException() {
+        ToolOptions options = ToolOptions.parse(new String[] {"--count=many", "--ratio=half", "--start=today"},
+                ALLOWED);
+        assertThrows(IllegalArgumentException.class, () -> options.getInt("count", 0));
+        assertThrows(IllegalArgumentException.class, () -> options.getDouble("ratio", 0));
+        assertThrows(IllegalArgumentException.class, () -> options.getDate("start", null));
+
+        ToolOptions fractional = ToolOptions.parse(new String[] {"--count=1.5"}, ALLOWED);
+        assertThrows(IllegalArgumentException.class, () -> fractional.getInt("count", 0));
+        assertThrows(IllegalArgumentException.class, () -> fractional.getLong("count", 0));
+
+        // too large for an int, but not for a long
+        ToolOptions tooLarge = ToolOptions.parse(new String[] {"--count=5000000000"}, ALLOWED);
+        assertThrows(IllegalArgumentException.class, () -> tooLarge.getInt("count", 0));
+        assertEquals(5_000_000_000L, tooLarge.getLong("count", 0));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.noknock.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.commons.core.index.Index;
+import seedu.noknock.model.date.Date;
+import seedu.noknock.model.person.Patient;
+import seedu.noknock.model.session.CaringSession;
+import seedu.noknock.model.session.CaringSessionDateInRangePredicate;
+import seedu.noknock.model.session.PatientCaringSession;
+import seedu.noknock.model.session.Recurrence;
+import seedu.noknock.model.session.RecurringSession;
+import seedu.noknock.model.session.SessionStatus;
+import seedu.noknock.testutil.CaringSessionBuilder;
+import seedu.noknock.testutil.PatientBuilder;
+import seedu.noknock.testutil.RecurringSessionBuilder;
+
+public class CaringSessionPanelTest {
+
+    private static final CaringSession FIRST = new CaringSessionBuilder().withDate("2030-01-01").withTime("09:00")
+            .build();
+    private static final CaringSession SECOND = new CaringSessionBuilder().withDate("2030-01-02").withTime("09:00")
+            .build();
+    private static final CaringSession THIRD = new CaringSessionBuilder().withDate("2030-01-03").withTime("09:00")
+            .build();
+    private static final RecurringSession DAILY = new RecurringSessionBuilder().withRecurrence(Recurrence.DAILY)
+            .withTime("08:00").withDates("2030-01-01", "2030-01-03").build();
+
+    @Test
+    public void flattenSessions_sessionsAndOccurrences_onlySessionsNumberedByPatient() {
+        Patient alice = new PatientBuilder().withName("Alice").withIC("S1234567A").build()
+                .withCaringSession(FIRST).withCaringSession(SECOND).withCaringSession(THIRD)
+                .withRecurringSession(DAILY);
+        Patient bob = new PatientBuilder().withName("Bob").withIC("S1234567B").build()
+                .withCaringSession(new CaringSessionBuilder(SECOND).withTime("10:00").build());
+
+        List<CaringSessionPanel.SessionRow> rows = sessionRows(List.of(alice, bob),
+                new CaringSessionDateInRangePredicate(new Date("2030-01-02"), new Date("2030-01-03")));
+
+        List<CaringSession> occurrences = DAILY.getOccurrencesBetween(new Date("2030-01-02"), new Date("2030-01-03"));
+        assertEquals(List.of(occurrence(alice, occurrences.get(0)), numbered(alice, SECOND, 2),
+                numbered(bob, bob.getCaringSessionList().get(0), 1), occurrence(alice, occurrences.get(1)),
+                numbered(alice, THIRD, 3)), rows);
+    }
+
+    @Test
+    public void flattenSessions_filteredSessions_keepIndexForPatient() {
+        Patient alice = new PatientBuilder().build().withCaringSession(FIRST)
+                .withCaringSession(new CaringSessionBuilder(SECOND).withStatus(SessionStatus.COMPLETED).build())
+                .withCaringSession(THIRD);
+
+        List<CaringSessionPanel.SessionRow> rows = sessionRows(List.of(alice), session -> !session.isComplete());
+
+        assertEquals(List.of(Optional.of(Index.fromOneBased(1)), Optional.of(Index.fromOneBased(3))),
+                rows.stream().map(CaringSessionPanel.SessionRow::sessionIndex).toList());
+    }
+
+    private static List<CaringSessionPanel.SessionRow> sessionRows(List<Patient> patients,
+            Predicate<CaringSession> sessionFilter) {
+        return CaringSessionPanel.flattenSessions(patients, sessionFilter).stream()
+                .filter(item -> item instanceof CaringSessionPanel.SessionRow)
+                .map(item -> (CaringSessionPanel.SessionRow) item)
+                .toList();
+    }
+
+    private static CaringSessionPanel.SessionRow numbered(Patient patient, CaringSession session, int oneBasedIndex) {
+        return new CaringSessionPanel.SessionRow(new PatientCaringSession(patient, session),
+                Optional.of(Index.fromOneBased(oneBasedIndex)));
+    }
+
+    private static CaringSessionPanel.SessionRow occurrence(Patient patient, CaringSession occurrence) {
+        return new CaringSessionPanel.SessionRow(new PatientCaringSession(patient, occurrence), Optional.empty());
+    }
+}
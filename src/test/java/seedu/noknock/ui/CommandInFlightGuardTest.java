@@ -0,0 +1,66 @@
+package seedu.noknock.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.noknock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.noknock.logic.commands.CommandResult;
+
+public class CommandInFlightGuardTest {
+
+    private final List<String> executed = new ArrayList<>();
+    private final List<CompletableFuture<CommandResult>> pending = new ArrayList<>();
+    private final CommandInFlightGuard guard = new CommandInFlightGuard(commandText -> {
+        executed.add(commandText);
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        pending.add(future);
+        return future;
+    });
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandInFlightGuard(null));
+    }
+
+    @Test
+    public void execute_whileCommandRunning_notExecutedAgain() {
+        assertTrue(guard.execute("list-patients").isPresent());
+        assertTrue(guard.isInFlight());
+
+        // pressing Enter again before the command completes
+        assertEquals(Optional.empty(), guard.execute("list-patients"));
+        assertEquals(List.of("list-patients"), executed);
+
+        pending.get(0).complete(new CommandResult("Listed all patients"));
+        assertFalse(guard.isInFlight());
+        assertTrue(guard.execute("list-patients").isPresent());
+        assertEquals(List.of("list-patients", "list-patients"), executed);
+    }
+
+    @Test
+    public void execute_commandFailed_nextCommandExecuted() {
+        guard.execute("uicfhmowqewca");
+        pending.get(0).completeExceptionally(new IllegalStateException());
+
+        assertFalse(guard.isInFlight());
+        assertTrue(guard.execute("list-patients").isPresent());
+    }
+
+    @Test
+    public void execute_executorThrows_notLeftInFlight() {
+        CommandInFlightGuard throwingGuard = new CommandInFlightGuard(commandText -> {
+            throw new IllegalStateException();
+        });
+
+        assertThrows(IllegalStateException.class, () -> throwingGuard.execute("list-patients"));
+        assertFalse(throwingGuard.isInFlight());
+    }
+}